@@ -242,6 +242,10 @@ public class ConfigurationKeys {
   public static final String WORK_UNIT_CREATION_TIME_IN_MILLIS = "workunit.creation.time.in.millis";
   public static final String WORK_UNIT_CREATION_AND_RUN_INTERVAL = "workunit.creation.and.run.interval";
   public static final String WORK_UNIT_ENABLE_TRACKING_LOGS = "workunit.enableTrackingLogs";
+  // When positive, the local job launcher plans work units on a background thread, buffering up to this many, so that
+  // tasks start while the source is still generating work units
+  public static final String LOCAL_JOB_LAUNCHER_WORK_UNIT_PREFETCH_CAPACITY = "workunit.local.prefetchCapacity";
+  public static final int DEFAULT_LOCAL_JOB_LAUNCHER_WORK_UNIT_PREFETCH_CAPACITY = 0;
 
   public static final String JOB_DEPENDENCIES = "job.dependencies";
   public static final String JOB_FORK_ON_CONCAT = "job.forkOnConcat";
@@ -775,6 +779,9 @@ public class ConfigurationKeys {
   public static final String TASK_STATE_COLLECTOR_INTERVAL_SECONDS = "task.state.collector.interval.secs";
   public static final int DEFAULT_TASK_STATE_COLLECTOR_INTERVAL_SECONDS = 60;
   public static final String TASK_STATE_COLLECTOR_HANDLER_CLASS = "task.state.collector.handler.class";
+  // Write the task states of all the tasks run together in one file, rather than one file per task
+  public static final String TASK_STATE_STORE_BATCH_ENABLED = "task.state.store.batch.enabled";
+  public static final boolean DEFAULT_TASK_STATE_STORE_BATCH_ENABLED = false;
   public static final String REPORT_JOB_PROGRESS = "report.job.progress";
   public static final boolean DEFAULT_REPORT_JOB_PROGRESS = false;
   public static final double DEFAULT_PROGRESS_REPORTING_THRESHOLD = 0.05;
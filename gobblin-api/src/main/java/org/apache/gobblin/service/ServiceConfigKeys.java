@@ -28,6 +28,19 @@ public class ServiceConfigKeys {
   // Gobblin Service Manager Keys
   public static final String GOBBLIN_SERVICE_FLOW_CATALOG_ENABLED_KEY = GOBBLIN_SERVICE_PREFIX + "flowCatalog.enabled";
   public static final String GOBBLIN_SERVICE_SCHEDULER_ENABLED_KEY = GOBBLIN_SERVICE_PREFIX + "scheduler.enabled";
+  // Schedules flows on a timer wheel rather than with a Quartz trigger per flow
+  public static final String FLOW_TRIGGER_TIMER_WHEEL_PREFIX = GOBBLIN_SERVICE_PREFIX + "scheduler.timerWheel.";
+  public static final String FLOW_TRIGGER_TIMER_WHEEL_ENABLED_KEY = FLOW_TRIGGER_TIMER_WHEEL_PREFIX + "enabled";
+  public static final boolean DEFAULT_FLOW_TRIGGER_TIMER_WHEEL_ENABLED = false;
+  public static final String FLOW_TRIGGER_TIMER_WHEEL_TICK_DURATION_MILLIS_KEY = FLOW_TRIGGER_TIMER_WHEEL_PREFIX + "tickDurationMillis";
+  public static final long DEFAULT_FLOW_TRIGGER_TIMER_WHEEL_TICK_DURATION_MILLIS = 100L;
+  public static final String FLOW_TRIGGER_TIMER_WHEEL_TICKS_PER_WHEEL_KEY = FLOW_TRIGGER_TIMER_WHEEL_PREFIX + "ticksPerWheel";
+  public static final int DEFAULT_FLOW_TRIGGER_TIMER_WHEEL_TICKS_PER_WHEEL = 1024;
+  public static final String FLOW_TRIGGER_TIMER_WHEEL_NUM_FIRE_THREADS_KEY = FLOW_TRIGGER_TIMER_WHEEL_PREFIX + "numFireThreads";
+  public static final int DEFAULT_FLOW_TRIGGER_TIMER_WHEEL_NUM_FIRE_THREADS = 10;
+  // Flows sharing a schedule fire spread over this many millis after their intended fire time
+  public static final String FLOW_TRIGGER_TIMER_WHEEL_MAX_JITTER_MILLIS_KEY = FLOW_TRIGGER_TIMER_WHEEL_PREFIX + "maxJitterMillis";
+  public static final long DEFAULT_FLOW_TRIGGER_TIMER_WHEEL_MAX_JITTER_MILLIS = 0L;
   public static final String GOBBLIN_SERVICE_INSTANCE_NAME = GOBBLIN_SERVICE_PREFIX + "instance.name";
 
   public static final String GOBBLIN_SERVICE_RESTLI_SERVER_ENABLED_KEY = GOBBLIN_SERVICE_PREFIX + "restliServer.enabled";
@@ -74,6 +87,19 @@ public class ServiceConfigKeys {
 
   public static final String DATA_MOVEMENT_AUTHORIZER_CLASS = "dataMovementAuthorizer.class";
 
+  // Chooses among the executors of a flow edge the one its jobs are sent to
+  public static final String SPEC_EXECUTOR_SELECTOR_PREFIX = GOBBLIN_SERVICE_PREFIX + "specExecutorSelector.";
+  public static final String SPEC_EXECUTOR_SELECTOR_CLASS_KEY = SPEC_EXECUTOR_SELECTOR_PREFIX + "class";
+  // Job start latency that weighs as much as one more running job on an executor
+  public static final String SPEC_EXECUTOR_SELECTOR_START_LATENCY_WEIGHT_MILLIS_KEY = SPEC_EXECUTOR_SELECTOR_PREFIX + "startLatencyWeightMillis";
+  public static final long DEFAULT_SPEC_EXECUTOR_SELECTOR_START_LATENCY_WEIGHT_MILLIS = TimeUnit.MINUTES.toMillis(1);
+  // Job start latencies not updated for this long are ignored
+  public static final String SPEC_EXECUTOR_SELECTOR_START_LATENCY_MAX_AGE_MILLIS_KEY = SPEC_EXECUTOR_SELECTOR_PREFIX + "startLatencyMaxAgeMillis";
+  public static final long DEFAULT_SPEC_EXECUTOR_SELECTOR_START_LATENCY_MAX_AGE_MILLIS = TimeUnit.HOURS.toMillis(1);
+  // How often the running jobs of each executor are read from the dag state store
+  public static final String SPEC_EXECUTOR_SELECTOR_RUNNING_JOBS_REFRESH_MILLIS_KEY = SPEC_EXECUTOR_SELECTOR_PREFIX + "runningJobsRefreshMillis";
+  public static final long DEFAULT_SPEC_EXECUTOR_SELECTOR_RUNNING_JOBS_REFRESH_MILLIS = TimeUnit.SECONDS.toMillis(30);
+
   // Template Catalog Keys
   public static final String TEMPLATE_CATALOGS_FULLY_QUALIFIED_PATH_KEY = GOBBLIN_SERVICE_PREFIX + "templateCatalogs.fullyQualifiedPath";
   public static final String TEMPLATE_CATALOGS_CLASS_KEY = GOBBLIN_SERVICE_PREFIX + "templateCatalogs.class";
@@ -165,6 +191,15 @@ public class ServiceConfigKeys {
   public static final String NUM_DAG_PROC_THREADS_KEY = GOBBLIN_SERVICE_DAG_PROCESSING_ENGINE_PREFIX + "numThreads";
   public static final String DAG_PROC_ENGINE_NON_RETRYABLE_EXCEPTIONS_KEY = GOBBLIN_SERVICE_DAG_PROCESSING_ENGINE_PREFIX + "nonRetryableExceptions";
   public static final Integer DEFAULT_NUM_DAG_PROC_THREADS = 3;
+  // dag actions are dispatched to the dag proc threads through this many queues, each for the dag actions of some flows
+  public static final String NUM_DAG_TASK_STREAM_SHARDS_KEY = GOBBLIN_SERVICE_DAG_PROCESSING_ENGINE_PREFIX + "numTaskStreamShards";
+  public static final Integer DEFAULT_NUM_DAG_TASK_STREAM_SHARDS = 1;
+  // leases of up to this many dag actions of a shard are acquired together
+  public static final String DAG_TASK_STREAM_LEASE_BATCH_SIZE_KEY = GOBBLIN_SERVICE_DAG_PROCESSING_ENGINE_PREFIX + "taskStreamLeaseBatchSize";
+  public static final Integer DEFAULT_DAG_TASK_STREAM_LEASE_BATCH_SIZE = 1;
+  // idle threads also serve the shards whose oldest dag action has waited this long, e.g. as the thread serving it died
+  public static final String DAG_TASK_STREAM_SHARD_STARVATION_MILLIS_KEY = GOBBLIN_SERVICE_DAG_PROCESSING_ENGINE_PREFIX + "taskStreamShardStarvationMillis";
+  public static final long DEFAULT_DAG_TASK_STREAM_SHARD_STARVATION_MILLIS = TimeUnit.MINUTES.toMillis(1);
   public static final String NUM_SPEC_CATALOG_LISTENER_THREADS_KEY = GOBBLIN_SERVICE_PREFIX + "specCatalogListener.numThreads";
   public static final int DEFAULT_NUM_SPEC_CATALOG_LISTENER_THREADS = 3;
   public static final long DEFAULT_FLOW_FINISH_DEADLINE_MILLIS = TimeUnit.HOURS.toMillis(24);
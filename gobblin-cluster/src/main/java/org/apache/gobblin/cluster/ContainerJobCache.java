@@ -0,0 +1,261 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.gobblin.cluster;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.typesafe.config.Config;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import org.apache.gobblin.broker.SharedResourcesBrokerFactory;
+import org.apache.gobblin.broker.gobblin_scopes.GobblinScopeTypes;
+import org.apache.gobblin.broker.gobblin_scopes.JobScopeInstance;
+import org.apache.gobblin.broker.iface.SharedResourcesBroker;
+import org.apache.gobblin.instrumented.StandardMetricsBridge;
+import org.apache.gobblin.metrics.MetricContext;
+import org.apache.gobblin.runtime.JobState;
+import org.apache.gobblin.util.SerializationUtils;
+
+
+/**
+ * A container-level cache of the {@link JobState} and the job-level {@link SharedResourcesBroker} of each job, shared by
+ * the {@link SingleTask}s of the job that run in the container, so that only the first of them reads the {@link JobState}
+ * from the state store and builds the brokers.
+ *
+ * <p>
+ *   Each {@link SingleTask} gets its own {@link JobState}, deserialized from the cached bytes, since it adds its own
+ *   dynamic config to it. Tasks of the job starting while the first one loads the {@link JobState} wait for it to be
+ *   loaded, rather than each loading it too. The brokers are reference counted by the tasks running with them; when the
+ *   last one releases them, they are closed and the job is evicted, along with its {@link JobState}, for the next task of
+ *   the job to run to load them again. At most `maxJobs` jobs are cached, the least recently used one without running
+ *   tasks being evicted for a new one: when that many are cached and running, the tasks of further jobs load their own
+ *   {@link JobState} and brokers, as without the cache.
+ * </p>
+ */
+@Slf4j
+public class ContainerJobCache extends StandardMetricsBridge.StandardMetrics {
+  private static final String JOB_STATE_HITS = "containerJobCache.jobStateHits";
+  private static final String JOB_STATE_MISSES = "containerJobCache.jobStateMisses";
+  private static final String JOB_BROKER_HITS = "containerJobCache.jobBrokerHits";
+  private static final String JOB_BROKER_MISSES = "containerJobCache.jobBrokerMisses";
+  private static final String NUM_CACHED_JOBS = "containerJobCache.numCachedJobs";
+
+  private final int maxJobs;
+  // in access order, for the least recently used idle job to be evicted first
+  private final Map<String, CachedJob> cachedJobs = new LinkedHashMap<>(16, 0.75f, true);
+  private final AtomicLong jobStateHits = new AtomicLong();
+  private final AtomicLong jobStateMisses = new AtomicLong();
+  private final AtomicLong jobBrokerHits = new AtomicLong();
+  private final AtomicLong jobBrokerMisses = new AtomicLong();
+
+  public ContainerJobCache(int maxJobs, MetricContext metricContext) {
+    this.maxJobs = maxJobs;
+    this.contextAwareMetrics.add(metricContext.newContextAwareGauge(JOB_STATE_HITS, this.jobStateHits::get));
+    this.contextAwareMetrics.add(metricContext.newContextAwareGauge(JOB_STATE_MISSES, this.jobStateMisses::get));
+    this.contextAwareMetrics.add(metricContext.newContextAwareGauge(JOB_BROKER_HITS, this.jobBrokerHits::get));
+    this.contextAwareMetrics.add(metricContext.newContextAwareGauge(JOB_BROKER_MISSES, this.jobBrokerMisses::get));
+    this.contextAwareMetrics.add(metricContext.newContextAwareGauge(NUM_CACHED_JOBS, this::getNumCachedJobs));
+  }
+
+  /**
+   * @return a {@link JobState} of its own for the caller, deserialized from the cached one of `jobId`, or else loaded by
+   * `jobStateLoader` and cached; while another caller is loading it, waits for that load rather than loading it too
+   */
+  public JobState getJobState(String jobId, Callable<JobState> jobStateLoader) throws IOException {
+    CompletableFuture<byte[]> jobStateLoad;
+    boolean isLoader = false;
+    synchronized (this) {
+      CachedJob cachedJob = getOrCreateCachedJob(jobId);
+      if (cachedJob == null) {
+        jobStateLoad = null;
+      } else {
+        if (cachedJob.serializedJobState == null) {
+          cachedJob.serializedJobState = new CompletableFuture<>();
+          isLoader = true;
+        }
+        jobStateLoad = cachedJob.serializedJobState;
+      }
+    }
+    if (jobStateLoad == null) {
+      // too many jobs running in this container to cache another one
+      this.jobStateMisses.incrementAndGet();
+      return loadJobState(jobId, jobStateLoader);
+    }
+
+    if (!isLoader) {
+      this.jobStateHits.incrementAndGet();
+      byte[] serializedJobState;
+      try {
+        serializedJobState = jobStateLoad.get();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new IOException("Interrupted waiting for job state of job " + jobId, e);
+      } catch (ExecutionException e) {
+        throw new IOException("Failed to load job state of job " + jobId, e.getCause());
+      }
+      JobState jobState = new JobState();
+      SerializationUtils.deserializeStateFromInputStream(new ByteArrayInputStream(serializedJobState), jobState);
+      return jobState;
+    }
+
+    this.jobStateMisses.incrementAndGet();
+    try {
+      JobState jobState = loadJobState(jobId, jobStateLoader);
+      ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+      try (DataOutputStream out = new DataOutputStream(bytes)) {
+        jobState.write(out);
+      }
+      jobStateLoad.complete(bytes.toByteArray());
+      return jobState;
+    } catch (IOException | RuntimeException e) {
+      // fail the tasks waiting for this load, but let later ones load it again
+      synchronized (this) {
+        CachedJob cachedJob = this.cachedJobs.get(jobId);
+        if (cachedJob != null && cachedJob.serializedJobState == jobStateLoad) {
+          cachedJob.serializedJobState = null;
+        }
+      }
+      jobStateLoad.completeExceptionally(e);
+      throw e;
+    }
+  }
+
+  /**
+   * Acquire the job-level broker of the job of `jobState`, building it with `jobConfig` if this is the first running task
+   * of the job. The returned {@link JobBrokerLease} is to be closed once the task is done with the broker.
+   */
+  public JobBrokerLease acquireJobBroker(JobState jobState, Config jobConfig) {
+    synchronized (this) {
+      CachedJob cachedJob = getOrCreateCachedJob(jobState.getJobId());
+      if (cachedJob != null) {
+        if (cachedJob.globalBroker == null) {
+          this.jobBrokerMisses.incrementAndGet();
+          cachedJob.globalBroker = createGlobalBroker(jobConfig);
+          cachedJob.jobBroker = createJobBroker(jobState, cachedJob.globalBroker);
+        } else {
+          this.jobBrokerHits.incrementAndGet();
+        }
+        cachedJob.numRunningTasks++;
+        return new JobBrokerLease(cachedJob.jobBroker, () -> release(jobState.getJobId(), cachedJob));
+      }
+    }
+    // too many jobs running in this container to cache another one
+    this.jobBrokerMisses.incrementAndGet();
+    SharedResourcesBroker<GobblinScopeTypes> globalBroker = createGlobalBroker(jobConfig);
+    return new JobBrokerLease(createJobBroker(jobState, globalBroker), globalBroker);
+  }
+
+  @VisibleForTesting
+  synchronized int getNumCachedJobs() {
+    return this.cachedJobs.size();
+  }
+
+  private synchronized void release(String jobId, CachedJob cachedJob) throws IOException {
+    if (--cachedJob.numRunningTasks == 0) {
+      log.info("Last running task of job {} finished, closing its shared brokers and evicting its job state", jobId);
+      this.cachedJobs.remove(jobId, cachedJob);
+      SharedResourcesBroker<GobblinScopeTypes> globalBroker = cachedJob.globalBroker;
+      cachedJob.globalBroker = null;
+      cachedJob.jobBroker = null;
+      globalBroker.close();
+    }
+  }
+
+  private static JobState loadJobState(String jobId, Callable<JobState> jobStateLoader) throws IOException {
+    try {
+      return jobStateLoader.call();
+    } catch (IOException e) {
+      throw e;
+    } catch (Exception e) {
+      throw new IOException("Failed to load job state of job " + jobId, e);
+    }
+  }
+
+  /** @return the cached job of `jobId`, or null when `maxJobs` jobs are cached and running */
+  private CachedJob getOrCreateCachedJob(String jobId) {
+    CachedJob cachedJob = this.cachedJobs.get(jobId);
+    if (cachedJob != null) {
+      return cachedJob;
+    }
+    if (this.cachedJobs.size() >= this.maxJobs) {
+      // evict the least recently used job without running tasks, which may have been cached by tasks yet to run
+      Iterator<CachedJob> iterator = this.cachedJobs.values().iterator();
+      while (iterator.hasNext()) {
+        if (iterator.next().numRunningTasks == 0) {
+          iterator.remove();
+          break;
+        }
+      }
+      if (this.cachedJobs.size() >= this.maxJobs) {
+        return null;
+      }
+    }
+    cachedJob = new CachedJob();
+    this.cachedJobs.put(jobId, cachedJob);
+    return cachedJob;
+  }
+
+  private static SharedResourcesBroker<GobblinScopeTypes> createGlobalBroker(Config jobConfig) {
+    return SharedResourcesBrokerFactory.createDefaultTopLevelBroker(jobConfig, GobblinScopeTypes.GLOBAL.defaultScopeInstance());
+  }
+
+  private static SharedResourcesBroker<GobblinScopeTypes> createJobBroker(JobState jobState,
+      SharedResourcesBroker<GobblinScopeTypes> globalBroker) {
+    return globalBroker.newSubscopedBuilder(new JobScopeInstance(jobState.getJobName(), jobState.getJobId())).build();
+  }
+
+  private static class CachedJob {
+    private CompletableFuture<byte[]> serializedJobState;
+    private SharedResourcesBroker<GobblinScopeTypes> globalBroker;
+    private SharedResourcesBroker<GobblinScopeTypes> jobBroker;
+    private int numRunningTasks;
+  }
+
+  /**
+   * The job-level broker of a running task, which the task releases by closing this lease
+   */
+  public static class JobBrokerLease implements Closeable {
+    @Getter
+    private final SharedResourcesBroker<GobblinScopeTypes> jobBroker;
+    private final Closeable release;
+
+    JobBrokerLease(SharedResourcesBroker<GobblinScopeTypes> jobBroker, Closeable release) {
+      this.jobBroker = jobBroker;
+      this.release = release;
+    }
+
+    @Override
+    public void close() throws IOException {
+      this.release.close();
+    }
+  }
+}
@@ -41,6 +41,19 @@ public class GobblinClusterConfigurationKeys {
       GOBBLIN_CLUSTER_PREFIX + "task.log.config";
   public static final String TASK_JVM_OPTIONS =
       GOBBLIN_CLUSTER_PREFIX + "task.jvm.options";
+  // Pool of pre-forked, reusable task JVMs, used instead of one JVM per task when tasks run in separate processes
+  public static final String TASK_PROCESS_POOL_ENABLED = GOBBLIN_CLUSTER_PREFIX + "taskProcessPool.enabled";
+  public static final boolean DEFAULT_TASK_PROCESS_POOL_ENABLED = false;
+  // Maximum number of worker JVMs, which also bounds the number of tasks running concurrently in separate processes
+  public static final String TASK_PROCESS_POOL_SIZE = GOBBLIN_CLUSTER_PREFIX + "taskProcessPool.size";
+  public static final int DEFAULT_TASK_PROCESS_POOL_SIZE = 4;
+  // A worker JVM is recycled after running this many tasks, or once its heap retained after GC exceeds this fraction
+  public static final String TASK_PROCESS_POOL_MAX_TASKS_PER_WORKER = GOBBLIN_CLUSTER_PREFIX + "taskProcessPool.maxTasksPerWorker";
+  public static final int DEFAULT_TASK_PROCESS_POOL_MAX_TASKS_PER_WORKER = 100;
+  public static final String TASK_PROCESS_POOL_MAX_HEAP_USAGE_FRACTION = GOBBLIN_CLUSTER_PREFIX + "taskProcessPool.maxHeapUsageFraction";
+  public static final double DEFAULT_TASK_PROCESS_POOL_MAX_HEAP_USAGE_FRACTION = 0.75;
+  public static final String TASK_PROCESS_POOL_WORKER_START_TIMEOUT_SECONDS = GOBBLIN_CLUSTER_PREFIX + "taskProcessPool.workerStartTimeoutSeconds";
+  public static final long DEFAULT_TASK_PROCESS_POOL_WORKER_START_TIMEOUT_SECONDS = 60L;
 
   // General Gobblin Cluster application configuration properties.
   public static final String APPLICATION_NAME_OPTION_NAME = "app_name";
@@ -202,6 +215,13 @@ public class GobblinClusterConfigurationKeys {
   public static final String CONTAINER_HEALTH_METRICS_SERVICE_ENABLED = GOBBLIN_CLUSTER_PREFIX + "container.health.metrics.service.enabled" ;
   public static final boolean DEFAULT_CONTAINER_HEALTH_METRICS_SERVICE_ENABLED = false;
 
+  // Config to share the job state and job-level broker of a job among the Helix tasks of the job running in a container,
+  // instead of each task reading the job state and building the brokers on its own. See ContainerJobCache.
+  public static final String CONTAINER_JOB_CACHE_ENABLED = GOBBLIN_CLUSTER_PREFIX + "container.jobCache.enabled";
+  public static final boolean DEFAULT_CONTAINER_JOB_CACHE_ENABLED = false;
+  public static final String CONTAINER_JOB_CACHE_MAX_JOBS = GOBBLIN_CLUSTER_PREFIX + "container.jobCache.maxJobs";
+  public static final int DEFAULT_CONTAINER_JOB_CACHE_MAX_JOBS = 10;
+
   //Config to enable/disable container "suicide" on health check failures. To be used in execution modes, where the exiting
   // container can be replaced with another container e.g. Gobblin-on-Yarn mode.
   public static final String CONTAINER_EXIT_ON_HEALTH_CHECK_FAILURE_ENABLED = GOBBLIN_CLUSTER_PREFIX + "container.exitOnHealthCheckFailure";
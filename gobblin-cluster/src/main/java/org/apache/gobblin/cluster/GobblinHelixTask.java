@@ -44,6 +44,7 @@ import org.apache.helix.task.TaskResult;
 import org.slf4j.MDC;
 
 import com.github.rholder.retry.Retryer;
+import com.google.common.base.Optional;
 import com.google.common.base.Throwables;
 import com.google.common.eventbus.EventBus;
 import com.google.common.io.Closer;
@@ -98,6 +99,17 @@ public class GobblinHelixTask implements Task {
                           StateStores stateStores,
                           GobblinHelixTaskMetrics taskMetrics,
                           TaskDriver taskDriver)
+  {
+    this(builder, taskCallbackContext, taskAttemptBuilder, stateStores, taskMetrics, taskDriver, Optional.absent());
+  }
+
+  public GobblinHelixTask(TaskRunnerSuiteBase.Builder builder,
+                          TaskCallbackContext taskCallbackContext,
+                          TaskAttemptBuilder taskAttemptBuilder,
+                          StateStores stateStores,
+                          GobblinHelixTaskMetrics taskMetrics,
+                          TaskDriver taskDriver,
+                          Optional<ContainerJobCache> jobCache)
   {
     this.taskConfig = taskCallbackContext.getTaskConfig();
     this.helixJobId = taskCallbackContext.getJobConfig().getJobId();
@@ -138,7 +150,7 @@ public class GobblinHelixTask implements Task {
         public SingleTask call() {
           return new SingleTask(jobId, workUnitFilePath, jobStateFilePath, builder.getFs(), taskAttemptBuilder,
               stateStores,
-              dynamicConfig);
+              dynamicConfig, false, jobCache);
         }
       });
     } catch (Exception e) {
@@ -67,6 +67,8 @@ public class GobblinHelixTaskFactory implements TaskFactory {
   private final TaskExecutor taskExecutor;
   @Getter
   private final GobblinHelixTaskMetrics taskMetrics;
+  @Getter
+  private final Optional<ContainerJobCache> jobCache;
   private final TaskStateTracker taskStateTracker;
   private final Path appWorkDir;
   private final StateStores stateStores;
@@ -97,6 +99,14 @@ public class GobblinHelixTaskFactory implements TaskFactory {
         ConfigurationKeys.DEFAULT_METRIC_TIMER_WINDOW_SIZE_IN_MINUTES);
     this.taskExecutor = new TaskExecutor(ConfigUtils.configToProperties(builder.getConfig()));
     this.taskMetrics = new GobblinHelixTaskMetrics(taskExecutor, metricContext, windowSizeInMin);
+    if (ConfigUtils.getBoolean(builder.getConfig(), GobblinClusterConfigurationKeys.CONTAINER_JOB_CACHE_ENABLED,
+        GobblinClusterConfigurationKeys.DEFAULT_CONTAINER_JOB_CACHE_ENABLED)) {
+      this.jobCache = Optional.of(new ContainerJobCache(ConfigUtils.getInt(builder.getConfig(),
+          GobblinClusterConfigurationKeys.CONTAINER_JOB_CACHE_MAX_JOBS,
+          GobblinClusterConfigurationKeys.DEFAULT_CONTAINER_JOB_CACHE_MAX_JOBS), metricContext));
+    } else {
+      this.jobCache = Optional.absent();
+    }
 
     this.builder = builder;
     this.containerMetrics = builder.getContainerMetrics();
@@ -136,6 +146,7 @@ public class GobblinHelixTaskFactory implements TaskFactory {
       this.taskDriver = Optional.of(new TaskDriver(context.getManager()));
     }
 
-    return new GobblinHelixTask(builder, context, this.taskAttemptBuilder, this.stateStores, this.taskMetrics, this.taskDriver.get());
+    return new GobblinHelixTask(builder, context, this.taskAttemptBuilder, this.stateStores, this.taskMetrics, this.taskDriver.get(),
+        this.jobCache);
   }
 }
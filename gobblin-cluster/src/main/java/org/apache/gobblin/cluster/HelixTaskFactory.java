@@ -49,8 +49,18 @@ public class HelixTaskFactory implements TaskFactory {
    */
   private final Optional<Counter> newTasksCounter;
   private final SingleTaskLauncher launcher;
+  private final Optional<SingleTaskProcessPool> processPool;
 
   public HelixTaskFactory(Optional<ContainerMetrics> containerMetrics, Path clusterConfPath, Config sysConfig) {
+    this(containerMetrics, new SingleTaskLauncher(new GobblinProcessBuilder(), new SystemPropertiesWrapper(),
+        clusterConfPath, sysConfig), Optional.absent());
+  }
+
+  /**
+   * @param processPool when present, tasks run in its pre-forked worker processes instead of a new process each
+   */
+  HelixTaskFactory(Optional<ContainerMetrics> containerMetrics, SingleTaskLauncher launcher,
+      Optional<SingleTaskProcessPool> processPool) {
     this.containerMetrics = containerMetrics;
     if (this.containerMetrics.isPresent()) {
       this.newTasksCounter = Optional
@@ -58,8 +68,8 @@ public class HelixTaskFactory implements TaskFactory {
     } else {
       this.newTasksCounter = Optional.absent();
     }
-    launcher = new SingleTaskLauncher(new GobblinProcessBuilder(), new SystemPropertiesWrapper(),
-        clusterConfPath, sysConfig);
+    this.launcher = launcher;
+    this.processPool = processPool;
   }
 
   @Override
@@ -69,6 +79,9 @@ public class HelixTaskFactory implements TaskFactory {
         this.newTasksCounter.get().inc();
       }
       Map<String, String> configMap = context.getTaskConfig().getConfigMap();
+      if (this.processPool.isPresent()) {
+        return new PooledSingleHelixTask(this.processPool.get(), configMap);
+      }
       return new SingleHelixTask(this.launcher, configMap);
     } catch (IOException ioe) {
       final String msg = "Failed to create a new SingleHelixTask";
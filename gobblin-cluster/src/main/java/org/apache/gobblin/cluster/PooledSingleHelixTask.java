@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.gobblin.cluster;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.apache.helix.task.Task;
+import org.apache.helix.task.TaskResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.base.Optional;
+import com.google.common.base.Throwables;
+
+import org.apache.gobblin.configuration.ConfigurationKeys;
+
+
+/**
+ * A counterpart of {@link SingleHelixTask} which runs the task in a pre-forked worker process borrowed from a
+ * {@link SingleTaskProcessPool}, instead of launching a new JVM for it.
+ */
+public class PooledSingleHelixTask implements Task {
+
+  private static final Logger logger = LoggerFactory.getLogger(PooledSingleHelixTask.class);
+
+  private final SingleTaskProcessPool pool;
+  private final String jobId;
+  private final String jobName;
+  private final String workUnitFilePath;
+
+  /** The worker while this task holds it; whichever of {@link #run()} and {@link #cancel()} takes it out releases it */
+  private final AtomicReference<SingleTaskProcessPool.Worker> worker = new AtomicReference<>();
+  private volatile boolean cancelled = false;
+
+  PooledSingleHelixTask(final SingleTaskProcessPool pool, final Map<String, String> configMap) {
+    this.pool = pool;
+    this.jobName = configMap.get(ConfigurationKeys.JOB_NAME_KEY);
+    this.jobId = configMap.get(ConfigurationKeys.JOB_ID_KEY);
+    this.workUnitFilePath = configMap.get(GobblinClusterConfigurationKeys.WORK_UNIT_FILE_PATH);
+  }
+
+  @Override
+  public TaskResult run() {
+    Optional<SingleTaskProcessPool.TaskOutcome> outcome = Optional.absent();
+    try {
+      SingleTaskProcessPool.Worker acquiredWorker = this.pool.acquire(() -> this.cancelled);
+      this.worker.set(acquiredWorker);
+      if (this.cancelled) {
+        return new TaskResult(TaskResult.Status.CANCELED, "");
+      }
+      logger.info("Running a single task in a pooled worker process. job name: {}. job id: {}", this.jobName, this.jobId);
+      outcome = Optional.of(acquiredWorker.runTask(this.jobId, this.workUnitFilePath));
+      if (outcome.get().succeeded) {
+        logger.info("Pooled task finished. job name: {}. job id: {}", this.jobName, this.jobId);
+        return new TaskResult(TaskResult.Status.COMPLETED, "");
+      } else {
+        logger.warn("Pooled task failed. job name: {}. job id: {}", this.jobName, this.jobId);
+        return new TaskResult(TaskResult.Status.FATAL_FAILED, "Task failed in worker process");
+      }
+    } catch (final Throwable t) {
+      if (this.cancelled) {
+        return new TaskResult(TaskResult.Status.CANCELED, "");
+      }
+      logger.error("PooledSingleHelixTask failed due to " + t.getMessage(), t);
+      return new TaskResult(TaskResult.Status.FAILED, Throwables.getStackTraceAsString(t));
+    } finally {
+      SingleTaskProcessPool.Worker ownedWorker = this.worker.getAndSet(null);
+      if (ownedWorker != null) {
+        this.pool.release(ownedWorker, outcome);
+      }
+    }
+  }
+
+  @Override
+  public void cancel() {
+    logger.info("Canceling a pooled single task. job name: {}. job id: {}", this.jobName, this.jobId);
+    this.cancelled = true;
+    final SingleTaskProcessPool.Worker runningWorker = this.worker.getAndSet(null);
+    if (runningWorker != null) {
+      // the worker is replaced rather than reused, as there is no telling how far the task got; releasing it without
+      // an outcome destroys it, which also fails the task's pending round trip
+      this.pool.release(runningWorker, Optional.absent());
+    }
+  }
+}
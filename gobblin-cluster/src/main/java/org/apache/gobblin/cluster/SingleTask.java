@@ -31,7 +31,9 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Optional;
 import com.google.common.collect.Lists;
+import com.google.common.io.Closer;
 import com.typesafe.config.Config;
 import com.typesafe.config.ConfigFactory;
 
@@ -69,6 +71,7 @@ public class SingleTask {
   private StateStores _stateStores;
   private Config _dynamicConfig;
   private JobState _jobState;
+  private Optional<ContainerJobCache> _jobCache;
 
   // Preventing Helix calling cancel before taskAttempt is created
   // Checking if taskAttempt is empty is not enough, since canceller runs in different thread as runner, the case to
@@ -87,6 +90,17 @@ public class SingleTask {
    */
   SingleTask(String jobId, Path workUnitFilePath, Path jobStateFilePath, FileSystem fs,
       TaskAttemptBuilder taskAttemptBuilder, StateStores stateStores, Config dynamicConfig, boolean skipGetJobState) {
+    this(jobId, workUnitFilePath, jobStateFilePath, fs, taskAttemptBuilder, stateStores, dynamicConfig, skipGetJobState,
+        Optional.absent());
+  }
+
+  /**
+   * @param jobCache if present, the {@link JobState} and the job-level broker are shared with the other tasks of the
+   *                 job running in this container
+   */
+  SingleTask(String jobId, Path workUnitFilePath, Path jobStateFilePath, FileSystem fs,
+      TaskAttemptBuilder taskAttemptBuilder, StateStores stateStores, Config dynamicConfig, boolean skipGetJobState,
+      Optional<ContainerJobCache> jobCache) {
     _jobId = jobId;
     _workUnitFilePath = workUnitFilePath;
     _jobStateFilePath = jobStateFilePath;
@@ -94,6 +108,7 @@ public class SingleTask {
     _taskAttemptBuilder = taskAttemptBuilder;
     _stateStores = stateStores;
     _dynamicConfig = dynamicConfig;
+    _jobCache = jobCache;
     _lock = new ReentrantLock();
     _taskAttemptBuilt = _lock.newCondition();
 
@@ -123,9 +138,15 @@ public class SingleTask {
     _logger.debug("SingleTask.run: jobId {} workUnitFilePath {} jobStateFilePath {} jobState {} jobConfig {}",
         _jobId, _workUnitFilePath, _jobStateFilePath, _jobState, jobConfig);
 
-    try (SharedResourcesBroker<GobblinScopeTypes> globalBroker = SharedResourcesBrokerFactory
-        .createDefaultTopLevelBroker(jobConfig, GobblinScopeTypes.GLOBAL.defaultScopeInstance())) {
-      SharedResourcesBroker<GobblinScopeTypes> jobBroker = getJobBroker(_jobState, globalBroker);
+    try (Closer closer = Closer.create()) {
+      SharedResourcesBroker<GobblinScopeTypes> jobBroker;
+      if (_jobCache.isPresent()) {
+        jobBroker = closer.register(_jobCache.get().acquireJobBroker(_jobState, jobConfig)).getJobBroker();
+      } else {
+        SharedResourcesBroker<GobblinScopeTypes> globalBroker = closer.register(SharedResourcesBrokerFactory
+            .createDefaultTopLevelBroker(jobConfig, GobblinScopeTypes.GLOBAL.defaultScopeInstance()));
+        jobBroker = getJobBroker(_jobState, globalBroker);
+      }
 
       // Secure atomicity of taskAttempt's execution.
       // Signaling blocking threads if any whenever taskAttempt is nonNull.
@@ -158,6 +179,13 @@ public class SingleTask {
   }
 
   protected JobState getJobState() throws IOException {
+    if (_jobCache.isPresent()) {
+      return _jobCache.get().getJobState(_jobId, this::loadJobState);
+    }
+    return loadJobState();
+  }
+
+  private JobState loadJobState() throws IOException {
     JobState jobState;
 
     // read the state from the state store if present, otherwise deserialize directly from the file
@@ -21,7 +21,9 @@ import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.apache.commons.lang3.text.StrTokenizer;
 import org.slf4j.Logger;
@@ -55,10 +57,30 @@ class SingleTaskLauncher {
 
   Process launch(final String jobId, final Path workUnitFilePath)
       throws IOException {
-    final SingleTaskLauncher.CmdBuilder cmdBuilder = this.new CmdBuilder(jobId, workUnitFilePath);
-    final List<String> command = cmdBuilder.build();
+    final Map<String, String> options = new LinkedHashMap<>();
+    options.put(CLUSTER_CONFIG_FILE_PATH, this.clusterConfigFilePath.toString());
+    options.put(JOB_ID, jobId);
+    options.put(WORK_UNIT_FILE_PATH, workUnitFilePath.toString());
     logger.info("Launching a task process.");
+    return start(this.new CmdBuilder(SingleTaskRunnerMain.class, options).build());
+  }
+
+  /**
+   * Launch a reusable worker process, which connects back to a {@link SingleTaskProcessPool} listening on the given
+   * local port and runs the tasks it is sent.
+   */
+  Process launchWorker(final String workerId, final int port)
+      throws IOException {
+    final Map<String, String> options = new LinkedHashMap<>();
+    options.put(CLUSTER_CONFIG_FILE_PATH, this.clusterConfigFilePath.toString());
+    options.put(SingleTaskWorkerMain.WORKER_ID, workerId);
+    options.put(SingleTaskWorkerMain.WORKER_PORT, Integer.toString(port));
+    logger.info("Launching a task worker process {}.", workerId);
+    return start(this.new CmdBuilder(SingleTaskWorkerMain.class, options).build());
+  }
 
+  private Process start(final List<String> command)
+      throws IOException {
     // The -cp parameter list can be very long.
     final String completeCmdLine = String.join(" ", command);
     logger.info("cmd line:\n{}", completeCmdLine);
@@ -69,13 +91,13 @@ class SingleTaskLauncher {
   }
 
   private class CmdBuilder {
-    private final String jobId;
-    private final Path workUnitFilePath;
+    private final Class<?> mainClass;
+    private final Map<String, String> options;
     private final List<String> cmd = new ArrayList<>();
 
-    private CmdBuilder(final String jobId, final Path workUnitFilePath) {
-      this.jobId = jobId;
-      this.workUnitFilePath = workUnitFilePath;
+    private CmdBuilder(final Class<?> mainClass, final Map<String, String> options) {
+      this.mainClass = mainClass;
+      this.options = options;
     }
 
     List<String> build() {
@@ -99,8 +121,7 @@ class SingleTaskLauncher {
     }
 
     private void addClassName() {
-      final String runnerClassName = SingleTaskRunnerMain.class.getCanonicalName();
-      this.cmd.add(runnerClassName);
+      this.cmd.add(this.mainClass.getCanonicalName());
     }
 
     private void addJavaBin() {
@@ -128,22 +149,9 @@ class SingleTaskLauncher {
     }
 
     private void addOptions() {
-      addClusterConfigPath();
-      addJobId();
-      addWorkUnitPath();
-    }
-
-    private void addClusterConfigPath() {
-      addOneOption(CLUSTER_CONFIG_FILE_PATH,
-          SingleTaskLauncher.this.clusterConfigFilePath.toString());
-    }
-
-    private void addWorkUnitPath() {
-      addOneOption(WORK_UNIT_FILE_PATH, this.workUnitFilePath.toString());
-    }
-
-    private void addJobId() {
-      addOneOption(JOB_ID, this.jobId);
+      for (final Map.Entry<String, String> option : this.options.entrySet()) {
+        addOneOption(option.getKey(), option.getValue());
+      }
     }
 
     private void addOneOption(final String key, final String value) {
@@ -0,0 +1,333 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.gobblin.cluster;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import com.google.common.base.Optional;
+import com.google.common.io.Closeables;
+import com.google.common.util.concurrent.AbstractIdleService;
+import com.typesafe.config.Config;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import org.apache.gobblin.instrumented.Instrumented;
+import org.apache.gobblin.instrumented.StandardMetricsBridge;
+import org.apache.gobblin.metrics.ContextAwareCounter;
+import org.apache.gobblin.metrics.ContextAwareTimer;
+import org.apache.gobblin.metrics.MetricContext;
+import org.apache.gobblin.util.ConfigUtils;
+import org.apache.gobblin.util.ExecutorsUtils;
+
+
+/**
+ * A pool of pre-forked, reusable task worker JVMs (see {@link SingleTaskWorkerMain}).
+ *
+ * <p>
+ *   Launching a JVM per task keeps tasks isolated from the task runner, but for short tasks JVM startup and class loading
+ *   dominate. Workers of this pool are started ahead of demand, connect back over a loopback socket, and run one task at
+ *   a time, so that a task only pays for a round trip to an already warm JVM. A worker is recycled (killed and replaced)
+ *   after {@link GobblinClusterConfigurationKeys#TASK_PROCESS_POOL_MAX_TASKS_PER_WORKER} tasks, once its heap retained
+ *   after GC exceeds {@link GobblinClusterConfigurationKeys#TASK_PROCESS_POOL_MAX_HEAP_USAGE_FRACTION} of its max heap,
+ *   or whenever it fails to complete a task.
+ * </p>
+ *
+ * <p>
+ *   The pool never runs more than {@link GobblinClusterConfigurationKeys#TASK_PROCESS_POOL_SIZE} workers; a task
+ *   asking for a worker while all of them are busy waits for one to be released.
+ * </p>
+ */
+@Slf4j
+class SingleTaskProcessPool extends AbstractIdleService {
+  private static final long ACQUIRE_POLL_MILLIS = 1000L;
+
+  private final SingleTaskLauncher launcher;
+  @Getter
+  private final int size;
+  private final int maxTasksPerWorker;
+  private final double maxHeapUsageFraction;
+  private final int workerStartTimeoutMillis;
+
+  private final BlockingQueue<Worker> idleWorkers = new LinkedBlockingQueue<>();
+  private final Set<Worker> workers = ConcurrentHashMap.newKeySet();
+  /** Number of workers alive or being started, bounded by {@link #size} */
+  private final AtomicInteger numWorkers = new AtomicInteger();
+  private final AtomicInteger numBusyWorkers = new AtomicInteger();
+  @Getter
+  private final Metrics metrics;
+
+  private ServerSocket serverSocket;
+  private ExecutorService workerStarter;
+
+  SingleTaskProcessPool(SingleTaskLauncher launcher, Config config, MetricContext metricContext) {
+    this.launcher = launcher;
+    this.size = ConfigUtils.getInt(config, GobblinClusterConfigurationKeys.TASK_PROCESS_POOL_SIZE,
+        GobblinClusterConfigurationKeys.DEFAULT_TASK_PROCESS_POOL_SIZE);
+    this.maxTasksPerWorker = ConfigUtils.getInt(config, GobblinClusterConfigurationKeys.TASK_PROCESS_POOL_MAX_TASKS_PER_WORKER,
+        GobblinClusterConfigurationKeys.DEFAULT_TASK_PROCESS_POOL_MAX_TASKS_PER_WORKER);
+    this.maxHeapUsageFraction = ConfigUtils.getDouble(config, GobblinClusterConfigurationKeys.TASK_PROCESS_POOL_MAX_HEAP_USAGE_FRACTION,
+        GobblinClusterConfigurationKeys.DEFAULT_TASK_PROCESS_POOL_MAX_HEAP_USAGE_FRACTION);
+    this.workerStartTimeoutMillis = (int) TimeUnit.SECONDS.toMillis(ConfigUtils.getLong(config,
+        GobblinClusterConfigurationKeys.TASK_PROCESS_POOL_WORKER_START_TIMEOUT_SECONDS,
+        GobblinClusterConfigurationKeys.DEFAULT_TASK_PROCESS_POOL_WORKER_START_TIMEOUT_SECONDS));
+    this.metrics = new Metrics(metricContext);
+  }
+
+  @Override
+  protected void startUp() throws Exception {
+    this.serverSocket = new ServerSocket(0, this.size, InetAddress.getLoopbackAddress());
+    this.workerStarter = Executors.newSingleThreadExecutor(
+        ExecutorsUtils.newDaemonThreadFactory(Optional.of(log), Optional.of("TaskWorkerStarter")));
+    log.info("Task process pool listening on port {}, pre-forking {} workers", this.serverSocket.getLocalPort(), this.size);
+    for (int i = 0; i < this.size; i++) {
+      this.workerStarter.submit(this::startSpareWorker);
+    }
+  }
+
+  @Override
+  protected void shutDown() throws Exception {
+    this.workerStarter.shutdownNow();
+    for (Worker worker : this.workers) {
+      worker.destroy();
+    }
+    this.workers.clear();
+    this.idleWorkers.clear();
+    this.serverSocket.close();
+  }
+
+  /**
+   * Take an idle worker, starting one if the pool is not full, or else wait for one to be released. The caller must
+   * hand the worker back through {@link #release(Worker, Optional)}.
+   */
+  Worker acquire() throws IOException, InterruptedException {
+    return acquire(() -> false);
+  }
+
+  /**
+   * As {@link #acquire()}, but gives up with a {@link CancellationException} once {@code isCancelled} holds while
+   * waiting for a worker.
+   */
+  Worker acquire(BooleanSupplier isCancelled) throws IOException, InterruptedException {
+    long startTime = System.currentTimeMillis();
+    Worker worker = this.idleWorkers.poll();
+    while (worker == null) {
+      if (!isRunning()) {
+        throw new IOException("Task process pool is not running");
+      }
+      if (isCancelled.getAsBoolean()) {
+        throw new CancellationException("Cancelled while waiting for a task worker");
+      }
+      if (reserveWorkerSlot()) {
+        worker = startWorker();
+      } else {
+        worker = this.idleWorkers.poll(ACQUIRE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+      }
+    }
+    this.numBusyWorkers.incrementAndGet();
+    Instrumented.updateTimer(Optional.of(this.metrics.dispatchLatency), System.currentTimeMillis() - startTime,
+        TimeUnit.MILLISECONDS);
+    return worker;
+  }
+
+  /**
+   * Return a worker after a task. It goes back to the idle workers unless the task failed to complete (absent
+   * {@code outcome}) or the worker is due for recycling, in which case it is destroyed and replaced.
+   */
+  void release(Worker worker, Optional<TaskOutcome> outcome) {
+    this.numBusyWorkers.decrementAndGet();
+    if (!outcome.isPresent()) {
+      log.warn("Recycling task worker {} which did not complete its task", worker.id);
+    } else if (worker.numTasksRun >= this.maxTasksPerWorker) {
+      log.info("Recycling task worker {} after {} tasks", worker.id, worker.numTasksRun);
+    } else if (outcome.get().heapUsedBytes > this.maxHeapUsageFraction * outcome.get().heapMaxBytes) {
+      log.info("Recycling task worker {} retaining {} of {} heap bytes", worker.id, outcome.get().heapUsedBytes,
+          outcome.get().heapMaxBytes);
+    } else if (isRunning()) {
+      this.idleWorkers.offer(worker);
+      return;
+    }
+    retire(worker);
+  }
+
+  private void retire(Worker worker) {
+    worker.destroy();
+    this.workers.remove(worker);
+    this.numWorkers.decrementAndGet();
+    this.metrics.recycledWorkers.inc();
+    if (isRunning()) {
+      this.workerStarter.submit(this::startSpareWorker);
+    }
+  }
+
+  private void startSpareWorker() {
+    if (!reserveWorkerSlot()) {
+      return;
+    }
+    try {
+      this.idleWorkers.offer(startWorker());
+    } catch (IOException e) {
+      log.error("Failed to pre-fork a task worker", e);
+    }
+  }
+
+  private boolean reserveWorkerSlot() {
+    int current;
+    do {
+      current = this.numWorkers.get();
+      if (current >= this.size) {
+        return false;
+      }
+    } while (!this.numWorkers.compareAndSet(current, current + 1));
+    return true;
+  }
+
+  /**
+   * Launch a worker process and wait for it to connect. Must be called holding a slot from {@link #reserveWorkerSlot()},
+   * which is given back if the worker fails to start.
+   */
+  private Worker startWorker() throws IOException {
+    String workerId = UUID.randomUUID().toString();
+    Process process = null;
+    try {
+      // Serialize starts, so each accepted connection can be matched against the single worker being waited for
+      synchronized (this.serverSocket) {
+        process = this.launcher.launchWorker(workerId, this.serverSocket.getLocalPort());
+        this.serverSocket.setSoTimeout(this.workerStartTimeoutMillis);
+        while (true) {
+          Socket socket = this.serverSocket.accept();
+          socket.setSoTimeout(this.workerStartTimeoutMillis);
+          Worker worker = new Worker(workerId, process, socket);
+          if (workerId.equals(worker.in.readUTF())) {
+            socket.setSoTimeout(0);
+            this.workers.add(worker);
+            log.info("Task worker {} started", workerId);
+            return worker;
+          }
+          // a straggler from an earlier start that timed out
+          Closeables.close(socket, true);
+        }
+      }
+    } catch (IOException | RuntimeException e) {
+      if (process != null) {
+        process.destroyForcibly();
+      }
+      this.numWorkers.decrementAndGet();
+      if (e instanceof SocketTimeoutException) {
+        throw new IOException("Timed out waiting for task worker " + workerId + " to connect", e);
+      }
+      throw e;
+    }
+  }
+
+  /**
+   * Result of a task run by a {@link Worker}, along with the worker's memory footprint after it.
+   */
+  static class TaskOutcome {
+    final boolean succeeded;
+    final long heapUsedBytes;
+    final long heapMaxBytes;
+
+    TaskOutcome(boolean succeeded, long heapUsedBytes, long heapMaxBytes) {
+      this.succeeded = succeeded;
+      this.heapUsedBytes = heapUsedBytes;
+      this.heapMaxBytes = heapMaxBytes;
+    }
+  }
+
+  /**
+   * A connected worker process.
+   */
+  static class Worker {
+    private final String id;
+    private final Process process;
+    private final Socket socket;
+    private final DataInputStream in;
+    private final DataOutputStream out;
+    private int numTasksRun = 0;
+
+    Worker(String id, Process process, Socket socket) throws IOException {
+      this.id = id;
+      this.process = process;
+      this.socket = socket;
+      this.in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+      this.out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+    }
+
+    /**
+     * Send a task to the worker and block until it replies. Throws if the worker dies or is destroyed meanwhile.
+     */
+    TaskOutcome runTask(String jobId, String workUnitFilePath) throws IOException {
+      this.numTasksRun++;
+      this.out.writeUTF(jobId);
+      this.out.writeUTF(workUnitFilePath);
+      this.out.flush();
+      return new TaskOutcome(this.in.readBoolean(), this.in.readLong(), this.in.readLong());
+    }
+
+    void destroy() {
+      try {
+        Closeables.close(this.socket, true);
+      } catch (IOException e) {
+        // swallowed
+      }
+      this.process.destroyForcibly();
+    }
+  }
+
+  class Metrics extends StandardMetricsBridge.StandardMetrics {
+    static final String BUSY_WORKERS = "taskProcessPool.busyWorkers";
+    static final String IDLE_WORKERS = "taskProcessPool.idleWorkers";
+    static final String UTILIZATION_PERCENT = "taskProcessPool.utilizationPercent";
+    static final String DISPATCH_LATENCY = "taskProcessPool.dispatchLatency";
+    static final String RECYCLED_WORKERS = "taskProcessPool.recycledWorkers";
+
+    final ContextAwareTimer dispatchLatency;
+    final ContextAwareCounter recycledWorkers;
+
+    Metrics(MetricContext metricContext) {
+      this.dispatchLatency = metricContext.contextAwareTimer(DISPATCH_LATENCY);
+      this.recycledWorkers = metricContext.contextAwareCounter(RECYCLED_WORKERS);
+      this.contextAwareMetrics.add(metricContext.newContextAwareGauge(BUSY_WORKERS, numBusyWorkers::get));
+      this.contextAwareMetrics.add(metricContext.newContextAwareGauge(IDLE_WORKERS, idleWorkers::size));
+      this.contextAwareMetrics.add(metricContext.newContextAwareGauge(UTILIZATION_PERCENT,
+          () -> 100 * numBusyWorkers.get() / size));
+      this.contextAwareMetrics.add(this.dispatchLatency);
+      this.contextAwareMetrics.add(this.recycledWorkers);
+    }
+  }
+}
@@ -79,8 +79,12 @@ class SingleTaskRunner {
   void run(boolean fail) throws IOException, InterruptedException{
     logger.info("SingleTaskRunner running.");
     startServices();
-    runTask(fail);
-    shutdownServices();
+    try {
+      runTask(fail);
+    } finally {
+      // A pooled worker process goes on to run further tasks, so services must not outlive a failed task
+      shutdownServices();
+    }
   }
 
   @VisibleForTesting
@@ -0,0 +1,148 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.gobblin.cluster;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.util.Arrays;
+
+import org.apache.commons.cli.CommandLine;
+import org.apache.commons.cli.DefaultParser;
+import org.apache.commons.cli.Option;
+import org.apache.commons.cli.Options;
+import org.apache.commons.cli.ParseException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static org.apache.gobblin.cluster.SingleTaskRunnerMainOptions.CLUSTER_CONFIG_FILE_PATH;
+
+
+/**
+ * Entry point of a reusable task worker process of a {@link SingleTaskProcessPool}.
+ *
+ * <p>
+ *   The worker connects to the pool on a local port and identifies itself with its worker id. It then loops: it reads a
+ *   job id and a work unit file path, runs that task with a {@link SingleTaskRunner}, and replies whether the task
+ *   succeeded along with its heap retained after the last GC and its max heap, which the pool uses to decide when to
+ *   recycle the worker. The worker exits when the pool closes the connection.
+ * </p>
+ */
+class SingleTaskWorkerMain {
+  private static final Logger logger = LoggerFactory.getLogger(SingleTaskWorkerMain.class);
+  static final String WORKER_ID = "worker_id";
+  static final String WORKER_PORT = "worker_port";
+
+  private final SingleTaskRunnerBuilder builder;
+
+  SingleTaskWorkerMain(final SingleTaskRunnerBuilder builder) {
+    this.builder = builder;
+  }
+
+  public static void main(final String[] args) {
+    logger.info("SingleTaskWorkerMain starting. args: " + Arrays.toString(args));
+    try {
+      new SingleTaskWorkerMain(new SingleTaskRunnerBuilder()).run(args);
+    } catch (final Exception e) {
+      logger.error("Got an exception in a task worker.", e);
+      System.exit(1);
+    }
+    // Do not let threads leaked by a task keep an idle worker alive
+    System.exit(0);
+  }
+
+  void run(final String[] args)
+      throws IOException, ParseException {
+    final CommandLine cmd = new DefaultParser().parse(buildExpectedOptions(), args);
+    final String clusterConfigFilePath = cmd.getOptionValue(CLUSTER_CONFIG_FILE_PATH);
+    final String workerId = cmd.getOptionValue(WORKER_ID);
+    final int port = Integer.parseInt(cmd.getOptionValue(WORKER_PORT));
+
+    try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), port)) {
+      final DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+      final DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+      out.writeUTF(workerId);
+      out.flush();
+
+      while (true) {
+        final String jobId;
+        try {
+          jobId = in.readUTF();
+        } catch (final EOFException eofe) {
+          logger.info("Task worker {} released by its pool.", workerId);
+          return;
+        }
+        final String workUnitFilePath = in.readUTF();
+
+        final boolean succeeded = runTask(clusterConfigFilePath, jobId, workUnitFilePath);
+        out.writeBoolean(succeeded);
+        out.writeLong(getHeapUsedAfterGc());
+        out.writeLong(Runtime.getRuntime().maxMemory());
+        out.flush();
+      }
+    }
+  }
+
+  private boolean runTask(final String clusterConfigFilePath, final String jobId, final String workUnitFilePath) {
+    logger.info("Task worker running a task. job id: {}. work unit: {}", jobId, workUnitFilePath);
+    try {
+      this.builder.setClusterConfigFilePath(clusterConfigFilePath)
+          .setJobId(jobId)
+          .setWorkUnitFilePath(workUnitFilePath)
+          .createSingleTaskRunner()
+          .run();
+      return true;
+    } catch (final Exception e) {
+      logger.error("Got an exception running a single task.", e);
+      return false;
+    }
+  }
+
+  /**
+   * @return heap in use as of the end of the last collection of each heap memory pool, which unlike the current usage
+   * does not count garbage not yet collected
+   */
+  private static long getHeapUsedAfterGc() {
+    long used = 0;
+    for (final MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+      final MemoryUsage usage = pool.getType() == MemoryType.HEAP ? pool.getCollectionUsage() : null;
+      if (usage != null) {
+        used += usage.getUsed();
+      }
+    }
+    return used;
+  }
+
+  private static Options buildExpectedOptions() {
+    final Options options = new Options();
+    options.addOption(Option.builder(null).required(true).longOpt(CLUSTER_CONFIG_FILE_PATH)
+        .desc("cluster configuration file path").hasArg().build());
+    options.addOption(Option.builder(null).required(true).longOpt(WORKER_ID).desc("worker id").hasArg().build());
+    options.addOption(Option.builder(null).required(true).longOpt(WORKER_PORT).desc("pool port").hasArg().build());
+    return options;
+  }
+}
@@ -24,6 +24,7 @@ import java.util.Map;
 import org.apache.helix.task.TaskCallbackContext;
 import org.apache.helix.task.TaskFactory;
 
+import com.google.common.base.Optional;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Maps;
 import com.google.common.util.concurrent.Service;
@@ -31,6 +32,9 @@ import com.google.common.util.concurrent.Service;
 import lombok.extern.slf4j.Slf4j;
 
 import org.apache.gobblin.instrumented.StandardMetricsBridge;
+import org.apache.gobblin.util.ConfigUtils;
+import org.apache.gobblin.util.GobblinProcessBuilder;
+import org.apache.gobblin.util.SystemPropertiesWrapper;
 
 /**
  * A sub-type of {@link TaskRunnerSuiteBase} suite which runs all tasks in separate JVMs.
@@ -40,17 +44,27 @@ import org.apache.gobblin.instrumented.StandardMetricsBridge;
 @Slf4j
 class TaskRunnerSuiteProcessModel extends TaskRunnerSuiteBase {
   private final HelixTaskFactory taskFactory;
+  private final Optional<SingleTaskProcessPool> processPool;
+
   TaskRunnerSuiteProcessModel(TaskRunnerSuiteBase.Builder builder) {
     super(builder);
     log.info("Running a task in a separate process is enabled.");
-    taskFactory = new HelixTaskFactory(builder.getContainerMetrics(),
-        GobblinTaskRunner.CLUSTER_CONF_PATH,
-        builder.getConfig());
+    SingleTaskLauncher launcher = new SingleTaskLauncher(new GobblinProcessBuilder(), new SystemPropertiesWrapper(),
+        GobblinTaskRunner.CLUSTER_CONF_PATH, builder.getConfig());
+    if (ConfigUtils.getBoolean(builder.getConfig(), GobblinClusterConfigurationKeys.TASK_PROCESS_POOL_ENABLED,
+        GobblinClusterConfigurationKeys.DEFAULT_TASK_PROCESS_POOL_ENABLED)) {
+      log.info("Running tasks in a pool of pre-forked worker processes is enabled.");
+      this.processPool = Optional.of(new SingleTaskProcessPool(launcher, builder.getConfig(), this.metricContext));
+      this.services.add(this.processPool.get());
+    } else {
+      this.processPool = Optional.absent();
+    }
+    taskFactory = new HelixTaskFactory(builder.getContainerMetrics(), launcher, this.processPool);
   }
 
   @Override
   protected Collection<StandardMetricsBridge.StandardMetrics> getMetricsCollection() {
-    return ImmutableList.of();
+    return this.processPool.isPresent() ? ImmutableList.of(this.processPool.get().getMetrics()) : ImmutableList.of();
   }
 
   @Override
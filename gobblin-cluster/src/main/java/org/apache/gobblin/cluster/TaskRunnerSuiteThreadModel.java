@@ -55,10 +55,15 @@ class TaskRunnerSuiteThreadModel extends TaskRunnerSuiteBase {
 
   @Override
   protected Collection<StandardMetricsBridge.StandardMetrics> getMetricsCollection() {
-    return ImmutableList.of(this.taskFactory.getTaskMetrics(),
-                            this.jobFactory.getJobTaskMetrics(),
-                            this.jobFactory.getLauncherMetrics(),
-                            this.jobFactory.getHelixMetrics());
+    ImmutableList.Builder<StandardMetricsBridge.StandardMetrics> metrics = ImmutableList.builder();
+    metrics.add(this.taskFactory.getTaskMetrics(),
+                this.jobFactory.getJobTaskMetrics(),
+                this.jobFactory.getLauncherMetrics(),
+                this.jobFactory.getHelixMetrics());
+    if (this.taskFactory.getJobCache().isPresent()) {
+      metrics.add(this.taskFactory.getJobCache().get());
+    }
+    return metrics.build();
   }
 
   @Override
@@ -0,0 +1,150 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.gobblin.cluster;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+
+import org.apache.gobblin.metrics.MetricContext;
+import org.apache.gobblin.runtime.JobState;
+
+
+public class ContainerJobCacheTest {
+
+  @Test
+  public void testJobStateLoadedOnceAndCopiedPerTask() throws Exception {
+    ContainerJobCache cache = new ContainerJobCache(2, MetricContext.builder("testJobState").build());
+    AtomicInteger numLoads = new AtomicInteger();
+
+    JobState first = cache.getJobState("job_1", () -> {
+      numLoads.incrementAndGet();
+      JobState jobState = new JobState("job", "job_1");
+      jobState.setProp("key", "value");
+      return jobState;
+    });
+    JobState second = cache.getJobState("job_1", () -> {
+      numLoads.incrementAndGet();
+      return new JobState("job", "job_1");
+    });
+
+    Assert.assertEquals(numLoads.get(), 1);
+    Assert.assertNotSame(first, second);
+    Assert.assertEquals(second.getJobId(), "job_1");
+    Assert.assertEquals(second.getProp("key"), "value");
+
+    // dynamic config added to a task's job state is not seen by the other tasks
+    second.setProp("dynamic", "true");
+    Assert.assertFalse(cache.getJobState("job_1", () -> null).contains("dynamic"));
+  }
+
+  @Test
+  public void testConcurrentTasksWaitForOneJobStateLoad() throws Exception {
+    ContainerJobCache cache = new ContainerJobCache(2, MetricContext.builder("testConcurrentJobState").build());
+    AtomicInteger numLoads = new AtomicInteger();
+    CountDownLatch loadStarted = new CountDownLatch(1);
+    CountDownLatch finishLoad = new CountDownLatch(1);
+    Callable<JobState> loader = () -> {
+      numLoads.incrementAndGet();
+      loadStarted.countDown();
+      finishLoad.await();
+      return new JobState("job", "job_1");
+    };
+
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      List<Future<JobState>> jobStates = new ArrayList<>();
+      jobStates.add(executor.submit(() -> cache.getJobState("job_1", loader)));
+      Assert.assertTrue(loadStarted.await(10, TimeUnit.SECONDS));
+      for (int i = 0; i < 3; i++) {
+        jobStates.add(executor.submit(() -> cache.getJobState("job_1", loader)));
+      }
+      finishLoad.countDown();
+
+      for (Future<JobState> jobState : jobStates) {
+        Assert.assertEquals(jobState.get(10, TimeUnit.SECONDS).getJobId(), "job_1");
+      }
+      Assert.assertEquals(numLoads.get(), 1);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void testFailedJobStateLoadIsRetried() throws Exception {
+    ContainerJobCache cache = new ContainerJobCache(2, MetricContext.builder("testFailedJobState").build());
+
+    try {
+      cache.getJobState("job_1", () -> {
+        throw new IOException("state store unavailable");
+      });
+      Assert.fail("Expected the load failure to be thrown");
+    } catch (IOException e) {
+      Assert.assertEquals(e.getMessage(), "state store unavailable");
+    }
+
+    Assert.assertEquals(cache.getJobState("job_1", () -> new JobState("job", "job_1")).getJobId(), "job_1");
+  }
+
+  @Test
+  public void testJobBrokerSharedWhileTasksRunning() throws Exception {
+    ContainerJobCache cache = new ContainerJobCache(1, MetricContext.builder("testJobBroker").build());
+    Config jobConfig = ConfigFactory.empty();
+    JobState jobState = new JobState("job", "job_1");
+
+    ContainerJobCache.JobBrokerLease lease1 = cache.acquireJobBroker(jobState, jobConfig);
+    ContainerJobCache.JobBrokerLease lease2 = cache.acquireJobBroker(jobState, jobConfig);
+    Assert.assertSame(lease1.getJobBroker(), lease2.getJobBroker());
+    Assert.assertEquals(cache.getNumCachedJobs(), 1);
+
+    // the only cache slot is taken by a running job, so another job gets brokers of its own
+    ContainerJobCache.JobBrokerLease otherLease = cache.acquireJobBroker(new JobState("job", "job_2"), jobConfig);
+    Assert.assertNotSame(otherLease.getJobBroker(), lease1.getJobBroker());
+    Assert.assertEquals(cache.getNumCachedJobs(), 1);
+    otherLease.close();
+
+    lease1.close();
+    lease2.close();
+    Assert.assertEquals(cache.getNumCachedJobs(), 0);
+
+    // once no task of the job is running, the job is evicted and its brokers built again for the next task
+    ContainerJobCache.JobBrokerLease lease3 = cache.acquireJobBroker(jobState, jobConfig);
+    Assert.assertNotSame(lease3.getJobBroker(), lease1.getJobBroker());
+    lease3.close();
+
+    // and a job cached by tasks yet to run is evicted for a new one
+    cache.getJobState("job_1", () -> jobState);
+    Assert.assertEquals(cache.getNumCachedJobs(), 1);
+    ContainerJobCache.JobBrokerLease newJobLease = cache.acquireJobBroker(new JobState("job", "job_2"), jobConfig);
+    Assert.assertEquals(cache.getNumCachedJobs(), 1);
+    newJobLease.close();
+  }
+}
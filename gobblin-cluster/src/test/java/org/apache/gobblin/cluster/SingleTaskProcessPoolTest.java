@@ -0,0 +1,160 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.gobblin.cluster;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.helix.task.TaskResult;
+import org.mockito.Mockito;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import com.google.common.base.Optional;
+import com.google.common.collect.ImmutableMap;
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+
+import org.apache.gobblin.configuration.ConfigurationKeys;
+import org.apache.gobblin.metrics.MetricContext;
+
+
+public class SingleTaskProcessPoolTest {
+
+  @Test
+  public void testWorkersAreReusedAndRecycledAfterMaxTasks() throws Exception {
+    AtomicInteger numLaunched = new AtomicInteger();
+    SingleTaskProcessPool pool = createPool(numLaunched, 1, 2, 10L);
+    pool.startAsync().awaitRunning();
+    try {
+      SingleTaskProcessPool.Worker first = pool.acquire();
+      Assert.assertTrue(first.runTask("job_1", "wu_1").succeeded);
+      pool.release(first, Optional.of(new SingleTaskProcessPool.TaskOutcome(true, 10L, 100L)));
+
+      SingleTaskProcessPool.Worker second = pool.acquire();
+      Assert.assertSame(second, first);
+      SingleTaskProcessPool.TaskOutcome outcome = second.runTask("job_1", "wu_2");
+      pool.release(second, Optional.of(outcome));
+
+      // the worker ran its max of 2 tasks, so a replacement is launched
+      SingleTaskProcessPool.Worker third = pool.acquire();
+      Assert.assertNotSame(third, first);
+      Assert.assertEquals(numLaunched.get(), 2);
+      Assert.assertEquals(pool.getMetrics().recycledWorkers.getCount(), 1L);
+      pool.release(third, Optional.absent());
+    } finally {
+      pool.stopAsync().awaitTerminated();
+    }
+  }
+
+  @Test
+  public void testWorkerRecycledOnHeapGrowthOrFailure() throws Exception {
+    AtomicInteger numLaunched = new AtomicInteger();
+    SingleTaskProcessPool pool = createPool(numLaunched, 1, 100, 90L);
+    pool.startAsync().awaitRunning();
+    try {
+      SingleTaskProcessPool.Worker worker = pool.acquire();
+      SingleTaskProcessPool.TaskOutcome outcome = worker.runTask("job_1", "wu_1");
+      Assert.assertEquals(outcome.heapUsedBytes, 90L);
+      pool.release(worker, Optional.of(outcome));
+      Assert.assertEquals(pool.getMetrics().recycledWorkers.getCount(), 1L);
+
+      SingleTaskProcessPool.Worker replacement = pool.acquire();
+      Assert.assertNotSame(replacement, worker);
+      pool.release(replacement, Optional.absent());
+      Assert.assertEquals(pool.getMetrics().recycledWorkers.getCount(), 2L);
+    } finally {
+      pool.stopAsync().awaitTerminated();
+    }
+  }
+
+  @Test
+  public void testTaskCancelledWhileWaitingForWorker() throws Exception {
+    AtomicInteger numLaunched = new AtomicInteger();
+    SingleTaskProcessPool pool = createPool(numLaunched, 1, 100, 10L);
+    pool.startAsync().awaitRunning();
+    try {
+      SingleTaskProcessPool.Worker busy = pool.acquire();
+      PooledSingleHelixTask task = new PooledSingleHelixTask(pool, ImmutableMap.of(
+          ConfigurationKeys.JOB_NAME_KEY, "job", ConfigurationKeys.JOB_ID_KEY, "job_1",
+          GobblinClusterConfigurationKeys.WORK_UNIT_FILE_PATH, "wu_1"));
+      CompletableFuture<TaskResult> result = CompletableFuture.supplyAsync(task::run);
+      task.cancel();
+      Assert.assertEquals(result.get(10, TimeUnit.SECONDS).getStatus(), TaskResult.Status.CANCELED);
+
+      // the cancelled task never held the busy worker, so it is still reused
+      pool.release(busy, Optional.of(busy.runTask("job_1", "wu_2")));
+      Assert.assertSame(pool.acquire(), busy);
+      Assert.assertEquals(numLaunched.get(), 1);
+      Assert.assertEquals(pool.getMetrics().recycledWorkers.getCount(), 0L);
+    } finally {
+      pool.stopAsync().awaitTerminated();
+    }
+  }
+
+  /**
+   * Create a pool whose "worker processes" are threads speaking the worker protocol, each reporting
+   * {@code heapUsedBytes} of a 100 byte heap after every task.
+   */
+  private SingleTaskProcessPool createPool(AtomicInteger numLaunched, int size, int maxTasksPerWorker,
+      long heapUsedBytes) throws IOException {
+    SingleTaskLauncher launcher = Mockito.mock(SingleTaskLauncher.class);
+    Mockito.when(launcher.launchWorker(Mockito.anyString(), Mockito.anyInt())).thenAnswer(invocation -> {
+      String workerId = invocation.getArgument(0);
+      int port = invocation.getArgument(1);
+      numLaunched.incrementAndGet();
+      Thread thread = new Thread(() -> runFakeWorker(workerId, port, heapUsedBytes));
+      thread.setDaemon(true);
+      thread.start();
+      return Mockito.mock(Process.class);
+    });
+    Config config = ConfigFactory.parseMap(ImmutableMap.of(
+        GobblinClusterConfigurationKeys.TASK_PROCESS_POOL_SIZE, size,
+        GobblinClusterConfigurationKeys.TASK_PROCESS_POOL_MAX_TASKS_PER_WORKER, maxTasksPerWorker,
+        GobblinClusterConfigurationKeys.TASK_PROCESS_POOL_MAX_HEAP_USAGE_FRACTION, 0.8));
+    return new SingleTaskProcessPool(launcher, config, MetricContext.builder("SingleTaskProcessPoolTest").build());
+  }
+
+  private static void runFakeWorker(String workerId, int port, long heapUsedBytes) {
+    try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), port)) {
+      DataInputStream in = new DataInputStream(socket.getInputStream());
+      DataOutputStream out = new DataOutputStream(socket.getOutputStream());
+      out.writeUTF(workerId);
+      out.flush();
+      while (true) {
+        in.readUTF();
+        in.readUTF();
+        out.writeBoolean(true);
+        out.writeLong(heapUsedBytes);
+        out.writeLong(100L);
+        out.flush();
+      }
+    } catch (EOFException e) {
+      // released by the pool
+    } catch (IOException e) {
+      // destroyed by the pool
+    }
+  }
+}
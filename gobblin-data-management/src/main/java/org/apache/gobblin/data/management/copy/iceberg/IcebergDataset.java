@@ -45,6 +45,7 @@ import lombok.Data;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
+import org.apache.iceberg.Snapshot;
 import org.apache.iceberg.TableMetadata;
 
 import org.apache.gobblin.data.management.copy.CopyConfiguration;
@@ -74,6 +75,7 @@ public class IcebergDataset implements PrioritizedCopyableDataset {
   protected final FileSystem sourceFs;
   protected final boolean shouldIncludeMetadataPath;
   private final boolean shouldTolerateMissingSourceFiles = true; // TODO: make parameterizable, if desired
+  protected final boolean shouldListIncrementally;
 
   public IcebergDataset(IcebergTable srcIcebergTable, IcebergTable destIcebergTable, Properties properties, FileSystem sourceFs, boolean shouldIncludeMetadataPath) {
     this.srcIcebergTable = srcIcebergTable;
@@ -81,6 +83,9 @@ public class IcebergDataset implements PrioritizedCopyableDataset {
     this.properties = properties;
     this.sourceFs = sourceFs;
     this.shouldIncludeMetadataPath = shouldIncludeMetadataPath;
+    this.shouldListIncrementally = Boolean.parseBoolean(properties.getProperty(
+        IcebergDatasetFinder.ICEBERG_DATASET_INCREMENTAL_LISTING_ENABLED,
+        IcebergDatasetFinder.DEFAULT_ICEBERG_DATASET_INCREMENTAL_LISTING_ENABLED));
   }
 
   @Override
@@ -232,7 +237,7 @@ public class IcebergDataset implements PrioritizedCopyableDataset {
     }
 
     List<TableMetadata> readTimeTableMetadataHolder = Lists.newArrayList(); // expecting exactly one elem
-    Iterator<IcebergSnapshotInfo> icebergIncrementalSnapshotInfos = icebergTable.getIncrementalSnapshotInfosIterator();
+    Iterator<IcebergSnapshotInfo> icebergIncrementalSnapshotInfos = getIncrementalSnapshotInfos(icebergTable, isPresentOnTarget);
     Iterator<String> filePathsIterator = Iterators.concat(
         Iterators.transform(icebergIncrementalSnapshotInfos, snapshotInfo -> {
           snapshotInfo.getTableMetadata().ifPresent(readTimeTableMetadataHolder::add);
@@ -335,6 +340,32 @@ public class IcebergDataset implements PrioritizedCopyableDataset {
     return new GetFilePathsToFileStatusResult(results, readTimeTableMetadataHolder.get(0));
   }
 
+  /**
+   * @return the source snapshots to consider for replication, each with only the files not reflected by an earlier one.
+   * When incremental listing is enabled, the destination's current snapshot--being the last one replicated--serves as
+   * the starting point, so only the manifests added to the source since then get read.  Otherwise, or should that
+   * snapshot not (verifiably) be replicated nor remain an ancestor of the source's current one, all source snapshots.
+   */
+  protected Iterator<IcebergSnapshotInfo> getIncrementalSnapshotInfos(IcebergTable srcTable,
+      Function<String, Boolean> isPresentOnTarget) throws IOException {
+    if (this.shouldListIncrementally && this.destIcebergTable != null) {
+      Optional<Snapshot> lastReplicatedSnapshot = Optional.ofNullable(getCurrentDestTableMetadata().currentSnapshot())
+          // the manifest list is only copied along with its entire subtree, so its presence proves a completed replication
+          .filter(snapshot -> isPresentOnTarget.apply(snapshot.manifestListLocation()));
+      if (lastReplicatedSnapshot.isPresent()) {
+        long lastReplicatedSnapshotId = lastReplicatedSnapshot.get().snapshotId();
+        Optional<Iterator<IcebergSnapshotInfo>> snapshotInfosSince = srcTable.getIncrementalSnapshotInfosIteratorSince(
+            lastReplicatedSnapshotId, IcebergManifestFileInfoLoader.getInstance(this.properties));
+        if (snapshotInfosSince.isPresent()) {
+          log.info("~{}~ listing incrementally, since last replicated snapshot '{}'", this.getFileSetId(), lastReplicatedSnapshotId);
+          return snapshotInfosSince.get();
+        }
+      }
+      log.info("~{}~ no last replicated snapshot to list incrementally from... listing all snapshots", this.getFileSetId());
+    }
+    return srcTable.getIncrementalSnapshotInfosIterator();
+  }
+
   /**
    * Stateful object to consolidate error messages (e.g. for logging), per a {@link Path} consolidation strategy.
    * OVERVIEW: to avoid run-away logging into the 1000s of lines, consolidate to parent (directory) level:
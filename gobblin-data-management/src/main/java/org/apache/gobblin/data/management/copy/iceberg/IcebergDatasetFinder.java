@@ -55,6 +55,9 @@ public class IcebergDatasetFinder implements IterableDatasetFinder<IcebergDatase
 
   public static final String ICEBERG_DATASET_SHOULD_COPY_METADATA_PATH = ICEBERG_DATASET_PREFIX + ".should.copy.metadata.path";
   public static final String DEFAULT_ICEBERG_DATASET_SHOULD_COPY_METADATA_PATH = "false";
+  /** list only the source snapshots (and manifests) committed since the destination's current snapshot, the last one replicated */
+  public static final String ICEBERG_DATASET_INCREMENTAL_LISTING_ENABLED = ICEBERG_DATASET_PREFIX + ".incremental.listing.enabled";
+  public static final String DEFAULT_ICEBERG_DATASET_INCREMENTAL_LISTING_ENABLED = "false";
 
   public static final String DEFAULT_ICEBERG_CATALOG_CLASS = "org.apache.gobblin.data.management.copy.iceberg.IcebergHiveCatalog";
   public static final String ICEBERG_CATALOG_KEY = "catalog";
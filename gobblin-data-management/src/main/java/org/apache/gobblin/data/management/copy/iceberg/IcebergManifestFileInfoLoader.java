@@ -0,0 +1,131 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.gobblin.data.management.copy.iceberg;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.apache.iceberg.ManifestFile;
+import org.apache.iceberg.io.FileIO;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Optional;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.Lists;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.apache.gobblin.util.ExecutorsUtils;
+import org.apache.gobblin.util.PropertiesUtils;
+
+import static org.apache.gobblin.data.management.copy.iceberg.IcebergSnapshotInfo.ManifestFileInfo;
+
+
+/**
+ * Reads the {@link ManifestFileInfo} of many manifests in parallel, over a bounded pool, while caching manifest
+ * contents by path.  As iceberg manifests are immutable and uniquely named, a cached entry never goes stale, so the
+ * cache is shared JVM-wide (see {@link #getInstance(Properties)}) to benefit every table replicated by the same process.
+ *
+ * The cache is bounded by the total number of paths listed within the cached manifests, as that dominates its footprint.
+ */
+@Slf4j
+public class IcebergManifestFileInfoLoader {
+  public static final String MANIFEST_READ_THREADS_KEY = IcebergDatasetFinder.ICEBERG_DATASET_PREFIX + ".manifest.read.threads";
+  public static final int DEFAULT_MANIFEST_READ_THREADS = 8;
+  public static final String MANIFEST_CACHE_MAX_LISTED_PATHS_KEY =
+      IcebergDatasetFinder.ICEBERG_DATASET_PREFIX + ".manifest.cache.max.listed.paths";
+  public static final long DEFAULT_MANIFEST_CACHE_MAX_LISTED_PATHS = 2_000_000L;
+
+  private static volatile IcebergManifestFileInfoLoader instance;
+
+  private final Cache<String, ManifestFileInfo> manifestFileInfoCache;
+  private final ExecutorService manifestReadExecutor;
+
+  /** @return the JVM-wide loader, sized per `properties` by whichever caller first requests it */
+  public static IcebergManifestFileInfoLoader getInstance(Properties properties) {
+    if (instance == null) {
+      synchronized (IcebergManifestFileInfoLoader.class) {
+        if (instance == null) {
+          instance = new IcebergManifestFileInfoLoader(
+              PropertiesUtils.getPropAsInt(properties, MANIFEST_READ_THREADS_KEY, DEFAULT_MANIFEST_READ_THREADS),
+              PropertiesUtils.getPropAsLong(properties, MANIFEST_CACHE_MAX_LISTED_PATHS_KEY, DEFAULT_MANIFEST_CACHE_MAX_LISTED_PATHS));
+        }
+      }
+    }
+    return instance;
+  }
+
+  @VisibleForTesting
+  IcebergManifestFileInfoLoader(int numReadThreads, long maxCachedListedPaths) {
+    this.manifestFileInfoCache = CacheBuilder.newBuilder()
+        .maximumWeight(maxCachedListedPaths)
+        .weigher((String path, ManifestFileInfo mfi) -> mfi.getListedFilePaths().size() + 1)
+        .build();
+    this.manifestReadExecutor = Executors.newFixedThreadPool(numReadThreads,
+        ExecutorsUtils.newDaemonThreadFactory(Optional.of(log), Optional.of("IcebergManifestReader-%d")));
+  }
+
+  /** @return the {@link ManifestFileInfo} of each of `manifests`, in the same order, reading those not cached in parallel */
+  public List<ManifestFileInfo> load(List<ManifestFile> manifests, FileIO io) throws IOException {
+    if (manifests.size() <= 1) {
+      List<ManifestFileInfo> result = Lists.newArrayList();
+      for (ManifestFile manifest : manifests) {
+        result.add(load(manifest, io));
+      }
+      return result;
+    }
+    List<Future<ManifestFileInfo>> futures = Lists.newArrayList();
+    for (ManifestFile manifest : manifests) {
+      futures.add(this.manifestReadExecutor.submit(() -> load(manifest, io)));
+    }
+    List<ManifestFileInfo> result = Lists.newArrayList();
+    try {
+      for (Future<ManifestFileInfo> future : futures) {
+        result.add(future.get());
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Interrupted while reading manifests", e);
+    } catch (ExecutionException e) {
+      throw e.getCause() instanceof IOException ? (IOException) e.getCause() : new IOException(e.getCause());
+    } finally {
+      futures.forEach(future -> future.cancel(true));
+    }
+    return result;
+  }
+
+  /** @return the {@link ManifestFileInfo} of `manifest`, reading it only when not already cached */
+  public ManifestFileInfo load(ManifestFile manifest, FileIO io) throws IOException {
+    try {
+      return this.manifestFileInfoCache.get(manifest.path(), () -> IcebergTable.calcManifestFileInfo(manifest, io));
+    } catch (ExecutionException e) {
+      throw e.getCause() instanceof IOException ? (IOException) e.getCause() : new IOException(e.getCause());
+    }
+  }
+
+  @VisibleForTesting
+  long getNumCachedManifests() {
+    return this.manifestFileInfoCache.size();
+  }
+}
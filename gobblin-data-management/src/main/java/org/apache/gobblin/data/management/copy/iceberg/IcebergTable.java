@@ -193,6 +193,66 @@ public class IcebergTable {
     }), snapshotInfo -> snapshotInfo.getManifestListPath() != null); // remove marked-as-repeat-manifest-list snapshots
   }
 
+  /**
+   * @return metadata info, as with {@link #getIncrementalSnapshotInfosIterator()}, but only for the snapshots committed
+   * since `sinceSnapshotId`, ordered historically, with *most recent last*.  Every manifest already reachable from
+   * `sinceSnapshotId` is omitted without being read, as are files already listed by a prior element, so only the
+   * manifest delta gets read, through `manifestLoader`.  When `sinceSnapshotId` is itself current, the sole element is
+   * the current snapshot, with no manifest files.
+   *
+   * `Optional.empty()` when `sinceSnapshotId` is not an ancestor of the current snapshot (e.g. expired, or following a
+   * rollback), in which case the delta is unknown and callers should fall back to {@link #getIncrementalSnapshotInfosIterator()}.
+   */
+  public Optional<Iterator<IcebergSnapshotInfo>> getIncrementalSnapshotInfosIteratorSince(long sinceSnapshotId,
+      IcebergManifestFileInfoLoader manifestLoader) throws IOException {
+    TableMetadata current = accessTableMetadata();
+    Snapshot currentSnapshot = accessCurrentSnapshot(current);
+    List<Snapshot> snapshotsSince = Lists.newArrayList();
+    Snapshot snapshot = currentSnapshot;
+    while (snapshot.snapshotId() != sinceSnapshotId) {
+      snapshotsSince.add(snapshot);
+      snapshot = snapshot.parentId() == null ? null : current.snapshot(snapshot.parentId());
+      if (snapshot == null) {
+        log.info("~{}~ snapshot '{}' is not an ancestor of current snapshot '{}'", tableId, sinceSnapshotId,
+            currentSnapshot.snapshotId());
+        return Optional.empty();
+      }
+    }
+    Set<String> knownFilePaths = Sets.newHashSet(snapshot.manifestListLocation());
+    snapshot.allManifests(tableOps.io()).forEach(manifest -> knownFilePaths.add(manifest.path()));
+    log.info("~{}~ {} snapshots since '{}', which references {} known manifests", tableId, snapshotsSince.size(),
+        sinceSnapshotId, knownFilePaths.size() - 1);
+    if (snapshotsSince.isEmpty()) {
+      return Optional.of(Iterators.singletonIterator(new IcebergSnapshotInfo(currentSnapshot.snapshotId(),
+          Instant.ofEpochMilli(currentSnapshot.timestampMillis()), Optional.of(current.metadataFileLocation()),
+          Optional.of(current), currentSnapshot.manifestListLocation(), Lists.newArrayList())));
+    }
+    return Optional.of(Iterators.transform(Lists.reverse(snapshotsSince).iterator(), snapshotSince -> {
+      boolean isCurrent = snapshotSince.snapshotId() == currentSnapshot.snapshotId();
+      List<ManifestFile> novelManifests = snapshotSince.allManifests(tableOps.io()).stream()
+          .filter(manifest -> knownFilePaths.add(manifest.path())) // heretofore unknown
+          .collect(Collectors.toList());
+      List<ManifestFileInfo> novelManifestInfos = Lists.newArrayList();
+      try {
+        for (ManifestFileInfo mfi : manifestLoader.load(novelManifests, tableOps.io())) {
+          novelManifestInfos.add(new ManifestFileInfo(mfi.getManifestFilePath(), mfi.getListedFilePaths().stream()
+              .filter(knownFilePaths::add) // heretofore unknown
+              .collect(Collectors.toList())));
+        }
+      } catch (IOException e) {
+        throw new RuntimeException(e);
+      }
+      knownFilePaths.add(snapshotSince.manifestListLocation());
+      return new IcebergSnapshotInfo(
+          snapshotSince.snapshotId(),
+          Instant.ofEpochMilli(snapshotSince.timestampMillis()),
+          isCurrent ? Optional.of(current.metadataFileLocation()) : Optional.empty(),
+          isCurrent ? Optional.of(current) : Optional.empty(),
+          snapshotSince.manifestListLocation(),
+          novelManifestInfos);
+    }));
+  }
+
   /** @throws {@link IcebergTable.TableNotFoundException} when table does not exist */
   protected TableMetadata accessTableMetadata() throws TableNotFoundException {
     TableMetadata current = this.tableOps.current();
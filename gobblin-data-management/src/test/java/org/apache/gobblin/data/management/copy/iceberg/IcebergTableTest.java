@@ -25,6 +25,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -166,6 +167,37 @@ public class IcebergTableTest extends HiveMetastoreTest {
     }
   }
 
+  /** Test to verify getIncrementalSnapshotInfosIteratorSince reads only the manifests added after the given snapshot */
+  @Test
+  public void testGetIncrementalSnapshotInfosSince() throws IOException {
+    initializeSnapshots(table, perSnapshotDataFilesets);
+    List<Long> snapshotIds = Lists.newArrayList(catalog.loadTable(tableId).snapshots()).stream()
+        .map(snapshot -> snapshot.snapshotId()).collect(Collectors.toList());
+    IcebergTable icebergTable = new IcebergTable(tableId, catalog.newTableOps(tableId), catalogUri, catalog.loadTable(tableId));
+    IcebergManifestFileInfoLoader manifestLoader = new IcebergManifestFileInfoLoader(2, 1000);
+
+    Optional<Iterator<IcebergSnapshotInfo>> optSnapshotInfosSince =
+        icebergTable.getIncrementalSnapshotInfosIteratorSince(snapshotIds.get(1), manifestLoader);
+    Assert.assertTrue(optSnapshotInfosSince.isPresent());
+    List<IcebergSnapshotInfo> snapshotInfosSince = Lists.newArrayList(optSnapshotInfosSince.get());
+    Assert.assertEquals(snapshotInfosSince.size(), 2, "num snapshots");
+    for (int i = 0; i < snapshotInfosSince.size(); ++i) {
+      verifySnapshotInfo(snapshotInfosSince.get(i), perSnapshotDataFilesets.subList(i + 2, i + 3), perSnapshotDataFilesets.size());
+    }
+    Assert.assertFalse(snapshotInfosSince.get(0).getMetadataPath().isPresent());
+    Assert.assertTrue(snapshotInfosSince.get(1).getMetadataPath().isPresent());
+    // only the two manifests added since were read
+    Assert.assertEquals(manifestLoader.getNumCachedManifests(), 2);
+
+    List<IcebergSnapshotInfo> snapshotInfosSinceCurrent = Lists.newArrayList(icebergTable.getIncrementalSnapshotInfosIteratorSince(
+        snapshotIds.get(snapshotIds.size() - 1), manifestLoader).get());
+    Assert.assertEquals(snapshotInfosSinceCurrent.size(), 1, "num snapshots");
+    Assert.assertTrue(snapshotInfosSinceCurrent.get(0).getManifestFiles().isEmpty());
+    Assert.assertTrue(snapshotInfosSinceCurrent.get(0).getTableMetadata().isPresent());
+
+    Assert.assertFalse(icebergTable.getIncrementalSnapshotInfosIteratorSince(-1L, manifestLoader).isPresent());
+  }
+
   @Test
   public void schemaUpdateSuccessTest() throws IcebergTable.TableNotFoundException {
     // create source iceberg table with this schema
@@ -364,7 +364,12 @@ public abstract class HiveRegister implements Closeable {
 
   public void waitOnFuturesToFinish()
       throws IOException {
-    for (Map.Entry<String, Future<Void>> entry : this.futures.entrySet()) {
+    waitOnFuturesToFinish(this.futures);
+  }
+
+  protected void waitOnFuturesToFinish(Map<String, ? extends Future<Void>> futures)
+      throws IOException {
+    for (Map.Entry<String, ? extends Future<Void>> entry : futures.entrySet()) {
       try {
         if (timeOutSeconds > 0L) {
           entry.getValue().get(timeOutSeconds, TimeUnit.SECONDS);
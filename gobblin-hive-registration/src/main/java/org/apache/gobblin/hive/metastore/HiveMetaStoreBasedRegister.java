@@ -18,17 +18,27 @@
 package org.apache.gobblin.hive.metastore;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.apache.avro.Schema;
 import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
 import org.apache.hadoop.fs.Path;
 import org.apache.hadoop.hive.metastore.IMetaStoreClient;
 import org.apache.hadoop.hive.metastore.TableType;
+import org.apache.hadoop.hive.metastore.Warehouse;
 import org.apache.hadoop.hive.metastore.api.AlreadyExistsException;
 import org.apache.hadoop.hive.metastore.api.Database;
 import org.apache.hadoop.hive.metastore.api.NoSuchObjectException;
@@ -38,18 +48,24 @@ import org.apache.hadoop.hive.serde2.avro.AvroSerdeUtils;
 import org.apache.thrift.TException;
 import org.joda.time.DateTime;
 
+import com.codahale.metrics.Gauge;
 import com.codahale.metrics.Timer;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Optional;
 import com.google.common.base.Preconditions;
-import com.google.common.cache.Cache;
-import com.google.common.cache.CacheBuilder;
-import com.google.common.cache.CacheLoader;
+import com.google.common.base.Supplier;
+import com.google.common.cache.CacheStats;
+import com.google.common.collect.Maps;
 import com.google.common.primitives.Ints;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.SettableFuture;
 
+import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
 import org.apache.gobblin.annotation.Alpha;
+import org.apache.gobblin.broker.SharedResourcesBrokerFactory;
 import org.apache.gobblin.configuration.State;
 import org.apache.gobblin.hive.AutoCloseableHiveLock;
 import org.apache.gobblin.hive.HiveLock;
@@ -61,6 +77,7 @@ import org.apache.gobblin.hive.HiveRegister;
 import org.apache.gobblin.hive.HiveRegistrationUnit.Column;
 import org.apache.gobblin.hive.HiveTable;
 import org.apache.gobblin.hive.spec.HiveSpec;
+import org.apache.gobblin.hive.spec.HiveSpecWithPostActivities;
 import org.apache.gobblin.metrics.GobblinMetrics;
 import org.apache.gobblin.metrics.GobblinMetricsRegistry;
 import org.apache.gobblin.metrics.MetricContext;
@@ -69,6 +86,8 @@ import org.apache.gobblin.metrics.kafka.KafkaSchemaRegistry;
 import org.apache.gobblin.source.extractor.extract.kafka.KafkaSource;
 import org.apache.gobblin.util.AutoReturnableObject;
 import org.apache.gobblin.util.AvroUtils;
+import org.apache.gobblin.util.ConfigUtils;
+import org.apache.gobblin.util.ExecutorsUtils;
 
 
 /**
@@ -85,6 +104,14 @@ import org.apache.gobblin.util.AvroUtils;
  *   thread pool whose size is controlled by {@link HiveRegProps#HIVE_REGISTER_THREADS}.
  * </p>
  *
+ * <p>
+ *   If {@link #BATCH_PARTITION_REGISTRATION_ENABLED} is set, partitions are not registered one by one. Instead they
+ *   are accumulated per table for up to {@link #BATCH_PARTITION_REGISTRATION_WINDOW_MILLIS} or
+ *   {@link #BATCH_PARTITION_REGISTRATION_MAX_SIZE} partitions, and registered with one lookup of the existing
+ *   partitions and bulk add/alter calls under a single table lock. Specs with post activities are always registered
+ *   individually, since the activities expect the partition to exist once {@link #registerPath(HiveSpec)} returns.
+ * </p>
+ *
  * @author Ziyang Liu
  */
 @Slf4j
@@ -111,41 +138,75 @@ public class HiveMetaStoreBasedRegister extends HiveRegister {
   //A config which when enabled checks for the existence of a partition in Hive before adding the partition.
   // This is done to minimize the add_partition calls sent to Hive.
   public static final String REGISTER_PARTITION_WITH_PULL_MODE = HIVE_REGISTER_METRICS_PREFIX + "registerPartitionWithPullMode";
+  //Configs for registering partitions of a table in batches, see the class documentation.
+  public static final String BATCH_PARTITION_REGISTRATION_ENABLED =
+      HIVE_REGISTER_METRICS_PREFIX + "batchPartitionRegistration.enabled";
+  public static final String BATCH_PARTITION_REGISTRATION_MAX_SIZE =
+      HIVE_REGISTER_METRICS_PREFIX + "batchPartitionRegistration.maxSize";
+  public static final int DEFAULT_BATCH_PARTITION_REGISTRATION_MAX_SIZE = 500;
+  public static final String BATCH_PARTITION_REGISTRATION_WINDOW_MILLIS =
+      HIVE_REGISTER_METRICS_PREFIX + "batchPartitionRegistration.windowMillis";
+  public static final long DEFAULT_BATCH_PARTITION_REGISTRATION_WINDOW_MILLIS = 10000L;
+  public static final String BATCH_PARTITION_REGISTER_TIMER = HIVE_REGISTER_METRICS_PREFIX + "batchPartitionRegisterTimer";
+  public static final String BATCH_PARTITION_REGISTER_SIZE = HIVE_REGISTER_METRICS_PREFIX + "batchPartitionRegisterSize";
+  public static final String GET_HIVE_PARTITIONS_BY_NAMES = HIVE_REGISTER_METRICS_PREFIX + "getPartitionsByNamesTimer";
+  public static final String ADD_PARTITIONS_TIMER = HIVE_REGISTER_METRICS_PREFIX + "addPartitionsTimer";
+  public static final String ALTER_PARTITIONS_TIMER = HIVE_REGISTER_METRICS_PREFIX + "alterPartitionsTimer";
   /**
    * To reduce lock aquisition and RPC to metaStoreClient, we cache the result of query regarding to
-   * the existence of databases and tables in {@link #tableAndDbExistenceCache},
+   * the existence of databases and tables in {@link #metadataCache},
    * so that for databases/tables existed in cache, a RPC for query the existence can be saved.
    *
    * We make this optimization configurable by setting {@link #OPTIMIZED_CHECK_ENABLED} to be true.
    */
   public static final String OPTIMIZED_CHECK_ENABLED = "hiveRegister.cacheDbTableExistence";
+  /**
+   * When enabled, {@link #metadataCache} is also used for {@link Table} objects, partition existence and negative
+   * lookups of tables and partitions. Entries are updated whenever this class mutates the metastore, and otherwise
+   * expire after the TTLs configured in {@link HiveMetastoreMetadataCache}.
+   */
+  public static final String METADATA_CACHE_ENABLED = HIVE_REGISTER_METRICS_PREFIX + "metadataCache.enabled";
+  /**
+   * When enabled, {@link #metadataCache} is obtained from the implicit broker and shared by all registers of the same
+   * metastore, configured through {@link HiveMetastoreMetadataCacheFactory}. Otherwise each register has its own
+   * cache configured with {@link #METADATA_CACHE_CONFIG_PREFIX}.
+   */
+  public static final String METADATA_CACHE_SHARED = HIVE_REGISTER_METRICS_PREFIX + "metadataCache.shared";
+  public static final String METADATA_CACHE_CONFIG_PREFIX = HIVE_REGISTER_METRICS_PREFIX + "metadataCache";
+  // Gauges of the hit, miss and eviction counts of each part of metadataCache, e.g. hiveRegister.metadataCache.tables.hitCount
+  public static final String METADATA_CACHE_EXISTENCE_METRICS_PREFIX = METADATA_CACHE_CONFIG_PREFIX + ".existence.";
+  public static final String METADATA_CACHE_PARTITION_EXISTENCE_METRICS_PREFIX =
+      METADATA_CACHE_CONFIG_PREFIX + ".partitionExistence.";
+  public static final String METADATA_CACHE_TABLES_METRICS_PREFIX = METADATA_CACHE_CONFIG_PREFIX + ".tables.";
 
   private final HiveMetastoreClientPool clientPool;
   private final HiveLock locks;
   private final EventSubmitter eventSubmitter;
-  private final MetricContext metricContext;
+  @VisibleForTesting
+  final MetricContext metricContext;
   private final boolean shouldUpdateLatestSchema;
   private final boolean registerPartitionWithPullMode;
+  private final boolean batchPartitionRegistration;
+  private final int partitionBatchMaxSize;
+  private final long partitionBatchWindowMillis;
+  private final Optional<ScheduledExecutorService> partitionBatchFlushExecutor;
+  // Partitions waiting to be registered, keyed by <databaseName>:<tableName>. Guarded by itself.
+  private final Map<String, PendingPartitionBatch> pendingPartitionBatches = new HashMap<>();
+  // Kept apart from the futures of registerPath, which must all be done before the pending batches are flushed. Holds
+  // the batches pending or failed since the last waitOnFuturesToFinish, since those registered successfully are removed.
+  @VisibleForTesting
+  final Map<String, SettableFuture<Void>> partitionBatchFutures = Maps.newConcurrentMap();
+  private final AtomicLong partitionBatchCounter = new AtomicLong(0L);
 
   /**
-   * Local cache that contains records for both databases and tables.
-   * To distinguish tables with the same name but in different databases,
-   * use the <databaseName>:<tableName> as the key.
-   *
-   * The value(true/false) in cache doesn't really matter, the existence of entry in cache guarantee the table is existed on hive.
-   * The value in k-v pair in cache indicates:
-   * when the first time a table/database is loaded into the cache, whether they existed on the remote hiveMetaStore side.
+   * Cache of databases and tables known to exist, used when {@link #optimizedChecks} is set, and of the metadata
+   * enabled by {@link #METADATA_CACHE_ENABLED}.
    */
-  CacheLoader<String, Boolean> cacheLoader = new CacheLoader<String, Boolean>() {
-    @Override
-    public Boolean load(String key) throws Exception {
-      return true;
-    }
-  };
-  Cache<String, Boolean> tableAndDbExistenceCache = CacheBuilder.newBuilder().build(cacheLoader);
-
+  @VisibleForTesting
+  final HiveMetastoreMetadataCache metadataCache;
 
   private final boolean optimizedChecks;
+  private final boolean metadataCacheEnabled;
   private final State state;
   //If this is true, after we know the partition is existing, we will skip the partition in stead of getting the existing
   // partition and computing the diff to see if it needs to be updated. Use this only when you can make sure the metadata
@@ -161,9 +222,28 @@ public class HiveMetaStoreBasedRegister extends HiveRegister {
     this.locks = new HiveLock(state.getProperties());
 
     this.optimizedChecks = state.getPropAsBoolean(OPTIMIZED_CHECK_ENABLED, true);
+    this.metadataCacheEnabled = state.getPropAsBoolean(METADATA_CACHE_ENABLED, false);
+    if (state.getPropAsBoolean(METADATA_CACHE_SHARED, false)) {
+      this.metadataCache = HiveMetastoreMetadataCacheFactory.get(metastoreURI,
+          SharedResourcesBrokerFactory.getImplicitBroker());
+    } else {
+      this.metadataCache = HiveMetastoreMetadataCache.fromConfig(
+          ConfigUtils.getConfigOrEmpty(ConfigUtils.propertiesToConfig(state.getProperties()), METADATA_CACHE_CONFIG_PREFIX));
+    }
     this.skipDiffComputation = state.getPropAsBoolean(SKIP_PARTITION_DIFF_COMPUTATION, false);
     this.shouldUpdateLatestSchema = state.getPropAsBoolean(FETCH_LATEST_SCHEMA, false);
     this.registerPartitionWithPullMode = state.getPropAsBoolean(REGISTER_PARTITION_WITH_PULL_MODE, false);
+    this.batchPartitionRegistration = state.getPropAsBoolean(BATCH_PARTITION_REGISTRATION_ENABLED, false);
+    this.partitionBatchMaxSize =
+        state.getPropAsInt(BATCH_PARTITION_REGISTRATION_MAX_SIZE, DEFAULT_BATCH_PARTITION_REGISTRATION_MAX_SIZE);
+    this.partitionBatchWindowMillis =
+        state.getPropAsLong(BATCH_PARTITION_REGISTRATION_WINDOW_MILLIS, DEFAULT_BATCH_PARTITION_REGISTRATION_WINDOW_MILLIS);
+    if (this.batchPartitionRegistration) {
+      this.partitionBatchFlushExecutor = Optional.of(Executors.newSingleThreadScheduledExecutor(
+          ExecutorsUtils.newThreadFactory(Optional.of(log), Optional.of("HivePartitionBatchFlusher"))));
+    } else {
+      this.partitionBatchFlushExecutor = Optional.absent();
+    }
     if(this.shouldUpdateLatestSchema) {
       this.schemaRegistry = Optional.of(KafkaSchemaRegistry.get(state.getProperties()));
       topicName = state.getProp(KafkaSource.TOPIC_NAME);
@@ -178,6 +258,28 @@ public class HiveMetaStoreBasedRegister extends HiveRegister {
         GobblinMetricsRegistry.getInstance().getMetricContext(state, HiveMetaStoreBasedRegister.class, GobblinMetrics.getCustomTagsFromState(state));
 
     this.eventSubmitter = new EventSubmitter.Builder(this.metricContext, "org.apache.gobblin.hive.HiveMetaStoreBasedRegister").build();
+    if (this.optimizedChecks || this.metadataCacheEnabled) {
+      registerMetadataCacheGauges();
+    }
+  }
+
+  private void registerMetadataCacheGauges() {
+    registerCacheStatsGauges(METADATA_CACHE_EXISTENCE_METRICS_PREFIX, this.metadataCache::getExistenceStats);
+    if (this.metadataCacheEnabled) {
+      registerCacheStatsGauges(METADATA_CACHE_PARTITION_EXISTENCE_METRICS_PREFIX,
+          this.metadataCache::getPartitionExistenceStats);
+      registerCacheStatsGauges(METADATA_CACHE_TABLES_METRICS_PREFIX, this.metadataCache::getTableStats);
+    }
+  }
+
+  private void registerCacheStatsGauges(String prefix, Supplier<CacheStats> cacheStats) {
+    registerGauge(prefix + "hitCount", () -> cacheStats.get().hitCount());
+    registerGauge(prefix + "missCount", () -> cacheStats.get().missCount());
+    registerGauge(prefix + "evictionCount", () -> cacheStats.get().evictionCount());
+  }
+
+  private void registerGauge(String name, Gauge<Long> gauge) {
+    this.metricContext.register(name, this.metricContext.newContextAwareGauge(name, gauge));
   }
 
   @Override
@@ -199,6 +301,11 @@ public class HiveMetaStoreBasedRegister extends HiveRegister {
       createOrAlterTable(client.get(), table, spec);
 
       Optional<HivePartition> partition = spec.getPartition();
+      if (partition.isPresent() && this.batchPartitionRegistration && !(spec instanceof HiveSpecWithPostActivities)) {
+        // The registration event is submitted when the batch is flushed
+        addToPartitionBatch(client.get(), table, spec);
+        return;
+      }
       if (partition.isPresent()) {
         addOrAlterPartition(client.get(), table, partition.get());
       }
@@ -279,6 +386,7 @@ public class HiveMetaStoreBasedRegister extends HiveRegister {
         if (!existsTable(dbName, tableName, client)) {
           try (Timer.Context context = this.metricContext.timer(CREATE_HIVE_TABLE).time()) {
             client.createTable(getTableWithCreateTimeNow(table));
+            this.metadataCache.markTableExists(dbName, tableName);
             log.info(String.format("Created Hive table %s in db %s", tableName, dbName));
             return true;
           }
@@ -299,10 +407,7 @@ public class HiveMetaStoreBasedRegister extends HiveRegister {
   private void alterTableIfNeeded (String tableName, String dbName, IMetaStoreClient client,
       Table table, HiveSpec spec) throws TException, IOException {
     try {
-      HiveTable existingTable;
-      try (Timer.Context context = this.metricContext.timer(GET_HIVE_TABLE).time()) {
-        existingTable = HiveMetaStoreUtils.getHiveTable(client.getTable(dbName, tableName));
-      }
+      HiveTable existingTable = HiveMetaStoreUtils.getHiveTable(getExistingTable(dbName, tableName, client));
       HiveTable schemaSourceTable = existingTable;
       if (state.contains(SCHEMA_SOURCE_DB)) {
         try (Timer.Context context = this.metricContext.timer(GET_SCHEMA_SOURCE_HIVE_TABLE).time()) {
@@ -318,6 +423,7 @@ public class HiveMetaStoreBasedRegister extends HiveRegister {
         try (Timer.Context context = this.metricContext.timer(ALTER_TABLE).time()) {
           client.alter_table(dbName, tableName, getNewTblByMergingExistingTblProps(table, existingTable));
         }
+        this.metadataCache.invalidateTableObject(dbName, tableName);
         log.info(String.format("updated Hive table %s in db %s", tableName, dbName));
       }
     } catch (TException e2) {
@@ -329,6 +435,26 @@ public class HiveMetaStoreBasedRegister extends HiveRegister {
   }
 
 
+  /**
+   * Get the table from {@link #metadataCache} if enabled, or from the metastore.
+   */
+  private Table getExistingTable(String dbName, String tableName, IMetaStoreClient client) throws TException {
+    if (this.metadataCacheEnabled) {
+      Optional<Table> cachedTable = this.metadataCache.getTable(dbName, tableName);
+      if (cachedTable.isPresent()) {
+        return cachedTable.get();
+      }
+    }
+    Table existingTable;
+    try (Timer.Context context = this.metricContext.timer(GET_HIVE_TABLE).time()) {
+      existingTable = client.getTable(dbName, tableName);
+    }
+    if (this.metadataCacheEnabled) {
+      this.metadataCache.putTable(existingTable);
+    }
+    return existingTable;
+  }
+
   /**
    * If databse existed on Hive side will return false;
    * Or will create the table thru. RPC and return retVal from remote MetaStore.
@@ -376,19 +502,13 @@ public class HiveMetaStoreBasedRegister extends HiveRegister {
    * @throws IOException
    */
   private boolean createDbIfNotExists(IMetaStoreClient client, String dbName) throws IOException {
-    boolean retVal;
     if (this.optimizedChecks) {
-      try {
-        retVal = this.tableAndDbExistenceCache.get(dbName, new Callable<Boolean>() {
-          @Override
-          public Boolean call() throws Exception {
-            return ensureHiveDbExistence(dbName, client);
-          }
-        });
-      } catch (ExecutionException ee) {
-        throw new IOException("Database existence checking throwing execution exception.", ee);
+      if (this.metadataCache.isKnownDatabase(dbName)) {
+        return false;
       }
-      return retVal;
+      boolean created = ensureHiveDbExistence(dbName, client);
+      this.metadataCache.markDatabaseExists(dbName);
+      return created;
     } else {
       return this.ensureHiveDbExistence(dbName, client);
     }
@@ -432,6 +552,7 @@ public class HiveMetaStoreBasedRegister extends HiveRegister {
         try (Timer.Context context = this.metricContext.timer(ADD_PARTITION_TIMER).time()) {
           client.get().add_partition(getPartitionWithCreateTimeNow(HiveMetaStoreUtils.getPartition(partition)));
         }
+        this.metadataCache.markPartitionExists(table.getDbName(), table.getTableName(), partition.getValues());
         HiveMetaStoreEventHelper.submitSuccessfulPartitionAdd(this.eventSubmitter, table, partition);
         return true;
       }
@@ -461,6 +582,7 @@ public class HiveMetaStoreBasedRegister extends HiveRegister {
       try (Timer.Context context = this.metricContext.timer(CREATE_HIVE_TABLE).time()) {
         client.createTable(getTableWithCreateTimeNow(table));
       }
+      this.metadataCache.markTableExists(dbName, tableName);
       log.info(String.format("Created Hive table %s in db %s", tableName, dbName));
       HiveMetaStoreEventHelper.submitSuccessfulTableCreation(this.eventSubmitter, hiveTable);
       return true;
@@ -479,16 +601,21 @@ public class HiveMetaStoreBasedRegister extends HiveRegister {
   }
 
   public boolean existsTable(String dbName, String tableName, IMetaStoreClient client) throws IOException {
-    Boolean tableExits = this.tableAndDbExistenceCache.getIfPresent(dbName + ":" + tableName );
-    if (this.optimizedChecks && tableExits != null && tableExits) {
-      return true;
+    Optional<Boolean> knownExistence = this.metadataCache.getTableExistence(dbName, tableName);
+    // Negative lookups are only cached when the metadata cache is enabled
+    if (this.optimizedChecks && knownExistence.isPresent()) {
+      return knownExistence.get();
     }
     try {
       boolean exists;
       try (Timer.Context context = this.metricContext.timer(TABLE_EXISTS).time()) {
         exists =  client.tableExists(dbName, tableName);
       }
-      this.tableAndDbExistenceCache.put(dbName + ":" + tableName, exists);
+      if (exists) {
+        this.metadataCache.markTableExists(dbName, tableName);
+      } else if (this.metadataCacheEnabled) {
+        this.metadataCache.markTableAbsent(dbName, tableName);
+      }
       return exists;
     } catch (TException e) {
       throw new IOException(String.format("Unable to check existence of table %s in db %s", tableName, dbName), e);
@@ -505,12 +632,24 @@ public class HiveMetaStoreBasedRegister extends HiveRegister {
   @Override
   public boolean existsPartition(String dbName, String tableName, List<Column> partitionKeys,
       List<String> partitionValues) throws IOException {
+    if (this.metadataCacheEnabled) {
+      Optional<Boolean> knownExistence = this.metadataCache.getPartitionExistence(dbName, tableName, partitionValues);
+      if (knownExistence.isPresent()) {
+        return knownExistence.get();
+      }
+    }
     try (AutoReturnableObject<IMetaStoreClient> client = this.clientPool.getClient()) {
       try (Timer.Context context = this.metricContext.timer(GET_HIVE_PARTITION).time()) {
         client.get().getPartition(dbName, tableName, partitionValues);
       }
+      if (this.metadataCacheEnabled) {
+        this.metadataCache.markPartitionExists(dbName, tableName, partitionValues);
+      }
       return true;
     } catch (NoSuchObjectException e) {
+      if (this.metadataCacheEnabled) {
+        this.metadataCache.markPartitionAbsent(dbName, tableName, partitionValues);
+      }
       return false;
     } catch (TException e) {
       throw new IOException(String.format("Unable to check existence of partition %s in table %s in db %s",
@@ -529,6 +668,7 @@ public class HiveMetaStoreBasedRegister extends HiveRegister {
         try (Timer.Context context = this.metricContext.timer(DROP_TABLE).time()) {
           client.get().dropTable(dbName, tableName, false, false);
         }
+        this.metadataCache.invalidateTable(dbName, tableName);
         String metastoreURI = this.clientPool.getHiveConf().get(HiveMetaStoreClientFactory.HIVE_METASTORE_TOKEN_SIGNATURE, "null");
         HiveMetaStoreEventHelper.submitSuccessfulTableDrop(eventSubmitter, dbName, tableName, metastoreURI);
         log.info("Dropped table " + tableName + " in db " + dbName);
@@ -550,6 +690,7 @@ public class HiveMetaStoreBasedRegister extends HiveRegister {
       try (Timer.Context context = this.metricContext.timer(DROP_TABLE).time()) {
         client.get().dropPartition(dbName, tableName, partitionValues, false);
       }
+      this.metadataCache.markPartitionAbsent(dbName, tableName, partitionValues);
       String metastoreURI = this.clientPool.getHiveConf().get(HiveMetaStoreClientFactory.HIVE_METASTORE_TOKEN_SIGNATURE, "null");
       HiveMetaStoreEventHelper.submitSuccessfulPartitionDrop(eventSubmitter, dbName, tableName, partitionValues, metastoreURI);
       log.info("Dropped partition " + partitionValues + " in table " + tableName + " in db " + dbName);
@@ -588,9 +729,11 @@ public class HiveMetaStoreBasedRegister extends HiveRegister {
         try (Timer.Context context = this.metricContext.timer(ADD_PARTITION_TIMER).time()) {
           client.add_partition(getPartitionWithCreateTimeNow(nativePartition));
         }
+        this.metadataCache.markPartitionExists(table.getDbName(), table.getTableName(), nativePartition.getValues());
         log.info(String.format("Added partition %s to table %s with location %s", stringifyPartition(nativePartition),
             table.getTableName(), nativePartition.getSd().getLocation()));
       } catch (AlreadyExistsException e) {
+        this.metadataCache.markPartitionExists(table.getDbName(), table.getTableName(), nativePartition.getValues());
         try {
           if (this.skipDiffComputation) {
             onPartitionExistWithoutComputingDiff(table, nativePartition, e);
@@ -609,6 +752,13 @@ public class HiveMetaStoreBasedRegister extends HiveRegister {
 
   private void addOrAlterPartition(IMetaStoreClient client, Table table, HivePartition partition)
       throws TException, IOException {
+    if (this.metadataCacheEnabled && this.skipDiffComputation && this.metadataCache
+        .getPartitionExistence(table.getDbName(), table.getTableName(), partition.getValues()).or(false)) {
+      // The partition is known to exist and its metadata is immutable, nothing to do
+      log.debug(String.format("Partition %s in table %s is known to exist, skipping", partition.getValues(),
+          table.getTableName()));
+      return;
+    }
     if(!registerPartitionWithPullMode) {
       addOrAlterPartitionWithPushMode(client, table, partition);
     } else {
@@ -630,6 +780,7 @@ public class HiveMetaStoreBasedRegister extends HiveRegister {
       try {
         try (Timer.Context context = this.metricContext.timer(GET_HIVE_PARTITION).time()) {
           existedPartition =  client.getPartition(table.getDbName(), table.getTableName(), nativePartition.getValues());
+          this.metadataCache.markPartitionExists(table.getDbName(), table.getTableName(), nativePartition.getValues());
           if (this.skipDiffComputation) {
             onPartitionExistWithoutComputingDiff(table, nativePartition, null);
           } else {
@@ -646,12 +797,248 @@ public class HiveMetaStoreBasedRegister extends HiveRegister {
               stringifyPartitionVerbose(nativePartition), table.getTableName(), nativePartition.getSd().getLocation()), e2);
           throw e2;
         }
+        this.metadataCache.markPartitionExists(table.getDbName(), table.getTableName(), nativePartition.getValues());
         log.info(String.format("Added partition %s to table %s with location %s", stringifyPartition(nativePartition),
             table.getTableName(), nativePartition.getSd().getLocation()));
       }
     }
   }
 
+  /**
+   * Partitions of one table waiting to be registered together. The {@link #future} completes once the whole batch is
+   * registered.
+   */
+  @VisibleForTesting
+  static class PendingPartitionBatch {
+    private final String key;
+    private final Table table;
+    private final List<HiveSpec> specs = new ArrayList<>();
+    private final SettableFuture<Void> future = SettableFuture.create();
+
+    PendingPartitionBatch(String key, Table table) {
+      this.key = key;
+      this.table = table;
+    }
+  }
+
+  /**
+   * The partitions of a batch split by the metastore call needed to register them.
+   */
+  @Getter
+  @VisibleForTesting
+  static class PartitionBatchPlan {
+    private final List<Partition> partitionsToAdd = new ArrayList<>();
+    private final List<Partition> partitionsToAlter = new ArrayList<>();
+  }
+
+  @VisibleForTesting
+  void addToPartitionBatch(IMetaStoreClient client, Table table, HiveSpec spec) {
+    String key = table.getDbName() + ":" + table.getTableName();
+    PendingPartitionBatch fullBatch = null;
+    synchronized (this.pendingPartitionBatches) {
+      PendingPartitionBatch batch = this.pendingPartitionBatches.get(key);
+      if (batch == null) {
+        batch = new PendingPartitionBatch(key, table);
+        this.pendingPartitionBatches.put(key, batch);
+        String futureKey = String.format("%s@batch-%d", key, this.partitionBatchCounter.incrementAndGet());
+        SettableFuture<Void> future = batch.future;
+        this.partitionBatchFutures.put(futureKey, future);
+        // Nothing to report for a batch registered successfully, so do not keep its future until the next wait
+        future.addListener(() -> {
+          if (isSuccessful(future)) {
+            this.partitionBatchFutures.remove(futureKey, future);
+          }
+        }, MoreExecutors.directExecutor());
+        PendingPartitionBatch scheduledBatch = batch;
+        this.partitionBatchFlushExecutor.get().schedule(() -> flushPartitionBatchIfPending(scheduledBatch),
+            this.partitionBatchWindowMillis, TimeUnit.MILLISECONDS);
+      }
+      batch.specs.add(spec);
+      if (batch.specs.size() >= this.partitionBatchMaxSize) {
+        this.pendingPartitionBatches.remove(key);
+        fullBatch = batch;
+      }
+    }
+    if (fullBatch != null) {
+      flushPartitionBatch(client, fullBatch);
+    }
+  }
+
+  private static boolean isSuccessful(Future<Void> doneFuture) {
+    try {
+      Futures.getDone(doneFuture);
+      return true;
+    } catch (ExecutionException | CancellationException e) {
+      return false;
+    }
+  }
+
+  private void flushPartitionBatchIfPending(PendingPartitionBatch batch) {
+    synchronized (this.pendingPartitionBatches) {
+      if (!this.pendingPartitionBatches.remove(batch.key, batch)) {
+        // Already flushed because it was full
+        return;
+      }
+    }
+    flushPartitionBatch(batch);
+  }
+
+  private void flushAllPartitionBatches() {
+    List<PendingPartitionBatch> batches;
+    synchronized (this.pendingPartitionBatches) {
+      batches = new ArrayList<>(this.pendingPartitionBatches.values());
+      this.pendingPartitionBatches.clear();
+    }
+    for (PendingPartitionBatch batch : batches) {
+      flushPartitionBatch(batch);
+    }
+  }
+
+  @VisibleForTesting
+  void flushPartitionBatch(PendingPartitionBatch batch) {
+    try (AutoReturnableObject<IMetaStoreClient> client = this.clientPool.getClient()) {
+      flushPartitionBatch(client.get(), batch);
+    } catch (IOException | RuntimeException e) {
+      log.error("Unable to get a metastore client to register batch of partitions for " + batch.key, e);
+      for (HiveSpec spec : batch.specs) {
+        HiveMetaStoreEventHelper.submitFailedPathRegistration(this.eventSubmitter, spec, e);
+      }
+      batch.future.setException(e);
+    }
+  }
+
+  /**
+   * Register all partitions of the batch: one lookup of the existing partitions, then one add_partitions and one
+   * alter_partitions call, all under the table lock. Failures are reported through the batch future.
+   */
+  @VisibleForTesting
+  void flushPartitionBatch(IMetaStoreClient client, PendingPartitionBatch batch) {
+    Table table = batch.table;
+    List<HivePartition> partitions = new ArrayList<>(batch.specs.size());
+    for (HiveSpec spec : batch.specs) {
+      partitions.add(spec.getPartition().get());
+    }
+    partitions = dedupePartitionsByValues(partitions);
+    this.metricContext.histogram(BATCH_PARTITION_REGISTER_SIZE).update(partitions.size());
+
+    try (Timer.Context context = this.metricContext.timer(BATCH_PARTITION_REGISTER_TIMER).time();
+        AutoCloseableHiveLock lock = this.locks.getTableLock(table.getDbName(), table.getTableName())) {
+      List<String> partitionNames = new ArrayList<>(partitions.size());
+      for (HivePartition partition : partitions) {
+        Preconditions.checkArgument(table.getPartitionKeysSize() == partition.getValues().size(),
+            String.format("Partition key size is %s but partition value size is %s", table.getPartitionKeysSize(),
+                partition.getValues().size()));
+        partitionNames.add(Warehouse.makePartName(table.getPartitionKeys(), partition.getValues()));
+      }
+
+      List<Partition> existingPartitions;
+      try (Timer.Context getContext = this.metricContext.timer(GET_HIVE_PARTITIONS_BY_NAMES).time()) {
+        existingPartitions = client.getPartitionsByNames(table.getDbName(), table.getTableName(), partitionNames);
+      }
+
+      PartitionBatchPlan plan = planPartitionBatch(partitions, existingPartitions);
+      if (!plan.getPartitionsToAdd().isEmpty()) {
+        try (Timer.Context addContext = this.metricContext.timer(ADD_PARTITIONS_TIMER).time()) {
+          client.add_partitions(plan.getPartitionsToAdd(), true, false);
+        }
+      }
+      if (!plan.getPartitionsToAlter().isEmpty()) {
+        try (Timer.Context alterContext = this.metricContext.timer(ALTER_PARTITIONS_TIMER).time()) {
+          client.alter_partitions(table.getDbName(), table.getTableName(), plan.getPartitionsToAlter());
+        }
+      }
+      log.info(String.format("Registered batch of %d partitions in table %s in db %s: %d added, %d altered",
+          partitions.size(), table.getTableName(), table.getDbName(), plan.getPartitionsToAdd().size(),
+          plan.getPartitionsToAlter().size()));
+      for (HivePartition partition : partitions) {
+        this.metadataCache.markPartitionExists(table.getDbName(), table.getTableName(), partition.getValues());
+      }
+      for (HiveSpec spec : batch.specs) {
+        HiveMetaStoreEventHelper.submitSuccessfulPathRegistration(this.eventSubmitter, spec);
+      }
+      batch.future.set(null);
+    } catch (TException | IOException | RuntimeException e) {
+      log.error(String.format("Unable to register batch of %d partitions in table %s in db %s", partitions.size(),
+          table.getTableName(), table.getDbName()), e);
+      for (HiveSpec spec : batch.specs) {
+        HiveMetaStoreEventHelper.submitFailedPathRegistration(this.eventSubmitter, spec, e);
+      }
+      batch.future.setException(e);
+    }
+  }
+
+  /**
+   * Decide for each partition of a batch whether it has to be added, altered or left untouched given the partitions
+   * already present in the metastore.
+   */
+  @VisibleForTesting
+  PartitionBatchPlan planPartitionBatch(List<HivePartition> partitions, List<Partition> existingPartitions) {
+    Map<List<String>, Partition> existingByValues = new HashMap<>();
+    for (Partition existingPartition : existingPartitions) {
+      existingByValues.put(existingPartition.getValues(), existingPartition);
+    }
+
+    PartitionBatchPlan plan = new PartitionBatchPlan();
+    for (HivePartition partition : dedupePartitionsByValues(partitions)) {
+      Partition nativePartition = HiveMetaStoreUtils.getPartition(partition);
+      Partition existedPartition = existingByValues.get(nativePartition.getValues());
+      if (existedPartition == null) {
+        plan.getPartitionsToAdd().add(getPartitionWithCreateTimeNow(nativePartition));
+        continue;
+      }
+      if (this.skipDiffComputation) {
+        continue;
+      }
+      HivePartition existingPartition = HiveMetaStoreUtils.getHivePartition(existedPartition);
+      if (needToUpdatePartition(existingPartition, partition)) {
+        plan.getPartitionsToAlter().add(getPartitionWithCreateTime(nativePartition, existingPartition));
+      }
+    }
+    return plan;
+  }
+
+  /**
+   * A batch may hold several specs of the same partition, e.g. when a path is registered again, and the metastore
+   * rejects a bulk call holding a partition twice, so only the last spec of each partition is kept.
+   */
+  private static List<HivePartition> dedupePartitionsByValues(List<HivePartition> partitions) {
+    Map<List<String>, HivePartition> partitionsByValues = new LinkedHashMap<>();
+    for (HivePartition partition : partitions) {
+      partitionsByValues.put(partition.getValues(), partition);
+    }
+    return partitionsByValues.size() == partitions.size() ? partitions : new ArrayList<>(partitionsByValues.values());
+  }
+
+  @Override
+  public void waitOnFuturesToFinish() throws IOException {
+    super.waitOnFuturesToFinish();
+    if (this.batchPartitionRegistration) {
+      // All specs are now either registered or waiting in a batch, flush the batches rather than wait for their window
+      flushAllPartitionBatches();
+      for (Map.Entry<String, SettableFuture<Void>> entry : new ArrayList<>(this.partitionBatchFutures.entrySet())) {
+        try {
+          waitOnFuturesToFinish(Collections.singletonMap(entry.getKey(), entry.getValue()));
+        } finally {
+          // A failed batch is reported by the one call waiting on it, not by every later call
+          if (entry.getValue().isDone()) {
+            this.partitionBatchFutures.remove(entry.getKey(), entry.getValue());
+          }
+        }
+      }
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    try {
+      super.close();
+    } finally {
+      if (this.partitionBatchFlushExecutor.isPresent()) {
+        ExecutorsUtils.shutdownExecutorService(this.partitionBatchFlushExecutor.get(), Optional.of(log));
+      }
+    }
+  }
+
   private void onPartitionExist(IMetaStoreClient client, Table table, HivePartition partition, Partition nativePartition, Partition existedPartition) throws TException {
     HivePartition existingPartition;
     if(existedPartition == null) {
@@ -755,6 +1142,7 @@ public class HiveMetaStoreBasedRegister extends HiveRegister {
         client.get().alter_table(table.getDbName(), table.getTableName(),
             getTableWithCreateTimeNow(HiveMetaStoreUtils.getTable(table)));
       }
+      this.metadataCache.invalidateTableObject(table.getDbName(), table.getTableName());
       HiveMetaStoreEventHelper.submitSuccessfulTableAlter(eventSubmitter, table);
     } catch (TException e) {
       HiveMetaStoreEventHelper.submitFailedTableAlter(eventSubmitter, table, e);
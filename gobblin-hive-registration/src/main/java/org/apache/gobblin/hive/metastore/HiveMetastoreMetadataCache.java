@@ -0,0 +1,218 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.gobblin.hive.metastore;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.hadoop.hive.metastore.api.Table;
+
+import com.google.common.base.Optional;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.typesafe.config.Config;
+
+import org.apache.gobblin.util.ConfigUtils;
+
+
+/**
+ * A bounded, expiring cache of Hive metastore metadata used by {@link HiveMetaStoreBasedRegister} to avoid repeated
+ * metastore RPCs.
+ *
+ * <p>
+ *   The cache remembers:
+ *   <ul>
+ *     <li>databases, tables and partitions known to exist,</li>
+ *     <li>tables and partitions known not to exist (negative lookups), which expire after a shorter TTL since other
+ *     writers of the metastore may create them at any time,</li>
+ *     <li>{@link Table} objects, so that the table does not need to be fetched for every registered path.</li>
+ *   </ul>
+ *   Partitions are bounded by {@link #PARTITION_MAX_SIZE_KEY} apart from the other entries, bounded by
+ *   {@link #MAX_SIZE_KEY}, so that registering many partitions does not evict databases and tables. Every entry
+ *   expires {@link #TTL_SECONDS_KEY} after it was written.
+ *   Callers are expected to invalidate or update entries whenever they mutate the metastore themselves.
+ * </p>
+ *
+ * <p>
+ *   One instance can be shared by all {@link org.apache.gobblin.hive.HiveRegister}s talking to the same metastore
+ *   through {@link HiveMetastoreMetadataCacheFactory}.
+ * </p>
+ */
+public class HiveMetastoreMetadataCache {
+  public static final String MAX_SIZE_KEY = "maxSize";
+  public static final long DEFAULT_MAX_SIZE = 100000L;
+  public static final String PARTITION_MAX_SIZE_KEY = "partitionMaxSize";
+  public static final long DEFAULT_PARTITION_MAX_SIZE = 100000L;
+  public static final String TTL_SECONDS_KEY = "ttlSeconds";
+  public static final long DEFAULT_TTL_SECONDS = TimeUnit.MINUTES.toSeconds(10);
+  public static final String NEGATIVE_TTL_SECONDS_KEY = "negativeTtlSeconds";
+  public static final long DEFAULT_NEGATIVE_TTL_SECONDS = 60L;
+
+  private static final String DB_PREFIX = "db:";
+  private static final String TABLE_PREFIX = "table:";
+  private static final String PARTITION_PREFIX = "partition:";
+
+  // Values are always true, presence of the key is what matters
+  private final Cache<String, Boolean> knownToExist;
+  private final Cache<String, Boolean> knownToBeAbsent;
+  private final Cache<String, Boolean> partitionsKnownToExist;
+  private final Cache<String, Boolean> partitionsKnownToBeAbsent;
+  private final Cache<String, Table> tables;
+
+  public HiveMetastoreMetadataCache(long maxSize, long ttlSeconds, long negativeTtlSeconds) {
+    this(maxSize, DEFAULT_PARTITION_MAX_SIZE, ttlSeconds, negativeTtlSeconds);
+  }
+
+  public HiveMetastoreMetadataCache(long maxSize, long partitionMaxSize, long ttlSeconds, long negativeTtlSeconds) {
+    this.knownToExist = CacheBuilder.newBuilder().maximumSize(maxSize)
+        .expireAfterWrite(ttlSeconds, TimeUnit.SECONDS).recordStats().build();
+    this.knownToBeAbsent = CacheBuilder.newBuilder().maximumSize(maxSize)
+        .expireAfterWrite(negativeTtlSeconds, TimeUnit.SECONDS).recordStats().build();
+    this.partitionsKnownToExist = CacheBuilder.newBuilder().maximumSize(partitionMaxSize)
+        .expireAfterWrite(ttlSeconds, TimeUnit.SECONDS).recordStats().build();
+    this.partitionsKnownToBeAbsent = CacheBuilder.newBuilder().maximumSize(partitionMaxSize)
+        .expireAfterWrite(negativeTtlSeconds, TimeUnit.SECONDS).recordStats().build();
+    this.tables = CacheBuilder.newBuilder().maximumSize(maxSize)
+        .expireAfterWrite(ttlSeconds, TimeUnit.SECONDS).recordStats().build();
+  }
+
+  /**
+   * Create a cache from a {@link Config} using the keys {@link #MAX_SIZE_KEY}, {@link #PARTITION_MAX_SIZE_KEY},
+   * {@link #TTL_SECONDS_KEY} and {@link #NEGATIVE_TTL_SECONDS_KEY}.
+   */
+  public static HiveMetastoreMetadataCache fromConfig(Config config) {
+    return new HiveMetastoreMetadataCache(ConfigUtils.getLong(config, MAX_SIZE_KEY, DEFAULT_MAX_SIZE),
+        ConfigUtils.getLong(config, PARTITION_MAX_SIZE_KEY, DEFAULT_PARTITION_MAX_SIZE),
+        ConfigUtils.getLong(config, TTL_SECONDS_KEY, DEFAULT_TTL_SECONDS),
+        ConfigUtils.getLong(config, NEGATIVE_TTL_SECONDS_KEY, DEFAULT_NEGATIVE_TTL_SECONDS));
+  }
+
+  public boolean isKnownDatabase(String dbName) {
+    return this.knownToExist.getIfPresent(DB_PREFIX + dbName) != null;
+  }
+
+  public void markDatabaseExists(String dbName) {
+    this.knownToExist.put(DB_PREFIX + dbName, true);
+  }
+
+  /**
+   * @return whether the table is known to exist or not to exist, or {@link Optional#absent()} if unknown.
+   */
+  public Optional<Boolean> getTableExistence(String dbName, String tableName) {
+    return getExistence(this.knownToExist, this.knownToBeAbsent, TABLE_PREFIX + tableKey(dbName, tableName));
+  }
+
+  public void markTableExists(String dbName, String tableName) {
+    markExists(this.knownToExist, this.knownToBeAbsent, TABLE_PREFIX + tableKey(dbName, tableName));
+  }
+
+  public void markTableAbsent(String dbName, String tableName) {
+    invalidateTable(dbName, tableName);
+    this.knownToBeAbsent.put(TABLE_PREFIX + tableKey(dbName, tableName), true);
+  }
+
+  /**
+   * @return a copy of the cached {@link Table}, or {@link Optional#absent()} if it is not cached.
+   */
+  public Optional<Table> getTable(String dbName, String tableName) {
+    Table table = this.tables.getIfPresent(tableKey(dbName, tableName));
+    return table == null ? Optional.<Table>absent() : Optional.of(table.deepCopy());
+  }
+
+  public void putTable(Table table) {
+    markTableExists(table.getDbName(), table.getTableName());
+    this.tables.put(tableKey(table.getDbName(), table.getTableName()), table.deepCopy());
+  }
+
+  /**
+   * Drop the cached {@link Table} object after the table was altered, while remembering that the table exists.
+   */
+  public void invalidateTableObject(String dbName, String tableName) {
+    this.tables.invalidate(tableKey(dbName, tableName));
+  }
+
+  /**
+   * Forget everything about a table, including the existence of its partitions.
+   */
+  public void invalidateTable(String dbName, String tableName) {
+    String tableKey = tableKey(dbName, tableName);
+    this.tables.invalidate(tableKey);
+    this.knownToExist.invalidate(TABLE_PREFIX + tableKey);
+    this.knownToBeAbsent.invalidate(TABLE_PREFIX + tableKey);
+    String partitionPrefix = PARTITION_PREFIX + tableKey + "@";
+    this.partitionsKnownToExist.asMap().keySet().removeIf(key -> key.startsWith(partitionPrefix));
+    this.partitionsKnownToBeAbsent.asMap().keySet().removeIf(key -> key.startsWith(partitionPrefix));
+  }
+
+  /**
+   * @return whether the partition is known to exist or not to exist, or {@link Optional#absent()} if unknown.
+   */
+  public Optional<Boolean> getPartitionExistence(String dbName, String tableName, List<String> partitionValues) {
+    return getExistence(this.partitionsKnownToExist, this.partitionsKnownToBeAbsent,
+        partitionKey(dbName, tableName, partitionValues));
+  }
+
+  public void markPartitionExists(String dbName, String tableName, List<String> partitionValues) {
+    markExists(this.partitionsKnownToExist, this.partitionsKnownToBeAbsent,
+        partitionKey(dbName, tableName, partitionValues));
+  }
+
+  public void markPartitionAbsent(String dbName, String tableName, List<String> partitionValues) {
+    String key = partitionKey(dbName, tableName, partitionValues);
+    this.partitionsKnownToExist.invalidate(key);
+    this.partitionsKnownToBeAbsent.put(key, true);
+  }
+
+  /** @return the stats of the existence of databases and tables */
+  public CacheStats getExistenceStats() {
+    return this.knownToExist.stats().plus(this.knownToBeAbsent.stats());
+  }
+
+  public CacheStats getPartitionExistenceStats() {
+    return this.partitionsKnownToExist.stats().plus(this.partitionsKnownToBeAbsent.stats());
+  }
+
+  public CacheStats getTableStats() {
+    return this.tables.stats();
+  }
+
+  private static Optional<Boolean> getExistence(Cache<String, Boolean> knownToExist,
+      Cache<String, Boolean> knownToBeAbsent, String key) {
+    if (knownToExist.getIfPresent(key) != null) {
+      return Optional.of(true);
+    }
+    if (knownToBeAbsent.getIfPresent(key) != null) {
+      return Optional.of(false);
+    }
+    return Optional.absent();
+  }
+
+  private static void markExists(Cache<String, Boolean> knownToExist, Cache<String, Boolean> knownToBeAbsent,
+      String key) {
+    knownToBeAbsent.invalidate(key);
+    knownToExist.put(key, true);
+  }
+
+  private static String tableKey(String dbName, String tableName) {
+    return dbName + ":" + tableName;
+  }
+
+  private static String partitionKey(String dbName, String tableName, List<String> partitionValues) {
+    return PARTITION_PREFIX + tableKey(dbName, tableName) + "@" + partitionValues;
+  }
+}
@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.gobblin.hive.metastore;
+
+import java.io.IOException;
+
+import org.apache.commons.lang.StringUtils;
+
+import com.google.common.base.Optional;
+
+import org.apache.gobblin.broker.ResourceInstance;
+import org.apache.gobblin.broker.iface.ConfigView;
+import org.apache.gobblin.broker.iface.NotConfiguredException;
+import org.apache.gobblin.broker.iface.ScopeType;
+import org.apache.gobblin.broker.iface.ScopedConfigView;
+import org.apache.gobblin.broker.iface.SharedResourceFactory;
+import org.apache.gobblin.broker.iface.SharedResourceFactoryResponse;
+import org.apache.gobblin.broker.iface.SharedResourcesBroker;
+import org.apache.gobblin.hive.SharedHiveConfKey;
+
+
+/**
+ * The factory that creates a {@link HiveMetastoreMetadataCache} as shared resource, one per metastore URI.
+ * The cache is configured through the broker configuration of this factory, e.g.
+ * {@code gobblin.broker.hiveMetastoreMetadataCache.maxSize}.
+ */
+public class HiveMetastoreMetadataCacheFactory<S extends ScopeType<S>>
+    implements SharedResourceFactory<HiveMetastoreMetadataCache, SharedHiveConfKey, S> {
+  static final String FACTORY_NAME = "hiveMetastoreMetadataCache";
+
+  @Override
+  public String getName() {
+    return FACTORY_NAME;
+  }
+
+  @Override
+  public SharedResourceFactoryResponse<HiveMetastoreMetadataCache> createResource(SharedResourcesBroker<S> broker,
+      ScopedConfigView<S, SharedHiveConfKey> config)
+      throws NotConfiguredException {
+    return new ResourceInstance<>(HiveMetastoreMetadataCache.fromConfig(config.getConfig()));
+  }
+
+  /**
+   * @param metastoreURI URI of the Hive metastore, absent for the default metastore.
+   * @param broker A shared resource broker
+   * @return the {@link HiveMetastoreMetadataCache} shared by all users of the given metastore.
+   * @throws IOException
+   */
+  public static <S extends ScopeType<S>> HiveMetastoreMetadataCache get(Optional<String> metastoreURI,
+      SharedResourcesBroker<S> broker)
+      throws IOException {
+    try {
+      SharedHiveConfKey key = metastoreURI.isPresent() && StringUtils.isNotBlank(metastoreURI.get())
+          ? new SharedHiveConfKey(metastoreURI.get()) : SharedHiveConfKey.INSTANCE;
+      return broker.getSharedResource(new HiveMetastoreMetadataCacheFactory<>(), key);
+    } catch (NotConfiguredException nce) {
+      throw new IOException(nce);
+    }
+  }
+
+  @Override
+  public S getAutoScope(SharedResourcesBroker<S> broker, ConfigView<S, SharedHiveConfKey> config) {
+    return broker.selfScope().getType().rootScope();
+  }
+}
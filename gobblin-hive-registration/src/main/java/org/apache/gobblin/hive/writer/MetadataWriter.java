@@ -47,6 +47,14 @@ public interface MetadataWriter extends Closeable {
    */
   void flush(String dbName, String tableName) throws IOException;
 
+  /**
+   * Whether {@link #flush(String, String)} may be called concurrently for different tables. Writers that keep
+   * unsynchronized per-table state must keep the default, in which case callers flush tables one at a time.
+   */
+  default boolean isConcurrentFlushSupported() {
+    return false;
+  }
+
   /**
    * If something wrong happens, we want to clean up in-memory state for the table inside the writer so that we can continue
    * registration for this table without affect correctness
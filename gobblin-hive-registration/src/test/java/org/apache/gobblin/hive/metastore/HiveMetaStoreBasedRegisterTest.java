@@ -18,15 +18,29 @@ package org.apache.gobblin.hive.metastore;
 
 import com.google.common.base.Optional;
 import java.io.IOException;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import org.apache.avro.Schema;
 import org.apache.gobblin.configuration.State;
+import org.apache.gobblin.hive.HivePartition;
+import org.apache.gobblin.hive.HiveRegistrationUnit;
 import org.apache.gobblin.hive.HiveTable;
+import org.apache.gobblin.hive.spec.HiveSpec;
 import org.apache.gobblin.hive.spec.SimpleHiveSpec;
 import org.apache.gobblin.metrics.kafka.KafkaSchemaRegistry;
 import org.apache.gobblin.metrics.kafka.SchemaRegistryException;
 import org.apache.gobblin.util.AvroUtils;
 import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.hive.metastore.IMetaStoreClient;
+import org.apache.hadoop.hive.metastore.api.MetaException;
+import org.apache.hadoop.hive.metastore.api.Partition;
 import org.apache.hadoop.hive.metastore.api.Table;
 import org.apache.hadoop.hive.ql.io.avro.AvroContainerInputFormat;
 import org.apache.hadoop.hive.ql.io.avro.AvroContainerOutputFormat;
@@ -35,6 +49,10 @@ import org.apache.hadoop.hive.serde2.avro.AvroSerdeUtils;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import com.codahale.metrics.Gauge;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+
 
 public class HiveMetaStoreBasedRegisterTest {
   @Test
@@ -102,6 +120,213 @@ public class HiveMetaStoreBasedRegisterTest {
 
   }
 
+  @Test
+  public void testMetadataCacheGaugesRegistered() throws IOException {
+    State state = new State();
+    state.setProp(HiveMetaStoreBasedRegister.METADATA_CACHE_ENABLED, true);
+    HiveMetaStoreBasedRegister register = new HiveMetaStoreBasedRegister(state, Optional.absent());
+
+    register.metadataCache.markPartitionExists("db", "table", ImmutableList.of("2024-01-01"));
+    register.metadataCache.getPartitionExistence("db", "table", ImmutableList.of("2024-01-01"));
+    register.metadataCache.getTableExistence("db", "table");
+
+    Map<String, Gauge> gauges = register.metricContext.getGauges();
+    Assert.assertEquals(gauges.get(HiveMetaStoreBasedRegister.METADATA_CACHE_PARTITION_EXISTENCE_METRICS_PREFIX
+        + "hitCount").getValue(), 1L);
+    Assert.assertEquals(gauges.get(HiveMetaStoreBasedRegister.METADATA_CACHE_EXISTENCE_METRICS_PREFIX
+        + "missCount").getValue(), 2L);
+    Assert.assertTrue(gauges.containsKey(HiveMetaStoreBasedRegister.METADATA_CACHE_TABLES_METRICS_PREFIX
+        + "evictionCount"));
+  }
+
+  @Test
+  public void testPlanPartitionBatch() throws IOException {
+    State state = new State();
+    state.setProp(HiveMetaStoreBasedRegister.BATCH_PARTITION_REGISTRATION_ENABLED, true);
+    HiveMetaStoreBasedRegister register = new HiveMetaStoreBasedRegister(state, Optional.absent());
+
+    HivePartition unchanged = buildPartition("2024-01-01", "/data/2024-01-01");
+    HivePartition moved = buildPartition("2024-01-02", "/data/2024-01-02-v2");
+    HivePartition added = buildPartition("2024-01-03", "/data/2024-01-03");
+    List<Partition> existingPartitions = ImmutableList.of(
+        HiveMetaStoreUtils.getPartition(buildPartition("2024-01-01", "/data/2024-01-01")),
+        HiveMetaStoreUtils.getPartition(buildPartition("2024-01-02", "/data/2024-01-02")));
+
+    HiveMetaStoreBasedRegister.PartitionBatchPlan plan =
+        register.planPartitionBatch(ImmutableList.of(unchanged, moved, added), existingPartitions);
+
+    Assert.assertEquals(plan.getPartitionsToAdd().size(), 1);
+    Assert.assertEquals(plan.getPartitionsToAdd().get(0).getValues(), added.getValues());
+    Assert.assertTrue(plan.getPartitionsToAdd().get(0).getCreateTime() > 0);
+    Assert.assertEquals(plan.getPartitionsToAlter().size(), 1);
+    Assert.assertEquals(plan.getPartitionsToAlter().get(0).getValues(), moved.getValues());
+    Assert.assertEquals(plan.getPartitionsToAlter().get(0).getSd().getLocation(), "/data/2024-01-02-v2");
+    register.close();
+  }
+
+  @Test
+  public void testPlanPartitionBatchDedupesPartitions() throws IOException {
+    State state = new State();
+    state.setProp(HiveMetaStoreBasedRegister.BATCH_PARTITION_REGISTRATION_ENABLED, true);
+    HiveMetaStoreBasedRegister register = new HiveMetaStoreBasedRegister(state, Optional.absent());
+
+    HiveMetaStoreBasedRegister.PartitionBatchPlan plan = register.planPartitionBatch(ImmutableList.of(
+        buildPartition("2024-01-01", "/data/2024-01-01"), buildPartition("2024-01-01", "/data/2024-01-01-v2")),
+        ImmutableList.of());
+
+    Assert.assertEquals(plan.getPartitionsToAdd().size(), 1);
+    Assert.assertEquals(plan.getPartitionsToAdd().get(0).getSd().getLocation(), "/data/2024-01-01-v2");
+    register.close();
+  }
+
+  @Test
+  public void testPartitionBatchFlushedWhenFull() throws IOException {
+    FakeMetaStoreClient client = new FakeMetaStoreClient();
+    TestBatchingRegister register = new TestBatchingRegister(client, 3, TimeUnit.HOURS.toMillis(1));
+    Table table = HiveMetaStoreUtils.getTable(buildPartitionedTable());
+
+    register.addToPartitionBatch(client.proxy, table, buildPartitionSpec("2024-01-01", "/data/2024-01-01"));
+    register.addToPartitionBatch(client.proxy, table, buildPartitionSpec("2024-01-02", "/data/2024-01-02"));
+    Assert.assertTrue(client.addedPartitions.isEmpty());
+
+    // the third spec fills the batch, which is flushed on the spot with a single bulk add of deduped partitions
+    register.addToPartitionBatch(client.proxy, table, buildPartitionSpec("2024-01-01", "/data/2024-01-01-v2"));
+    Assert.assertEquals(client.addPartitionsCalls, 1);
+    Assert.assertEquals(client.addedPartitions.size(), 2);
+    Assert.assertEquals(client.addedPartitions.get("2024-01-01").getSd().getLocation(), "/data/2024-01-01-v2");
+    Assert.assertEquals(client.addedPartitions.get("2024-01-02").getSd().getLocation(), "/data/2024-01-02");
+    register.waitOnFuturesToFinish();
+    register.close();
+  }
+
+  @Test(timeOut = 20000)
+  public void testPartitionBatchFlushedAfterWindow() throws Exception {
+    FakeMetaStoreClient client = new FakeMetaStoreClient();
+    TestBatchingRegister register = new TestBatchingRegister(client, 100, 100L);
+    Table table = HiveMetaStoreUtils.getTable(buildPartitionedTable());
+
+    register.addToPartitionBatch(client.proxy, table, buildPartitionSpec("2024-01-01", "/data/2024-01-01"));
+    while (client.addPartitionsCalls == 0) {
+      Thread.sleep(10);
+    }
+    Assert.assertEquals(client.addedPartitions.keySet(), ImmutableSet.of("2024-01-01"));
+    register.close();
+  }
+
+  @Test(timeOut = 20000)
+  public void testWaitOnFuturesToFinishFlushesPendingBatches() throws IOException {
+    FakeMetaStoreClient client = new FakeMetaStoreClient();
+    // a window that would time the test out if waited for
+    TestBatchingRegister register = new TestBatchingRegister(client, 100, TimeUnit.HOURS.toMillis(1));
+    Table table = HiveMetaStoreUtils.getTable(buildPartitionedTable());
+
+    register.addToPartitionBatch(client.proxy, table, buildPartitionSpec("2024-01-01", "/data/2024-01-01"));
+    register.addToPartitionBatch(client.proxy, table, buildPartitionSpec("2024-01-02", "/data/2024-01-02"));
+    register.waitOnFuturesToFinish();
+    Assert.assertEquals(client.addPartitionsCalls, 1);
+    Assert.assertEquals(client.addedPartitions.keySet(), ImmutableSet.of("2024-01-01", "2024-01-02"));
+    // the futures of batches registered successfully are not kept
+    Assert.assertTrue(register.partitionBatchFutures.isEmpty());
+    register.close();
+  }
+
+  @Test(timeOut = 20000)
+  public void testWaitOnFuturesToFinishFailsWithBatch() throws IOException {
+    FakeMetaStoreClient client = new FakeMetaStoreClient();
+    client.failAddPartitions = true;
+    TestBatchingRegister register = new TestBatchingRegister(client, 100, TimeUnit.HOURS.toMillis(1));
+    Table table = HiveMetaStoreUtils.getTable(buildPartitionedTable());
+
+    register.addToPartitionBatch(client.proxy, table, buildPartitionSpec("2024-01-01", "/data/2024-01-01"));
+    IOException e = Assert.expectThrows(IOException.class, register::waitOnFuturesToFinish);
+    Assert.assertTrue(e.getCause() instanceof MetaException);
+    client.failAddPartitions = false;
+
+    // the failure was reported once, and does not fail the registration of later batches
+    register.addToPartitionBatch(client.proxy, table, buildPartitionSpec("2024-01-02", "/data/2024-01-02"));
+    register.waitOnFuturesToFinish();
+    Assert.assertEquals(client.addedPartitions.keySet(), ImmutableSet.of("2024-01-02"));
+    Assert.assertTrue(register.partitionBatchFutures.isEmpty());
+    register.close();
+  }
+
+  private static HiveTable buildPartitionedTable() {
+    return new HiveTable.Builder().withDbName("testdb").withTableName("testtable")
+        .withPartitionKeys(ImmutableList.of(new HiveRegistrationUnit.Column("datepartition", "string", "")))
+        .build();
+  }
+
+  private static HiveSpec buildPartitionSpec(String value, String location) {
+    return new SimpleHiveSpec.Builder(new Path(location)).withTable(buildPartitionedTable())
+        .withPartition(Optional.of(buildPartition(value, location))).build();
+  }
+
+  /**
+   * A {@link HiveMetaStoreBasedRegister} batching partitions, which registers them with a {@link FakeMetaStoreClient}
+   */
+  private static class TestBatchingRegister extends HiveMetaStoreBasedRegister {
+    private final FakeMetaStoreClient client;
+
+    TestBatchingRegister(FakeMetaStoreClient client, int batchMaxSize, long batchWindowMillis) throws IOException {
+      super(batchingState(batchMaxSize, batchWindowMillis), Optional.absent());
+      this.client = client;
+    }
+
+    private static State batchingState(int batchMaxSize, long batchWindowMillis) {
+      State state = new State();
+      state.setProp(HiveMetaStoreBasedRegister.BATCH_PARTITION_REGISTRATION_ENABLED, true);
+      state.setProp(HiveMetaStoreBasedRegister.BATCH_PARTITION_REGISTRATION_MAX_SIZE, batchMaxSize);
+      state.setProp(HiveMetaStoreBasedRegister.BATCH_PARTITION_REGISTRATION_WINDOW_MILLIS, batchWindowMillis);
+      return state;
+    }
+
+    @Override
+    void flushPartitionBatch(PendingPartitionBatch batch) {
+      flushPartitionBatch(this.client.proxy, batch);
+    }
+  }
+
+  /**
+   * An {@link IMetaStoreClient} without existing partitions, which records the partitions added in bulk
+   */
+  private static class FakeMetaStoreClient implements InvocationHandler {
+    private final IMetaStoreClient proxy = (IMetaStoreClient) Proxy.newProxyInstance(
+        IMetaStoreClient.class.getClassLoader(), new Class<?>[]{IMetaStoreClient.class}, this);
+    private final Map<String, Partition> addedPartitions = new ConcurrentHashMap<>();
+    private volatile int addPartitionsCalls = 0;
+    private volatile boolean failAddPartitions = false;
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+      switch (method.getName()) {
+        case "getPartitionsByNames":
+          return new ArrayList<Partition>();
+        case "add_partitions":
+          if (this.failAddPartitions) {
+            throw new MetaException("Cannot add partitions");
+          }
+          List<Partition> partitions = (List<Partition>) args[0];
+          Assert.assertEquals(partitions.stream().map(Partition::getValues).distinct().count(), partitions.size(),
+              "Duplicate partitions in the list");
+          for (Partition partition : partitions) {
+            this.addedPartitions.put(partition.getValues().get(0), partition);
+          }
+          this.addPartitionsCalls++;
+          return partitions;
+        default:
+          throw new UnsupportedOperationException(method.getName());
+      }
+    }
+  }
+
+  private static HivePartition buildPartition(String value, String location) {
+    HivePartition partition = new HivePartition.Builder().withDbName("testdb").withTableName("testtable")
+        .withPartitionValues(ImmutableList.of(value)).build();
+    partition.setLocation(location);
+    return partition;
+  }
+
   public static class MockSchemaRegistry extends KafkaSchemaRegistry<String, Schema> {
     static Schema latestSchema = Schema.create(Schema.Type.STRING);
 
@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.gobblin.hive.metastore;
+
+import java.util.List;
+
+import org.apache.hadoop.hive.metastore.api.Table;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import com.google.common.base.Optional;
+import com.google.common.collect.ImmutableList;
+import com.typesafe.config.ConfigFactory;
+
+import org.apache.gobblin.broker.SharedResourcesBrokerFactory;
+import org.apache.gobblin.broker.SimpleScopeType;
+import org.apache.gobblin.broker.iface.SharedResourcesBroker;
+
+
+public class HiveMetastoreMetadataCacheTest {
+
+  @Test
+  public void testExistenceAndNegativeLookups() {
+    HiveMetastoreMetadataCache cache = new HiveMetastoreMetadataCache(100, 600, 600);
+    List<String> values = ImmutableList.of("2024", "01");
+
+    Assert.assertFalse(cache.getTableExistence("db", "table").isPresent());
+    cache.markTableAbsent("db", "table");
+    Assert.assertEquals(cache.getTableExistence("db", "table"), Optional.of(false));
+    cache.markTableExists("db", "table");
+    Assert.assertEquals(cache.getTableExistence("db", "table"), Optional.of(true));
+
+    Assert.assertFalse(cache.getPartitionExistence("db", "table", values).isPresent());
+    cache.markPartitionAbsent("db", "table", values);
+    Assert.assertEquals(cache.getPartitionExistence("db", "table", values), Optional.of(false));
+    cache.markPartitionExists("db", "table", values);
+    Assert.assertEquals(cache.getPartitionExistence("db", "table", values), Optional.of(true));
+
+    // Invalidating a table forgets its partitions as well
+    cache.invalidateTable("db", "table");
+    Assert.assertFalse(cache.getTableExistence("db", "table").isPresent());
+    Assert.assertFalse(cache.getPartitionExistence("db", "table", values).isPresent());
+
+    Assert.assertFalse(cache.isKnownDatabase("db"));
+    cache.markDatabaseExists("db");
+    Assert.assertTrue(cache.isKnownDatabase("db"));
+  }
+
+  @Test
+  public void testTableObjects() {
+    HiveMetastoreMetadataCache cache = new HiveMetastoreMetadataCache(100, 600, 600);
+    Table table = new Table();
+    table.setDbName("db");
+    table.setTableName("table");
+    table.setOwner("owner");
+
+    cache.putTable(table);
+    Assert.assertEquals(cache.getTableExistence("db", "table"), Optional.of(true));
+    Table cached = cache.getTable("db", "table").get();
+    Assert.assertEquals(cached, table);
+    // Callers get a copy that they can modify
+    cached.setOwner("other");
+    Assert.assertEquals(cache.getTable("db", "table").get().getOwner(), "owner");
+
+    cache.invalidateTableObject("db", "table");
+    Assert.assertFalse(cache.getTable("db", "table").isPresent());
+    Assert.assertEquals(cache.getTableExistence("db", "table"), Optional.of(true));
+  }
+
+  @Test
+  public void testSizeBound() {
+    HiveMetastoreMetadataCache cache = new HiveMetastoreMetadataCache(100, 10, 600, 600);
+    cache.markDatabaseExists("db");
+    cache.markTableExists("db", "table");
+    for (int i = 0; i < 100; i++) {
+      cache.markPartitionExists("db", "table", ImmutableList.of(String.valueOf(i)));
+    }
+    int known = 0;
+    for (int i = 0; i < 100; i++) {
+      if (cache.getPartitionExistence("db", "table", ImmutableList.of(String.valueOf(i))).isPresent()) {
+        known++;
+      }
+    }
+    Assert.assertTrue(known <= 10);
+    // Partitions are bounded apart, so they do not evict databases and tables
+    Assert.assertTrue(cache.isKnownDatabase("db"));
+    Assert.assertEquals(cache.getTableExistence("db", "table"), Optional.of(true));
+    Assert.assertTrue(cache.getPartitionExistenceStats().evictionCount() >= 90);
+    Assert.assertEquals(cache.getExistenceStats().evictionCount(), 0);
+  }
+
+  @Test
+  public void testSharedThroughBroker() throws Exception {
+    SharedResourcesBroker<SimpleScopeType> broker = SharedResourcesBrokerFactory.<SimpleScopeType>createDefaultTopLevelBroker(
+        ConfigFactory.empty(), SimpleScopeType.GLOBAL.defaultScopeInstance());
+
+    HiveMetastoreMetadataCache cache1 = HiveMetastoreMetadataCacheFactory.get(Optional.of("thrift://a:1"), broker);
+    HiveMetastoreMetadataCache cache2 = HiveMetastoreMetadataCacheFactory.get(Optional.of("thrift://a:1"), broker);
+    HiveMetastoreMetadataCache otherCache = HiveMetastoreMetadataCacheFactory.get(Optional.of("thrift://b:1"), broker);
+
+    Assert.assertSame(cache1, cache2);
+    Assert.assertNotSame(cache1, otherCache);
+    broker.close();
+  }
+}
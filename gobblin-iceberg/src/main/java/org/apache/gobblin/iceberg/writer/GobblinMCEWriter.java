@@ -27,6 +27,10 @@ import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
@@ -43,6 +47,7 @@ import com.codahale.metrics.Timer;
 import com.google.common.annotations.VisibleForTesting;
 
 import com.google.common.base.Joiner;
+import com.google.common.base.Optional;
 import com.google.common.base.Preconditions;
 import com.google.common.base.Splitter;
 import com.google.common.base.Throwables;
@@ -80,6 +85,7 @@ import org.apache.gobblin.source.extractor.CheckpointableWatermark;
 import org.apache.gobblin.source.extractor.extract.LongWatermark;
 import org.apache.gobblin.stream.RecordEnvelope;
 import org.apache.gobblin.util.ClustersNames;
+import org.apache.gobblin.util.ExecutorsUtils;
 import org.apache.gobblin.util.HadoopUtils;
 import org.apache.gobblin.util.ParallelRunner;
 import org.apache.gobblin.util.reflection.GobblinConstructorUtils;
@@ -106,6 +112,9 @@ public class GobblinMCEWriter implements DataWriter<GenericRecord> {
   public static final String ACCEPTED_CLUSTER_NAMES = "accepted.cluster.names";
   public static final String METADATA_REGISTRATION_THREADS = "metadata.registration.threads";
   public static final String METADATA_PARALLEL_RUNNER_TIMEOUT_MILLS = "metadata.parallel.runner.timeout.mills";
+  // Number of tables flushed concurrently by writers that support it, 1 keeps the serial per-table flush
+  public static final String METADATA_FLUSH_PARALLELISM = "gmce.metadata.writer.flush.parallelism";
+  public static final int DEFAULT_METADATA_FLUSH_PARALLELISM = 1;
   public static final String HIVE_PARTITION_NAME = "hive.partition.name";
   public static final String GMCE_METADATA_WRITER_CLASSES = "gmce.metadata.writer.classes";
   public static final String GMCE_METADATA_WRITER_MAX_ERROR_DATASET = "gmce.metadata.writer.max.error.dataset";
@@ -142,6 +151,7 @@ public class GobblinMCEWriter implements DataWriter<GenericRecord> {
   public final Map<String, ContextAwareTimer> metadataWriterFlushTimers = new HashMap<>();
   private final ContextAwareTimer hiveSpecComputationTimer;
   private final Map<String, ContextAwareTimer> datasetTimers = new HashMap<>();
+  private final Optional<ExecutorService> flushExecutor;
 
   @AllArgsConstructor
   static class TableStatus {
@@ -179,6 +189,10 @@ public class GobblinMCEWriter implements DataWriter<GenericRecord> {
         state.getPropAsInt(METADATA_PARALLEL_RUNNER_TIMEOUT_MILLS, DEFAULT_ICEBERG_PARALLEL_TIMEOUT_MILLS);
     transientExceptionMessages = new HashSet<>(properties.getPropAsList(TRANSIENT_EXCEPTION_MESSAGES_KEY, ""));
     nonTransientExceptionMessages = new HashSet<>(properties.getPropAsList(NON_TRANSIENT_EXCEPTION_MESSAGES_KEY, ""));
+    int flushParallelism = state.getPropAsInt(METADATA_FLUSH_PARALLELISM, DEFAULT_METADATA_FLUSH_PARALLELISM);
+    flushExecutor = flushParallelism > 1 ? Optional.<ExecutorService>of(ExecutorsUtils.loggingDecorator(Executors.newFixedThreadPool(
+        flushParallelism, ExecutorsUtils.newThreadFactory(Optional.of(log), Optional.of("GMCE-flush-%d")))))
+        : Optional.absent();
   }
 
   @Override
@@ -431,7 +445,7 @@ public class GobblinMCEWriter implements DataWriter<GenericRecord> {
   private void flush(String dbName, String tableName) throws IOException {
     boolean meetException = false;
     String tableString = Joiner.on(TABLE_NAME_DELIMITER).join(dbName, tableName);
-    if (tableOperationTypeMap.get(tableString).gmceLowWatermark == tableOperationTypeMap.get(tableString).gmceHighWatermark) {
+    if (!needsFlush(tableString)) {
       // No need to flush
       return;
     }
@@ -440,33 +454,105 @@ public class GobblinMCEWriter implements DataWriter<GenericRecord> {
         writer.reset(dbName, tableName);
       } else {
         try {
-          Timer flushTimer = metadataWriterFlushTimers.get(writer.getClass().getName());
-          Timer datasetTimer = datasetTimers.computeIfAbsent(tableName, k -> metricContext.contextAwareTimer(k, 1, TimeUnit.HOURS));
-          try (Timer.Context flushContext = flushTimer.time();
-              Timer.Context datasetContext = datasetTimer.time()) {
-            writer.flush(dbName, tableName);
-          }
+          flushWithTimers(writer, dbName, tableName);
         } catch (IOException e) {
-          if (exceptionMatches(e, transientExceptionMessages)) {
-            throw new RuntimeException("Failing container due to transient exception for db: " + dbName + " table: " + tableName, e);
-          }
+          handleFlushFailure(writer, e, tableString, dbName, tableName);
           meetException = true;
-          writer.reset(dbName, tableName);
-          addOrThrowException(e, tableString, dbName, tableName, getFailedWriterList(writer));
         }
       }
     }
     if (!meetException) {
-      String datasetPath = tableOperationTypeMap.get(tableString).datasetPath;
-      if (datasetErrorMap.containsKey(datasetPath) && datasetErrorMap.get(datasetPath).containsKey(tableString)) {
-        // We only want to emit GTE when the table watermark moves. There can be two scenario that watermark move, one is after one flush interval,
-        // we commit new watermark to state store, anther is here, where during the flush interval, we flush table because table operation changes.
-        // Under this condition, error map contains this dataset means we met error before this flush, but this time when flush succeed and
-        // the watermark inside the table moves, so we want to emit GTE to indicate there is some data loss here
-        submitFailureEvents(datasetErrorMap.get(datasetPath).get(tableString));
-        this.datasetErrorMap.get(datasetPath).remove(tableString);
+      onTableFlushed(tableString);
+    }
+  }
+
+  /**
+   * Flush all the given tables writer by writer. Writers that support concurrent flush get the tables submitted to
+   * {@link #flushExecutor}, others flush them one at a time. Since every table still goes through the writers in
+   * order, a table that fails in one writer is only reset in the following writers, same as {@link #flush(String, String)}.
+   */
+  private void parallelFlush(Collection<String> tableStrings) throws IOException {
+    List<String> tablesToFlush = tableStrings.stream().filter(this::needsFlush).collect(Collectors.toList());
+    Set<String> failedTables = new HashSet<>();
+    for (MetadataWriter writer : metadataWriters) {
+      Map<String, Future<Void>> flushFutures = new HashMap<>();
+      for (String tableString : tablesToFlush) {
+        List<String> tid = Splitter.on(TABLE_NAME_DELIMITER).splitToList(tableString);
+        if (failedTables.contains(tableString)) {
+          writer.reset(tid.get(0), tid.get(1));
+        } else if (writer.isConcurrentFlushSupported()) {
+          // Create the dataset timer up front as the timer map is not thread-safe
+          datasetTimers.computeIfAbsent(tid.get(1), k -> metricContext.contextAwareTimer(k, 1, TimeUnit.HOURS));
+          flushFutures.put(tableString, flushExecutor.get().submit(() -> {
+            flushWithTimers(writer, tid.get(0), tid.get(1));
+            return null;
+          }));
+        } else {
+          try {
+            flushWithTimers(writer, tid.get(0), tid.get(1));
+          } catch (IOException e) {
+            handleFlushFailure(writer, e, tableString, tid.get(0), tid.get(1));
+            failedTables.add(tableString);
+          }
+        }
+      }
+      for (Map.Entry<String, Future<Void>> entry : flushFutures.entrySet()) {
+        List<String> tid = Splitter.on(TABLE_NAME_DELIMITER).splitToList(entry.getKey());
+        try {
+          entry.getValue().get();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          throw new IOException("Interrupted while flushing table " + entry.getKey(), e);
+        } catch (ExecutionException e) {
+          if (!(e.getCause() instanceof IOException)) {
+            Throwables.propagateIfPossible(e.getCause());
+            throw new RuntimeException(e.getCause());
+          }
+          handleFlushFailure(writer, (IOException) e.getCause(), entry.getKey(), tid.get(0), tid.get(1));
+          failedTables.add(entry.getKey());
+        }
       }
     }
+    for (String tableString : tablesToFlush) {
+      if (!failedTables.contains(tableString)) {
+        onTableFlushed(tableString);
+      }
+    }
+  }
+
+  private boolean needsFlush(String tableString) {
+    TableStatus tableStatus = tableOperationTypeMap.get(tableString);
+    return tableStatus.gmceLowWatermark != tableStatus.gmceHighWatermark;
+  }
+
+  private void flushWithTimers(MetadataWriter writer, String dbName, String tableName) throws IOException {
+    Timer flushTimer = metadataWriterFlushTimers.get(writer.getClass().getName());
+    Timer datasetTimer = datasetTimers.computeIfAbsent(tableName, k -> metricContext.contextAwareTimer(k, 1, TimeUnit.HOURS));
+    try (Timer.Context flushContext = flushTimer.time();
+        Timer.Context datasetContext = datasetTimer.time()) {
+      writer.flush(dbName, tableName);
+    }
+  }
+
+  private void handleFlushFailure(MetadataWriter writer, IOException e, String tableString, String dbName,
+      String tableName) throws IOException {
+    if (exceptionMatches(e, transientExceptionMessages)) {
+      throw new RuntimeException("Failing container due to transient exception for db: " + dbName + " table: " + tableName, e);
+    }
+    writer.reset(dbName, tableName);
+    addOrThrowException(e, tableString, dbName, tableName, getFailedWriterList(writer));
+  }
+
+  private void onTableFlushed(String tableString) {
+    String datasetPath = tableOperationTypeMap.get(tableString).datasetPath;
+    if (datasetErrorMap.containsKey(datasetPath) && datasetErrorMap.get(datasetPath).containsKey(tableString)) {
+      // We only want to emit GTE when the table watermark moves. There can be two scenario that watermark move, one is after one flush interval,
+      // we commit new watermark to state store, anther is here, where during the flush interval, we flush table because table operation changes.
+      // Under this condition, error map contains this dataset means we met error before this flush, but this time when flush succeed and
+      // the watermark inside the table moves, so we want to emit GTE to indicate there is some data loss here
+      submitFailureEvents(datasetErrorMap.get(datasetPath).get(tableString));
+      this.datasetErrorMap.get(datasetPath).remove(tableString);
+    }
   }
 
   /**
@@ -493,9 +579,13 @@ public class GobblinMCEWriter implements DataWriter<GenericRecord> {
   @Override
   public void flush() throws IOException {
     log.info(String.format("begin flushing %s records", String.valueOf(recordCount.get())));
-    for (String tableString : tableOperationTypeMap.keySet()) {
-      List<String> tid = Splitter.on(TABLE_NAME_DELIMITER).splitToList(tableString);
-      flush(tid.get(0), tid.get(1));
+    if (flushExecutor.isPresent() && tableOperationTypeMap.size() > 1) {
+      parallelFlush(tableOperationTypeMap.keySet());
+    } else {
+      for (String tableString : tableOperationTypeMap.keySet()) {
+        List<String> tid = Splitter.on(TABLE_NAME_DELIMITER).splitToList(tableString);
+        flush(tid.get(0), tid.get(1));
+      }
     }
     tableOperationTypeMap.clear();
     recordCount.lazySet(0L);
@@ -511,6 +601,9 @@ public class GobblinMCEWriter implements DataWriter<GenericRecord> {
 
   @Override
   public void close() throws IOException {
+    if (flushExecutor.isPresent()) {
+      ExecutorsUtils.shutdownExecutorService(flushExecutor.get(), Optional.of(log));
+    }
     this.closer.close();
   }
 
@@ -37,9 +37,11 @@ import java.util.Set;
 import java.util.SortedSet;
 import java.util.TreeSet;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
@@ -113,6 +115,7 @@ import org.apache.gobblin.hive.writer.MetadataWriterKeys;
 import org.apache.gobblin.iceberg.Utils.IcebergUtils;
 import org.apache.gobblin.metadata.GobblinMetadataChangeEvent;
 import org.apache.gobblin.metadata.OperationType;
+import org.apache.gobblin.metrics.ContextAwareTimer;
 import org.apache.gobblin.metrics.GobblinMetricsRegistry;
 import org.apache.gobblin.metrics.MetricContext;
 import org.apache.gobblin.metrics.Tag;
@@ -161,6 +164,8 @@ public class IcebergMetadataWriter implements MetadataWriter {
 
   private static final String DEFAULT_CREATION_TIME = "0";
   private static final String SNAPSHOT_EXPIRE_THREADS = "snapshot.expire.threads";
+  private static final String COMMIT_TIMER = "iceberg.commit";
+  private static final String TABLE_COMMIT_TIMER_FORMAT = "iceberg.commit.%s.%s";
   private static final long DEFAULT_WATERMARK = -1L;
 
   /* one of the fields in DataFile entry to describe the location URI of a data file with FS Scheme */
@@ -196,6 +201,10 @@ public class IcebergMetadataWriter implements MetadataWriter {
   protected Catalog catalog;
   protected final Configuration conf;
   protected final ReadWriteLock readWriteLock;
+  // Serializes flushes of the same table, flushes of different tables only share the read lock
+  private final Map<TableIdentifier, Lock> tableFlushLocks = new ConcurrentHashMap<>();
+  private final ContextAwareTimer commitTimer;
+  private final Map<TableIdentifier, ContextAwareTimer> tableCommitTimers = new ConcurrentHashMap<>();
   private final HiveLock locks;
   private final boolean useDataLocationAsTableLocation;
   private final ParallelRunner parallelRunner;
@@ -208,7 +217,7 @@ public class IcebergMetadataWriter implements MetadataWriter {
     conf = HadoopUtils.getConfFromState(state);
     initializeCatalog();
     tableTopicPartitionMap = new HashMap<>();
-    tableMetadataMap = new HashMap<>();
+    tableMetadataMap = new ConcurrentHashMap<>();
     tableCurrentWatermarkMap = new HashMap<>();
     List<Tag<?>> tags = Lists.newArrayList();
     String clusterIdentifier = ClustersNames.getInstance().getClusterName();
@@ -217,13 +226,15 @@ public class IcebergMetadataWriter implements MetadataWriter {
         GobblinMetricsRegistry.getInstance().getMetricContext(state, IcebergMetadataWriter.class, tags));
     this.eventSubmitter =
         new EventSubmitter.Builder(this.metricContext, MetadataWriterKeys.METRICS_NAMESPACE_ICEBERG_WRITER).build();
+    this.commitTimer = this.metricContext.contextAwareTimer(COMMIT_TIMER, 1, TimeUnit.HOURS);
     this.whitelistBlacklist = new WhitelistBlacklist(state.getProp(ICEBERG_REGISTRATION_WHITELIST, ""),
         state.getProp(ICEBERG_REGISTRATION_BLACKLIST, ""));
     this.auditWhitelistBlacklist = new WhitelistBlacklist(state.getProp(ICEBERG_REGISTRATION_AUDIT_COUNT_WHITELIST, ""),
         state.getProp(ICEBERG_REGISTRATION_AUDIT_COUNT_BLACKLIST, ""));
 
     // Use rw-lock to make it thread-safe when flush and write(which is essentially aggregate & reading metadata),
-    // are called in separate threads.
+    // are called in separate threads. Write takes the write lock as it mutates the shared per-table maps, while
+    // flushes of different tables only read them and can share the read lock, see {@link #isConcurrentFlushSupported()}.
     readWriteLock = new ReentrantReadWriteLock();
     this.locks = new HiveLock(state.getProperties());
     parallelRunner = closer.register(new ParallelRunner(state.getPropAsInt(SNAPSHOT_EXPIRE_THREADS, 20),
@@ -827,16 +838,21 @@ public class IcebergMetadataWriter implements MetadataWriter {
    * 3. Update the schema
    * 4. Commit the transaction
    * 5. reset tableMetadata
+   *
+   * Schema and property updates are staged in the table's transaction, so the appended/deleted files, the new schema
+   * and the new watermarks land in the catalog with a single metadata commit.
    * @param dbName
    * @param tableName
    */
   @Override
   public void flush(String dbName, String tableName) throws IOException {
-    Lock writeLock = readWriteLock.writeLock();
-    writeLock.lock();
+    TableIdentifier tid = TableIdentifier.of(dbName, tableName);
+    Lock readLock = readWriteLock.readLock();
+    Lock tableFlushLock = tableFlushLocks.computeIfAbsent(tid, t -> new ReentrantLock());
+    readLock.lock();
+    tableFlushLock.lock();
     boolean transactionCommitted = false;
     try {
-      TableIdentifier tid = TableIdentifier.of(dbName, tableName);
       TableMetadata tableMetadata = tableMetadataMap.getOrDefault(tid, new TableMetadata(this.conf));
       if (!tableMetadata.transaction.isPresent()) {
         log.info("There's no transaction initiated for the table {}", tid);
@@ -881,16 +897,19 @@ public class IcebergMetadataWriter implements MetadataWriter {
         props.put(TableProperties.METADATA_PREVIOUS_VERSIONS_MAX, Integer.toString(
             conf.getInt(TableProperties.METADATA_PREVIOUS_VERSIONS_MAX, TableProperties.METADATA_PREVIOUS_VERSIONS_MAX_DEFAULT)));
       }
-      //Update schema(commit)
+      //Update schema
       updateSchema(tableMetadata, props, topicName);
       //Update properties
       UpdateProperties updateProperties = transaction.updateProperties();
       props.forEach(updateProperties::set);
       updateProperties.commit();
+      Timer tableCommitTimer = tableCommitTimers.computeIfAbsent(tid, t -> this.metricContext.contextAwareTimer(
+          String.format(TABLE_COMMIT_TIMER_FORMAT, dbName, tableName), 1, TimeUnit.HOURS));
       try (AutoCloseableHiveLock lock = this.locks.getTableLock(dbName, tableName);
-          Timer.Context context = new Timer().time()) {
+          Timer.Context context = commitTimer.time();
+          Timer.Context tableContext = tableCommitTimer.time()) {
         transaction.commitTransaction();
-        log.info("Committing transaction for table {} took {} ms", tid, TimeUnit.NANOSECONDS.toMillis(context.stop()));
+        log.info("Committing transaction for table {} took {} ms", tid, TimeUnit.NANOSECONDS.toMillis(tableContext.stop()));
         transactionCommitted = true;
       }
 
@@ -907,10 +926,19 @@ public class IcebergMetadataWriter implements MetadataWriter {
       throw new IOException(String.format("Failed to flush table %s %s. transactionCommitted=%s",
           dbName, tableName, transactionCommitted), e);
     } finally {
-      writeLock.unlock();
+      tableFlushLock.unlock();
+      readLock.unlock();
     }
   }
 
+  /**
+   * Flushes of different tables only touch their own {@link TableMetadata} and transaction, so they can run concurrently.
+   */
+  @Override
+  public boolean isConcurrentFlushSupported() {
+    return true;
+  }
+
   /**
    * PostCommit operation that executes after the transaction is committed to the Iceberg table. Operations in this
    * method are considered non-critical to the transaction and will not cause the transaction to fail if they fail,
@@ -1047,7 +1075,7 @@ public class IcebergMetadataWriter implements MetadataWriter {
         if (candidates.size() == 1 && candidates.getIfPresent(DEFAULT_CREATION_TIME) != null) {
           updateSchemaHelper(DEFAULT_CREATION_TIME,
               (Pair<Schema, String>) candidates.getIfPresent(DEFAULT_CREATION_TIME), props,
-              tableMetadata.table.get());
+              tableMetadata);
         } else {
           //update schema if candidates contains the schema that has the same creation time with the latest schema
           org.apache.avro.Schema latestSchema =
@@ -1058,7 +1086,7 @@ public class IcebergMetadataWriter implements MetadataWriter {
                 "Schema from schema registry does not contain creation time, check config for schema registry class");
           } else if (candidates.getIfPresent(creationTime) != null) {
             updateSchemaHelper(creationTime, (Pair<Schema, String>) candidates.getIfPresent(creationTime), props,
-                tableMetadata.table.get());
+                tableMetadata);
           }
         }
       }
@@ -1067,21 +1095,26 @@ public class IcebergMetadataWriter implements MetadataWriter {
     }
   }
 
-  private void updateSchemaHelper(String schemaCreationTime, Pair<Schema, String> schema, Map<String, String> props, Table table) {
+  /**
+   * Stage the schema update in the table's transaction so it is committed atomically with the files and properties
+   */
+  private void updateSchemaHelper(String schemaCreationTime, Pair<Schema, String> schema, Map<String, String> props,
+      TableMetadata tableMetadata) {
     try {
-      table.updateSchema().unionByNameWith(schema.getLeft()).commit();
+      tableMetadata.ensureTxnInit();
+      tableMetadata.transaction.get().updateSchema().unionByNameWith(schema.getLeft()).commit();
       props.put(SCHEMA_CREATION_TIME_KEY, schemaCreationTime);
       props.put(AvroSerdeUtils.AvroTableProperties.SCHEMA_LITERAL.getPropName(), schema.getRight());
     } catch (Exception e) {
-      log.error("Cannot update schema to " + schema.toString() + "for table " + table.location(), e);
+      log.error("Cannot update schema to " + schema.toString() + "for table " + tableMetadata.table.get().location(), e);
     }
   }
 
   @Override
   public void writeEnvelope(RecordEnvelope<GenericRecord> recordEnvelope, Map<String, Collection<HiveSpec>> newSpecsMap,
       Map<String, Collection<HiveSpec>> oldSpecsMap, HiveSpec tableSpec) throws IOException {
-    Lock readLock = readWriteLock.readLock();
-    readLock.lock();
+    Lock writeLock = readWriteLock.writeLock();
+    writeLock.lock();
     try {
       GenericRecord genericRecord = recordEnvelope.getRecord();
       GobblinMetadataChangeEvent gmce =
@@ -1124,7 +1157,7 @@ public class IcebergMetadataWriter implements MetadataWriter {
             tableSpec.getTable().getTableName()));
       }
     } finally {
-      readLock.unlock();
+      writeLock.unlock();
     }
   }
 
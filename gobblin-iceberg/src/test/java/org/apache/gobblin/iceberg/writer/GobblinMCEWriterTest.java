@@ -195,6 +195,36 @@ public class GobblinMCEWriterTest {
         .build()).build()));
   }
 
+  @Test
+  public void testParallelFlush() throws IOException {
+    gobblinMCEWriter.close();
+    State state = new State();
+    state.setProp("gmce.metadata.writer.classes", String.join(",",
+        Arrays.asList(mockWriter.getClass().getName(), exceptionWriter.getClass().getName())));
+    state.setProp(GobblinMCEWriter.METADATA_FLUSH_PARALLELISM, 4);
+    gobblinMCEWriter = new GobblinMCEWriter(new GobblinMCEWriterBuilder(), state);
+    gobblinMCEWriter.setMaxErrorDataset(1);
+    gobblinMCEWriter.metadataWriters = Arrays.asList(mockWriter, exceptionWriter, mockWriter);
+    gobblinMCEWriter.tableOperationTypeMap = new HashMap<>();
+
+    String otherDb = "someOtherDB";
+    addTableStatus(dbName, "datasetPath");
+    addTableStatus(otherDb, "otherDatasetPath");
+    when(mockWriter.isConcurrentFlushSupported()).thenReturn(true);
+    Mockito.doThrow(new IOException("Test Exception")).when(exceptionWriter).flush(dbName, tableName);
+
+    gobblinMCEWriter.flush();
+
+    // The failed table is reset by every writer after the failing one, the other table goes through all the writers
+    Mockito.verify(mockWriter, Mockito.times(1)).flush(dbName, tableName);
+    Mockito.verify(exceptionWriter, Mockito.times(1)).reset(dbName, tableName);
+    Mockito.verify(mockWriter, Mockito.times(1)).reset(dbName, tableName);
+    Mockito.verify(mockWriter, Mockito.times(2)).flush(otherDb, tableName);
+    Mockito.verify(exceptionWriter, Mockito.times(1)).flush(otherDb, tableName);
+    Mockito.verify(mockWriter, never()).reset(otherDb, tableName);
+    Assert.assertTrue(gobblinMCEWriter.tableOperationTypeMap.isEmpty());
+  }
+
   @Test(dataProvider = "AllowMockMetadataWriter")
   public void testGetAllowedMetadataWriters(List<String> metadataWriters) {
     Assert.assertNotEquals(mockWriter.getClass().getName(), exceptionWriter.getClass().getName());
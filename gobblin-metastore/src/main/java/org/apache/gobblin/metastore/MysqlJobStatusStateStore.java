@@ -24,9 +24,13 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Timestamp;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import org.apache.commons.lang3.tuple.Pair;
+
 import com.google.common.collect.Lists;
 
 import javax.sql.DataSource;
@@ -46,6 +50,19 @@ import org.apache.gobblin.service.ServiceConfigKeys;
  * @param <T> state object type
  **/
 public class MysqlJobStatusStateStore<T extends State> extends MysqlStateStore<T> implements DatasetStateStore<T> {
+  private static final String SELECT_TABLE_NAMES_WITH_STORE_NAME_LIKE_TEMPLATE =
+      "SELECT store_name, table_name FROM $TABLE$ WHERE store_name like ?";
+
+  private static final String SELECT_JOB_STATE_FOR_FLOW_EXECUTIONS_TEMPLATE = "SELECT state FROM $TABLE$ WHERE ";
+
+  private static final String FLOW_EXECUTION_CONDITION = "(store_name = ? and table_name like ?)";
+
+  // bounds the number of conditions of a single query
+  private static final int MAX_FLOW_EXECUTIONS_PER_QUERY = 500;
+
+  private final String SELECT_TABLE_NAMES_WITH_STORE_NAME_LIKE_SQL;
+  private final String SELECT_JOB_STATE_FOR_FLOW_EXECUTIONS_SQL;
+
   /**
    * Manages the persistence and retrieval of {@link State} in a MySQL database
    * @param dataSource the {@link DataSource} object for connecting to MySQL
@@ -58,6 +75,8 @@ public class MysqlJobStatusStateStore<T extends State> extends MysqlStateStore<T
       Class<T> stateClass)
       throws IOException {
     super(dataSource, stateStoreTableName, compressedValues, stateClass);
+    SELECT_TABLE_NAMES_WITH_STORE_NAME_LIKE_SQL = SELECT_TABLE_NAMES_WITH_STORE_NAME_LIKE_TEMPLATE.replace("$TABLE$", stateStoreTableName);
+    SELECT_JOB_STATE_FOR_FLOW_EXECUTIONS_SQL = SELECT_JOB_STATE_FOR_FLOW_EXECUTIONS_TEMPLATE.replace("$TABLE$", stateStoreTableName);
   }
 
   /**
@@ -81,6 +100,64 @@ public class MysqlJobStatusStateStore<T extends State> extends MysqlStateStore<T
     return getAll(storeNamePrefix + "%", "%", JobStateSearchColumns.STORE_NAME_AND_TABLE_NAME);
   }
 
+  /**
+   * Returns the table names of all the job statuses for a flow group (across all flows), which encode the flow execution
+   * id of each job status, without reading the job statuses themselves
+   * @param storeNamePrefix initial substring (flow group portion) for store name in the state store
+   * @return table names by store name
+   * @throws IOException in case of failures
+   */
+  public Map<String, List<String>> getTableNamesWithPrefix(String storeNamePrefix) throws IOException {
+    Map<String, List<String>> tableNamesByStoreName = new HashMap<>();
+
+    try (Connection connection = dataSource.getConnection();
+        PreparedStatement queryStatement = connection.prepareStatement(SELECT_TABLE_NAMES_WITH_STORE_NAME_LIKE_SQL)) {
+      queryStatement.setString(1, storeNamePrefix + "%");
+
+      try (ResultSet rs = queryStatement.executeQuery()) {
+        while (rs.next()) {
+          tableNamesByStoreName.computeIfAbsent(rs.getString(1), storeName -> Lists.newArrayList()).add(rs.getString(2));
+        }
+      }
+    } catch (SQLException e) {
+      throw new IOException("failure getting table names with store name prefix " + storeNamePrefix, e);
+    }
+
+    return tableNamesByStoreName;
+  }
+
+  /**
+   * Returns all the job statuses for the given flow executions, with as few queries as possible
+   * @param flowExecutionIds flow execution ids by store name in the state store
+   * @return list of states
+   * @throws IOException in case of failures
+   */
+  public List<T> getAll(Map<String, ? extends Collection<Long>> flowExecutionIds) throws IOException {
+    List<Pair<String, Long>> flowExecutions = Lists.newArrayList();
+    flowExecutionIds.forEach((storeName, ids) -> ids.forEach(id -> flowExecutions.add(Pair.of(storeName, id))));
+    List<T> states = Lists.newArrayList();
+
+    for (List<Pair<String, Long>> flowExecutionsOfQuery : Lists.partition(flowExecutions, MAX_FLOW_EXECUTIONS_PER_QUERY)) {
+      String query = SELECT_JOB_STATE_FOR_FLOW_EXECUTIONS_SQL
+          + String.join(" OR ", Collections.nCopies(flowExecutionsOfQuery.size(), FLOW_EXECUTION_CONDITION));
+      try (Connection connection = dataSource.getConnection();
+          PreparedStatement queryStatement = connection.prepareStatement(query)) {
+        int index = 1;
+        for (Pair<String, Long> flowExecution : flowExecutionsOfQuery) {
+          queryStatement.setString(index++, flowExecution.getLeft());
+          queryStatement.setString(index++, flowExecution.getRight() + "%");
+        }
+        execGetAllStatement(queryStatement, states);
+      } catch (RuntimeException re) {
+        throw re;
+      } catch (Exception e) {
+        throw new IOException("failure retrieving states of flow executions " + flowExecutionsOfQuery, e);
+      }
+    }
+
+    return states;
+  }
+
   @Override
   protected String getCreateJobStateTableTemplate() {
     int maxStoreName = ServiceConfigKeys.MAX_FLOW_NAME_LENGTH + ServiceConfigKeys.STATE_STORE_KEY_SEPARATION_CHARACTER.length()
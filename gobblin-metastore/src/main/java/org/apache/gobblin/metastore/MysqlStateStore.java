@@ -437,7 +437,7 @@ public class MysqlStateStore<T extends State> implements StateStore<T> {
    * @throws SQLException
    * @throws Exception
    */
-  private void execGetAllStatement(PreparedStatement queryStatement, List<T> states) throws SQLException, Exception {
+  protected void execGetAllStatement(PreparedStatement queryStatement, List<T> states) throws SQLException, Exception {
     try (ResultSet rs = queryStatement.executeQuery()) {
       while (rs.next()) {
         Blob blob = rs.getBlob(1);
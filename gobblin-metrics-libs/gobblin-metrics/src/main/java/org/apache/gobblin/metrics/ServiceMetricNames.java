@@ -38,6 +38,8 @@ public class ServiceMetricNames {
   public static final String FLOW_COMPILATION_FAILED_METER = GOBBLIN_SERVICE_PREFIX_WITH_DELIMITER + "flowCompilation.failed";
   public static final String FLOW_COMPILATION_TIMER = GOBBLIN_SERVICE_PREFIX_WITH_DELIMITER + "flowCompilation.time";
   public static final String DATA_AUTHORIZATION_TIMER = GOBBLIN_SERVICE_PREFIX_WITH_DELIMITER + "flowCompilation.dataAuthorization.time";
+  public static final String FLOW_COMPILATION_PATH_CACHE_HIT_METER = GOBBLIN_SERVICE_PREFIX_WITH_DELIMITER + "flowCompilation.pathCache.hit";
+  public static final String FLOW_COMPILATION_PATH_CACHE_MISS_METER = GOBBLIN_SERVICE_PREFIX_WITH_DELIMITER + "flowCompilation.pathCache.miss";
 
   // Flow Orchestration Meters and Timer
   public static final String FLOW_ORCHESTRATION_SUCCESSFUL_METER = GOBBLIN_SERVICE_PREFIX_WITH_DELIMITER + "flowOrchestration.successful";
@@ -57,6 +59,8 @@ public class ServiceMetricNames {
   public static final String FLOW_TRIGGER_HANDLER_LEASES_OBTAINED_DUE_TO_REMINDER_COUNT = FLOW_TRIGGER_HANDLER_PREFIX + "leasesObtainedDueToReminderCount";
   public static final String FLOW_TRIGGER_HANDLER_FAILED_TO_RECORD_LEASE_SUCCESS_COUNT = FLOW_TRIGGER_HANDLER_PREFIX + "failedToRecordLeaseSuccessCount";
   public static final String FLOW_TRIGGER_HANDLER_RECORDED_LEASE_SUCCESS_COUNT = FLOW_TRIGGER_HANDLER_PREFIX + "recordedLeaseSuccessCount";
+  public static final String FLOW_TRIGGER_HANDLER_LEASE_BATCH_ACQUISITION_TIMER = FLOW_TRIGGER_HANDLER_PREFIX + "leaseBatchAcquisitionTimer";
+  public static final String FLOW_TRIGGER_HANDLER_LEASE_BATCH_CONFLICT_COUNT = FLOW_TRIGGER_HANDLER_PREFIX + "leaseBatchConflictCount";
 
   public static final String CREATE_FLOW_METER = "CreateFlow";
   public static final String DELETE_FLOW_METER = "DeleteFlow";
@@ -68,13 +72,20 @@ public class ServiceMetricNames {
   public static final String SCHEDULED_FLOW_METER = GOBBLIN_SERVICE_PREFIX_WITH_DELIMITER + "ScheduledFlows";
   public static final String NON_SCHEDULED_FLOW_METER = GOBBLIN_SERVICE_PREFIX_WITH_DELIMITER + "NonScheduledFlows";
   public static final String SKIPPED_FLOWS = GOBBLIN_SERVICE_PREFIX_WITH_DELIMITER + "SkippedFlows";
+  public static final String FLOW_TRIGGER_TIMER_WHEEL_FIRE_DELAY = GOBBLIN_SERVICE_PREFIX_WITH_DELIMITER + "flowTriggerTimerWheel.fireDelay";
+  public static final String FLOW_TRIGGER_TIMER_WHEEL_NUM_TRIGGERS = GOBBLIN_SERVICE_PREFIX_WITH_DELIMITER + "flowTriggerTimerWheel.numTriggers";
   public static final String RUNNING_FLOWS_COUNTER = "RunningFlows";
   public static final String SERVICE_USERS = "ServiceUsers";
   public static final String COMPILED = "Compiled";
   public static final String RUNNING_STATUS = "RunningStatus";
   public static final String JOBS_SENT_TO_SPEC_EXECUTOR = "JobsSentToSpecExecutor";
+  public static final String SPEC_EXECUTOR_RUNNING_JOBS = "SpecExecutorRunningJobs";
+  public static final String SPEC_EXECUTOR_JOB_START_LATENCY = "SpecExecutorJobStartLatencyMillis";
 
   public static final String FLOWGRAPH_UPDATE_FAILED_METER = GOBBLIN_SERVICE_PREFIX_WITH_DELIMITER + "FlowgraphUpdateFailed";
+  public static final String FLOWGRAPH_UPDATE_TIMER = GOBBLIN_SERVICE_PREFIX_WITH_DELIMITER + "FlowgraphUpdateTime";
+  public static final String FLOWGRAPH_UPDATE_CHANGED_EDGES_METER = GOBBLIN_SERVICE_PREFIX_WITH_DELIMITER + "FlowgraphUpdateChangedEdges";
+  public static final String FLOWGRAPH_FULL_RELOAD_METER = GOBBLIN_SERVICE_PREFIX_WITH_DELIMITER + "FlowgraphFullReload";
   public static final String DAG_COUNT_MYSQL_DAG_STATE_COUNT = GOBBLIN_SERVICE_PREFIX_WITH_DELIMITER + "MysqlDagStateStore" + ".totalDagCount";
   public static final String DAG_COUNT_FS_DAG_STATE_COUNT = GOBBLIN_SERVICE_PREFIX_WITH_DELIMITER + "FsDagStateStore" + ".totalDagCount";
   public static final String DAG_PROCESSING_EXCEPTION_METER = "DagProcessingException";
@@ -102,5 +113,7 @@ public class ServiceMetricNames {
   public static final String DAG_ACTIONS_DELETE_SUCCEEDED = DAG_PROCESSING_ENGINE_PREFIX + "dagActionsDeleteSucceeded.";
   public static final String DAG_ACTIONS_DELETE_FAILED = DAG_PROCESSING_ENGINE_PREFIX + "dagActionsDeleteFailed.";
   public static final String DAG_ACTIONS_AVERAGE_PROCESSING_DELAY_MILLIS = DAG_PROCESSING_ENGINE_PREFIX + "dagActionsAvgProcessingDelayMillis.";
+  public static final String DAG_TASK_STREAM_SHARD_QUEUE_SIZE = DAG_PROCESSING_ENGINE_PREFIX + "dagTaskStreamShardQueueSize.";
+  public static final String DAG_TASK_STREAM_SHARD_DISPATCH_LATENCY = DAG_PROCESSING_ENGINE_PREFIX + "dagTaskStreamShardDispatchLatency.";
   public static final String DAG_PROCESSING_NON_RETRYABLE_EXCEPTION_METER = "DagProcessingNonRetryableException";
 }
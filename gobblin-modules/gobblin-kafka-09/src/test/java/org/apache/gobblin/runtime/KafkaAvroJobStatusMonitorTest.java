@@ -75,6 +75,7 @@ import org.apache.gobblin.metrics.kafka.KafkaAvroEventKeyValueReporter;
 import org.apache.gobblin.metrics.kafka.KafkaEventReporter;
 import org.apache.gobblin.metrics.kafka.KafkaKeyValueProducerPusher;
 import org.apache.gobblin.metrics.kafka.Pusher;
+import org.apache.gobblin.runtime.kafka.HighLevelConsumer;
 import org.apache.gobblin.runtime.troubleshooter.InMemoryMultiContextIssueRepository;
 import org.apache.gobblin.runtime.troubleshooter.IssueTestDataProvider;
 import org.apache.gobblin.runtime.troubleshooter.JobIssueEventHandler;
@@ -959,6 +960,58 @@ public class KafkaAvroJobStatusMonitorTest {
     jobStatusMonitor.shutDown();
   }
 
+  @Test (dependsOnMethods = "testObservabilityEventFlowFailed")
+  public void testProcessMessagesInBatch() throws IOException, ReflectiveOperationException {
+    DagManagementStateStore dagManagementStateStore = mock(DagManagementStateStore.class);
+    KafkaEventReporter kafkaReporter = builder.build("localhost:0000", "topic8");
+
+    //Submit GobblinTrackingEvents to Kafka
+    ImmutableList.of(
+        createFlowCompiledEvent(),
+        createJobOrchestratedEvent(1, 2),
+        createJobStartEvent(),
+        createJobSucceededEvent(),
+        createDummyEvent(),
+        createJobStartEvent()
+    ).forEach(event -> {
+      context.submitEvent(event);
+      kafkaReporter.report();
+    });
+
+    try {
+      Thread.sleep(1000);
+    } catch(InterruptedException ex) {
+      Thread.currentThread().interrupt();
+    }
+    Config config = ConfigFactory.empty()
+        .withValue(HighLevelConsumer.MESSAGE_BATCH_MAX_RECORDS_KEY, ConfigValueFactory.fromAnyRef(10));
+    MockKafkaAvroJobStatusMonitor jobStatusMonitor = createMockKafkaAvroJobStatusMonitor(new AtomicBoolean(false), config,
+        new NoopGaaSJobObservabilityEventProducer(), dagManagementStateStore);
+    jobStatusMonitor.buildMetricsContextAndMetrics();
+
+    Iterator<DecodeableKafkaRecord<byte[], byte[]>> recordIterator = Iterators.transform(
+        this.kafkaTestHelper.getIteratorForTopic(TOPIC),
+        this::convertMessageAndMetadataToDecodableKafkaRecord);
+    List<DecodeableKafkaRecord<byte[], byte[]>> records = Lists.newArrayList(Iterators.limit(recordIterator, 6));
+    jobStatusMonitor.processMessages(records);
+
+    StateStore<State> stateStore = jobStatusMonitor.getStateStore();
+    String storeName = KafkaJobStatusMonitor.jobStatusStoreName(flowGroup, flowName);
+    List<State> flowStates = stateStore.getAll(storeName, KafkaJobStatusMonitor.jobStatusTableName(this.flowExecutionId, "NA", "NA"));
+    Assert.assertEquals(flowStates.size(), 1);
+    Assert.assertEquals(flowStates.get(0).getProp(JobStatusRetriever.EVENT_NAME_FIELD), ExecutionStatus.COMPILED.name());
+
+    // the events of the job are merged in order, so the late start event does not override its completion
+    List<State> jobStates = stateStore.getAll(storeName, KafkaJobStatusMonitor.jobStatusTableName(this.flowExecutionId, this.jobGroup, this.jobName));
+    Assert.assertEquals(jobStates.size(), 1);
+    Assert.assertEquals(jobStates.get(0).getProp(JobStatusRetriever.EVENT_NAME_FIELD), ExecutionStatus.COMPLETE.name());
+    Mockito.verify(dagManagementStateStore, Mockito.times(1)).addJobDagAction(any(), any(),
+        anyLong(), any(), eq(DagActionStore.DagActionType.REEVALUATE));
+    Mockito.verify(dagManagementStateStore, Mockito.times(1)).deleteDagAction(eq(this.enforceJobStartDeadlineDagAction));
+
+    jobStatusMonitor.shutDown();
+  }
+
   private State getNextJobStatusState(MockKafkaAvroJobStatusMonitor jobStatusMonitor, Iterator<DecodeableKafkaRecord<byte[], byte[]>> recordIterator,
       String jobGroup, String jobName) throws IOException {
     jobStatusMonitor.processMessage(recordIterator.next());
@@ -1148,6 +1201,11 @@ public class KafkaAvroJobStatusMonitorTest {
       super.processMessage(record);
     }
 
+    @Override
+    protected void processMessages(List<DecodeableKafkaRecord<byte[], byte[]>> records) {
+      super.processMessages(records);
+    }
+
     @Override
     protected void buildMetricsContextAndMetrics() {
       super.buildMetricsContextAndMetrics();
@@ -35,6 +35,7 @@ import com.google.protobuf.Message;
 import lombok.extern.slf4j.Slf4j;
 
 import org.apache.gobblin.parquet.writer.AbstractParquetDataWriterBuilder;
+import org.apache.gobblin.parquet.writer.ParquetRowGroupAccessor;
 import org.apache.gobblin.parquet.writer.ParquetWriterConfiguration;
 import org.apache.gobblin.parquet.writer.ParquetWriterShim;
 
@@ -100,6 +101,7 @@ public class ParquetDataWriterBuilder<S,D> extends AbstractParquetDataWriterBuil
       default: throw new RuntimeException("Record format not supported");
     }
     ParquetWriter finalVersionSpecificWriter = versionSpecificWriter;
+    ParquetRowGroupAccessor rowGroupAccessor = new ParquetRowGroupAccessor(finalVersionSpecificWriter);
 
     return new ParquetWriterShim() {
       @Override
@@ -108,6 +110,16 @@ public class ParquetDataWriterBuilder<S,D> extends AbstractParquetDataWriterBuil
         finalVersionSpecificWriter.write(record);
       }
 
+      @Override
+      public long getBufferedSize() {
+        return rowGroupAccessor.getBufferedSize();
+      }
+
+      @Override
+      public void requestRowGroupFlush() {
+        rowGroupAccessor.requestFlush();
+      }
+
       @Override
       public void close()
           throws IOException {
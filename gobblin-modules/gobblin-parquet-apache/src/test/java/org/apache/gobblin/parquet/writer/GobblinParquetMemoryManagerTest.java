@@ -0,0 +1,133 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.gobblin.parquet.writer;
+
+import java.io.File;
+import java.io.IOException;
+
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.Path;
+import org.apache.parquet.column.ParquetProperties;
+import org.apache.parquet.example.data.Group;
+import org.apache.parquet.hadoop.ParquetWriter;
+import org.apache.parquet.hadoop.example.GroupWriteSupport;
+import org.apache.parquet.hadoop.metadata.CompressionCodecName;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import com.google.common.io.Files;
+
+import org.apache.gobblin.metrics.MetricContext;
+import org.apache.gobblin.test.TestRecord;
+import org.apache.gobblin.writer.TestConstants;
+
+
+@Test(groups = {"gobblin.writer"})
+public class GobblinParquetMemoryManagerTest {
+
+  @Test
+  public void testMetricsAreRegistered() {
+    MetricContext metricContext = MetricContext.builder("testMetrics").build();
+    GobblinParquetMemoryManager manager = new GobblinParquetMemoryManager(100L, 10L, metricContext);
+    manager.addWriter(new Path("/tmp/metrics"), 50L);
+
+    Assert.assertEquals(metricContext.getGauges().get(GobblinParquetMemoryManager.OPEN_WRITERS_GAUGE).getValue(), 1);
+    Assert.assertTrue(metricContext.getGauges().containsKey(GobblinParquetMemoryManager.BUFFERED_BYTES_GAUGE));
+    Assert.assertTrue(metricContext.getGauges().containsKey(GobblinParquetMemoryManager.ALLOCATION_SCALE_GAUGE));
+    Assert.assertTrue(metricContext.getCounters().containsKey(GobblinParquetMemoryManager.FORCED_FLUSHES_COUNTER));
+  }
+
+  @Test
+  public void testRowGroupSizeIsScaledToPool() {
+    GobblinParquetMemoryManager manager =
+        new GobblinParquetMemoryManager(100L, 10L, MetricContext.builder("testScaling").build());
+
+    GobblinParquetMemoryManager.WriterEntry first = manager.addWriter(new Path("/tmp/first"), 50L);
+    Assert.assertEquals(manager.getRowGroupSize(first), 50L);
+    Assert.assertEquals(manager.getAllocationScale(), 1.0);
+
+    GobblinParquetMemoryManager.WriterEntry second = manager.addWriter(new Path("/tmp/second"), 150L);
+    Assert.assertEquals(manager.getAllocationScale(), 0.5);
+    Assert.assertEquals(manager.getRowGroupSize(second), 75L);
+
+    GobblinParquetMemoryManager.WriterEntry third = manager.addWriter(new Path("/tmp/third"), 800L);
+    // scale is 0.1, the first writer is bounded by the minimum row group size
+    Assert.assertEquals(manager.getRowGroupSize(first), 10L);
+    Assert.assertEquals(manager.getRowGroupSize(third), 80L);
+    Assert.assertEquals(manager.getOpenWriters(), 3);
+
+    manager.removeWriter(third);
+    manager.removeWriter(third);
+    Assert.assertEquals(manager.getOpenWriters(), 2);
+    Assert.assertEquals(manager.getAllocationScale(), 0.5);
+  }
+
+  @Test
+  public void testLargestWriterIsFlushedWhenPoolIsExhausted() {
+    GobblinParquetMemoryManager manager =
+        new GobblinParquetMemoryManager(100L, 10L, MetricContext.builder("testFlush").build());
+    GobblinParquetMemoryManager.WriterEntry small = manager.addWriter(new Path("/tmp/small"), 100L);
+    GobblinParquetMemoryManager.WriterEntry large = manager.addWriter(new Path("/tmp/large"), 100L);
+
+    small.updateBufferedSize(30L);
+    large.updateBufferedSize(60L);
+    manager.checkMemory();
+    Assert.assertEquals(manager.getTotalBufferedBytes(), 90L);
+    Assert.assertFalse(small.pollFlushRequest());
+    Assert.assertFalse(large.pollFlushRequest());
+
+    large.updateBufferedSize(80L);
+    manager.checkMemory();
+    Assert.assertEquals(manager.getTotalBufferedBytes(), 110L);
+    Assert.assertFalse(small.pollFlushRequest());
+    Assert.assertTrue(large.pollFlushRequest());
+    // the request is consumed by the first poll
+    Assert.assertFalse(large.pollFlushRequest());
+
+    manager.removeWriter(large);
+    Assert.assertEquals(manager.getTotalBufferedBytes(), 30L);
+  }
+
+  @Test
+  public void testRowGroupAccessorFlushesParquetWriter() throws IOException {
+    File tmpDir = Files.createTempDir();
+    tmpDir.deleteOnExit();
+    Configuration conf = new Configuration();
+    GroupWriteSupport.setSchema(TestConstants.PARQUET_SCHEMA, conf);
+    ParquetWriter<Group> writer = new ParquetWriter<>(new Path(tmpDir.getAbsolutePath(), "accessor.parquet"),
+        new GroupWriteSupport(), CompressionCodecName.UNCOMPRESSED, ParquetWriter.DEFAULT_BLOCK_SIZE,
+        ParquetWriter.DEFAULT_PAGE_SIZE, ParquetWriter.DEFAULT_PAGE_SIZE, true, false,
+        ParquetProperties.WriterVersion.PARQUET_1_0, conf);
+    ParquetRowGroupAccessor accessor = new ParquetRowGroupAccessor(writer);
+    Assert.assertTrue(accessor.isEnabled());
+
+    TestConstants testConstants = new TestConstants();
+    try {
+      for (int i = 0; i < 1000; i++) {
+        writer.write(testConstants.convertToParquetGroup(new TestRecord(0, i, "payload-" + i)));
+      }
+      long bufferedBeforeFlush = accessor.getBufferedSize();
+      Assert.assertTrue(bufferedBeforeFlush > 0);
+
+      accessor.requestFlush();
+      writer.write(testConstants.convertToParquetGroup(new TestRecord(0, 1000, "payload-1000")));
+      Assert.assertTrue(accessor.getBufferedSize() < bufferedBeforeFlush);
+    } finally {
+      writer.close();
+    }
+  }
+}
@@ -0,0 +1,215 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.gobblin.parquet.writer;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.hadoop.fs.Path;
+
+import com.codahale.metrics.Counter;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import org.apache.gobblin.configuration.State;
+import org.apache.gobblin.instrumented.Instrumented;
+import org.apache.gobblin.metrics.MetricContext;
+
+
+/**
+ * A container-level memory manager for {@link ParquetHdfsDataWriter}s, similar in spirit to the ORC
+ * {@code MemoryManagerImpl} used through {@code GobblinOrcMemoryManager}.
+ *
+ * <p>
+ *   The manager owns a memory pool sized as a ratio of the max heap. Each writer registers the row group size it would
+ *   like to use and gets back a size scaled down so that the row groups of all open writers fit into the pool, bounded
+ *   below by a minimum row group size. Writers periodically report in through {@link #checkMemory()}: when the bytes
+ *   buffered by all open writers exceed the pool, the writer with the largest buffer is asked to flush its row group.
+ *   The flush is performed by the owning writer on its own thread the next time it writes a record.
+ * </p>
+ *
+ * <p>
+ *   The manager exposes the total buffered bytes, the number of open writers and the number of forced flushes as
+ *   metrics.
+ * </p>
+ */
+@Slf4j
+public class GobblinParquetMemoryManager {
+  public static final String BUFFERED_BYTES_GAUGE = "parquetWriter.memoryManager.bufferedBytes";
+  public static final String OPEN_WRITERS_GAUGE = "parquetWriter.memoryManager.openWriters";
+  public static final String ALLOCATION_SCALE_GAUGE = "parquetWriter.memoryManager.allocationScale";
+  public static final String FORCED_FLUSHES_COUNTER = "parquetWriter.memoryManager.forcedFlushes";
+
+  private static GobblinParquetMemoryManager instance;
+  private static double instancePoolRatio;
+
+  @Getter
+  private final long totalMemoryPool;
+  private final long minRowGroupSize;
+  private final Map<Path, WriterEntry> writers = new HashMap<>();
+  private long totalRequestedAllocation = 0L;
+  private final AtomicLong totalBufferedBytes = new AtomicLong(0L);
+  private final Counter forcedFlushes;
+
+  /**
+   * Book-keeping for one open writer.
+   */
+  public static class WriterEntry {
+    @Getter
+    private final Path path;
+    @Getter
+    private final long requestedAllocation;
+    private final AtomicBoolean flushRequested = new AtomicBoolean(false);
+    private volatile long lastBufferedSize = 0L;
+
+    WriterEntry(Path path, long requestedAllocation) {
+      this.path = path;
+      this.requestedAllocation = requestedAllocation;
+    }
+
+    /**
+     * @return true (and clears the request) if the manager asked this writer to flush its row group.
+     */
+    public boolean pollFlushRequest() {
+      return this.flushRequested.compareAndSet(true, false);
+    }
+
+    /**
+     * Record the buffered size observed by the writer thread, so that the manager never calls into a writer
+     * concurrently with the thread writing to it.
+     */
+    public void updateBufferedSize(long bufferedSize) {
+      this.lastBufferedSize = bufferedSize;
+    }
+  }
+
+  /**
+   * @return the memory manager shared by all Parquet writers in this JVM.
+   *
+   * <p>
+   *   The pool ratio and minimum row group size are container settings: they are read from the {@link State} of the
+   *   first writer in the JVM and stay fixed for its lifetime, which may span several jobs. A later writer configured
+   *   with different values keeps using the existing pool, and a warning is logged. The metrics are reported in a
+   *   context that carries no job tags, since the manager outlives the job that created it.
+   * </p>
+   */
+  public static synchronized GobblinParquetMemoryManager getInstance(State state) {
+    double poolRatio = state.getPropAsDouble(ParquetWriterConfiguration.WRITER_PARQUET_MEMORY_POOL_RATIO,
+        ParquetWriterConfiguration.DEFAULT_PARQUET_MEMORY_POOL_RATIO);
+    long minRowGroupSize = state.getPropAsLong(ParquetWriterConfiguration.WRITER_PARQUET_MEMORY_MIN_ROW_GROUP_SIZE,
+        ParquetWriterConfiguration.DEFAULT_PARQUET_MEMORY_MIN_ROW_GROUP_SIZE);
+    if (instance == null) {
+      instance = new GobblinParquetMemoryManager((long) (Runtime.getRuntime().maxMemory() * poolRatio),
+          minRowGroupSize, Instrumented.getMetricContext(new State(), GobblinParquetMemoryManager.class));
+      instancePoolRatio = poolRatio;
+    } else if (poolRatio != instancePoolRatio || minRowGroupSize != instance.minRowGroupSize) {
+      log.warn("Ignoring Parquet memory manager settings (pool ratio {}, min row group size {}), the container-wide "
+          + "manager was created with pool ratio {} and min row group size {}", poolRatio, minRowGroupSize,
+          instancePoolRatio, instance.minRowGroupSize);
+    }
+    return instance;
+  }
+
+  @VisibleForTesting
+  public GobblinParquetMemoryManager(long totalMemoryPool, long minRowGroupSize, MetricContext metricContext) {
+    Preconditions.checkArgument(totalMemoryPool > 0, "Parquet memory pool must be positive");
+    this.totalMemoryPool = totalMemoryPool;
+    this.minRowGroupSize = minRowGroupSize;
+    metricContext.register(metricContext.newContextAwareGauge(BUFFERED_BYTES_GAUGE, this.totalBufferedBytes::get));
+    metricContext.register(metricContext.newContextAwareGauge(OPEN_WRITERS_GAUGE, this::getOpenWriters));
+    metricContext.register(metricContext.newContextAwareGauge(ALLOCATION_SCALE_GAUGE, this::getAllocationScale));
+    this.forcedFlushes = metricContext.counter(FORCED_FLUSHES_COUNTER);
+    log.info("The pool reserved for Parquet memory manager is: {}", this.totalMemoryPool);
+  }
+
+  /**
+   * Register a writer that is about to be opened.
+   * @param path the file the writer writes to, used as the writer's identity
+   * @param requestedRowGroupSize the configured row group size for the writer
+   * @return the {@link WriterEntry} tracking the writer, see {@link #getRowGroupSize(WriterEntry)} for its row group size
+   */
+  public synchronized WriterEntry addWriter(Path path, long requestedRowGroupSize) {
+    Preconditions.checkArgument(!this.writers.containsKey(path), "Writer for path %s is already registered", path);
+    WriterEntry entry = new WriterEntry(path, requestedRowGroupSize);
+    this.writers.put(path, entry);
+    this.totalRequestedAllocation += requestedRowGroupSize;
+    log.info("Adding Parquet writer for path {}, current allocation scale: {}", path, getAllocationScale());
+    return entry;
+  }
+
+  /**
+   * @return the row group size the writer of the given entry should use, scaled to fit all open writers in the pool.
+   */
+  public synchronized long getRowGroupSize(WriterEntry entry) {
+    long scaled = (long) (entry.getRequestedAllocation() * getAllocationScale());
+    return Math.min(entry.getRequestedAllocation(), Math.max(this.minRowGroupSize, scaled));
+  }
+
+  public synchronized void removeWriter(WriterEntry entry) {
+    if (this.writers.remove(entry.getPath()) != null) {
+      this.totalRequestedAllocation -= entry.getRequestedAllocation();
+      this.totalBufferedBytes.addAndGet(-entry.lastBufferedSize);
+      log.info("Closing Parquet writer for path {}, current allocation scale: {}", entry.getPath(),
+          getAllocationScale());
+    }
+  }
+
+  /**
+   * Recompute the buffered bytes across all open writers from their last reported sizes and, if the pool is
+   * exhausted, ask the writer with the largest buffer to flush its row group.
+   */
+  public synchronized void checkMemory() {
+    long total = 0L;
+    WriterEntry largest = null;
+    for (WriterEntry entry : this.writers.values()) {
+      total += entry.lastBufferedSize;
+      if (!entry.flushRequested.get() && (largest == null || entry.lastBufferedSize > largest.lastBufferedSize)) {
+        largest = entry;
+      }
+    }
+    this.totalBufferedBytes.set(total);
+    if (total > this.totalMemoryPool && largest != null && largest.lastBufferedSize > 0) {
+      log.info("Parquet writers buffer {} bytes which exceeds the pool of {} bytes, flushing writer for {} with {} bytes",
+          total, this.totalMemoryPool, largest.getPath(), largest.lastBufferedSize);
+      largest.flushRequested.set(true);
+      this.forcedFlushes.inc();
+    }
+  }
+
+  public synchronized int getOpenWriters() {
+    return this.writers.size();
+  }
+
+  /**
+   * @return the ratio by which requested row group sizes are scaled, at most 1.
+   */
+  public synchronized double getAllocationScale() {
+    if (this.totalRequestedAllocation <= this.totalMemoryPool) {
+      return 1.0;
+    }
+    return (double) this.totalMemoryPool / this.totalRequestedAllocation;
+  }
+
+  public long getTotalBufferedBytes() {
+    return this.totalBufferedBytes.get();
+  }
+}
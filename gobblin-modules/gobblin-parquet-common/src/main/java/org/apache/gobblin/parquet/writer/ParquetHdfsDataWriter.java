@@ -19,6 +19,8 @@ package org.apache.gobblin.parquet.writer;
 import java.io.IOException;
 import java.util.concurrent.atomic.AtomicLong;
 
+import com.google.common.base.Optional;
+
 import org.apache.gobblin.configuration.State;
 import org.apache.gobblin.writer.FsDataWriter;
 
@@ -31,23 +33,55 @@ import org.apache.gobblin.writer.FsDataWriter;
  *   through {@link ParquetWriterConfiguration} to write data.
  * </p>
  *
+ * <p>
+ *   When {@link ParquetWriterConfiguration#WRITER_PARQUET_MEMORY_MANAGER_ENABLED} is set, the row group size and the
+ *   buffered bytes of this writer are managed by the container-level {@link GobblinParquetMemoryManager}.
+ * </p>
+ *
  * @author tilakpatidar
  */
 public class ParquetHdfsDataWriter<D> extends FsDataWriter<D> {
   private final ParquetWriterShim writer;
   protected final AtomicLong count = new AtomicLong(0);
+  private final Optional<GobblinParquetMemoryManager> memoryManager;
+  private final GobblinParquetMemoryManager.WriterEntry memoryManagerEntry;
+  private final int rowsBetweenMemoryChecks;
 
   public ParquetHdfsDataWriter(AbstractParquetDataWriterBuilder builder, State state)
       throws IOException {
     super(builder, state);
-    this.writer = builder.getWriter((int) this.blockSize, this.stagingFile);
+    this.rowsBetweenMemoryChecks = state.getPropAsInt(ParquetWriterConfiguration.WRITER_PARQUET_MEMORY_ROWS_BETWEEN_CHECKS,
+        ParquetWriterConfiguration.DEFAULT_PARQUET_MEMORY_ROWS_BETWEEN_CHECKS);
+    if (state.getPropAsBoolean(ParquetWriterConfiguration.WRITER_PARQUET_MEMORY_MANAGER_ENABLED,
+        ParquetWriterConfiguration.DEFAULT_PARQUET_MEMORY_MANAGER_ENABLED)) {
+      this.memoryManager = Optional.of(GobblinParquetMemoryManager.getInstance(state));
+      this.memoryManagerEntry = this.memoryManager.get().addWriter(this.stagingFile, this.blockSize);
+      try {
+        this.writer = builder.getWriter((int) this.memoryManager.get().getRowGroupSize(this.memoryManagerEntry),
+            this.stagingFile);
+      } catch (IOException | RuntimeException e) {
+        this.memoryManager.get().removeWriter(this.memoryManagerEntry);
+        throw e;
+      }
+    } else {
+      this.memoryManager = Optional.absent();
+      this.memoryManagerEntry = null;
+      this.writer = builder.getWriter((int) this.blockSize, this.stagingFile);
+    }
   }
 
   @Override
   public void write(D record)
       throws IOException {
+    if (this.memoryManager.isPresent() && this.memoryManagerEntry.pollFlushRequest()) {
+      this.writer.requestRowGroupFlush();
+    }
     this.writer.write(record);
-    this.count.incrementAndGet();
+    long written = this.count.incrementAndGet();
+    if (this.memoryManager.isPresent() && written % this.rowsBetweenMemoryChecks == 0) {
+      this.memoryManagerEntry.updateBufferedSize(this.writer.getBufferedSize());
+      this.memoryManager.get().checkMemory();
+    }
   }
 
   @Override
@@ -61,6 +95,9 @@ public class ParquetHdfsDataWriter<D> extends FsDataWriter<D> {
     try {
       this.writer.close();
     } finally {
+      if (this.memoryManager.isPresent()) {
+        this.memoryManager.get().removeWriter(this.memoryManagerEntry);
+      }
       super.close();
     }
   }
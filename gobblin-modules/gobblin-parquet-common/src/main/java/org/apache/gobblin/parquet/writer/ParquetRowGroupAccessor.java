@@ -0,0 +1,135 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.gobblin.parquet.writer;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+
+import lombok.extern.slf4j.Slf4j;
+
+
+/**
+ * Exposes the buffered size of the open row group of an {@code org.apache.parquet.hadoop.ParquetWriter} and lets a
+ * caller request an early row group flush.
+ *
+ * <p>
+ *   Parquet does not expose either operation publicly, so this class reaches into the {@code InternalParquetRecordWriter}
+ *   held by the writer. A flush is requested by resetting the next row group size and memory check count, which makes
+ *   the writer flush its row group on the next {@code write} and then recompute both values from its own configuration.
+ *   If the internals cannot be resolved (e.g. a different Parquet version), the accessor is disabled: it reports
+ *   0 buffered bytes and ignores flush requests.
+ * </p>
+ *
+ * <p>
+ *   This class is not thread safe and must be used from the thread that writes to the underlying writer.
+ * </p>
+ */
+@Slf4j
+public class ParquetRowGroupAccessor {
+  private static final String INTERNAL_WRITER_FIELD = "writer";
+  private static final String COLUMN_STORE_FIELD = "columnStore";
+  private static final String NEXT_ROW_GROUP_SIZE_FIELD = "nextRowGroupSize";
+  private static final String RECORD_COUNT_FOR_NEXT_MEM_CHECK_FIELD = "recordCountForNextMemCheck";
+  private static final String GET_BUFFERED_SIZE_METHOD = "getBufferedSize";
+
+  private final Object internalWriter;
+  private Field columnStoreField;
+  private Field nextRowGroupSizeField;
+  private Field recordCountForNextMemCheckField;
+  private Method getBufferedSizeMethod;
+  private boolean enabled;
+
+  public ParquetRowGroupAccessor(Object parquetWriter) {
+    Object resolvedWriter = null;
+    try {
+      Field writerField = getField(parquetWriter.getClass(), INTERNAL_WRITER_FIELD);
+      resolvedWriter = writerField.get(parquetWriter);
+      Class<?> internalWriterClass = resolvedWriter.getClass();
+      this.columnStoreField = getField(internalWriterClass, COLUMN_STORE_FIELD);
+      this.nextRowGroupSizeField = getField(internalWriterClass, NEXT_ROW_GROUP_SIZE_FIELD);
+      this.recordCountForNextMemCheckField = getField(internalWriterClass, RECORD_COUNT_FOR_NEXT_MEM_CHECK_FIELD);
+      this.enabled = true;
+    } catch (ReflectiveOperationException | RuntimeException e) {
+      log.warn("Unable to access row group internals of {}, memory management is disabled for this writer",
+          parquetWriter.getClass().getName(), e);
+      this.enabled = false;
+    }
+    this.internalWriter = resolvedWriter;
+  }
+
+  /**
+   * @return the number of bytes buffered in memory for the open row group, or 0 if it cannot be determined.
+   */
+  public long getBufferedSize() {
+    if (!this.enabled) {
+      return 0L;
+    }
+    try {
+      Object columnStore = this.columnStoreField.get(this.internalWriter);
+      if (columnStore == null) {
+        return 0L;
+      }
+      if (this.getBufferedSizeMethod == null) {
+        // The column store is re-created after each row group but always with the same implementation class
+        this.getBufferedSizeMethod = columnStore.getClass().getMethod(GET_BUFFERED_SIZE_METHOD);
+        this.getBufferedSizeMethod.setAccessible(true);
+      }
+      return (long) this.getBufferedSizeMethod.invoke(columnStore);
+    } catch (ReflectiveOperationException | RuntimeException e) {
+      disable(e);
+      return 0L;
+    }
+  }
+
+  /**
+   * Make the writer flush its open row group on the next record written.
+   */
+  public void requestFlush() {
+    if (!this.enabled) {
+      return;
+    }
+    try {
+      this.nextRowGroupSizeField.setLong(this.internalWriter, 0L);
+      this.recordCountForNextMemCheckField.setLong(this.internalWriter, 0L);
+    } catch (ReflectiveOperationException | RuntimeException e) {
+      disable(e);
+    }
+  }
+
+  public boolean isEnabled() {
+    return this.enabled;
+  }
+
+  private void disable(Exception e) {
+    log.warn("Failed to access row group internals of {}, disabling memory management for this writer",
+        this.internalWriter.getClass().getName(), e);
+    this.enabled = false;
+  }
+
+  private static Field getField(Class<?> klazz, String name) throws NoSuchFieldException {
+    for (Class<?> current = klazz; current != null; current = current.getSuperclass()) {
+      try {
+        Field field = current.getDeclaredField(name);
+        field.setAccessible(true);
+        return field;
+      } catch (NoSuchFieldException e) {
+        // keep looking in the super class
+      }
+    }
+    throw new NoSuchFieldException(name + " not found in " + klazz.getName());
+  }
+}
@@ -47,6 +47,22 @@ public class ParquetWriterConfiguration {
   public static final String WRITER_PARQUET_FORMAT = WRITER_PREFIX + ".parquet.format";
   public static final String DEFAULT_PARQUET_FORMAT = "group";
 
+  /**
+   * Container-level memory management for Parquet writers, see {@link GobblinParquetMemoryManager}. These keys are
+   * not branch specific. The pool ratio and minimum row group size are read from the first writer opened in the
+   * container and apply to every later job it runs, so they belong in the container configuration.
+   */
+  public static final String WRITER_PARQUET_MEMORY_MANAGER_ENABLED = WRITER_PREFIX + ".parquet.memoryManager.enabled";
+  public static final boolean DEFAULT_PARQUET_MEMORY_MANAGER_ENABLED = false;
+  public static final String WRITER_PARQUET_MEMORY_POOL_RATIO = WRITER_PREFIX + ".parquet.memoryManager.pool.ratio";
+  public static final double DEFAULT_PARQUET_MEMORY_POOL_RATIO = 0.5;
+  public static final String WRITER_PARQUET_MEMORY_MIN_ROW_GROUP_SIZE =
+      WRITER_PREFIX + ".parquet.memoryManager.minRowGroupSize";
+  public static final long DEFAULT_PARQUET_MEMORY_MIN_ROW_GROUP_SIZE = 1024 * 1024;
+  public static final String WRITER_PARQUET_MEMORY_ROWS_BETWEEN_CHECKS =
+      WRITER_PREFIX + ".parquet.memoryManager.rowsBetweenChecks";
+  public static final int DEFAULT_PARQUET_MEMORY_ROWS_BETWEEN_CHECKS = 5000;
+
 
 
   public static final int DEFAULT_BLOCK_SIZE = 128 * 1024 * 1024;
@@ -27,4 +27,18 @@ import java.io.IOException;
 public interface ParquetWriterShim<D> extends Closeable {
   void write(D record)
       throws IOException;
+
+  /**
+   * @return the number of bytes buffered in memory for the open row group, or 0 if the writer does not expose it.
+   */
+  default long getBufferedSize() {
+    return 0L;
+  }
+
+  /**
+   * Ask the writer to flush its open row group to the file system as part of the next {@link #write(Object)}.
+   * Writers that do not support early flushes ignore the request.
+   */
+  default void requestRowGroupFlush() {
+  }
 }
@@ -32,6 +32,7 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import org.apache.commons.math3.util.Pair;
 import org.slf4j.Logger;
@@ -106,6 +107,7 @@ public class GobblinMultiTaskAttempt {
   }
 
   private static final String TASK_STATE_STORE_SUCCESS_MARKER_SUFFIX = ".suc";
+  private static final String TASK_STATE_STORE_BATCH_INFIX = ".batch";
   private final Logger log;
   private final Iterator<WorkUnit> workUnits;
   private final String jobId;
@@ -318,7 +320,8 @@ public class GobblinMultiTaskAttempt {
     this.stopped.set(true);
   }
 
-  private void persistTaskStateStore()
+  @VisibleForTesting
+  void persistTaskStateStore()
       throws IOException {
     if (!this.taskStateStoreOptional.isPresent()) {
       log.info("Task state store does not exist.");
@@ -335,17 +338,36 @@ public class GobblinMultiTaskAttempt {
       }
     }
 
+    boolean batchEnabled = this.jobState.getPropAsBoolean(ConfigurationKeys.TASK_STATE_STORE_BATCH_ENABLED,
+        ConfigurationKeys.DEFAULT_TASK_STATE_STORE_BATCH_ENABLED);
+    String batchTableName = this.tasks.isEmpty() ? null
+        : this.tasks.get(0).getTaskId() + TASK_STATE_STORE_BATCH_INFIX + AbstractJobLauncher.TASK_STATE_STORE_TABLE_SUFFIX;
+    // Likewise delete the batch file of task states an earlier attempt of these tasks may have written, which would
+    // otherwise count the task states twice. It is named after the first task, as below.
+    if (batchEnabled && batchTableName != null && taskStateStore.exists(jobId, batchTableName)) {
+      taskStateStore.delete(jobId, batchTableName);
+    }
+
     boolean hasTaskFailure = false;
     for (Task task : tasks) {
-      log.info("Writing task state for task " + task.getTaskId());
-      taskStateStore.put(task.getJobId(), task.getTaskId() + AbstractJobLauncher.TASK_STATE_STORE_TABLE_SUFFIX,
-          task.getTaskState());
-
       if (task.getTaskState().getWorkingState() == WorkUnitState.WorkingState.FAILED) {
         hasTaskFailure = true;
       }
     }
 
+    // A single file for all the task states saves writing, listing, reading and deleting one file per task. When a task
+    // failed, the task states are rather written one per file, for those of its reattempt to replace.
+    if (!hasTaskFailure && tasks.size() > 1 && batchEnabled) {
+      log.info("Writing task states for {} tasks to {}", tasks.size(), batchTableName);
+      taskStateStore.putAll(this.jobId, batchTableName, tasks.stream().map(Task::getTaskState).collect(Collectors.toList()));
+    } else {
+      for (Task task : tasks) {
+        log.info("Writing task state for task " + task.getTaskId());
+        taskStateStore.put(task.getJobId(), task.getTaskId() + AbstractJobLauncher.TASK_STATE_STORE_TABLE_SUFFIX,
+            task.getTaskState());
+      }
+    }
+
     if (hasTaskFailure) {
       String errorMsg = String.format("Tasks in container %s failed", containerIdOptional.or(""));
       Throwable cause = null;
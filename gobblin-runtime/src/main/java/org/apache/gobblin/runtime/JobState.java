@@ -403,10 +403,7 @@ public class JobState extends SourceState implements JobProgress {
     Map<String, DatasetState> datasetStatesByUrns = Maps.newHashMap();
 
     for (TaskState taskState : allTaskStates) {
-      String datasetUrn = createDatasetUrn(datasetStatesByUrns, taskState);
-
-      datasetStatesByUrns.get(datasetUrn).incrementTaskCount();
-      datasetStatesByUrns.get(datasetUrn).addTaskState(taskState);
+      addTaskStateToDatasetStates(datasetStatesByUrns, taskState);
     }
 
     for (TaskState taskState : allSkippedTaskStates) {
@@ -417,6 +414,18 @@ public class JobState extends SourceState implements JobProgress {
     return ImmutableMap.copyOf(datasetStatesByUrns);
   }
 
+  /**
+   * Add `taskState` to the {@link DatasetState} of its dataset within `datasetStatesByUrns`, creating it when missing, as
+   * {@link #calculateDatasetStatesByUrns(Collection, Collection)} does for each of its task states. This lets callers
+   * build up the dataset states while task states are still being collected.
+   */
+  public void addTaskStateToDatasetStates(Map<String, DatasetState> datasetStatesByUrns, TaskState taskState) {
+    String datasetUrn = createDatasetUrn(datasetStatesByUrns, taskState);
+
+    datasetStatesByUrns.get(datasetUrn).incrementTaskCount();
+    datasetStatesByUrns.get(datasetUrn).addTaskState(taskState);
+  }
+
   private String createDatasetUrn(Map<String, DatasetState> datasetStatesByUrns, TaskState taskState) {
     String datasetUrn = taskState.getProp(ConfigurationKeys.DATASET_URN_KEY, ConfigurationKeys.DEFAULT_DATASET_URN);
     if (!datasetStatesByUrns.containsKey(datasetUrn)) {
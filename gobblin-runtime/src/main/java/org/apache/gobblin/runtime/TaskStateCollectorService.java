@@ -28,6 +28,7 @@ import java.util.concurrent.Callable;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
 
 import org.apache.commons.lang3.StringUtils;
 import org.apache.hadoop.fs.Path;
@@ -241,6 +242,22 @@ public class TaskStateCollectorService extends AbstractScheduledService {
    */
   public static Optional<Queue<TaskState>> deserializeTaskStatesFromFolder(StateStore<TaskState> taskStateStore, String taskStateTableName,
       int numDeserializerThreads) throws IOException {
+    final Queue<TaskState> taskStateQueue = Queues.newConcurrentLinkedQueue();
+    return collectTaskStatesFromFolder(taskStateStore, taskStateTableName, numDeserializerThreads, taskStateQueue::add)
+        .map(numTaskStates -> taskStateQueue);
+  }
+
+  /**
+   * Reads in a {@link StateStore} and passes each task state found in the provided table name to `taskStateConsumer` as soon
+   * as it is deserialized, so that callers may fold task states into aggregates rather than hold all of them at once.
+   * A task state file holds the task state of one task, or those of all the tasks of a {@link GobblinMultiTaskAttempt}
+   * (see {@link ConfigurationKeys#TASK_STATE_STORE_BATCH_ENABLED}), and gets deleted once they are all consumed.
+   * @param taskStateConsumer called concurrently from the deserializer threads, so must be thread-safe
+   * @return the number of task states collected, optional if no task states are found in the provided state store
+   * @throws IOException
+   */
+  public static Optional<Long> collectTaskStatesFromFolder(StateStore<TaskState> taskStateStore, String taskStateTableName,
+      int numDeserializerThreads, Consumer<TaskState> taskStateConsumer) throws IOException {
     List<String> taskStateNames = taskStateStore.getTableNames(taskStateTableName, new Predicate<String>() {
       @Override
       public boolean apply(String input) {
@@ -254,13 +271,13 @@ public class TaskStateCollectorService extends AbstractScheduledService {
       return Optional.empty();
     }
 
-    final Queue<TaskState> taskStateQueue = Queues.newConcurrentLinkedQueue();
+    AtomicLong numTaskStates = new AtomicLong(0L);
     AtomicLong numStateStoreMissing = new AtomicLong(0L);
     GrowthMilestoneTracker growthTracker = new GrowthMilestoneTracker();
     try (ParallelRunner stateSerDeRunner = new ParallelRunner(numDeserializerThreads, null)) {
       for (final String taskStateName : taskStateNames) {
         log.debug("Found output task state file " + taskStateName);
-        // Deserialize the TaskState and delete the file
+        // Deserialize the TaskStates and delete the file
         stateSerDeRunner.submitCallable(new Callable<Void>() {
           @Override
           public Void call() throws Exception {
@@ -273,7 +290,10 @@ public class TaskStateCollectorService extends AbstractScheduledService {
               }
               return null; // otherwise, when not a milestone, silently skip
             }
-            taskStateQueue.add(matchingTaskStates.get(0));
+            for (TaskState taskState : matchingTaskStates) {
+              taskStateConsumer.accept(taskState);
+            }
+            numTaskStates.addAndGet(matchingTaskStates.size());
             taskStateStore.delete(taskStateTableName, taskStateName);
             return null;
           }
@@ -282,8 +302,9 @@ public class TaskStateCollectorService extends AbstractScheduledService {
     } catch (IOException ioe) {
       log.error("Could not read all task state files [missing final total: " + numStateStoreMissing.get() + "] - ", ioe);
     }
-    log.info(String.format("Collected task state of %d completed tasks in %s", taskStateQueue.size(), taskStateTableName));
-    return Optional.of(taskStateQueue);
+    log.info(String.format("Collected task state of %d completed tasks from %d files in %s", numTaskStates.get(),
+        taskStateNames.size(), taskStateTableName));
+    return Optional.of(numTaskStates.get());
   }
 
   /**
@@ -21,12 +21,19 @@ import java.io.IOException;
 import java.net.URI;
 import java.util.Collection;
 import java.util.Iterator;
+import java.util.function.Predicate;
 
 import com.google.common.base.Optional;
+import com.google.common.collect.AbstractIterator;
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigValueFactory;
 
 
 public interface SpecStore {
 
+  /** Key of the {@link Spec} URI in the metadata evaluated by the filter of {@link #getSpecsIterator} */
+  String SPEC_URI_METADATA_KEY = "specStore.specUri";
+
   /***
    * Check if a {@link Spec} exists in {@link SpecStore} by URI.
    * @param specUri URI for the {@link Spec} to be checked.
@@ -136,6 +143,54 @@ public interface SpecStore {
    */
   Collection<Spec> getSpecsPaginated(int startOffset, int batchSize) throws IOException, IllegalArgumentException;
 
+  /***
+   * Iterate over all the {@link Spec}s of the {@link SpecStore} in ascending order of their URIs, reading at most
+   * batchSize of them at a time, so that callers may act upon the first {@link Spec}s while the rest are still loading.
+   * Only the {@link Spec}s whose metadata satisfies the metadataFilter are returned. The metadata of a {@link FlowSpec}
+   * contains at least its URI (under {@link #SPEC_URI_METADATA_KEY}), flow group, flow name and schedule (if any), and
+   * the filter is evaluated once for every {@link FlowSpec} read; implementations storing the metadata apart from
+   * the serialized {@link Spec} may evaluate the filter without deserializing the {@link Spec}s it rejects.
+   * Errors in retrieving {@link Spec}s after the first batch are thrown as {@link RuntimeException}s by the iterator.
+   * @param batchSize max number of specs read at a time, batchSize > 0
+   * @param metadataFilter filter of the {@link Spec}s to return, by their metadata
+   * @throws IOException Exception in retrieving the first batch of {@link Spec}s.
+   */
+  default Iterator<Spec> getSpecsIterator(int batchSize, Predicate<Config> metadataFilter) throws IOException {
+    if (batchSize <= 0) {
+      throw new IllegalArgumentException("Received non-positive batch size value when it should be > 0: " + batchSize);
+    }
+    Collection<Spec> firstBatch = getSpecsPaginated(0, batchSize);
+    return new AbstractIterator<Spec>() {
+      private Iterator<Spec> batch = firstBatch.iterator();
+      private int batchOffset = 0;
+      private boolean isLastBatch = firstBatch.size() < batchSize;
+
+      @Override
+      protected Spec computeNext() {
+        while (true) {
+          while (this.batch.hasNext()) {
+            Spec spec = this.batch.next();
+            if (!(spec instanceof FlowSpec) || metadataFilter.test(((FlowSpec) spec).getConfig()
+                .withValue(SPEC_URI_METADATA_KEY, ConfigValueFactory.fromAnyRef(spec.getUri().toString())))) {
+              return spec;
+            }
+          }
+          if (this.isLastBatch) {
+            return endOfData();
+          }
+          this.batchOffset += batchSize;
+          try {
+            Collection<Spec> nextBatch = getSpecsPaginated(this.batchOffset, batchSize);
+            this.batch = nextBatch.iterator();
+            this.isLastBatch = nextBatch.size() < batchSize;
+          } catch (IOException e) {
+            throw new RuntimeException("Cannot retrieve specs from offset " + this.batchOffset, e);
+          }
+        }
+      }
+    };
+  }
+
   /**
    * Return an iterator of Spec URIs(Spec identifiers)
    */
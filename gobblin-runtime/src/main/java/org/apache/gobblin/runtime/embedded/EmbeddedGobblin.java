@@ -191,6 +191,15 @@ public class EmbeddedGobblin {
     return this;
   }
 
+  /**
+   * Plan work units on a background thread, buffering up to {@code capacity} of them, so that tasks start while the
+   * source is still generating work units. Only applies to local (non-MR) mode.
+   */
+  public EmbeddedGobblin prefetchWorkUnits(int capacity) {
+    this.builtConfigMap.put(ConfigurationKeys.LOCAL_JOB_LAUNCHER_WORK_UNIT_PREFETCH_CAPACITY, Integer.toString(capacity));
+    return this;
+  }
+
   /**
    * Specify that the input jar should be added to workers' classpath on distributed mode.
    */
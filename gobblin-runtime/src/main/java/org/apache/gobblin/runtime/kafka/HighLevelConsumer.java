@@ -84,6 +84,12 @@ public abstract class HighLevelConsumer<K,V> extends AbstractIdleService {
   public static final int DEFAULT_OFFSET_COMMIT_NUM_RECORDS_THRESHOLD = 100;
   public static final String OFFSET_COMMIT_TIME_THRESHOLD_SECS_KEY = "offsets.commit.time.threshold.secs";
   public static final int DEFAULT_OFFSET_COMMIT_TIME_THRESHOLD_SECS = 10;
+  // Records are handed to processMessages in batches of up to this many, when more than one
+  public static final String MESSAGE_BATCH_MAX_RECORDS_KEY = "message.batch.max.records";
+  public static final int DEFAULT_MESSAGE_BATCH_MAX_RECORDS = 1;
+  // How long to wait for more records to fill a batch, after its first record
+  public static final String MESSAGE_BATCH_MAX_WAIT_MILLIS_KEY = "message.batch.max.wait.millis";
+  public static final long DEFAULT_MESSAGE_BATCH_MAX_WAIT_MILLIS = 50L;
 
   @Getter
   protected final String topic;
@@ -108,6 +114,8 @@ public abstract class HighLevelConsumer<K,V> extends AbstractIdleService {
   private final boolean enableAutoCommit;
   private final int offsetsCommitNumRecordsThreshold;
   private final int offsetsCommitTimeThresholdSecs;
+  private final int messageBatchMaxRecords;
+  private final long messageBatchMaxWaitMillis;
   private long lastCommitTime = System.currentTimeMillis();
   protected volatile boolean shutdownRequested = false;
 
@@ -137,6 +145,8 @@ public abstract class HighLevelConsumer<K,V> extends AbstractIdleService {
     this.enableAutoCommit = ConfigUtils.getBoolean(config, ENABLE_AUTO_COMMIT_KEY, DEFAULT_AUTO_COMMIT_VALUE);
     this.offsetsCommitNumRecordsThreshold = ConfigUtils.getInt(config, OFFSET_COMMIT_NUM_RECORDS_THRESHOLD_KEY, DEFAULT_OFFSET_COMMIT_NUM_RECORDS_THRESHOLD);
     this.offsetsCommitTimeThresholdSecs = ConfigUtils.getInt(config, OFFSET_COMMIT_TIME_THRESHOLD_SECS_KEY, DEFAULT_OFFSET_COMMIT_TIME_THRESHOLD_SECS);
+    this.messageBatchMaxRecords = ConfigUtils.getInt(config, MESSAGE_BATCH_MAX_RECORDS_KEY, DEFAULT_MESSAGE_BATCH_MAX_RECORDS);
+    this.messageBatchMaxWaitMillis = ConfigUtils.getLong(config, MESSAGE_BATCH_MAX_WAIT_MILLIS_KEY, DEFAULT_MESSAGE_BATCH_MAX_WAIT_MILLIS);
   }
 
   protected GobblinKafkaConsumerClient createConsumerClient(Config config) {
@@ -167,6 +177,7 @@ public abstract class HighLevelConsumer<K,V> extends AbstractIdleService {
       public void onPartitionsRevoked(Collection<KafkaPartition> partitions) {
         copyAndCommit();
         partitionOffsetsToCommit.clear();
+        HighLevelConsumer.this.onPartitionsRevoked(partitions);
       }
 
       @Override
@@ -235,6 +246,25 @@ public abstract class HighLevelConsumer<K,V> extends AbstractIdleService {
    */
   protected abstract void processMessage(DecodeableKafkaRecord<K,V> message);
 
+  /**
+   * Called with the records read together from a queue, in order, when {@link #MESSAGE_BATCH_MAX_RECORDS_KEY} is more
+   * than 1. The offsets of the records are only committed once this returns. Subclasses may override this method to
+   * process the records of a batch together, e.g. to coalesce their writes. Same thread-safety requirements as
+   * {@link #processMessage(DecodeableKafkaRecord)}.
+   */
+  protected void processMessages(List<DecodeableKafkaRecord<K,V>> messages) {
+    for (DecodeableKafkaRecord<K,V> message : messages) {
+      processMessage(message);
+    }
+  }
+
+  /**
+   * Called when partitions are revoked from this consumer, after committing their offsets. Subclasses keeping state
+   * derived from the records of a partition should drop it here, as other consumers may process it from now on.
+   */
+  protected void onPartitionsRevoked(Collection<KafkaPartition> partitions) {
+  }
+
   @Override
   protected void startUp() {
     buildMetricsContextAndMetrics();
@@ -335,14 +365,18 @@ public abstract class HighLevelConsumer<K,V> extends AbstractIdleService {
     @Override
     public void run() {
       log.info("Starting queue processing.. " + Thread.currentThread().getName());
-      KafkaConsumerRecord record = null;
+      List<KafkaConsumerRecord> records = null;
       try {
         while (true) {
-          record = queue.take();
-          messagesRead.inc();
+          records = takeRecords();
+          messagesRead.inc(records.size());
           try {
-            HighLevelConsumer.this.processMessage((DecodeableKafkaRecord) record);
-            recordsProcessed.incrementAndGet();
+            if (records.size() == 1) {
+              HighLevelConsumer.this.processMessage((DecodeableKafkaRecord) records.get(0));
+            } else {
+              HighLevelConsumer.this.processMessages((List) records);
+            }
+            recordsProcessed.addAndGet(records.size());
           }
           catch (Exception e) {
             // Rethrow exception in case auto commit is disabled
@@ -350,23 +384,42 @@ public abstract class HighLevelConsumer<K,V> extends AbstractIdleService {
               throw e;
             }
             // Continue with processing next records in case auto commit is enabled
-            log.error("Encountered exception while processing record. Record: {} Exception: {}", record, e);
+            log.error("Encountered exception while processing records. Records: {} Exception: {}", records, e);
           }
 
           if (!HighLevelConsumer.this.enableAutoCommit) {
-            KafkaPartition partition =
-                new KafkaPartition.Builder().withId(record.getPartition()).withTopicName(HighLevelConsumer.this.topic)
-                    .build();
-            // Committed offset should always be the offset of the next record to be read (hence +1)
-            partitionOffsetsToCommit.put(partition, record.getOffset() + 1);
+            for (KafkaConsumerRecord record : records) {
+              KafkaPartition partition =
+                  new KafkaPartition.Builder().withId(record.getPartition()).withTopicName(HighLevelConsumer.this.topic)
+                      .build();
+              // Committed offset should always be the offset of the next record to be read (hence +1)
+              partitionOffsetsToCommit.put(partition, record.getOffset() + 1);
+            }
           }
         }
       } catch(InterruptedException e){
         log.warn("Thread interrupted while processing queue ", e);
         Thread.currentThread().interrupt();
       } catch (Exception e) {
-        log.error("Encountered exception while processing record so stopping queue processing. Record: {} Exception: {}", record, e);
+        log.error("Encountered exception while processing records so stopping queue processing. Records: {} Exception: {}", records, e);
+      }
+    }
+
+    /**
+     * Wait for the next record, then for up to {@link #messageBatchMaxWaitMillis} for more, until there are
+     * {@link #messageBatchMaxRecords}
+     */
+    private List<KafkaConsumerRecord> takeRecords() throws InterruptedException {
+      List<KafkaConsumerRecord> records = Lists.newArrayList(queue.take());
+      long deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(messageBatchMaxWaitMillis);
+      while (records.size() < messageBatchMaxRecords) {
+        KafkaConsumerRecord record = queue.poll(deadlineNanos - System.nanoTime(), TimeUnit.NANOSECONDS);
+        if (record == null) {
+          break;
+        }
+        records.add(record);
       }
+      return records;
     }
   }
 
@@ -31,6 +31,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.google.common.base.Function;
+import com.google.common.base.Optional;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Iterators;
 import com.google.common.collect.Lists;
@@ -40,6 +41,7 @@ import lombok.extern.slf4j.Slf4j;
 
 import org.apache.gobblin.broker.gobblin_scopes.GobblinScopeTypes;
 import org.apache.gobblin.broker.iface.SharedResourcesBroker;
+import org.apache.gobblin.configuration.ConfigurationKeys;
 import org.apache.gobblin.metrics.Tag;
 import org.apache.gobblin.metrics.event.TimingEvent;
 import org.apache.gobblin.runtime.AbstractJobLauncher;
@@ -52,6 +54,7 @@ import org.apache.gobblin.runtime.api.JobSpec;
 import org.apache.gobblin.source.workunit.WorkUnit;
 import org.apache.gobblin.util.JobConfigurationUtils;
 import org.apache.gobblin.runtime.util.MultiWorkUnitUnpackingIterator;
+import org.apache.gobblin.runtime.util.PrefetchingIterator;
 import org.apache.gobblin.source.workunit.WorkUnitStream;
 
 /**
@@ -150,11 +153,27 @@ public class LocalJobLauncher extends AbstractJobLauncher {
         return workUnit;
       }
     });
+
+    // Optionally pull work units from the source on a separate thread, so that tasks are created and started while
+    // a lazily generated work unit stream is still being planned
+    int prefetchCapacity = jobState.getPropAsInt(ConfigurationKeys.LOCAL_JOB_LAUNCHER_WORK_UNIT_PREFETCH_CAPACITY,
+        ConfigurationKeys.DEFAULT_LOCAL_JOB_LAUNCHER_WORK_UNIT_PREFETCH_CAPACITY);
+    Optional<PrefetchingIterator<WorkUnit>> prefetchingWorkUnits = prefetchCapacity > 0
+        ? Optional.of(new PrefetchingIterator<>(workUnitsWithJobState, prefetchCapacity, "WorkUnitPrefetcher-" + jobId))
+        : Optional.absent();
+
     Thread thisThread = Thread.currentThread();
     JobInterruptionPredicate jobInterruptionPredicate =
         new JobInterruptionPredicate(jobState, () -> thisThread.interrupt(), true);
-    GobblinMultiTaskAttempt.runWorkUnits(this.jobContext, workUnitsWithJobState, this.taskStateTracker,
-        this.taskExecutor, GobblinMultiTaskAttempt.CommitPolicy.IMMEDIATE);
+    try {
+      GobblinMultiTaskAttempt.runWorkUnits(this.jobContext,
+          prefetchingWorkUnits.isPresent() ? prefetchingWorkUnits.get() : workUnitsWithJobState,
+          this.taskStateTracker, this.taskExecutor, GobblinMultiTaskAttempt.CommitPolicy.IMMEDIATE);
+    } finally {
+      if (prefetchingWorkUnits.isPresent()) {
+        prefetchingWorkUnits.get().close();
+      }
+    }
     jobInterruptionPredicate.stopAsync();
 
     if (this.cancellationRequested) {
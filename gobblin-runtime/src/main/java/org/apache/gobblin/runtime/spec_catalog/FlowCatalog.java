@@ -31,6 +31,7 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
 
 import org.apache.commons.lang3.reflect.ConstructorUtils;
 import org.slf4j.Logger;
@@ -333,6 +334,19 @@ public class FlowCatalog extends AbstractIdleService implements SpecCatalog, Mut
     }
   }
 
+  /**
+   * A function to iterate over all the specs in the {@link SpecStore} whose metadata satisfies the metadataFilter, in
+   * ascending order of the spec_uri, reading at most batchSize of them from the {@link SpecStore} at a time.
+   * @see SpecStore#getSpecsIterator(int, Predicate)
+   */
+  public Iterator<Spec> getSpecsIterator(int batchSize, Predicate<Config> metadataFilter) {
+    try {
+      return specStore.getSpecsIterator(batchSize, metadataFilter);
+    } catch (IOException | IllegalArgumentException e) {
+      throw new RuntimeException("Cannot retrieve specs from Spec stores in batches of " + batchSize, e);
+    }
+  }
+
   /**
    * A wrapper of getSpecs that handles {@link SpecNotFoundException} properly.
    * This is the most common way to fetch {@link Spec}. For customized way to deal with exception, one will
@@ -26,14 +26,20 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Properties;
+import java.util.Set;
+import java.util.function.Predicate;
 
 import com.google.common.base.Optional;
+import com.google.common.collect.AbstractIterator;
 import com.google.common.collect.Lists;
 import com.google.common.io.ByteStreams;
 import com.typesafe.config.Config;
+import com.typesafe.config.ConfigValueFactory;
 import com.zaxxer.hikari.HikariDataSource;
 
 import javax.sql.DataSource;
@@ -86,6 +92,7 @@ public class MysqlBaseSpecStore extends InstrumentedSpecStore {
   private static final String GET_ALL_URIS_STATEMENT = "SELECT spec_uri FROM %s";
   private static final String GET_ALL_URIS_WITH_TAG_STATEMENT = "SELECT spec_uri FROM %s WHERE tag = ?";
   private static final String GET_SPECS_BATCH_STATEMENT = "SELECT spec_uri, spec, modified_time FROM %s ORDER BY spec_uri ASC LIMIT ? OFFSET ?";
+  private static final String GET_SPECS_METADATA_BATCH_AFTER_STATEMENT = "SELECT spec_uri FROM %s WHERE spec_uri > ? ORDER BY spec_uri ASC LIMIT ?";
   private static final String GET_SIZE_STATEMENT = "SELECT COUNT(*) FROM %s ";
   // NOTE: using max length of a `FlowSpec` URI, as it's believed to be the longest of existing `Spec` types
   private static final String CREATE_TABLE_STATEMENT = "CREATE TABLE IF NOT EXISTS %s (spec_uri VARCHAR(" + FlowSpec.Utils.maxFlowSpecUriLength()
@@ -106,6 +113,7 @@ public class MysqlBaseSpecStore extends InstrumentedSpecStore {
     public final String getAllURIsStatement = String.format(getTablelessGetAllURIsStatement(), MysqlBaseSpecStore.this.tableName);
     public final String getAllURIsWithTagStatement = String.format(getTablelessGetAllURIsWithTagStatement(), MysqlBaseSpecStore.this.tableName);
     public final String getBatchStatement = String.format(getTablelessGetBatchStatement(), MysqlBaseSpecStore.this.tableName);
+    public final String getMetadataBatchAfterStatement = String.format(getTablelessGetMetadataBatchAfterStatement(), MysqlBaseSpecStore.this.tableName);
     public final String getSizeStatement = String.format(getTablelessGetSizeStatement(), MysqlBaseSpecStore.this.tableName);
     public final String createTableStatement = String.format(getTablelessCreateTableStatement(), MysqlBaseSpecStore.this.tableName);
 
@@ -142,6 +150,18 @@ public class MysqlBaseSpecStore extends InstrumentedSpecStore {
       statement.setInt(++i, startOffset);
     }
 
+    public void completeGetMetadataBatchAfterStatement(PreparedStatement statement, String afterSpecUri, int batchSize)
+        throws SQLException {
+      int i = 0;
+      statement.setString(++i, afterSpecUri);
+      statement.setInt(++i, batchSize);
+    }
+
+    /** @return the metadata of the spec in the current row of {@link #getMetadataBatchAfterStatement}, if stored apart from the spec */
+    public Optional<Config> extractSpecMetadata(ResultSet rs) throws SQLException {
+      return Optional.absent();
+    }
+
     protected String getTablelessExistsStatement() { return MysqlBaseSpecStore.EXISTS_STATEMENT; }
     protected String getTablelessUpdateStatement() { return MysqlBaseSpecStore.UPDATE_STATEMENT; }
     protected String getTablelessInsertStatement() { return MysqlBaseSpecStore.INSERT_STATEMENT; }
@@ -151,6 +171,7 @@ public class MysqlBaseSpecStore extends InstrumentedSpecStore {
     protected String getTablelessGetAllURIsStatement() { return MysqlBaseSpecStore.GET_ALL_URIS_STATEMENT; }
     protected String getTablelessGetAllURIsWithTagStatement() { return MysqlBaseSpecStore.GET_ALL_URIS_WITH_TAG_STATEMENT; }
     protected String getTablelessGetBatchStatement() {return MysqlBaseSpecStore.GET_SPECS_BATCH_STATEMENT; }
+    protected String getTablelessGetMetadataBatchAfterStatement() { return MysqlBaseSpecStore.GET_SPECS_METADATA_BATCH_AFTER_STATEMENT; }
     protected String getTablelessGetSizeStatement() { return MysqlBaseSpecStore.GET_SIZE_STATEMENT; }
     protected String getTablelessCreateTableStatement() { return MysqlBaseSpecStore.CREATE_TABLE_STATEMENT; }
   }
@@ -326,6 +347,100 @@ public class MysqlBaseSpecStore extends InstrumentedSpecStore {
     });
   }
 
+  /**
+   * Pages through the specs by spec_uri, starting each batch after the last spec_uri of the previous one, so that every
+   * batch is an index range scan rather than a scan of all the preceding rows, as with {@link #getSpecsPaginated}. Each
+   * batch first reads the metadata of the specs, and then reads and deserializes only those whose metadata satisfies
+   * the filter. Specs without metadata stored apart are read in any case, and filtered once deserialized.
+   */
+  @Override
+  public Iterator<Spec> getSpecsIterator(int batchSize, Predicate<Config> metadataFilter) throws IOException {
+    if (batchSize <= 0) {
+      throw new IllegalArgumentException("Received non-positive batch size value when it should be > 0: " + batchSize);
+    }
+    SpecsBatch firstBatch = getSpecsBatchAfter("", batchSize, metadataFilter);
+    return new AbstractIterator<Spec>() {
+      private SpecsBatch batch = firstBatch;
+      private Iterator<Spec> batchIterator = firstBatch.specs.iterator();
+
+      @Override
+      protected Spec computeNext() {
+        while (!this.batchIterator.hasNext()) {
+          if (this.batch.isLastBatch) {
+            return endOfData();
+          }
+          try {
+            this.batch = getSpecsBatchAfter(this.batch.lastSpecUri, batchSize, metadataFilter);
+          } catch (IOException e) {
+            throw new RuntimeException("Cannot retrieve specs after " + this.batch.lastSpecUri, e);
+          }
+          this.batchIterator = this.batch.specs.iterator();
+        }
+        return this.batchIterator.next();
+      }
+    };
+  }
+
+  private SpecsBatch getSpecsBatchAfter(String afterSpecUri, int batchSize, Predicate<Config> metadataFilter)
+      throws IOException {
+    List<String> specUris = new ArrayList<>();
+    List<String> specUrisToGet = new ArrayList<>();
+    Set<String> specUrisWithoutMetadata = new HashSet<>();
+    withPreparedStatement(this.sqlStatements.getMetadataBatchAfterStatement, statement -> {
+      this.sqlStatements.completeGetMetadataBatchAfterStatement(statement, afterSpecUri, batchSize);
+      try (ResultSet rs = statement.executeQuery()) {
+        while (rs.next()) {
+          String specUri = rs.getString(1);
+          specUris.add(specUri);
+          Optional<Config> metadata = this.sqlStatements.extractSpecMetadata(rs);
+          if (!metadata.isPresent()) {
+            specUrisToGet.add(specUri);
+            specUrisWithoutMetadata.add(specUri);
+          } else if (metadataFilter.test(metadata.get()
+              .withValue(SpecStore.SPEC_URI_METADATA_KEY, ConfigValueFactory.fromAnyRef(specUri)))) {
+            specUrisToGet.add(specUri);
+          }
+        }
+      }
+      return null; // (type: `Void`)
+    });
+
+    List<Spec> specs = new ArrayList<>();
+    if (!specUrisToGet.isEmpty()) {
+      String getStatement = this.sqlStatements.getAllStatement + " WHERE spec_uri IN ("
+          + String.join(", ", Collections.nCopies(specUrisToGet.size(), "?")) + ") ORDER BY spec_uri ASC";
+      Collection<Spec> retrievedSpecs = withPreparedStatement(getStatement, statement -> {
+        int i = 0;
+        for (String specUri : specUrisToGet) {
+          statement.setString(++i, specUri);
+        }
+        return retrieveSpecsWithModificationTime(statement);
+      });
+      for (Spec spec : retrievedSpecs) {
+        if (!specUrisWithoutMetadata.contains(spec.getUri().toString()) || !(spec instanceof FlowSpec)
+            || metadataFilter.test(((FlowSpec) spec).getConfig()
+            .withValue(SpecStore.SPEC_URI_METADATA_KEY, ConfigValueFactory.fromAnyRef(spec.getUri().toString())))) {
+          specs.add(spec);
+        }
+      }
+    }
+    return new SpecsBatch(specs, specUris.isEmpty() ? afterSpecUri : specUris.get(specUris.size() - 1),
+        specUris.size() < batchSize);
+  }
+
+  /** A batch of {@link #getSpecsIterator}, along with the last spec_uri read, to start the next batch after */
+  private static class SpecsBatch {
+    private final List<Spec> specs;
+    private final String lastSpecUri;
+    private final boolean isLastBatch;
+
+    SpecsBatch(List<Spec> specs, String lastSpecUri, boolean isLastBatch) {
+      this.specs = specs;
+      this.lastSpecUri = lastSpecUri;
+      this.isLastBatch = isLastBatch;
+    }
+  }
+
   @Override
   public Iterator<URI> getSpecURIsWithTagImpl(String tag) throws IOException {
     return withPreparedStatement(this.sqlStatements.getAllURIsWithTagStatement, statement -> {
@@ -24,12 +24,16 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Properties;
 
 import com.google.common.base.Charsets;
+import com.google.common.base.Optional;
 import com.google.common.io.ByteStreams;
 import com.google.gson.Gson;
 import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -81,6 +85,8 @@ public class MysqlSpecStore extends MysqlBaseSpecStore {
   private static final String SPECIFIC_GET_STATEMENT_BASE = "SELECT spec_uri, spec, spec_json FROM %s WHERE ";
   private static final String SPECIFIC_GET_ALL_STATEMENT = "SELECT spec_uri, spec, spec_json, modified_time FROM %s";
   private static final String SPECIFIC_GET_SPECS_BATCH_STATEMENT = "SELECT spec_uri, spec, spec_json, modified_time FROM %s ORDER BY spec_uri ASC LIMIT ? OFFSET ?";
+  private static final String SPECIFIC_GET_SPECS_METADATA_BATCH_AFTER_STATEMENT = "SELECT spec_uri, flow_group, flow_name, schedule FROM %s "
+      + "WHERE spec_uri > ? ORDER BY spec_uri ASC LIMIT ?";
   private static final String SPECIFIC_CREATE_TABLE_STATEMENT = "CREATE TABLE IF NOT EXISTS %s (spec_uri VARCHAR("
       + FlowSpec.Utils.maxFlowSpecUriLength()
       + ") NOT NULL, flow_group VARCHAR(" + ServiceConfigKeys.MAX_FLOW_GROUP_LENGTH + "), flow_name VARCHAR("
@@ -146,6 +152,24 @@ public class MysqlSpecStore extends MysqlBaseSpecStore {
       return spec;
     }
 
+    /** The flow group, flow name and schedule (if any) columns, absent for records predating them */
+    @Override
+    public Optional<Config> extractSpecMetadata(ResultSet rs) throws SQLException {
+      String flowGroup = rs.getString(2);
+      String flowName = rs.getString(3);
+      if (flowGroup == null || flowName == null) {
+        return Optional.absent();
+      }
+      Map<String, String> metadata = new HashMap<>();
+      metadata.put(ConfigurationKeys.FLOW_GROUP_KEY, flowGroup);
+      metadata.put(ConfigurationKeys.FLOW_NAME_KEY, flowName);
+      String schedule = rs.getString(4);
+      if (schedule != null) {
+        metadata.put(ConfigurationKeys.JOB_SCHEDULE_KEY, schedule);
+      }
+      return Optional.of(ConfigFactory.parseMap(metadata));
+    }
+
     @Override
     protected String getTablelessInsertStatement() { return MysqlSpecStore.SPECIFIC_INSERT_STATEMENT; }
     @Override
@@ -155,6 +179,8 @@ public class MysqlSpecStore extends MysqlBaseSpecStore {
     @Override
     protected String getTablelessGetBatchStatement() { return MysqlSpecStore.SPECIFIC_GET_SPECS_BATCH_STATEMENT; }
     @Override
+    protected String getTablelessGetMetadataBatchAfterStatement() { return MysqlSpecStore.SPECIFIC_GET_SPECS_METADATA_BATCH_AFTER_STATEMENT; }
+    @Override
     protected String getTablelessCreateTableStatement() { return MysqlSpecStore.SPECIFIC_CREATE_TABLE_STATEMENT; }
   }
 
@@ -0,0 +1,133 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.gobblin.runtime.util;
+
+import java.io.Closeable;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ThreadFactory;
+
+import com.google.common.base.Optional;
+import com.google.common.base.Preconditions;
+import com.google.common.base.Throwables;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.apache.gobblin.util.ExecutorsUtils;
+
+
+/**
+ * An {@link Iterator} that drains a wrapped {@link Iterator} from a background thread into a bounded queue.
+ *
+ * <p>
+ *   This decouples a slow producer (e.g. a lazily planned work unit stream) from its consumer (e.g. task creation and
+ *   submission), so that the consumer can start on the first elements while later ones are still being produced. The
+ *   bounded queue applies back pressure, so at most {@code capacity} elements are ever buffered. An exception thrown by
+ *   the wrapped {@link Iterator} is rethrown to the consumer once the elements produced before it have been consumed.
+ * </p>
+ *
+ * <p>
+ *   If the consuming thread is interrupted while waiting, the interrupt flag is restored and the iteration ends.
+ * </p>
+ */
+@Slf4j
+public class PrefetchingIterator<T> implements Iterator<T>, Closeable {
+  private static final Object END_OF_STREAM = new Object();
+
+  private final BlockingQueue<Object> queue;
+  private final Thread producer;
+  private volatile Throwable producerFailure;
+  private Object nextElement;
+  private boolean exhausted = false;
+
+  public PrefetchingIterator(Iterator<T> underlying, int capacity, String threadName) {
+    Preconditions.checkArgument(capacity > 0, "capacity must be positive");
+    this.queue = new ArrayBlockingQueue<>(capacity);
+    ThreadFactory threadFactory = ExecutorsUtils.newDaemonThreadFactory(Optional.of(log), Optional.of(threadName));
+    this.producer = threadFactory.newThread(() -> produce(underlying));
+    this.producer.start();
+  }
+
+  private void produce(Iterator<T> underlying) {
+    try {
+      while (underlying.hasNext()) {
+        this.queue.put(Preconditions.checkNotNull(underlying.next(), "null element"));
+      }
+    } catch (InterruptedException ie) {
+      // closed by the consumer
+      return;
+    } catch (Throwable t) {
+      this.producerFailure = t;
+    }
+    try {
+      this.queue.put(END_OF_STREAM);
+    } catch (InterruptedException ie) {
+      // closed by the consumer
+    }
+  }
+
+  @Override
+  public boolean hasNext() {
+    if (this.nextElement != null) {
+      return true;
+    }
+    if (this.exhausted) {
+      return false;
+    }
+    try {
+      this.nextElement = this.queue.take();
+    } catch (InterruptedException ie) {
+      Thread.currentThread().interrupt();
+      close();
+      return false;
+    }
+    if (this.nextElement == END_OF_STREAM) {
+      this.nextElement = null;
+      this.exhausted = true;
+      if (this.producerFailure != null) {
+        throw Throwables.propagate(this.producerFailure);
+      }
+      return false;
+    }
+    return true;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public T next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    T element = (T) this.nextElement;
+    this.nextElement = null;
+    return element;
+  }
+
+  /**
+   * Stop the background producer and discard anything it has buffered.
+   */
+  @Override
+  public void close() {
+    this.exhausted = true;
+    this.nextElement = null;
+    this.producer.interrupt();
+    this.queue.clear();
+  }
+}
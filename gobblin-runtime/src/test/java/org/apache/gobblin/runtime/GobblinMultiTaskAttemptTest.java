@@ -17,6 +17,8 @@
 
 package org.apache.gobblin.runtime;
 
+import java.io.IOException;
+import java.lang.reflect.Field;
 import java.util.List;
 import java.util.Properties;
 
@@ -38,6 +40,8 @@ import org.apache.gobblin.broker.SharedResourcesBrokerImpl;
 import org.apache.gobblin.broker.gobblin_scopes.GobblinScopeTypes;
 import org.apache.gobblin.broker.gobblin_scopes.JobScopeInstance;
 import org.apache.gobblin.configuration.ConfigurationKeys;
+import org.apache.gobblin.configuration.WorkUnitState;
+import org.apache.gobblin.metastore.StateStore;
 import org.apache.gobblin.source.workunit.WorkUnit;
 
 import static org.apache.gobblin.util.retry.RetryerFactory.RETRY_TIME_OUT_MS;
@@ -145,6 +149,46 @@ public class GobblinMultiTaskAttemptTest {
     Assert.assertTrue(taskAttempt.getStopped().get());
   }
 
+  @Test
+  public void testReattemptDeletesStaleBatchTaskStates() throws Exception {
+    @SuppressWarnings("unchecked")
+    StateStore<TaskState> taskStateStore = Mockito.mock(StateStore.class);
+    // an earlier attempt of these tasks wrote a single batch file of their task states, before its container died
+    Mockito.when(taskStateStore.exists("testJob2", "task_0.batch.tst")).thenReturn(true);
+
+    JobState jobState = new JobState();
+    jobState.setProp(ConfigurationKeys.TASK_STATE_STORE_BATCH_ENABLED, true);
+    taskAttempt = new GobblinMultiTaskAttempt(ImmutableList.<WorkUnit>of().iterator(), "testJob2", jobState,
+        Mockito.mock(TaskStateTracker.class), taskExecutorMock, Optional.absent(), Optional.of(taskStateStore), jobBroker);
+    Field tasksField = GobblinMultiTaskAttempt.class.getDeclaredField("tasks");
+    tasksField.setAccessible(true);
+    tasksField.set(taskAttempt, ImmutableList.of(
+        createTaskMock("task_0", WorkUnitState.WorkingState.SUCCESSFUL),
+        createTaskMock("task_1", WorkUnitState.WorkingState.FAILED)));
+
+    try {
+      // the reattempt has a failure, so writes a file per task state, which must not be collected next to the stale batch file
+      taskAttempt.persistTaskStateStore();
+      Assert.fail();
+    } catch (IOException e) {
+      Mockito.verify(taskStateStore).delete("testJob2", "task_0.batch.tst");
+      // the batch file is only ever named after the first task
+      Mockito.verify(taskStateStore, Mockito.never()).exists("testJob2", "task_1.batch.tst");
+      Mockito.verify(taskStateStore).put(Mockito.eq("testJob2"), Mockito.eq("task_0.tst"), Mockito.any(TaskState.class));
+      Mockito.verify(taskStateStore).put(Mockito.eq("testJob2"), Mockito.eq("task_1.tst"), Mockito.any(TaskState.class));
+    }
+  }
+
+  private static Task createTaskMock(String taskId, WorkUnitState.WorkingState workingState) {
+    TaskState taskState = new TaskState();
+    taskState.setTaskId(taskId);
+    taskState.setWorkingState(workingState);
+    Task task = Mockito.mock(Task.class);
+    Mockito.when(task.getJobId()).thenReturn("testJob2");
+    Mockito.when(task.getTaskId()).thenReturn(taskId);
+    Mockito.when(task.getTaskState()).thenReturn(taskState);
+    return task;
+  }
 
   public static class DummyTestStateTracker extends AbstractTaskStateTracker {
     public DummyTestStateTracker(Properties properties, Logger logger) {
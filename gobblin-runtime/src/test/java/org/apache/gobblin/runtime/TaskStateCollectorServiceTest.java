@@ -19,6 +19,7 @@ package org.apache.gobblin.runtime;
 
 import java.io.IOException;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Properties;
 
 import org.apache.gobblin.metrics.event.EventSubmitter;
@@ -31,7 +32,9 @@ import org.testng.annotations.AfterClass;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
 
+import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
 import com.google.common.eventbus.EventBus;
 import com.google.common.eventbus.Subscribe;
 
@@ -114,6 +117,42 @@ public class TaskStateCollectorServiceTest {
     Assert.assertEquals(this.taskStateMap.get(TASK_ID_1).getTaskId(), TASK_ID_1);
   }
 
+  @Test
+  public void testCollectBatchedTaskStatesIntoDatasetStates() throws Exception {
+    String batchJobId = JOB_ID + "_batch";
+    TaskState taskState1 = createTaskState(batchJobId, TASK_ID_0, "dataset1");
+    TaskState taskState2 = createTaskState(batchJobId, TASK_ID_1, "dataset2");
+    TaskState taskState3 = createTaskState(batchJobId, JobLauncherUtils.newTaskId(JOB_ID, 2), "dataset1");
+    this.taskStateStore.putAll(batchJobId, TASK_ID_0 + ".batch" + AbstractJobLauncher.TASK_STATE_STORE_TABLE_SUFFIX,
+        Lists.newArrayList(taskState1, taskState2));
+    this.taskStateStore.put(batchJobId, taskState3.getTaskId() + AbstractJobLauncher.TASK_STATE_STORE_TABLE_SUFFIX, taskState3);
+
+    JobState batchJobState = new JobState(JOB_NAME, batchJobId);
+    Map<String, JobState.DatasetState> datasetStatesByUrns = Maps.newHashMap();
+    Optional<Long> numTaskStates = TaskStateCollectorService.collectTaskStatesFromFolder(this.taskStateStore, batchJobId, 2,
+        taskState -> {
+          synchronized (datasetStatesByUrns) {
+            batchJobState.addTaskStateToDatasetStates(datasetStatesByUrns, taskState);
+          }
+        });
+
+    Assert.assertEquals(numTaskStates.get().longValue(), 3L);
+    Assert.assertEquals(datasetStatesByUrns.keySet(), Sets.newHashSet("dataset1", "dataset2"));
+    Assert.assertEquals(datasetStatesByUrns.get("dataset1").getTaskCount(), 2);
+    Assert.assertEquals(datasetStatesByUrns.get("dataset2").getTaskCount(), 1);
+    // the task state files are deleted once collected
+    Assert.assertFalse(TaskStateCollectorService.collectTaskStatesFromFolder(this.taskStateStore, batchJobId, 2,
+        taskState -> { }).isPresent());
+  }
+
+  private static TaskState createTaskState(String jobId, String taskId, String datasetUrn) {
+    TaskState taskState = new TaskState();
+    taskState.setJobId(jobId);
+    taskState.setTaskId(taskId);
+    taskState.setProp(ConfigurationKeys.DATASET_URN_KEY, datasetUrn);
+    return taskState;
+  }
+
   @Test
   public void testHandlerResolution() throws Exception{
     Properties props = new Properties();
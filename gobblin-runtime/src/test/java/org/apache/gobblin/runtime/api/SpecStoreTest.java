@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.gobblin.runtime.api;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Properties;
+
+import org.mockito.Mockito;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import com.google.common.collect.Lists;
+import com.typesafe.config.Config;
+
+import org.apache.gobblin.configuration.ConfigurationKeys;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+
+
+public class SpecStoreTest {
+
+  /**
+   * Tests that the default {@link SpecStore#getSpecsIterator} pages through {@link SpecStore#getSpecsPaginated} and
+   * filters the {@link FlowSpec}s by their config
+   */
+  @Test
+  public void testGetSpecsIterator() throws Exception {
+    List<Spec> allSpecs = new ArrayList<>();
+    for (int i = 0; i < 5; i++) {
+      allSpecs.add(createFlowSpec("flow" + i, i % 2 == 0 ? "0 0 8 * * ? *" : null));
+    }
+    SpecStore specStore = createSpecStore(allSpecs, Integer.MAX_VALUE);
+
+    List<Config> filteredMetadata = new ArrayList<>();
+    List<Spec> specs = new ArrayList<>();
+    specStore.getSpecsIterator(2, metadata -> {
+      filteredMetadata.add(metadata);
+      return !metadata.hasPath(ConfigurationKeys.JOB_SCHEDULE_KEY);
+    }).forEachRemaining(specs::add);
+    Assert.assertEquals(specs, Lists.newArrayList(allSpecs.get(1), allSpecs.get(3)));
+    Assert.assertEquals(filteredMetadata.size(), 5);
+    for (int i = 0; i < 5; i++) {
+      Assert.assertEquals(filteredMetadata.get(i).getString(SpecStore.SPEC_URI_METADATA_KEY),
+          allSpecs.get(i).getUri().toString());
+    }
+    // 3 batches, the last of which is partial
+    Mockito.verify(specStore, Mockito.times(3)).getSpecsPaginated(anyInt(), Mockito.eq(2));
+
+    // a batch size that divides the number of specs reads an empty batch to end
+    specs.clear();
+    specStore.getSpecsIterator(5, metadata -> true).forEachRemaining(specs::add);
+    Assert.assertEquals(specs, allSpecs);
+
+    Assert.assertThrows(IllegalArgumentException.class, () -> specStore.getSpecsIterator(0, metadata -> true));
+  }
+
+  @Test
+  public void testGetSpecsIteratorFailingHalfway() throws Exception {
+    List<Spec> allSpecs = new ArrayList<>();
+    for (int i = 0; i < 4; i++) {
+      allSpecs.add(createFlowSpec("flow" + i, null));
+    }
+    SpecStore specStore = createSpecStore(allSpecs, 2);
+
+    Iterator<Spec> specIterator = specStore.getSpecsIterator(2, metadata -> true);
+    Assert.assertEquals(specIterator.next(), allSpecs.get(0));
+    Assert.assertEquals(specIterator.next(), allSpecs.get(1));
+    RuntimeException e = Assert.expectThrows(RuntimeException.class, specIterator::hasNext);
+    Assert.assertTrue(e.getCause() instanceof IOException);
+  }
+
+  /** @return a {@link SpecStore} of the specs, failing to get them from the given offset on */
+  private static SpecStore createSpecStore(List<Spec> specs, int failingOffset) throws IOException {
+    SpecStore specStore = Mockito.mock(SpecStore.class, Mockito.CALLS_REAL_METHODS);
+    Mockito.doAnswer(invocation -> {
+      int startOffset = invocation.getArgument(0);
+      int batchSize = invocation.getArgument(1);
+      if (startOffset >= failingOffset) {
+        throw new IOException("Cannot get specs from offset " + startOffset);
+      }
+      return new ArrayList<>(specs.subList(Math.min(startOffset, specs.size()),
+          Math.min(startOffset + batchSize, specs.size())));
+    }).when(specStore).getSpecsPaginated(anyInt(), anyInt());
+    return specStore;
+  }
+
+  private static FlowSpec createFlowSpec(String flowName, String schedule) {
+    Properties properties = new Properties();
+    properties.setProperty(ConfigurationKeys.FLOW_GROUP_KEY, "group");
+    properties.setProperty(ConfigurationKeys.FLOW_NAME_KEY, flowName);
+    if (schedule != null) {
+      properties.setProperty(ConfigurationKeys.JOB_SCHEDULE_KEY, schedule);
+    }
+    return FlowSpec.builder(URI.create("gobblin-flow:/group/" + flowName)).withConfigAsProperties(properties).build();
+  }
+}
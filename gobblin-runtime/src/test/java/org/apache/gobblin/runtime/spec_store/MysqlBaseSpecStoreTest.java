@@ -19,6 +19,8 @@ package org.apache.gobblin.runtime.spec_store;
 
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.sql.Connection;
+import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
@@ -47,6 +49,7 @@ public class MysqlBaseSpecStoreTest {
   private static final String USER = "testUser";
   private static final String PASSWORD = "testPassword";
   private static final String TABLE = "base_spec_store";
+  private static final String ITERATOR_TABLE = "base_spec_store_iterator";
 
   private ITestMetastoreDatabase testDb;
   private MysqlBaseSpecStore specStore;
@@ -169,4 +172,49 @@ public class MysqlBaseSpecStoreTest {
     Assert.assertEquals(this.specStore.getSize(), 3);
     Assert.assertFalse(this.specStore.exists(this.uri1));
   }
-}
\ No newline at end of file
+
+  @Test
+  public void testGetSpecsIterator() throws Exception {
+    Config config = ConfigBuilder.create()
+        .addPrimitive(MysqlBaseSpecStore.CONFIG_PREFIX + "." + ConfigurationKeys.STATE_STORE_DB_URL_KEY, testDb.getJdbcUrl())
+        .addPrimitive(MysqlBaseSpecStore.CONFIG_PREFIX + "." + ConfigurationKeys.STATE_STORE_DB_USER_KEY, USER)
+        .addPrimitive(MysqlBaseSpecStore.CONFIG_PREFIX + "." + ConfigurationKeys.STATE_STORE_DB_PASSWORD_KEY, PASSWORD)
+        .addPrimitive(MysqlBaseSpecStore.CONFIG_PREFIX + "." + ConfigurationKeys.STATE_STORE_DB_TABLE_KEY, ITERATOR_TABLE)
+        .build();
+    MysqlBaseSpecStore iteratorSpecStore = new MysqlBaseSpecStore(config, new JavaSpecSerDe());
+    List<TopologySpec> topoSpecs = new ArrayList<>();
+    for (int i = 3; i > 0; i--) {
+      URI uri = URI.create("topospecIterator" + i);
+      TopologySpec topoSpec = new TopologySpec.Builder(uri)
+          .withConfig(ConfigBuilder.create().addPrimitive("key" + i, "value" + i).build())
+          .withDescription("TestIterator" + i)
+          .withVersion("Test version " + i)
+          .withSpecExecutor(MockedSpecExecutor.createDummySpecExecutor(new URI("exec" + i)))
+          .build();
+      iteratorSpecStore.addSpec(topoSpec);
+      topoSpecs.add(0, topoSpec);
+    }
+
+    // batches of 2 specs are read in ascending order of their URIs, and only flow specs are filtered
+    List<Spec> specs = new ArrayList<>();
+    iteratorSpecStore.getSpecsIterator(2, metadata -> false).forEachRemaining(specs::add);
+    Assert.assertEquals(specs, topoSpecs);
+
+    // a batch size that divides the number of specs still ends after them
+    specs.clear();
+    iteratorSpecStore.getSpecsIterator(3, metadata -> false).forEachRemaining(specs::add);
+    Assert.assertEquals(specs, topoSpecs);
+
+    Assert.assertThrows(IllegalArgumentException.class, () -> iteratorSpecStore.getSpecsIterator(0, metadata -> true));
+
+    // failing to read a batch after the first one fails the iteration
+    Iterator<Spec> specIterator = iteratorSpecStore.getSpecsIterator(2, metadata -> true);
+    Assert.assertEquals(specIterator.next(), topoSpecs.get(0));
+    try (Connection connection = iteratorSpecStore.dataSource.getConnection();
+        Statement statement = connection.createStatement()) {
+      statement.execute("DROP TABLE " + ITERATOR_TABLE);
+    }
+    Assert.assertEquals(specIterator.next(), topoSpecs.get(1));
+    Assert.assertThrows(RuntimeException.class, specIterator::hasNext);
+  }
+}
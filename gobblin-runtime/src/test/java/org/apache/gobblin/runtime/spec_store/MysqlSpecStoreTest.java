@@ -24,7 +24,9 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
@@ -49,6 +51,7 @@ import org.apache.gobblin.runtime.api.FlowSpecSearchObject;
 import org.apache.gobblin.runtime.api.Spec;
 import org.apache.gobblin.runtime.api.SpecSerDe;
 import org.apache.gobblin.runtime.api.SpecSerDeException;
+import org.apache.gobblin.runtime.api.SpecStore;
 import org.apache.gobblin.runtime.spec_serde.GsonFlowSpecSerDe;
 import org.apache.gobblin.service.FlowId;
 
@@ -60,6 +63,7 @@ public class MysqlSpecStoreTest {
   private static final String USER = "testUser";
   private static final String PASSWORD = "testPassword";
   private static final String TABLE = "spec_store";
+  private static final String ITERATOR_TABLE = "spec_store_iterator";
 
   private ITestMetastoreDatabase testDb;
   private MysqlSpecStore specStore;
@@ -422,6 +426,45 @@ public class MysqlSpecStoreTest {
     Assert.assertThrows(IllegalArgumentException.class, () -> this.specStore.getSpecsPaginated(2, -4));
   }
 
+  @Test
+  public void testGetSpecsIterator() throws Exception {
+    Config config = ConfigBuilder.create()
+        .addPrimitive(ConfigurationKeys.STATE_STORE_DB_URL_KEY, this.testDb.getJdbcUrl())
+        .addPrimitive(ConfigurationKeys.STATE_STORE_DB_USER_KEY, USER)
+        .addPrimitive(ConfigurationKeys.STATE_STORE_DB_PASSWORD_KEY, PASSWORD)
+        .addPrimitive(ConfigurationKeys.STATE_STORE_DB_TABLE_KEY, ITERATOR_TABLE)
+        .build();
+    MysqlSpecStore iteratorSpecStore = new MysqlSpecStore(config, new TestSpecSerDe());
+    iteratorSpecStore.addSpec(this.flowSpec5);
+    iteratorSpecStore.addSpec(this.flowSpec4);
+    iteratorSpecStore.addSpec(this.flowSpec2);
+    iteratorSpecStore.addSpec(this.flowSpec1);
+
+    // the filter sees the metadata of every spec, and flowSpec5 is rejected by its schedule
+    List<Config> filteredMetadata = new ArrayList<>();
+    List<Spec> specs = new ArrayList<>();
+    iteratorSpecStore.getSpecsIterator(2, metadata -> {
+      filteredMetadata.add(metadata);
+      return !metadata.hasPath(ConfigurationKeys.JOB_SCHEDULE_KEY);
+    }).forEachRemaining(specs::add);
+    specs.forEach(spec -> removeModificationTimestampFromSpecs(spec));
+    Assert.assertEquals(specs, Arrays.asList(this.flowSpec1, this.flowSpec2, this.flowSpec4));
+
+    Assert.assertEquals(filteredMetadata.size(), 4);
+    Config flowSpec5Metadata = filteredMetadata.get(3);
+    Assert.assertEquals(flowSpec5Metadata.getString(SpecStore.SPEC_URI_METADATA_KEY), this.uri5.toString());
+    Assert.assertEquals(flowSpec5Metadata.getString(ConfigurationKeys.FLOW_GROUP_KEY), "fg5");
+    Assert.assertEquals(flowSpec5Metadata.getString(ConfigurationKeys.FLOW_NAME_KEY), "fn5");
+    Assert.assertEquals(flowSpec5Metadata.getString(ConfigurationKeys.JOB_SCHEDULE_KEY), "0 0 8 * * ? *");
+
+    // a spec rejected by its metadata is not read at all, and the next batch starts after it
+    specs.clear();
+    iteratorSpecStore.getSpecsIterator(1, metadata -> metadata.getString(ConfigurationKeys.FLOW_GROUP_KEY).equals("fg2"))
+        .forEachRemaining(specs::add);
+    specs.forEach(spec -> removeModificationTimestampFromSpecs(spec));
+    Assert.assertEquals(specs, Collections.singletonList(this.flowSpec2));
+  }
+
   @Test(expectedExceptions = {IOException.class})
   public void testGetCorruptedSpec() throws Exception {
     this.specStore.addSpec(this.flowSpec3);
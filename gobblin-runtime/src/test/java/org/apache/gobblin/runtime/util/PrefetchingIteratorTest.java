@@ -0,0 +1,133 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.gobblin.runtime.util;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import com.google.common.collect.AbstractIterator;
+import com.google.common.collect.ContiguousSet;
+import com.google.common.collect.DiscreteDomain;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Range;
+
+
+public class PrefetchingIteratorTest {
+
+  @Test
+  public void testPreservesOrder() {
+    List<Integer> expected = Lists.newArrayList(ContiguousSet.create(Range.closedOpen(0, 1000), DiscreteDomain.integers()));
+    try (PrefetchingIterator<Integer> it = new PrefetchingIterator<>(expected.iterator(), 7, "test-prefetcher")) {
+      Assert.assertEquals(Lists.newArrayList(it), expected);
+      Assert.assertFalse(it.hasNext());
+    }
+  }
+
+  @Test
+  public void testBoundedAndConsumedWhileProducing() throws Exception {
+    AtomicInteger numProduced = new AtomicInteger();
+    CountDownLatch releaseLast = new CountDownLatch(1);
+    Iterator<Integer> underlying = new AbstractIterator<Integer>() {
+      @Override
+      protected Integer computeNext() {
+        int i = numProduced.get();
+        if (i == 20) {
+          return endOfData();
+        }
+        if (i == 19) {
+          try {
+            releaseLast.await();
+          } catch (InterruptedException ie) {
+            throw new RuntimeException(ie);
+          }
+        }
+        return numProduced.incrementAndGet();
+      }
+    };
+
+    try (PrefetchingIterator<Integer> it = new PrefetchingIterator<>(underlying, 5, "test-prefetcher")) {
+      // the first element is available while the producer is still blocked producing the rest
+      Assert.assertEquals(it.next(), Integer.valueOf(1));
+      Thread.sleep(200);
+      // one consumed + at most 5 buffered + one blocked in put
+      Assert.assertTrue(numProduced.get() <= 7, "produced " + numProduced.get());
+      for (int i = 2; i <= 19; i++) {
+        Assert.assertEquals(it.next(), Integer.valueOf(i));
+      }
+      releaseLast.countDown();
+      Assert.assertEquals(it.next(), Integer.valueOf(20));
+      Assert.assertFalse(it.hasNext());
+    }
+  }
+
+  @Test
+  public void testProducerFailureIsRethrownAfterProducedElements() {
+    Iterator<Integer> underlying = new AbstractIterator<Integer>() {
+      private int i = 0;
+
+      @Override
+      protected Integer computeNext() {
+        if (i == 3) {
+          throw new IllegalStateException("planning failed");
+        }
+        return i++;
+      }
+    };
+
+    try (PrefetchingIterator<Integer> it = new PrefetchingIterator<>(underlying, 10, "test-prefetcher")) {
+      Assert.assertEquals(it.next(), Integer.valueOf(0));
+      Assert.assertEquals(it.next(), Integer.valueOf(1));
+      Assert.assertEquals(it.next(), Integer.valueOf(2));
+      try {
+        it.hasNext();
+        Assert.fail("Expected the producer failure to be rethrown");
+      } catch (IllegalStateException ise) {
+        Assert.assertEquals(ise.getMessage(), "planning failed");
+      }
+    }
+  }
+
+  @Test
+  public void testInterruptedConsumerStops() {
+    CountDownLatch never = new CountDownLatch(1);
+    Iterator<Integer> underlying = new AbstractIterator<Integer>() {
+      @Override
+      protected Integer computeNext() {
+        try {
+          never.await();
+        } catch (InterruptedException ie) {
+          return endOfData();
+        }
+        return 0;
+      }
+    };
+
+    PrefetchingIterator<Integer> it = new PrefetchingIterator<>(underlying, 1, "test-prefetcher");
+    Thread.currentThread().interrupt();
+    Assert.assertFalse(it.hasNext());
+    // clear and verify the restored interrupt flag
+    Assert.assertTrue(Thread.interrupted());
+    // the iterator stays closed
+    Assert.assertFalse(it.hasNext());
+  }
+}
@@ -84,13 +84,25 @@ public class FlowGraphPath {
    * @throws URISyntaxException
    */
   public Dag<JobExecutionPlan> asDag(Config sysConfig) throws SpecNotFoundException, JobTemplate.TemplateException, URISyntaxException {
+    return asDag(sysConfig, FlowEdgeContext::getSpecExecutor);
+  }
+
+  /**
+   * A method to convert a path of {@link FlowEdgeContext}s into a {@link Dag<JobExecutionPlan>}, with the jobs of each
+   * {@link FlowEdge} sent to the executor chosen by `specExecutorSelector`.
+   * @param sysConfig containing environment config (e.g. metric/tracking event config) to be added to each {@link JobSpec}.
+   * @param specExecutorSelector choosing the executor of each hop
+   * @return a {@link Dag<JobExecutionPlan>}
+   */
+  public Dag<JobExecutionPlan> asDag(Config sysConfig, SpecExecutorSelector specExecutorSelector)
+      throws SpecNotFoundException, JobTemplate.TemplateException, URISyntaxException {
     Dag<JobExecutionPlan> flowDag = new Dag<>(new ArrayList<>());
 
     for (List<FlowEdgeContext> path: paths) {
       Dag<JobExecutionPlan> pathDag = new Dag<>(new ArrayList<>());
       Iterator<FlowEdgeContext> pathIterator = path.iterator();
       while (pathIterator.hasNext()) {
-        Dag<JobExecutionPlan> flowEdgeDag = convertHopToDag(pathIterator.next(), sysConfig);
+        Dag<JobExecutionPlan> flowEdgeDag = convertHopToDag(pathIterator.next(), sysConfig, specExecutorSelector);
         pathDag = concatenate(pathDag, flowEdgeDag);
       }
       flowDag = flowDag.merge(pathDag);
@@ -138,15 +150,17 @@ public class FlowGraphPath {
    * from the source of the {@link FlowEdge} to the destination of the {@link FlowEdge}.
    * @param flowEdgeContext an instance of {@link FlowEdgeContext}.
    * @param sysConfig environment config.
+   * @param specExecutorSelector choosing the executor of the hop.
    * @return a {@link Dag} of {@link JobExecutionPlan}s associated with the {@link FlowEdge}.
    */
-   private Dag<JobExecutionPlan> convertHopToDag(FlowEdgeContext flowEdgeContext, Config sysConfig)
+   private Dag<JobExecutionPlan> convertHopToDag(FlowEdgeContext flowEdgeContext, Config sysConfig,
+       SpecExecutorSelector specExecutorSelector)
       throws SpecNotFoundException, JobTemplate.TemplateException, URISyntaxException {
      FlowTemplate flowTemplate = flowEdgeContext.getEdge().getFlowTemplate();
      DatasetDescriptor inputDatasetDescriptor = flowEdgeContext.getInputDatasetDescriptor();
      DatasetDescriptor outputDatasetDescriptor = flowEdgeContext.getOutputDatasetDescriptor();
      Config mergedConfig = flowEdgeContext.getMergedConfig();
-     SpecExecutor specExecutor = flowEdgeContext.getSpecExecutor();
+     SpecExecutor specExecutor = specExecutorSelector.select(flowEdgeContext);
 
      //Get resolved job configs from the flow template
      List<Config> resolvedJobConfigs = flowTemplate.getResolvedJobConfigs(mergedConfig, inputDatasetDescriptor, outputDatasetDescriptor);
@@ -0,0 +1,264 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.gobblin.service.modules.flow;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Optional;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.Hashing;
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigRenderOptions;
+import com.typesafe.config.ConfigValueFactory;
+
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.apache.gobblin.configuration.ConfigurationKeys;
+import org.apache.gobblin.runtime.api.FlowSpec;
+import org.apache.gobblin.runtime.api.JobTemplate;
+import org.apache.gobblin.runtime.api.SpecExecutor;
+import org.apache.gobblin.service.ServiceConfigKeys;
+import org.apache.gobblin.service.modules.flowgraph.BaseFlowGraph;
+import org.apache.gobblin.service.modules.flowgraph.DataNode;
+import org.apache.gobblin.service.modules.flowgraph.FlowEdge;
+import org.apache.gobblin.service.modules.flowgraph.FlowGraph;
+import org.apache.gobblin.service.modules.template.FlowTemplate;
+import org.apache.gobblin.util.ConfigUtils;
+
+
+/**
+ * A cache of the paths found in a {@link FlowGraph} for {@link FlowSpec}s, so that recompiling an unchanged flow, e.g.
+ * on each scheduled execution, skips the path search along with its per-edge template and dataset descriptor resolution.
+ *
+ * Entries are keyed by a fingerprint of the flow config, which excludes {@link ConfigurationKeys#FLOW_EXECUTION_ID_KEY},
+ * and are only served for the {@link FlowGraph} they were found in. When the {@link FlowGraph} is replaced,
+ * {@link #onFlowGraphUpdate(FlowGraph, FlowGraph)} carries over the entries whose paths touch no changed edge or node,
+ * and drops the others. An edge counts as changed when it was removed, or when its endpoints, config, executors or
+ * templates changed, and a node when it was removed or its config changed. An edge added from a node on a path also
+ * drops that path, as it may open a shorter one.
+ *
+ * The compiled {@link org.apache.gobblin.service.modules.flowgraph.Dag}s are never cached, as their nodes carry
+ * per-execution state: every hit yields a new {@link FlowGraphPath}, with the current flow execution id, to be
+ * converted into a fresh one.
+ */
+@Slf4j
+public class FlowGraphPathCache {
+  public static final String FLOW_GRAPH_PATH_CACHE_PREFIX = ServiceConfigKeys.GOBBLIN_SERVICE_PREFIX + "flowCompiler.pathCache.";
+  public static final String FLOW_GRAPH_PATH_CACHE_ENABLED_KEY = FLOW_GRAPH_PATH_CACHE_PREFIX + "enabled";
+  public static final String FLOW_GRAPH_PATH_CACHE_MAX_SIZE_KEY = FLOW_GRAPH_PATH_CACHE_PREFIX + "maxSize";
+  public static final int DEFAULT_FLOW_GRAPH_PATH_CACHE_MAX_SIZE = 50000;
+  public static final String FLOW_GRAPH_PATH_CACHE_TTL_MINUTES_KEY = FLOW_GRAPH_PATH_CACHE_PREFIX + "ttlMinutes";
+  public static final int DEFAULT_FLOW_GRAPH_PATH_CACHE_TTL_MINUTES = 24 * 60;
+
+  @AllArgsConstructor
+  private static class CachedFlowGraphPath {
+    private final FlowGraph flowGraph;
+    private final List<List<FlowEdgeContext>> paths;
+    // signatures of the edges and nodes on the paths, as of when the paths were found
+    private final Map<String, List<Object>> edgeSignatures;
+    private final Map<String, List<Object>> nodeSignatures;
+  }
+
+  private final Cache<String, CachedFlowGraphPath> cache;
+
+  public FlowGraphPathCache(Config config) {
+    this(ConfigUtils.getInt(config, FLOW_GRAPH_PATH_CACHE_MAX_SIZE_KEY, DEFAULT_FLOW_GRAPH_PATH_CACHE_MAX_SIZE),
+        ConfigUtils.getInt(config, FLOW_GRAPH_PATH_CACHE_TTL_MINUTES_KEY, DEFAULT_FLOW_GRAPH_PATH_CACHE_TTL_MINUTES));
+  }
+
+  @VisibleForTesting
+  FlowGraphPathCache(int maxSize, int ttlMinutes) {
+    this.cache = CacheBuilder.newBuilder()
+        .maximumSize(maxSize)
+        .expireAfterWrite(ttlMinutes, TimeUnit.MINUTES)
+        .build();
+  }
+
+  /**
+   * @return the cached path of `flowSpec` in `flowGraph`, rebound to the current flow execution id of `flowSpec`, or
+   * absent when there is none for this exact {@link FlowGraph}
+   */
+  public Optional<FlowGraphPath> get(FlowSpec flowSpec, FlowGraph flowGraph) {
+    String fingerprint = fingerprint(flowSpec);
+    CachedFlowGraphPath cached = this.cache.getIfPresent(fingerprint);
+    if (cached == null) {
+      return Optional.absent();
+    }
+    // edges may also be deleted from a graph in place, rather than by replacing it
+    if (cached.flowGraph != flowGraph || !cached.paths.stream().flatMap(List::stream)
+        .allMatch(flowEdgeContext -> containsEdge(flowGraph, flowEdgeContext.getEdge()))) {
+      this.cache.invalidate(fingerprint);
+      return Optional.absent();
+    }
+    long flowExecutionId = FlowUtils.getOrCreateFlowExecutionId(flowSpec);
+    FlowGraphPath flowGraphPath = new FlowGraphPath(flowSpec, flowExecutionId);
+    for (List<FlowEdgeContext> path : cached.paths) {
+      flowGraphPath.addPath(path.stream().map(flowEdgeContext -> new FlowEdgeContext(flowEdgeContext.getEdge(),
+          flowEdgeContext.getInputDatasetDescriptor(), flowEdgeContext.getOutputDatasetDescriptor(),
+          flowEdgeContext.getMergedConfig().withValue(ConfigurationKeys.FLOW_EXECUTION_ID_KEY,
+              ConfigValueFactory.fromAnyRef(flowExecutionId)),
+          flowEdgeContext.getSpecExecutor())).collect(Collectors.toList()));
+    }
+    return Optional.of(flowGraphPath);
+  }
+
+  /**
+   * Cache the `flowGraphPath` found for `flowSpec` in `flowGraph`, unless `flowGraph` is no longer `currentFlowGraph`
+   */
+  public synchronized void put(FlowSpec flowSpec, FlowGraph flowGraph, FlowGraph currentFlowGraph, FlowGraphPath flowGraphPath) {
+    if (flowGraph != currentFlowGraph || flowGraphPath.getPaths() == null) {
+      return;
+    }
+    Map<String, List<Object>> edgeSignatures = new HashMap<>();
+    Map<String, List<Object>> nodeSignatures = new HashMap<>();
+    for (List<FlowEdgeContext> path : flowGraphPath.getPaths()) {
+      for (FlowEdgeContext flowEdgeContext : path) {
+        FlowEdge flowEdge = flowEdgeContext.getEdge();
+        edgeSignatures.computeIfAbsent(flowEdge.getId(), edgeId -> edgeSignature(flowEdge));
+        for (String nodeId : Arrays.asList(flowEdge.getSrc(), flowEdge.getDest())) {
+          nodeSignatures.computeIfAbsent(nodeId, id -> nodeSignature(flowGraph.getNode(id)));
+        }
+      }
+    }
+    this.cache.put(fingerprint(flowSpec), new CachedFlowGraphPath(flowGraph, flowGraphPath.getPaths(), edgeSignatures, nodeSignatures));
+  }
+
+  /**
+   * Carry the entries found in `oldFlowGraph` over to `newFlowGraph`, except for those whose paths touch an edge or a
+   * node that changed in `newFlowGraph`, or a node from which `newFlowGraph` has an edge `oldFlowGraph` did not have.
+   * Everything is dropped unless both are {@link BaseFlowGraph}s, as only those can be compared.
+   */
+  public synchronized void onFlowGraphUpdate(FlowGraph oldFlowGraph, FlowGraph newFlowGraph) {
+    if (!(oldFlowGraph instanceof BaseFlowGraph) || !(newFlowGraph instanceof BaseFlowGraph)) {
+      this.cache.invalidateAll();
+      return;
+    }
+    Set<String> oldEdgeIds = ((BaseFlowGraph) oldFlowGraph).getFlowEdges().stream().map(FlowEdge::getId).collect(Collectors.toSet());
+    Map<String, FlowEdge> newEdges = new HashMap<>();
+    Set<String> nodeIdsWithAddedEdges = new HashSet<>();
+    for (FlowEdge flowEdge : ((BaseFlowGraph) newFlowGraph).getFlowEdges()) {
+      newEdges.put(flowEdge.getId(), flowEdge);
+      if (!oldEdgeIds.contains(flowEdge.getId())) {
+        nodeIdsWithAddedEdges.add(flowEdge.getSrc());
+      }
+    }
+    // signatures are computed at most once per edge and node across all entries
+    Map<String, List<Object>> newEdgeSignatures = new HashMap<>();
+    Map<String, List<Object>> newNodeSignatures = new HashMap<>();
+
+    int numCarriedOver = 0;
+    int numDropped = 0;
+    for (Map.Entry<String, CachedFlowGraphPath> entry : this.cache.asMap().entrySet()) {
+      CachedFlowGraphPath cached = entry.getValue();
+      boolean isUnchanged = cached.flowGraph == oldFlowGraph
+          && cached.nodeSignatures.keySet().stream().noneMatch(nodeIdsWithAddedEdges::contains)
+          && cached.edgeSignatures.entrySet().stream().allMatch(edge -> newEdges.containsKey(edge.getKey())
+              && edge.getValue().equals(newEdgeSignatures.computeIfAbsent(edge.getKey(), edgeId -> edgeSignature(newEdges.get(edgeId)))))
+          && cached.nodeSignatures.entrySet().stream().allMatch(node -> node.getValue().equals(
+              newNodeSignatures.computeIfAbsent(node.getKey(), nodeId -> nodeSignature(newFlowGraph.getNode(nodeId)))));
+      if (isUnchanged) {
+        this.cache.put(entry.getKey(), new CachedFlowGraphPath(newFlowGraph, rebind(cached.paths, newEdges),
+            cached.edgeSignatures, cached.nodeSignatures));
+        numCarriedOver++;
+      } else {
+        this.cache.invalidate(entry.getKey());
+        numDropped++;
+      }
+    }
+    log.info("Flow graph updated: carried over {} cached paths, dropped {}", numCarriedOver, numDropped);
+  }
+
+  public void invalidateAll() {
+    this.cache.invalidateAll();
+  }
+
+  @VisibleForTesting
+  long size() {
+    return this.cache.size();
+  }
+
+  /** Point the cached paths at the (unchanged) edges and executors of `newFlowGraph`, in place of those of the replaced graph */
+  private static List<List<FlowEdgeContext>> rebind(List<List<FlowEdgeContext>> paths, Map<String, FlowEdge> newEdges) {
+    List<List<FlowEdgeContext>> reboundPaths = new ArrayList<>(paths.size());
+    for (List<FlowEdgeContext> path : paths) {
+      reboundPaths.add(path.stream().map(flowEdgeContext -> {
+        FlowEdge newEdge = newEdges.get(flowEdgeContext.getEdge().getId());
+        SpecExecutor newSpecExecutor = newEdge.getExecutors().stream()
+            .filter(specExecutor -> specExecutor.getUri().equals(flowEdgeContext.getSpecExecutor().getUri()))
+            .findFirst().orElse(flowEdgeContext.getSpecExecutor());
+        return new FlowEdgeContext(newEdge, flowEdgeContext.getInputDatasetDescriptor(),
+            flowEdgeContext.getOutputDatasetDescriptor(), flowEdgeContext.getMergedConfig(), newSpecExecutor);
+      }).collect(Collectors.toList()));
+    }
+    return reboundPaths;
+  }
+
+  private static boolean containsEdge(FlowGraph flowGraph, FlowEdge flowEdge) {
+    Collection<FlowEdge> flowEdges = flowGraph.getEdges(flowEdge.getSrc());
+    return flowEdges != null && flowEdges.stream().anyMatch(edge -> edge == flowEdge);
+  }
+
+  private static List<Object> nodeSignature(DataNode dataNode) {
+    return dataNode == null ? null : Arrays.asList(dataNode.isActive(), dataNode.getRawConfig());
+  }
+
+  /**
+   * @return what determines whether the path search may pick `flowEdge` and how it resolves, as a comparable value
+   */
+  private static List<Object> edgeSignature(FlowEdge flowEdge) {
+    List<Object> templateConfigs = new ArrayList<>();
+    try {
+      FlowTemplate flowTemplate = flowEdge.getFlowTemplate();
+      templateConfigs.add(flowTemplate.getUri());
+      templateConfigs.add(flowTemplate.getRawTemplateConfig());
+      for (JobTemplate jobTemplate : flowTemplate.getJobTemplates()) {
+        templateConfigs.add(jobTemplate.getRawTemplateConfig());
+      }
+    } catch (Exception e) {
+      // an edge whose templates cannot be read is considered changed
+      templateConfigs.add(new Object());
+    }
+    return Arrays.asList(flowEdge.getSrc(), flowEdge.getDest(), flowEdge.isActive(), flowEdge.getConfig(),
+        flowEdge.getExecutors().stream().map(SpecExecutor::getUri).collect(Collectors.toList()), templateConfigs);
+  }
+
+  /** @return a digest of the flow config without its execution id, which is the only part changing between executions */
+  @VisibleForTesting
+  static String fingerprint(FlowSpec flowSpec) {
+    String renderedConfig = flowSpec.getConfig().withoutPath(ConfigurationKeys.FLOW_EXECUTION_ID_KEY).root()
+        .render(ConfigRenderOptions.concise());
+    return Hashing.sha256().newHasher()
+        .putString(renderedConfig, StandardCharsets.UTF_8)
+        .putString(Objects.toString(flowSpec.getTemplateURIs().orNull()), StandardCharsets.UTF_8)
+        .hash().toString();
+  }
+}
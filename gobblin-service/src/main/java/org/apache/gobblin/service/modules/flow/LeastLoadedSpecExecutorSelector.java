@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.gobblin.service.modules.flow;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.typesafe.config.Config;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.apache.gobblin.runtime.api.SpecExecutor;
+import org.apache.gobblin.service.ServiceConfigKeys;
+import org.apache.gobblin.service.modules.orchestration.SpecExecutorLoadTracker;
+import org.apache.gobblin.util.ConfigUtils;
+
+
+/**
+ * {@link SpecExecutorSelector} that sends the jobs of an edge to the least loaded of its executors, as seen by the
+ * {@link SpecExecutorLoadTracker}. The load of an executor is its number of running jobs, plus the recent start latency
+ * of its jobs in units of {@link ServiceConfigKeys#SPEC_EXECUTOR_SELECTOR_START_LATENCY_WEIGHT_MILLIS_KEY}, so that an
+ * executor queueing jobs counts as busy even while running few of them. Ties keep the executor found while computing
+ * the path, so that flows stay where they are as long as the executors are equally loaded.
+ */
+@Slf4j
+public class LeastLoadedSpecExecutorSelector implements SpecExecutorSelector {
+  private final SpecExecutorLoadTracker loadTracker;
+  private final long startLatencyWeightMillis;
+  private final long startLatencyMaxAgeMillis;
+
+  public LeastLoadedSpecExecutorSelector(Config config) {
+    this(config, SpecExecutorLoadTracker.get());
+  }
+
+  @VisibleForTesting
+  LeastLoadedSpecExecutorSelector(Config config, SpecExecutorLoadTracker loadTracker) {
+    this.loadTracker = loadTracker;
+    this.startLatencyWeightMillis = Math.max(ConfigUtils.getLong(config,
+        ServiceConfigKeys.SPEC_EXECUTOR_SELECTOR_START_LATENCY_WEIGHT_MILLIS_KEY,
+        ServiceConfigKeys.DEFAULT_SPEC_EXECUTOR_SELECTOR_START_LATENCY_WEIGHT_MILLIS), 1L);
+    this.startLatencyMaxAgeMillis = ConfigUtils.getLong(config,
+        ServiceConfigKeys.SPEC_EXECUTOR_SELECTOR_START_LATENCY_MAX_AGE_MILLIS_KEY,
+        ServiceConfigKeys.DEFAULT_SPEC_EXECUTOR_SELECTOR_START_LATENCY_MAX_AGE_MILLIS);
+  }
+
+  @Override
+  public SpecExecutor select(FlowEdgeContext flowEdgeContext) {
+    SpecExecutor selectedSpecExecutor = flowEdgeContext.getSpecExecutor();
+    if (flowEdgeContext.getEdge().getExecutors().size() < 2) {
+      return selectedSpecExecutor;
+    }
+    double minLoad = getLoad(selectedSpecExecutor);
+    for (SpecExecutor specExecutor : flowEdgeContext.getEdge().getExecutors()) {
+      double load = getLoad(specExecutor);
+      if (load < minLoad) {
+        selectedSpecExecutor = specExecutor;
+        minLoad = load;
+      }
+    }
+    if (selectedSpecExecutor != flowEdgeContext.getSpecExecutor()) {
+      log.info("Sending jobs of edge {} to executor {} with load {} instead of {} with load {}",
+          flowEdgeContext.getEdge().getId(), selectedSpecExecutor.getUri(), minLoad,
+          flowEdgeContext.getSpecExecutor().getUri(), getLoad(flowEdgeContext.getSpecExecutor()));
+    }
+    return selectedSpecExecutor;
+  }
+
+  @VisibleForTesting
+  double getLoad(SpecExecutor specExecutor) {
+    String specExecutorUri = specExecutor.getUri().toString();
+    return this.loadTracker.getNumRunningJobs(specExecutorUri)
+        + (double) this.loadTracker.getStartLatencyMillis(specExecutorUri, this.startLatencyMaxAgeMillis) / this.startLatencyWeightMillis;
+  }
+}
@@ -36,6 +36,7 @@ import org.apache.commons.lang3.reflect.ConstructorUtils;
 import org.apache.hadoop.fs.Path;
 import org.slf4j.Logger;
 
+import com.codahale.metrics.Meter;
 import com.google.common.base.Joiner;
 import com.google.common.base.Optional;
 import com.google.common.base.Preconditions;
@@ -52,6 +53,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.gobblin.annotation.Alpha;
 import org.apache.gobblin.configuration.ConfigurationKeys;
 import org.apache.gobblin.instrumented.Instrumented;
+import org.apache.gobblin.metrics.ServiceMetricNames;
 import org.apache.gobblin.runtime.api.FlowSpec;
 import org.apache.gobblin.runtime.api.JobTemplate;
 import org.apache.gobblin.runtime.api.Spec;
@@ -93,8 +95,14 @@ public class MultiHopFlowCompiler extends BaseFlowToJobSpecCompiler {
 
   private DataMovementAuthorizer dataMovementAuthorizer;
 
+  private SpecExecutorSelector specExecutorSelector;
+
   private Map<String, String> dataNodeAliasMap = new HashMap<>();
 
+  private Optional<FlowGraphPathCache> flowGraphPathCache = Optional.absent();
+  private Optional<Meter> flowGraphPathCacheHitMeter = Optional.absent();
+  private Optional<Meter> flowGraphPathCacheMissMeter = Optional.absent();
+
   // a map to hold aliases of data nodes, e.g. gobblin.service.datanode.aliases.map=node1-dev:node1,node1-stg:node1,node1-prod:node1
   public static final String DATA_NODE_ID_TO_ALIAS_MAP = ServiceConfigKeys.GOBBLIN_SERVICE_PREFIX + "datanode.aliases.map";
 
@@ -114,6 +122,8 @@ public class MultiHopFlowCompiler extends BaseFlowToJobSpecCompiler {
     super(config, Optional.absent(), true);
     this.flowGraph = flowGraph;
     this.dataMovementAuthorizer = new NoopDataMovementAuthorizer(config);
+    initFlowGraphPathCache(config);
+    initSpecExecutorSelector(config);
   }
 
   public MultiHopFlowCompiler(Config config, Optional<Logger> log, boolean instrumentationEnabled) {
@@ -125,6 +135,8 @@ public class MultiHopFlowCompiler extends BaseFlowToJobSpecCompiler {
     } catch (RuntimeException e) {
       MultiHopFlowCompiler.log.warn("Exception reading data node alias map, ignoring it.", e);
     }
+    initFlowGraphPathCache(config);
+    initSpecExecutorSelector(config);
     // Use atomic reference to avoid partial flowgraph upgrades during path compilation.
     this.flowGraph = new AtomicReference<>(new BaseFlowGraph(dataNodeAliasMap));
 
@@ -178,6 +190,26 @@ public class MultiHopFlowCompiler extends BaseFlowToJobSpecCompiler {
     }
   }
 
+  private void initFlowGraphPathCache(Config config) {
+    if (ConfigUtils.getBoolean(config, FlowGraphPathCache.FLOW_GRAPH_PATH_CACHE_ENABLED_KEY, false)) {
+      this.flowGraphPathCache = Optional.of(new FlowGraphPathCache(config));
+      if (isInstrumentationEnabled()) {
+        this.flowGraphPathCacheHitMeter = Optional.of(this.metricContext.meter(ServiceMetricNames.FLOW_COMPILATION_PATH_CACHE_HIT_METER));
+        this.flowGraphPathCacheMissMeter = Optional.of(this.metricContext.meter(ServiceMetricNames.FLOW_COMPILATION_PATH_CACHE_MISS_METER));
+      }
+    }
+  }
+
+  private void initSpecExecutorSelector(Config config) {
+    try {
+      String specExecutorSelectorClassName = ConfigUtils.getString(config, ServiceConfigKeys.SPEC_EXECUTOR_SELECTOR_CLASS_KEY,
+          StaticSpecExecutorSelector.class.getCanonicalName());
+      this.specExecutorSelector = (SpecExecutorSelector) ConstructorUtils.invokeConstructor(Class.forName(new ClassAliasResolver<>(SpecExecutorSelector.class).resolve(specExecutorSelectorClassName)), config);
+    } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException | InstantiationException | ClassNotFoundException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
   /**
    * Mark the {@link SpecCompiler} as active. This in turn activates the {@link GitFlowGraphMonitor}, allowing to start polling
    * and processing changes
@@ -256,10 +288,10 @@ public class MultiHopFlowCompiler extends BaseFlowToJobSpecCompiler {
         }
 
         //Compute the path from source to destination.
-        FlowGraphPath flowGraphPath = graph.findPath(datasetFlowSpec);
+        FlowGraphPath flowGraphPath = findPath(graph, datasetFlowSpec);
         if (flowGraphPath != null) {
           //Convert the path into a Dag of JobExecutionPlans.
-          jobExecutionPlanDag = jobExecutionPlanDag.merge(flowGraphPath.asDag(this.config));
+          jobExecutionPlanDag = jobExecutionPlanDag.merge(flowGraphPath.asDag(this.config, this.specExecutorSelector));
         }
       }
 
@@ -289,8 +321,41 @@ public class MultiHopFlowCompiler extends BaseFlowToJobSpecCompiler {
     return jobExecutionPlanDag;
   }
 
+  /**
+   * Find the path for `flowSpec` in `graph`, reusing the one found on a previous compilation of the same flow as long as
+   * the edges and nodes along it have not changed since.
+   */
+  private FlowGraphPath findPath(FlowGraph graph, FlowSpec flowSpec) throws PathFinder.PathFinderException,
+      ReflectiveOperationException {
+    if (!this.flowGraphPathCache.isPresent()) {
+      return graph.findPath(flowSpec);
+    }
+    Optional<FlowGraphPath> cachedFlowGraphPath = this.flowGraphPathCache.get().get(flowSpec, graph);
+    if (cachedFlowGraphPath.isPresent()) {
+      Instrumented.markMeter(this.flowGraphPathCacheHitMeter);
+      return cachedFlowGraphPath.get();
+    }
+    Instrumented.markMeter(this.flowGraphPathCacheMissMeter);
+    FlowGraphPath flowGraphPath = graph.findPath(flowSpec);
+    if (flowGraphPath != null) {
+      this.flowGraphPathCache.get().put(flowSpec, graph, this.flowGraph.get(), flowGraphPath);
+    }
+    return flowGraphPath;
+  }
+
+  public FlowGraph getFlowGraph() {
+    return this.flowGraph.get();
+  }
+
   public void setFlowGraph(FlowGraph flowGraph) {
-    this.flowGraph.set(flowGraph);
+    if (this.flowGraphPathCache.isPresent()) {
+      // serialize with caching so that no path found in the replaced graph is cached after its entries are re-validated
+      synchronized (this.flowGraphPathCache.get()) {
+        this.flowGraphPathCache.get().onFlowGraphUpdate(this.flowGraph.getAndSet(flowGraph), flowGraph);
+      }
+    } else {
+      this.flowGraph.set(flowGraph);
+    }
   }
 
   /**
@@ -0,0 +1,34 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.gobblin.service.modules.flow;
+
+import org.apache.gobblin.runtime.api.SpecExecutor;
+import org.apache.gobblin.service.modules.flowgraph.FlowEdge;
+
+
+/**
+ * Chooses, each time a flow is compiled, which of the executors of a {@link FlowEdge} on its path its jobs are sent to.
+ * All the executors of an edge resolve its flow template alike, so any of them may be chosen.
+ */
+public interface SpecExecutorSelector {
+  /**
+   * @return one of the executors of the edge of `flowEdgeContext`, by default the one {@link FlowEdgeContext#getSpecExecutor()}
+   * found while computing the path
+   */
+  SpecExecutor select(FlowEdgeContext flowEdgeContext);
+}
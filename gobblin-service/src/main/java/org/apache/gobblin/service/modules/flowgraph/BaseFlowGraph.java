@@ -17,6 +17,8 @@
 
 package org.apache.gobblin.service.modules.flowgraph;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
@@ -61,6 +63,25 @@ public class BaseFlowGraph implements FlowGraph {
     this.dataNodeAliasMap = dataNodeAliasMap;
   }
 
+  /**
+   * @return a copy of this {@link FlowGraph}, sharing its {@link DataNode}s and {@link FlowEdge}s, which can be updated
+   * without affecting this one
+   */
+  public BaseFlowGraph copy() {
+    try {
+      rwLock.readLock().lock();
+      BaseFlowGraph copy = new BaseFlowGraph(this.dataNodeAliasMap);
+      for (Map.Entry<DataNode, Set<FlowEdge>> nodeToEdges : this.nodesToEdges.entrySet()) {
+        copy.nodesToEdges.put(nodeToEdges.getKey(), new HashSet<>(nodeToEdges.getValue()));
+      }
+      copy.dataNodeMap.putAll(this.dataNodeMap);
+      copy.flowEdgeMap.putAll(this.flowEdgeMap);
+      return copy;
+    } finally {
+      rwLock.readLock().unlock();
+    }
+  }
+
   /**
    * Lookup a node by its identifier.
    *
@@ -82,9 +103,10 @@ public class BaseFlowGraph implements FlowGraph {
   public boolean addDataNode(DataNode node) {
     try {
       rwLock.writeLock().lock();
-      //Get edges adjacent to the node if it already exists
-      Set<FlowEdge> edges = this.nodesToEdges.getOrDefault(node, new HashSet<>());
-      this.nodesToEdges.put(node, edges);
+      //Get edges adjacent to the node if it already exists, looking it up by id since the new node may not equal the old
+      DataNode oldNode = this.dataNodeMap.get(node.getId());
+      Set<FlowEdge> edges = oldNode != null ? this.nodesToEdges.remove(oldNode) : null;
+      this.nodesToEdges.put(node, edges != null ? edges : new HashSet<>());
       this.dataNodeMap.put(node.getId(), node);
     } finally {
       rwLock.writeLock().unlock();
@@ -238,6 +260,30 @@ public class BaseFlowGraph implements FlowGraph {
     }
   }
 
+  /**
+   * @return a snapshot of all the {@link DataNode}s in the graph
+   */
+  public Collection<DataNode> getDataNodes() {
+    try {
+      rwLock.readLock().lock();
+      return new ArrayList<>(this.dataNodeMap.values());
+    } finally {
+      rwLock.readLock().unlock();
+    }
+  }
+
+  /**
+   * @return a snapshot of all the {@link FlowEdge}s in the graph
+   */
+  public Collection<FlowEdge> getFlowEdges() {
+    try {
+      rwLock.readLock().lock();
+      return new ArrayList<>(this.flowEdgeMap.values());
+    } finally {
+      rwLock.readLock().unlock();
+    }
+  }
+
   /**{@inheritDoc}**/
   @Override
   public FlowGraphPath findPath(FlowSpec flowSpec)
@@ -21,15 +21,20 @@ import java.io.File;
 import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.fs.FileSystem;
 import org.apache.hadoop.fs.Path;
 
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.Timer;
 import com.google.common.base.Joiner;
 import com.google.common.base.Optional;
 import com.google.common.collect.Sets;
@@ -85,6 +90,9 @@ public class BaseFlowGraphHelper {
   protected final Set<String> javaPropsExtensions;
   protected final Set<String> hoconFileExtensions;
   protected final Optional<ContextAwareMeter> flowGraphUpdateFailedMeter;
+  private final Optional<Timer> flowGraphUpdateTimer;
+  private final Optional<Meter> flowGraphUpdateChangedEdgesMeter;
+  private final Optional<Meter> flowGraphFullReloadMeter;
 
   public BaseFlowGraphHelper(Optional<? extends FSFlowTemplateCatalog> flowTemplateCatalog,
       Map<URI, TopologySpec> topologySpecMap, String baseDirectory, String flowGraphFolderName,
@@ -99,8 +107,14 @@ public class BaseFlowGraphHelper {
     if (instrumentationEnabled) {
       this.metricContext = Instrumented.getMetricContext(ConfigUtils.configToState(config), BaseFlowGraphHelper.class);
       this.flowGraphUpdateFailedMeter = Optional.of(this.metricContext.contextAwareMeter(ServiceMetricNames.FLOWGRAPH_UPDATE_FAILED_METER));
+      this.flowGraphUpdateTimer = Optional.of(this.metricContext.contextAwareTimer(ServiceMetricNames.FLOWGRAPH_UPDATE_TIMER));
+      this.flowGraphUpdateChangedEdgesMeter = Optional.of(this.metricContext.contextAwareMeter(ServiceMetricNames.FLOWGRAPH_UPDATE_CHANGED_EDGES_METER));
+      this.flowGraphFullReloadMeter = Optional.of(this.metricContext.contextAwareMeter(ServiceMetricNames.FLOWGRAPH_FULL_RELOAD_METER));
     } else {
       this.flowGraphUpdateFailedMeter = Optional.absent();
+      this.flowGraphUpdateTimer = Optional.absent();
+      this.flowGraphUpdateChangedEdgesMeter = Optional.absent();
+      this.flowGraphFullReloadMeter = Optional.absent();
     }
     try {
       this.pullFileLoader = new PullFileLoader(folderPath,
@@ -173,6 +187,23 @@ public class BaseFlowGraphHelper {
     }
   }
 
+  /**
+   * Builds the {@link DataNode} of a changed node file again, in place of the one in `graph`, keeping its edges.
+   * @param nodeFilePath path of the node file
+   * @return false if the file is not the node file of a {@link DataNode} in `graph`, or if the node could not be built
+   */
+  protected boolean updateDataNode(FlowGraph graph, Path nodeFilePath) {
+    if (!isConfigFile(nodeFilePath, getNodeFileDepth())) {
+      return false;
+    }
+    DataNode dataNode = graph.getNode(nodeFilePath.getParent().getName());
+    if (dataNode == null) {
+      return false;
+    }
+    addDataNode(graph, Paths.get(nodeFilePath.toUri().getPath()));
+    return graph.getNode(dataNode.getId()) != dataNode;
+  }
+
   /**
    * check whether the file has the proper naming and hierarchy for nodes and edges
    * @param file the relative path from the root of the flowgraph
@@ -193,6 +224,12 @@ public class BaseFlowGraphHelper {
     return true;
   }
 
+  private boolean isConfigFile(Path filePath, int depth) {
+    String fileExtension = Files.getFileExtension(filePath.getName());
+    return checkFileLevelRelativeToRoot(filePath, depth)
+        && (this.javaPropsExtensions.contains(fileExtension) || this.hoconFileExtensions.contains(fileExtension));
+  }
+
   /**
    * Helper to check if a file has proper hierarchy.
    * @param filePath path of the node/edge file
@@ -292,6 +329,60 @@ public class BaseFlowGraphHelper {
    * The current flowgraph will be swapped atomically with the new flowgraph that is loaded
    */
   public FlowGraph generateFlowGraph() {
+    long startTimeNanos = System.nanoTime();
+    FlowGraph flowGraph = loadFlowGraph();
+    Instrumented.updateTimer(this.flowGraphUpdateTimer, System.nanoTime() - startTimeNanos, TimeUnit.NANOSECONDS);
+    return flowGraph;
+  }
+
+  /**
+   * Applies the changes to the given node and edge files on a copy of `flowGraph`, rather than loading the entire
+   * flowgraph again. Only the {@link FlowEdge}s of the changed edge files and the {@link DataNode}s of the changed node
+   * files are built again, so the templates of the other edges are not resolved again. Falls back to
+   * {@link #generateFlowGraph()} for changes that cannot be applied on their own, i.e. a node being added or deleted, or
+   * any other file changing.
+   * @param flowGraph the current flowgraph, which is left as is
+   * @param changedFilePaths paths of the created, changed or deleted files, either absolute or relative to the base directory
+   * @return the updated flowgraph, or null if it had to be loaded entirely and could not be
+   */
+  public FlowGraph updateFlowGraph(FlowGraph flowGraph, Collection<Path> changedFilePaths) {
+    long startTimeNanos = System.nanoTime();
+    FlowGraph newFlowGraph = applyChanges(flowGraph, changedFilePaths);
+    Instrumented.updateTimer(this.flowGraphUpdateTimer, System.nanoTime() - startTimeNanos, TimeUnit.NANOSECONDS);
+    return newFlowGraph;
+  }
+
+  private FlowGraph applyChanges(FlowGraph flowGraph, Collection<Path> changedFilePaths) {
+    if (!(flowGraph instanceof BaseFlowGraph)) {
+      Instrumented.markMeter(this.flowGraphFullReloadMeter);
+      return loadFlowGraph();
+    }
+    BaseFlowGraph newFlowGraph = ((BaseFlowGraph) flowGraph).copy();
+    int numChangedEdges = 0;
+    for (Path changedFilePath : changedFilePaths) {
+      Path filePath = new Path(new Path(this.baseDirectory), changedFilePath);
+      java.nio.file.Path localFilePath = Paths.get(filePath.toUri().getPath());
+      boolean isDeleted = !java.nio.file.Files.exists(localFilePath);
+      if (isConfigFile(filePath, getEdgeFileDepth())) {
+        // the edge is deleted first so that it is absent, as on a full reload, if it can no longer be built
+        newFlowGraph.deleteFlowEdge(getEdgeId(filePath.getParent().getParent().getName(), filePath.getParent().getName(),
+            Files.getNameWithoutExtension(filePath.getName())));
+        if (!isDeleted) {
+          addFlowEdge(newFlowGraph, localFilePath);
+        }
+        numChangedEdges++;
+      } else if (isDeleted || !updateDataNode(newFlowGraph, filePath)) {
+        log.info("Change to {} cannot be applied on its own, reloading the entire flowgraph", changedFilePath);
+        Instrumented.markMeter(this.flowGraphFullReloadMeter);
+        return loadFlowGraph();
+      }
+    }
+    Instrumented.markMeter(this.flowGraphUpdateChangedEdgesMeter, numChangedEdges);
+    log.info("Applied changes to {} files, including {} edges, to the flowgraph", changedFilePaths.size(), numChangedEdges);
+    return newFlowGraph;
+  }
+
+  private FlowGraph loadFlowGraph() {
     FlowGraph newFlowGraph = new BaseFlowGraph();
     java.nio.file.Path graphPath = new File(this.baseDirectory).toPath();
     try {
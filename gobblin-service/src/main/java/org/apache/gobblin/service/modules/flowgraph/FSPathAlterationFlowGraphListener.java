@@ -18,6 +18,10 @@
 package org.apache.gobblin.service.modules.flowgraph;
 
 import java.io.File;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
 
 import org.apache.hadoop.fs.Path;
 
@@ -35,7 +39,8 @@ import org.apache.gobblin.util.filesystem.PathAlterationObserver;
  * An implementation of {@link PathAlterationListener} to listen for changes in a directory and apply it to a GaaS FlowGraph
  * Is invoked by {@link PathAlterationObserver} which would check a folder and perform recursive comparisons on files compared to
  * their last polled state. On any detected differences in files when a check is done, the {@link FlowGraph} will be updated.
- *
+ * Only the nodes and edges of the changed files are updated, unless templates changed as well, in which case the entire
+ * {@link FlowGraph} is reloaded.
  */
 @Slf4j
 public class FSPathAlterationFlowGraphListener implements PathAlterationListener {
@@ -43,6 +48,9 @@ public class FSPathAlterationFlowGraphListener implements PathAlterationListener
   private final BaseFlowGraphHelper flowGraphHelper;
   private Optional<UpdatableFSFlowTemplateCatalog> flowTemplateCatalog;
   private final boolean shouldMonitorTemplateCatalog;
+  private final String flowGraphDir;
+  // files changed since the last check that detected a change
+  private final Set<Path> changedFilePaths = new LinkedHashSet<>();
 
   public FSPathAlterationFlowGraphListener(Optional<UpdatableFSFlowTemplateCatalog> flowTemplateCatalog,
       MultiHopFlowCompiler compiler, String baseDirectory, BaseFlowGraphHelper flowGraphHelper, boolean shouldMonitorTemplateCatalog) {
@@ -55,6 +63,7 @@ public class FSPathAlterationFlowGraphListener implements PathAlterationListener
       throw new RuntimeException(String.format("Flowgraph directory at path %s does not exist!", graphDir));
     }
     this.compiler = compiler;
+    this.flowGraphDir = new Path(baseDirectory).toUri().getPath();
   }
 
   @Override
@@ -63,10 +72,12 @@ public class FSPathAlterationFlowGraphListener implements PathAlterationListener
 
   @Override
   public void onFileCreate(final Path path) {
+    this.changedFilePaths.add(path);
   }
 
   @Override
   public void onFileChange(final Path path) {
+    this.changedFilePaths.add(path);
   }
 
   @Override
@@ -83,22 +94,35 @@ public class FSPathAlterationFlowGraphListener implements PathAlterationListener
 
   @Override
   public void onDirectoryDelete(final Path directory) {
+    // the files in the directory are not reported as deleted
+    this.changedFilePaths.add(directory);
   }
 
   @Override
   public void onFileDelete(final Path path) {
+    this.changedFilePaths.add(path);
   }
 
   @Override
   public void onCheckDetectedChange() {
-    log.info("Detecting change in flowgraph files, reloading flowgraph");
-    if (this.shouldMonitorTemplateCatalog) {
-      // Clear template cache as templates are colocated with the flowgraph, and thus could have been updated too
+    List<Path> changedFiles = new ArrayList<>(this.changedFilePaths);
+    this.changedFilePaths.clear();
+    FlowGraph newGraph;
+    if (this.shouldMonitorTemplateCatalog && changedFiles.stream().anyMatch(path -> !isInFlowGraphDir(path))) {
+      log.info("Detecting change in template files, reloading flowgraph");
+      // Clear template cache as templates are colocated with the flowgraph, only the changed ones are loaded again
       this.flowTemplateCatalog.get().clearTemplates();
+      newGraph = this.flowGraphHelper.generateFlowGraph();
+    } else {
+      log.info("Detecting change in flowgraph files {}, updating flowgraph", changedFiles);
+      newGraph = this.flowGraphHelper.updateFlowGraph(this.compiler.getFlowGraph(), changedFiles);
     }
-    FlowGraph newGraph = this.flowGraphHelper.generateFlowGraph();
     if (newGraph != null) {
       this.compiler.setFlowGraph(newGraph);
     }
   }
+
+  private boolean isInFlowGraphDir(Path path) {
+    return path.toUri().getPath().startsWith(this.flowGraphDir + "/");
+  }
 }
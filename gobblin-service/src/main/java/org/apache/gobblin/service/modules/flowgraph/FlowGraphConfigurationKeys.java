@@ -54,4 +54,29 @@ public class FlowGraphConfigurationKeys {
    */
   public static final String FLOW_GRAPH_PATH_FINDER_CLASS = FLOW_GRAPH_PREFIX + "pathfinder.class";
   public static final String DEFAULT_FLOW_GRAPH_PATH_FINDER_CLASS = "org.apache.gobblin.service.modules.flowgraph.pathfinder.BFSPathFinder";
+
+  /**
+   * {@link org.apache.gobblin.service.modules.flowgraph.pathfinder.DijkstraPathFinder} related configuration keys, read
+   * from the flow config.
+   */
+  public static final String FLOW_GRAPH_PATH_FINDER_EDGE_COST_FUNCTION_CLASS = FLOW_GRAPH_PREFIX + "pathfinder.edgeCostFunction.class";
+  public static final String DEFAULT_FLOW_GRAPH_PATH_FINDER_EDGE_COST_FUNCTION_CLASS =
+      "org.apache.gobblin.service.modules.flowgraph.pathfinder.ConfigBasedFlowEdgeCostFunction";
+  public static final String FLOW_GRAPH_PATH_FINDER_MAX_EDGE_VISITS = FLOW_GRAPH_PREFIX + "pathfinder.maxEdgeVisits";
+  public static final int DEFAULT_FLOW_GRAPH_PATH_FINDER_MAX_EDGE_VISITS = 10000;
+  public static final String FLOW_GRAPH_PATH_FINDER_CONCURRENT_EDGE_EVALUATION_ENABLED =
+      FLOW_GRAPH_PREFIX + "pathfinder.concurrentEdgeEvaluation.enabled";
+  public static final boolean DEFAULT_FLOW_GRAPH_PATH_FINDER_CONCURRENT_EDGE_EVALUATION_ENABLED = true;
+
+  /**
+   * {@link org.apache.gobblin.service.modules.flowgraph.pathfinder.ConfigBasedFlowEdgeCostFunction} related
+   * configuration keys, read from the merged config of each edge, so that they are set in the edge properties and may be
+   * overridden in the flow config.
+   */
+  public static final String FLOW_EDGE_COST_PREFIX = FLOW_EDGE_PREFIX + "cost.";
+  public static final String FLOW_EDGE_COST_BASE_KEY = FLOW_EDGE_COST_PREFIX + "base";
+  public static final double DEFAULT_FLOW_EDGE_COST_BASE = 1.0;
+  public static final String FLOW_EDGE_COST_ESTIMATED_DURATION_SECS_KEY = FLOW_EDGE_COST_PREFIX + "estimatedDurationSecs";
+  public static final String FLOW_EDGE_COST_BANDWIDTH_MBPS_KEY = FLOW_EDGE_COST_PREFIX + "bandwidthMBps";
+  public static final String FLOW_EDGE_COST_DATASET_SIZE_MB_KEY = FLOW_EDGE_COST_PREFIX + "datasetSizeMB";
 }
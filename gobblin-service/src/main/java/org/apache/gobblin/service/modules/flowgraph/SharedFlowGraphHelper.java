@@ -125,6 +125,15 @@ public class SharedFlowGraphHelper extends BaseFlowGraphHelper {
     }
   }
 
+  /**
+   * Nodes are defined by their folder in each subgraph along with the shared node folder, so a change to any node file
+   * reloads the entire flowgraph
+   */
+  @Override
+  protected boolean updateDataNode(FlowGraph graph, Path nodeFilePath) {
+    return false;
+  }
+
   @Override
   protected Config getNodeConfigWithOverrides(Config nodeConfig, Path nodeFilePath) {
     String nodeId = FilenameUtils.removeExtension(nodeFilePath.getName().toString());
@@ -28,9 +28,11 @@ import com.typesafe.config.ConfigValueFactory;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
@@ -194,86 +196,157 @@ public abstract class AbstractPathFinder implements PathFinder {
   List<FlowEdgeContext> getNextEdges(DataNode dataNode, DatasetDescriptor currentDatasetDescriptor,
       DatasetDescriptor destDatasetDescriptor, int numberOfHops) {
     List<FlowEdgeContext> prioritizedEdgeList = new LinkedList<>();
+    for (Map.Entry<FlowEdge, Config> candidateEdge : getCandidateEdges(dataNode).entrySet()) {
+      addEdgeEvaluation(prioritizedEdgeList, evaluateEdge(candidateEdge.getKey(), candidateEdge.getValue(),
+          currentDatasetDescriptor, destDatasetDescriptor, numberOfHops));
+    }
+    return prioritizedEdgeList;
+  }
+
+  /**
+   * @return the active {@link FlowEdge}s out of `dataNode` to active {@link DataNode}s that the flow may use, in the
+   * order of the {@link FlowGraph}, each with its merged config (see {@link #getMergedConfig(FlowEdge)})
+   */
+  Map<FlowEdge, Config> getCandidateEdges(DataNode dataNode) {
+    Map<FlowEdge, Config> candidateEdges = new LinkedHashMap<>();
     List<String> edgeIds = ConfigUtils.getStringList(this.flowConfig, ConfigurationKeys.WHITELISTED_EDGE_IDS);
     for (FlowEdge flowEdge : this.flowGraph.getEdges(dataNode)) {
       if (!edgeIds.isEmpty() && !edgeIds.contains(flowEdge.getId())) {
         continue;
       }
-      try {
-        DataNode edgeDestination = this.flowGraph.getNode(flowEdge.getDest());
-        //Base condition: Skip this FLowEdge, if it is inactive or if the destination of this edge is inactive.
-        if (!edgeDestination.isActive() || !flowEdge.isActive()) {
-          continue;
-        }
+      DataNode edgeDestination = this.flowGraph.getNode(flowEdge.getDest());
+      //Base condition: Skip this FLowEdge, if it is inactive or if the destination of this edge is inactive.
+      if (!edgeDestination.isActive() || !flowEdge.isActive()) {
+        continue;
+      }
+      candidateEdges.put(flowEdge, getMergedConfig(flowEdge));
+    }
+    return candidateEdges;
+  }
 
-        boolean foundExecutor = false;
-        //Iterate over all executors for this edge. Find the first one that resolves the underlying flow template.
-        for (SpecExecutor specExecutor : flowEdge.getExecutors()) {
-          Config mergedConfig = getMergedConfig(flowEdge);
-          List<Pair<DatasetDescriptor, DatasetDescriptor>> datasetDescriptorPairs =
-              flowEdge.getFlowTemplate().getDatasetDescriptors(mergedConfig, false);
-          for (Pair<DatasetDescriptor, DatasetDescriptor> datasetDescriptorPair : datasetDescriptorPairs) {
-            DatasetDescriptor inputDatasetDescriptor = datasetDescriptorPair.getLeft();
-            DatasetDescriptor outputDatasetDescriptor = datasetDescriptorPair.getRight();
-
-            HashMap<String, ArrayList<String>> errors = flowEdge.getFlowTemplate().tryResolving(mergedConfig, datasetDescriptorPair.getLeft(), datasetDescriptorPair.getRight());
-            HashMap<String, HashMap<String, ArrayList<String>>> edgeErrors = new HashMap<>();
-            HashMap<String, HashMap<String, ArrayList<String>>> templateErrors = new HashMap<>();
-            ObjectMapper mapper = new ObjectMapper();
-            edgeErrors.put(flowEdge.getId(), errors);
-
-            if (errors.size() != 0) {
-              try {
-                flowSpec.addCompilationError(flowEdge.getSrc(), flowEdge.getDest(), mapper.writeValueAsString(edgeErrors));
-              }
-              catch (JsonProcessingException e) {
-                e.printStackTrace();
-              }
-              continue;
-            }
+  /**
+   * Add the {@link FlowEdgeContext}s of an {@link EdgeEvaluation} to `prioritizedEdgeList`, and its compilation errors
+   * to the {@link FlowSpec}.
+   */
+  void addEdgeEvaluation(List<FlowEdgeContext> prioritizedEdgeList, EdgeEvaluation edgeEvaluation) {
+    for (Pair<FlowEdgeContext, Boolean> flowEdgeContext : edgeEvaluation.flowEdgeContexts) {
+      if (flowEdgeContext.getRight()) {
+        prioritizedEdgeList.add(0, flowEdgeContext.getLeft());
+      } else {
+        prioritizedEdgeList.add(flowEdgeContext.getLeft());
+      }
+    }
+    edgeEvaluation.compilationErrors.forEach(compilationError -> compilationError.accept(this.flowSpec));
+  }
 
-            ArrayList<String> datasetDescriptorErrors = inputDatasetDescriptor.contains(currentDatasetDescriptor);
-            if (datasetDescriptorErrors.size() == 0) {
-              DatasetDescriptor edgeOutputDescriptor = makeOutputDescriptorSpecific(currentDatasetDescriptor, outputDatasetDescriptor);
-              FlowEdgeContext flowEdgeContext = new FlowEdgeContext(flowEdge, currentDatasetDescriptor, edgeOutputDescriptor, mergedConfig,
-                  specExecutor);
-
-              if (destDatasetDescriptor.getFormatConfig().contains(outputDatasetDescriptor.getFormatConfig()).size() == 0) {
-                /*
-                Add to the front of the edge list if platform-independent properties of the output descriptor is compatible
-                with those of destination dataset descriptor.
-                In other words, we prioritize edges that perform data transformations as close to the source as possible.
-                */
-                prioritizedEdgeList.add(0, flowEdgeContext);
-              } else {
-                prioritizedEdgeList.add(flowEdgeContext);
-              }
-              foundExecutor = true;
+  /**
+   * Find the {@link FlowEdgeContext}s through which `flowEdge` can carry `currentDatasetDescriptor`. This neither
+   * accesses the {@link FlowGraph} nor modifies the {@link FlowSpec}, so edges may be evaluated concurrently.
+   * @param mergedConfig of `flowEdge`, see {@link #getMergedConfig(FlowEdge)}
+   */
+  EdgeEvaluation evaluateEdge(FlowEdge flowEdge, Config mergedConfig, DatasetDescriptor currentDatasetDescriptor,
+      DatasetDescriptor destDatasetDescriptor, int numberOfHops) {
+    EdgeEvaluation edgeEvaluation = new EdgeEvaluation();
+    ObjectMapper mapper = new ObjectMapper();
+    try {
+      boolean foundExecutor = false;
+      //Iterate over all executors for this edge. Find the first one that resolves the underlying flow template.
+      for (SpecExecutor specExecutor : flowEdge.getExecutors()) {
+        for (Pair<Pair<DatasetDescriptor, DatasetDescriptor>, HashMap<String, ArrayList<String>>> resolution
+            : resolveFlowTemplate(flowEdge, mergedConfig)) {
+          DatasetDescriptor inputDatasetDescriptor = resolution.getLeft().getLeft();
+          DatasetDescriptor outputDatasetDescriptor = resolution.getLeft().getRight();
+
+          HashMap<String, ArrayList<String>> errors = resolution.getRight();
+          HashMap<String, HashMap<String, ArrayList<String>>> edgeErrors = new HashMap<>();
+          HashMap<String, HashMap<String, ArrayList<String>>> templateErrors = new HashMap<>();
+          edgeErrors.put(flowEdge.getId(), errors);
+
+          if (errors.size() != 0) {
+            try {
+              String errorMessage = mapper.writeValueAsString(edgeErrors);
+              edgeEvaluation.compilationErrors.add(spec -> spec.addCompilationError(flowEdge.getSrc(), flowEdge.getDest(), errorMessage));
             }
-            else {
-              HashMap<String, ArrayList<String>> templateError = new HashMap<>();
-              templateError.put("flowTemplateErrors", datasetDescriptorErrors);
-              templateErrors.put(flowEdge.getId(), templateError);
-              try {
-                flowSpec.addCompilationError(flowEdge.getSrc(), flowEdge.getDest(), mapper.writeValueAsString(templateErrors), numberOfHops);
-              }
-              catch (JsonProcessingException e) {
-                e.printStackTrace();
-              }
+            catch (JsonProcessingException e) {
+              e.printStackTrace();
             }
+            continue;
+          }
+
+          ArrayList<String> datasetDescriptorErrors = getDatasetDescriptorErrors(inputDatasetDescriptor, currentDatasetDescriptor);
+          if (datasetDescriptorErrors.size() == 0) {
+            DatasetDescriptor edgeOutputDescriptor = makeOutputDescriptorSpecific(currentDatasetDescriptor, outputDatasetDescriptor);
+            FlowEdgeContext flowEdgeContext = new FlowEdgeContext(flowEdge, currentDatasetDescriptor, edgeOutputDescriptor, mergedConfig,
+                specExecutor);
+
+            /*
+            Add to the front of the edge list if platform-independent properties of the output descriptor is compatible
+            with those of destination dataset descriptor.
+            In other words, we prioritize edges that perform data transformations as close to the source as possible.
+            */
+            boolean isPrioritized = destDatasetDescriptor.getFormatConfig().contains(outputDatasetDescriptor.getFormatConfig()).size() == 0;
+            edgeEvaluation.flowEdgeContexts.add(Pair.of(flowEdgeContext, isPrioritized));
+            foundExecutor = true;
           }
-          // Found a SpecExecutor. Proceed to the next FlowEdge.
-          // TODO: Choose the min-cost executor for the FlowEdge as opposed to the first one that resolves.
-          if (foundExecutor) {
-            break;
+          else {
+            HashMap<String, ArrayList<String>> templateError = new HashMap<>();
+            templateError.put("flowTemplateErrors", datasetDescriptorErrors);
+            templateErrors.put(flowEdge.getId(), templateError);
+            try {
+              String errorMessage = mapper.writeValueAsString(templateErrors);
+              edgeEvaluation.compilationErrors.add(spec -> spec.addCompilationError(flowEdge.getSrc(), flowEdge.getDest(), errorMessage, numberOfHops));
+            }
+            catch (JsonProcessingException e) {
+              e.printStackTrace();
+            }
           }
         }
-      } catch (IOException | ReflectiveOperationException | SpecNotFoundException | JobTemplate.TemplateException e) {
-        //Skip the edge; and continue
-        log.warn("Skipping edge {} with config {} due to exception: {}", flowEdge.getId(), flowConfig.toString(), e);
+        // Found a SpecExecutor. Proceed to the next FlowEdge.
+        // TODO: Choose the min-cost executor for the FlowEdge as opposed to the first one that resolves.
+        if (foundExecutor) {
+          break;
+        }
       }
+    } catch (IOException | ReflectiveOperationException | SpecNotFoundException | JobTemplate.TemplateException e) {
+      //Skip the edge; and continue
+      log.warn("Skipping edge {} with config {} due to exception: {}", flowEdge.getId(), flowConfig.toString(), e);
     }
-    return prioritizedEdgeList;
+    return edgeEvaluation;
+  }
+
+  /**
+   * Resolve the flow template of `flowEdge` against its merged config, for each of the input/output
+   * {@link DatasetDescriptor} pairs it declares.
+   * @return each {@link DatasetDescriptor} pair with its resolution errors, which are empty when the template resolves
+   */
+  List<Pair<Pair<DatasetDescriptor, DatasetDescriptor>, HashMap<String, ArrayList<String>>>> resolveFlowTemplate(
+      FlowEdge flowEdge, Config mergedConfig)
+      throws IOException, ReflectiveOperationException, SpecNotFoundException, JobTemplate.TemplateException {
+    List<Pair<Pair<DatasetDescriptor, DatasetDescriptor>, HashMap<String, ArrayList<String>>>> resolutions = new ArrayList<>();
+    for (Pair<DatasetDescriptor, DatasetDescriptor> datasetDescriptorPair
+        : flowEdge.getFlowTemplate().getDatasetDescriptors(mergedConfig, false)) {
+      resolutions.add(Pair.of(datasetDescriptorPair,
+          flowEdge.getFlowTemplate().tryResolving(mergedConfig, datasetDescriptorPair.getLeft(), datasetDescriptorPair.getRight())));
+    }
+    return resolutions;
+  }
+
+  /**
+   * @return the reasons why `inputDatasetDescriptor` of an edge does not accept `currentDatasetDescriptor`, if any
+   */
+  ArrayList<String> getDatasetDescriptorErrors(DatasetDescriptor inputDatasetDescriptor,
+      DatasetDescriptor currentDatasetDescriptor) {
+    return inputDatasetDescriptor.contains(currentDatasetDescriptor);
+  }
+
+  /**
+   * The outcome of {@link #evaluateEdge(FlowEdge, Config, DatasetDescriptor, DatasetDescriptor, int)}: the
+   * {@link FlowEdgeContext}s found, each flagged when it is to be tried before the others, and the compilation errors
+   * to record on the {@link FlowSpec}.
+   */
+  static class EdgeEvaluation {
+    final List<Pair<FlowEdgeContext, Boolean>> flowEdgeContexts = new ArrayList<>();
+    final List<Consumer<FlowSpec>> compilationErrors = new ArrayList<>();
   }
 
   /**
@@ -345,7 +418,7 @@ public abstract class AbstractPathFinder implements PathFinder {
    * @param flowEdge An instance of {@link FlowEdge}.
    * @return the merged config derived as described above.
    */
-  private Config getMergedConfig(FlowEdge flowEdge) {
+  Config getMergedConfig(FlowEdge flowEdge) {
     Config srcNodeConfig = this.flowGraph.getNode(flowEdge.getSrc()).getRawConfig().atPath(SOURCE_PREFIX);
     Config destNodeConfig = this.flowGraph.getNode(flowEdge.getDest()).getRawConfig().atPath(DESTINATION_PREFIX);
     Config mergedConfig = flowConfig.withFallback(flowEdge.getConfig()).withFallback(srcNodeConfig).withFallback(destNodeConfig);
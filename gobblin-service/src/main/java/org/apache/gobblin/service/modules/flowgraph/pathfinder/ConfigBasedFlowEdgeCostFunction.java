@@ -0,0 +1,55 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.gobblin.service.modules.flowgraph.pathfinder;
+
+import com.typesafe.config.Config;
+
+import org.apache.gobblin.annotation.Alpha;
+import org.apache.gobblin.service.modules.flow.FlowEdgeContext;
+import org.apache.gobblin.service.modules.flowgraph.FlowGraphConfigurationKeys;
+import org.apache.gobblin.util.ConfigUtils;
+
+
+/**
+ * A {@link FlowEdgeCostFunction} computing the cost of an edge from its merged config, as the sum of:
+ * <ul>
+ *   <li> a base cost, {@link FlowGraphConfigurationKeys#FLOW_EDGE_COST_BASE_KEY}, which defaults to 1 so that, absent
+ *   any other setting, the cheapest path is the one with the fewest hops, </li>
+ *   <li> the estimated duration of the jobs of the edge in seconds, e.g. as observed historically,
+ *   {@link FlowGraphConfigurationKeys#FLOW_EDGE_COST_ESTIMATED_DURATION_SECS_KEY}, and </li>
+ *   <li> the time to transfer the dataset over the edge in seconds, when both the dataset size,
+ *   {@link FlowGraphConfigurationKeys#FLOW_EDGE_COST_DATASET_SIZE_MB_KEY}, and the estimated bandwidth of the edge,
+ *   {@link FlowGraphConfigurationKeys#FLOW_EDGE_COST_BANDWIDTH_MBPS_KEY}, are known. </li>
+ * </ul>
+ */
+@Alpha
+public class ConfigBasedFlowEdgeCostFunction implements FlowEdgeCostFunction {
+
+  @Override
+  public double getCost(FlowEdgeContext flowEdgeContext) {
+    Config config = flowEdgeContext.getMergedConfig();
+    double cost = ConfigUtils.getDouble(config, FlowGraphConfigurationKeys.FLOW_EDGE_COST_BASE_KEY,
+        FlowGraphConfigurationKeys.DEFAULT_FLOW_EDGE_COST_BASE);
+    cost += ConfigUtils.getDouble(config, FlowGraphConfigurationKeys.FLOW_EDGE_COST_ESTIMATED_DURATION_SECS_KEY, 0.0);
+    double bandwidthMBps = ConfigUtils.getDouble(config, FlowGraphConfigurationKeys.FLOW_EDGE_COST_BANDWIDTH_MBPS_KEY, 0.0);
+    if (bandwidthMBps > 0) {
+      cost += ConfigUtils.getDouble(config, FlowGraphConfigurationKeys.FLOW_EDGE_COST_DATASET_SIZE_MB_KEY, 0.0) / bandwidthMBps;
+    }
+    return Math.max(cost, 0.0);
+  }
+}
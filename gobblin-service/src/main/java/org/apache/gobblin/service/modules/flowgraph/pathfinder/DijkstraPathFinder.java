@@ -0,0 +1,274 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.gobblin.service.modules.flowgraph.pathfinder;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.apache.commons.lang3.tuple.Pair;
+
+import com.google.common.base.Optional;
+import com.typesafe.config.Config;
+
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.apache.gobblin.annotation.Alpha;
+import org.apache.gobblin.runtime.api.FlowSpec;
+import org.apache.gobblin.runtime.api.JobTemplate;
+import org.apache.gobblin.runtime.api.SpecNotFoundException;
+import org.apache.gobblin.service.modules.dataset.DatasetDescriptor;
+import org.apache.gobblin.service.modules.flow.FlowEdgeContext;
+import org.apache.gobblin.service.modules.flowgraph.DataNode;
+import org.apache.gobblin.service.modules.flowgraph.FlowEdge;
+import org.apache.gobblin.service.modules.flowgraph.FlowGraph;
+import org.apache.gobblin.service.modules.flowgraph.FlowGraphConfigurationKeys;
+import org.apache.gobblin.util.ClassAliasResolver;
+import org.apache.gobblin.util.ConfigUtils;
+import org.apache.gobblin.util.ExecutorsUtils;
+import org.apache.gobblin.util.reflection.GobblinConstructorUtils;
+
+
+/**
+ * An implementation of {@link PathFinder} that computes the cheapest path in a {@link FlowGraph} weighted by a
+ * {@link FlowEdgeCostFunction}, using a variant of Dijkstra's algorithm. As in {@link BFSPathFinder}, the search runs
+ * over {@link FlowEdgeContext}s, i.e. edges along with the dataset descriptors they are visited with, rather than over
+ * nodes, and ties are broken in the order of {@link #getNextEdges(DataNode, DatasetDescriptor, DatasetDescriptor, int)}.
+ *
+ * To bound the time of a path computation on large graphs:
+ * <ul>
+ *   <p> the edges out of a node are evaluated concurrently, on a pool shared by all path computations, </p>
+ *   <p> the resolution of the flow template of an edge, which does not depend on the dataset descriptor the edge is
+ *   visited with, and dataset descriptor compatibility checks are memoized for the duration of the computation, and </p>
+ *   <p> the search fails once {@link FlowGraphConfigurationKeys#FLOW_GRAPH_PATH_FINDER_MAX_EDGE_VISITS} edges are
+ *   visited. </p>
+ * </ul>
+ * It is selected for a flow by setting {@link FlowGraphConfigurationKeys#FLOW_GRAPH_PATH_FINDER_CLASS} in its config.
+ */
+@Alpha
+@Slf4j
+public class DijkstraPathFinder extends AbstractPathFinder {
+  private static final ExecutorService EDGE_EVALUATION_EXECUTOR = ExecutorsUtils.loggingDecorator(
+      Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(),
+          ExecutorsUtils.newDaemonThreadFactory(Optional.of(log), Optional.of("DijkstraPathFinder-%d"))));
+
+  private final FlowEdgeCostFunction edgeCostFunction;
+  private final int maxEdgeVisits;
+  private final boolean isConcurrentEdgeEvaluationEnabled;
+
+  // Memoized for the duration of the path computation, during which the flow graph cannot change
+  private final Map<String, Map<FlowEdge, Config>> candidateEdges = new HashMap<>();
+  private final Map<String, List<Pair<Pair<DatasetDescriptor, DatasetDescriptor>, HashMap<String, ArrayList<String>>>>>
+      flowTemplateResolutions = new ConcurrentHashMap<>();
+  private final Map<Pair<DatasetDescriptor, DatasetDescriptor>, ArrayList<String>> datasetDescriptorErrors =
+      new ConcurrentHashMap<>();
+
+  public DijkstraPathFinder(FlowGraph flowGraph, FlowSpec flowSpec) throws ReflectiveOperationException {
+    this(flowGraph, flowSpec, new HashMap<>());
+  }
+
+  public DijkstraPathFinder(FlowGraph flowGraph, FlowSpec flowSpec, Map<String, String> dataNodeAliasMap)
+      throws ReflectiveOperationException {
+    super(flowGraph, flowSpec, dataNodeAliasMap);
+    this.edgeCostFunction = GobblinConstructorUtils.invokeLongestConstructor(
+        new ClassAliasResolver<>(FlowEdgeCostFunction.class).resolveClass(ConfigUtils.getString(this.flowConfig,
+            FlowGraphConfigurationKeys.FLOW_GRAPH_PATH_FINDER_EDGE_COST_FUNCTION_CLASS,
+            FlowGraphConfigurationKeys.DEFAULT_FLOW_GRAPH_PATH_FINDER_EDGE_COST_FUNCTION_CLASS)), this.flowConfig);
+    this.maxEdgeVisits = ConfigUtils.getInt(this.flowConfig, FlowGraphConfigurationKeys.FLOW_GRAPH_PATH_FINDER_MAX_EDGE_VISITS,
+        FlowGraphConfigurationKeys.DEFAULT_FLOW_GRAPH_PATH_FINDER_MAX_EDGE_VISITS);
+    this.isConcurrentEdgeEvaluationEnabled = ConfigUtils.getBoolean(this.flowConfig,
+        FlowGraphConfigurationKeys.FLOW_GRAPH_PATH_FINDER_CONCURRENT_EDGE_EVALUATION_ENABLED,
+        FlowGraphConfigurationKeys.DEFAULT_FLOW_GRAPH_PATH_FINDER_CONCURRENT_EDGE_EVALUATION_ENABLED);
+  }
+
+  /**
+   * A {@link FlowEdgeContext} queued for a visit, ordered by the cost of the path to it, then by the time it was queued.
+   */
+  @AllArgsConstructor
+  private static class QueuedFlowEdgeContext implements Comparable<QueuedFlowEdgeContext> {
+    private final FlowEdgeContext flowEdgeContext;
+    private final double cost;
+    private final long sequenceNumber;
+
+    @Override
+    public int compareTo(QueuedFlowEdgeContext other) {
+      int result = Double.compare(this.cost, other.cost);
+      return result != 0 ? result : Long.compare(this.sequenceNumber, other.sequenceNumber);
+    }
+  }
+
+  /**
+   * At every step, visit the queued {@link FlowEdgeContext} with the cheapest path from the source, unless it was already
+   * visited through a cheaper one. If it reaches the destination, that path is the cheapest one. Otherwise queue the
+   * {@link FlowEdgeContext}s out of it whose path through it is cheaper than any found so far.
+   * @return a path of {@link FlowEdgeContext}s starting at the srcNode and ending at the destNode.
+   */
+  @Override
+  public List<FlowEdgeContext> findPathUnicast(DataNode destNode) throws PathFinderException {
+    this.pathMap = new HashMap<>();
+
+    //Base condition 1: Source Node or Dest Node is inactive; return null
+    if (!srcNode.isActive() || !destNode.isActive()) {
+      log.warn("Either source node {} or destination node {} is inactive; skipping path computation.",
+          this.srcNode.getId(), destNode.getId());
+      return null;
+    }
+
+    //Base condition 2: Check if we are already at the target. If so, return an empty path.
+    if ((srcNode.equals(destNode)) && destDatasetDescriptor.contains(srcDatasetDescriptor).size() == 0) {
+      return new ArrayList<>(0);
+    }
+
+    Map<FlowEdgeContext, Double> costs = new HashMap<>();
+    Map<FlowEdgeContext, Integer> numberOfHops = new HashMap<>();
+    Set<FlowEdgeContext> visited = new HashSet<>();
+    PriorityQueue<QueuedFlowEdgeContext> queue = new PriorityQueue<>();
+    long sequenceNumber = 0;
+
+    for (FlowEdgeContext flowEdgeContext : getNextEdgesConcurrently(srcNode, srcDatasetDescriptor, 1)) {
+      double cost = getCost(flowEdgeContext);
+      if (cost < costs.getOrDefault(flowEdgeContext, Double.MAX_VALUE)) {
+        costs.put(flowEdgeContext, cost);
+        numberOfHops.put(flowEdgeContext, 1);
+        this.pathMap.put(flowEdgeContext, flowEdgeContext);
+        queue.add(new QueuedFlowEdgeContext(flowEdgeContext, cost, sequenceNumber++));
+      }
+    }
+
+    while (!queue.isEmpty()) {
+      QueuedFlowEdgeContext queued = queue.poll();
+      FlowEdgeContext flowEdgeContext = queued.flowEdgeContext;
+      //Skip entries superseded by a cheaper path to the same edge context
+      if (!visited.add(flowEdgeContext)) {
+        continue;
+      }
+      if (visited.size() > this.maxEdgeVisits) {
+        throw new PathFinderException(String.format("Path computation for flow %s exceeded %d edge visits; set %s to raise the limit",
+            this.flowSpec.getUri(), this.maxEdgeVisits, FlowGraphConfigurationKeys.FLOW_GRAPH_PATH_FINDER_MAX_EDGE_VISITS));
+      }
+
+      DataNode currentNode = this.flowGraph.getNode(flowEdgeContext.getEdge().getDest());
+      DatasetDescriptor currentOutputDatasetDescriptor = flowEdgeContext.getOutputDatasetDescriptor();
+
+      //Are we done?
+      if (isPathFound(currentNode, destNode, currentOutputDatasetDescriptor, destDatasetDescriptor)) {
+        log.info("Found path of cost {} for flow {} after visiting {} edges", queued.cost, this.flowSpec.getUri(), visited.size());
+        return constructPath(flowEdgeContext);
+      }
+
+      int childNumberOfHops = numberOfHops.get(flowEdgeContext) + 1;
+      for (FlowEdgeContext childFlowEdgeContext : getNextEdgesConcurrently(currentNode, currentOutputDatasetDescriptor, childNumberOfHops)) {
+        if (visited.contains(childFlowEdgeContext)) {
+          continue;
+        }
+        double cost = queued.cost + getCost(childFlowEdgeContext);
+        if (cost < costs.getOrDefault(childFlowEdgeContext, Double.MAX_VALUE)) {
+          costs.put(childFlowEdgeContext, cost);
+          numberOfHops.put(childFlowEdgeContext, childNumberOfHops);
+          this.pathMap.put(childFlowEdgeContext, flowEdgeContext);
+          queue.add(new QueuedFlowEdgeContext(childFlowEdgeContext, cost, sequenceNumber++));
+        }
+      }
+    }
+    //No path found. Return null.
+    return null;
+  }
+
+  private double getCost(FlowEdgeContext flowEdgeContext) throws PathFinderException {
+    double cost = this.edgeCostFunction.getCost(flowEdgeContext);
+    if (cost < 0 || Double.isNaN(cost)) {
+      throw new PathFinderException(String.format("%s returned invalid cost %s for edge %s",
+          this.edgeCostFunction.getClass().getName(), cost, flowEdgeContext.getEdge().getId()));
+    }
+    return cost;
+  }
+
+  /**
+   * Same as {@link #getNextEdges(DataNode, DatasetDescriptor, DatasetDescriptor, int)}, but evaluating the edges
+   * concurrently. The {@link FlowGraph} is only accessed from the calling thread, which may hold its read lock.
+   */
+  private List<FlowEdgeContext> getNextEdgesConcurrently(DataNode dataNode, DatasetDescriptor currentDatasetDescriptor,
+      int numberOfHops) throws PathFinderException {
+    Map<FlowEdge, Config> nodeCandidateEdges = this.candidateEdges.get(dataNode.getId());
+    if (nodeCandidateEdges == null) {
+      nodeCandidateEdges = getCandidateEdges(dataNode);
+      this.candidateEdges.put(dataNode.getId(), nodeCandidateEdges);
+    }
+
+    List<FlowEdgeContext> prioritizedEdgeList = new LinkedList<>();
+    if (!this.isConcurrentEdgeEvaluationEnabled || nodeCandidateEdges.size() < 2) {
+      for (Map.Entry<FlowEdge, Config> candidateEdge : nodeCandidateEdges.entrySet()) {
+        addEdgeEvaluation(prioritizedEdgeList, evaluateEdge(candidateEdge.getKey(), candidateEdge.getValue(),
+            currentDatasetDescriptor, this.destDatasetDescriptor, numberOfHops));
+      }
+      return prioritizedEdgeList;
+    }
+
+    List<Future<EdgeEvaluation>> edgeEvaluations = new ArrayList<>(nodeCandidateEdges.size());
+    for (Map.Entry<FlowEdge, Config> candidateEdge : nodeCandidateEdges.entrySet()) {
+      edgeEvaluations.add(EDGE_EVALUATION_EXECUTOR.submit(() -> evaluateEdge(candidateEdge.getKey(),
+          candidateEdge.getValue(), currentDatasetDescriptor, this.destDatasetDescriptor, numberOfHops)));
+    }
+    try {
+      //Collect the evaluations in the order of the edges, for the result not to depend on the scheduling
+      for (Future<EdgeEvaluation> edgeEvaluation : edgeEvaluations) {
+        addEdgeEvaluation(prioritizedEdgeList, edgeEvaluation.get());
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new PathFinderException("Interrupted while evaluating edges out of node " + dataNode.getId(), e);
+    } catch (ExecutionException e) {
+      throw new PathFinderException("Failed to evaluate edges out of node " + dataNode.getId(), e.getCause());
+    } finally {
+      edgeEvaluations.forEach(edgeEvaluation -> edgeEvaluation.cancel(true));
+    }
+    return prioritizedEdgeList;
+  }
+
+  @Override
+  List<Pair<Pair<DatasetDescriptor, DatasetDescriptor>, HashMap<String, ArrayList<String>>>> resolveFlowTemplate(
+      FlowEdge flowEdge, Config mergedConfig)
+      throws IOException, ReflectiveOperationException, SpecNotFoundException, JobTemplate.TemplateException {
+    List<Pair<Pair<DatasetDescriptor, DatasetDescriptor>, HashMap<String, ArrayList<String>>>> resolutions =
+        this.flowTemplateResolutions.get(flowEdge.getId());
+    if (resolutions == null) {
+      resolutions = super.resolveFlowTemplate(flowEdge, mergedConfig);
+      this.flowTemplateResolutions.put(flowEdge.getId(), resolutions);
+    }
+    return resolutions;
+  }
+
+  @Override
+  ArrayList<String> getDatasetDescriptorErrors(DatasetDescriptor inputDatasetDescriptor,
+      DatasetDescriptor currentDatasetDescriptor) {
+    return this.datasetDescriptorErrors.computeIfAbsent(Pair.of(inputDatasetDescriptor, currentDatasetDescriptor),
+        key -> super.getDatasetDescriptorErrors(key.getLeft(), key.getRight()));
+  }
+}
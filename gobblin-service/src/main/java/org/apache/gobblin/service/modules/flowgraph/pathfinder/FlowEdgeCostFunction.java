@@ -0,0 +1,36 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.gobblin.service.modules.flowgraph.pathfinder;
+
+import org.apache.gobblin.annotation.Alpha;
+import org.apache.gobblin.service.modules.flow.FlowEdgeContext;
+
+
+/**
+ * The cost of traversing a {@link org.apache.gobblin.service.modules.flowgraph.FlowEdge}, which
+ * {@link DijkstraPathFinder} minimizes over the path. Implementations are instantiated per path computation, with the
+ * flow config as the constructor argument when they accept one.
+ */
+@Alpha
+public interface FlowEdgeCostFunction {
+  /**
+   * @return a non-negative cost for the edge of `flowEdgeContext`, given the dataset descriptors and executor it
+   * would be traversed with
+   */
+  double getCost(FlowEdgeContext flowEdgeContext);
+}
@@ -22,6 +22,7 @@ import java.net.URI;
 import java.sql.SQLException;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Properties;
 import java.util.Set;
@@ -128,6 +129,13 @@ public interface DagManagementStateStore {
    */
   Set<Dag.DagNode<JobExecutionPlan>> getDagNodes(Dag.DagId dagId) throws IOException;
 
+  /**
+   * Returns the number of jobs sent to each {@link org.apache.gobblin.runtime.api.SpecExecutor} that have not finished
+   * yet, keyed by the URI of the executor. Unlike the running job counters of {@link DagManagerMetrics}, these are
+   * read from the store and so are the same on every host, whichever host launched or finished the jobs.
+   */
+  Map<String, Integer> getNumRunningJobsBySpecExecutor() throws IOException;
+
   /**
    * Checks if the dagNode exceeds the statically configured user quota for the proxy user, requester user and flowGroup.
    * It also increases the quota usage for proxy user, requester and the flowGroup of the given DagNode by one.
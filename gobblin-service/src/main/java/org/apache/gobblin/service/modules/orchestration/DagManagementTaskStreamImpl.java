@@ -18,8 +18,15 @@
 package org.apache.gobblin.service.modules.orchestration;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.quartz.SchedulerException;
 
@@ -69,6 +76,14 @@ import org.apache.gobblin.util.ConfigUtils;
  * Note that if multi-active execution is NOT enabled, then all flow action events are selected by
  * {@link DagManagementTaskStreamImpl#next()} by virtue of having no other contenders for the lease at the time
  * {@link MultiActiveLeaseArbiter#tryAcquireLease} is called.
+ *
+ * Flow action events are queued in one of {@link ServiceConfigKeys#NUM_DAG_TASK_STREAM_SHARDS_KEY} shards, chosen by
+ * the flow group and flow name, and each thread calling {@link DagManagementTaskStreamImpl#next()} is assigned a shard
+ * to serve. All the events of a flow are thus dispatched in the order they were added, and threads of different shards
+ * do not contend on a single queue. Up to {@link ServiceConfigKeys#DAG_TASK_STREAM_LEASE_BATCH_SIZE_KEY} queued events
+ * of a shard are leased together using {@link MultiActiveLeaseArbiter#tryAcquireLeases}. So that no shard is starved, e.g.
+ * when the only thread serving it died, an idle thread also serves any other shard whose oldest event has waited longer
+ * than {@link ServiceConfigKeys#DAG_TASK_STREAM_SHARD_STARVATION_MILLIS_KEY}.
  */
 @Slf4j
 @Singleton
@@ -79,7 +94,18 @@ public class DagManagementTaskStreamImpl implements DagManagement, DagTaskStream
   protected MultiActiveLeaseArbiter dagActionProcessingLeaseArbiter;
   protected DagActionReminderScheduler dagActionReminderScheduler;
   private static final int MAX_HOUSEKEEPING_THREAD_DELAY = 180;
-  private final BlockingQueue<DagActionStore.LeaseParams> leaseParamsQueue = new LinkedBlockingQueue<>();
+  private static final long MAX_IDLE_POLL_MILLIS = 1000;
+  private final int numShards;
+  private final int leaseBatchSize;
+  private final long shardStarvationNanos;
+  // idle threads wait this long on their own shard before checking the other shards for starvation
+  private final long idlePollMillis;
+  // lease params of the flow action events of each shard, waiting for a lease attempt
+  private final List<BlockingQueue<Queued<DagActionStore.LeaseParams>>> leaseParamsQueues;
+  // dag tasks of each shard whose leases were obtained in a batch, waiting to be returned by next()
+  private final List<Queue<Queued<DagTask>>> leasedDagTaskQueues;
+  private final AtomicInteger nextThreadShard = new AtomicInteger();
+  private final ThreadLocal<Integer> threadShard;
   private final DagManagementStateStore dagManagementStateStore;
   private final DagProcessingEngineMetrics dagProcEngineMetrics;
 
@@ -95,16 +121,45 @@ public class DagManagementTaskStreamImpl implements DagManagement, DagTaskStream
     this.eventSubmitter = new EventSubmitter.Builder(metricContext, "org.apache.gobblin.service").build();
     this.dagManagementStateStore = dagManagementStateStore;
     this.dagProcEngineMetrics = dagProcEngineMetrics;
+    // every shard needs at least one thread to serve it
+    this.numShards = Math.max(1, Math.min(
+        ConfigUtils.getInt(config, ServiceConfigKeys.NUM_DAG_TASK_STREAM_SHARDS_KEY, ServiceConfigKeys.DEFAULT_NUM_DAG_TASK_STREAM_SHARDS),
+        ConfigUtils.getInt(config, ServiceConfigKeys.NUM_DAG_PROC_THREADS_KEY, ServiceConfigKeys.DEFAULT_NUM_DAG_PROC_THREADS)));
+    this.leaseBatchSize = Math.max(1, ConfigUtils.getInt(config, ServiceConfigKeys.DAG_TASK_STREAM_LEASE_BATCH_SIZE_KEY,
+        ServiceConfigKeys.DEFAULT_DAG_TASK_STREAM_LEASE_BATCH_SIZE));
+    long shardStarvationMillis = ConfigUtils.getLong(config, ServiceConfigKeys.DAG_TASK_STREAM_SHARD_STARVATION_MILLIS_KEY,
+        ServiceConfigKeys.DEFAULT_DAG_TASK_STREAM_SHARD_STARVATION_MILLIS);
+    this.shardStarvationNanos = TimeUnit.MILLISECONDS.toNanos(shardStarvationMillis);
+    this.idlePollMillis = Math.max(1, Math.min(shardStarvationMillis, MAX_IDLE_POLL_MILLIS));
+    this.leaseParamsQueues = new ArrayList<>(this.numShards);
+    this.leasedDagTaskQueues = new ArrayList<>(this.numShards);
+    for (int shard = 0; shard < this.numShards; shard++) {
+      BlockingQueue<Queued<DagActionStore.LeaseParams>> leaseParamsQueue = new LinkedBlockingQueue<>();
+      this.leaseParamsQueues.add(leaseParamsQueue);
+      this.leasedDagTaskQueues.add(new ConcurrentLinkedQueue<>());
+      this.dagProcEngineMetrics.registerDagTaskStreamShardQueueSize(shard, leaseParamsQueue::size);
+    }
+    // threads are assigned shards round-robin, so with as many shards as threads each shard is served by one thread (and,
+    // only once starved, by idle threads of other shards)
+    this.threadShard = ThreadLocal.withInitial(() -> Math.floorMod(this.nextThreadShard.getAndIncrement(), this.numShards));
   }
 
   @Override
-  public synchronized void addDagAction(DagActionStore.LeaseParams leaseParams) {
+  public void addDagAction(DagActionStore.LeaseParams leaseParams) {
     log.info("Enqueuing {}", leaseParams);
-    if (!this.leaseParamsQueue.offer(leaseParams)) {
+    if (!this.leaseParamsQueues.get(getShard(leaseParams.getDagAction())).offer(new Queued<>(leaseParams, System.nanoTime()))) {
       throw new RuntimeException(String.format("Could not add %s to the queue", leaseParams));
     }
   }
 
+  /**
+   * Returns the shard of the given dag action. It is decided by the flow only, and not by the flow execution id, so that
+   * all the dag actions of a flow, including the ones whose flow execution id is yet to be decided, share a shard.
+   */
+  int getShard(DagActionStore.DagAction dagAction) {
+    return Math.floorMod(Objects.hash(dagAction.getFlowGroup(), dagAction.getFlowName()), this.numShards);
+  }
+
   @Override
   public boolean hasNext() {
     return true;
@@ -112,33 +167,105 @@ public class DagManagementTaskStreamImpl implements DagManagement, DagTaskStream
 
   @Override
   public DagTask next() {
-      while (true) {
-        DagActionStore.DagAction dagAction = null;
-        try {
-          DagActionStore.LeaseParams leaseParams = this.leaseParamsQueue.take();
-          dagAction = leaseParams.getDagAction();
-          /* Create triggers for original (non-reminder) dag actions of type ENFORCE_JOB_START_DEADLINE and ENFORCE_FLOW_FINISH_DEADLINE.
-             Reminder triggers are used to inform hosts once the job start deadline and flow finish deadline are passed;
-             then only is lease arbitration done to enforce the deadline violation and fail the job or flow if needed */
-          if (!leaseParams.isReminder() && dagAction.dagActionType == DagActionStore.DagActionType.ENFORCE_JOB_START_DEADLINE) {
-            createJobStartDeadlineTrigger(leaseParams);
-          } else if (!leaseParams.isReminder() && dagAction.dagActionType == DagActionStore.DagActionType.ENFORCE_FLOW_FINISH_DEADLINE) {
-            createFlowFinishDeadlineTrigger(leaseParams);
-          } else { // Handle original non-deadline dagActions as well as reminder events of all types
-            LeaseAttemptStatus leaseAttemptStatus = retrieveLeaseStatus(leaseParams);
-            if (leaseAttemptStatus instanceof LeaseAttemptStatus.LeaseObtainedStatus) {
-              this.dagProcEngineMetrics.markDagActionsLeasedObtained(leaseParams);
-              if (leaseParams.isReminder()) {
-                this.dagProcEngineMetrics.markDagActionsRemindersProcessed(leaseParams);
-              }
-              return createDagTask(dagAction, (LeaseAttemptStatus.LeaseObtainedStatus) leaseAttemptStatus);
-            }
+    int threadShard = this.threadShard.get();
+    while (true) {
+      DagTask dagTask = serveShard(threadShard, this.idlePollMillis);
+      if (dagTask != null) {
+        return dagTask;
+      }
+      // idle, so serve any other shard left waiting too long, e.g. because the thread serving it died
+      for (int i = 1; i < this.numShards; i++) {
+        int shard = (threadShard + i) % this.numShards;
+        if (isStarved(shard)) {
+          log.warn("Serving starved shard {} from a thread of shard {}", shard, threadShard);
+          dagTask = serveShard(shard, 0);
+          if (dagTask != null) {
+            return dagTask;
+          }
+        }
+      }
+    }
+  }
+
+  /**
+   * Returns whether the oldest flow action event of the given shard, whether waiting for a lease attempt or leased, has waited
+   * longer than {@link ServiceConfigKeys#DAG_TASK_STREAM_SHARD_STARVATION_MILLIS_KEY}.
+   */
+  boolean isStarved(int shard) {
+    long now = System.nanoTime();
+    Queued<DagActionStore.LeaseParams> oldestLeaseParams = this.leaseParamsQueues.get(shard).peek();
+    Queued<DagTask> oldestLeasedDagTask = this.leasedDagTaskQueues.get(shard).peek();
+    return (oldestLeaseParams != null && now - oldestLeaseParams.getEnqueueTimeNanos() > this.shardStarvationNanos)
+        || (oldestLeasedDagTask != null && now - oldestLeasedDagTask.getEnqueueTimeNanos() > this.shardStarvationNanos);
+  }
+
+  /**
+   * Returns the next {@link DagTask} of the given shard, waiting up to `pollTimeoutMillis` for a flow action event to lease,
+   * or null if there is none or its lease is not obtained.
+   */
+  private DagTask serveShard(int shard, long pollTimeoutMillis) {
+    BlockingQueue<Queued<DagActionStore.LeaseParams>> leaseParamsQueue = this.leaseParamsQueues.get(shard);
+    Queue<Queued<DagTask>> leasedDagTaskQueue = this.leasedDagTaskQueues.get(shard);
+    Queued<DagTask> leasedDagTask = leasedDagTaskQueue.poll();
+    if (leasedDagTask != null) {
+      return leasedDagTask.getItem();
+    }
+    List<Queued<DagActionStore.LeaseParams>> queuedLeaseParamsList = new ArrayList<>();
+    try {
+      Queued<DagActionStore.LeaseParams> queuedLeaseParams = leaseParamsQueue.poll(pollTimeoutMillis, TimeUnit.MILLISECONDS);
+      if (queuedLeaseParams == null) {
+        return null;
+      }
+      queuedLeaseParamsList.add(queuedLeaseParams);
+    } catch (InterruptedException e) {
+      //TODO: add metrics
+      log.error("Exception getting DagAction from the queue of shard {}", shard, e);
+      return null;
+    }
+    leaseParamsQueue.drainTo(queuedLeaseParamsList, this.leaseBatchSize - 1);
+
+    List<DagActionStore.LeaseParams> leaseParamsToLease = new ArrayList<>();
+    for (Queued<DagActionStore.LeaseParams> queuedLeaseParams : queuedLeaseParamsList) {
+      this.dagProcEngineMetrics.updateDagTaskStreamShardDispatchLatency(shard, System.nanoTime() - queuedLeaseParams.getEnqueueTimeNanos());
+      DagActionStore.LeaseParams leaseParams = queuedLeaseParams.getItem();
+      DagActionStore.DagAction dagAction = leaseParams.getDagAction();
+      try {
+        /* Create triggers for original (non-reminder) dag actions of type ENFORCE_JOB_START_DEADLINE and ENFORCE_FLOW_FINISH_DEADLINE.
+           Reminder triggers are used to inform hosts once the job start deadline and flow finish deadline are passed;
+           then only is lease arbitration done to enforce the deadline violation and fail the job or flow if needed */
+        if (!leaseParams.isReminder() && dagAction.dagActionType == DagActionStore.DagActionType.ENFORCE_JOB_START_DEADLINE) {
+          createJobStartDeadlineTrigger(leaseParams);
+        } else if (!leaseParams.isReminder() && dagAction.dagActionType == DagActionStore.DagActionType.ENFORCE_FLOW_FINISH_DEADLINE) {
+          createFlowFinishDeadlineTrigger(leaseParams);
+        } else { // Handle original non-deadline dagActions as well as reminder events of all types
+          leaseParamsToLease.add(leaseParams);
+        }
+      } catch (Exception e) {
+        //TODO: add metrics
+        log.error("Exception creating deadline trigger for DagAction. dagAction - {}", dagAction, e);
+      }
+    }
+
+    List<LeaseAttemptStatus> leaseAttemptStatuses = retrieveLeaseStatuses(leaseParamsToLease);
+    for (int i = 0; i < leaseAttemptStatuses.size(); i++) {
+      DagActionStore.LeaseParams leaseParams = leaseParamsToLease.get(i);
+      LeaseAttemptStatus leaseAttemptStatus = leaseAttemptStatuses.get(i);
+      try {
+        if (leaseAttemptStatus instanceof LeaseAttemptStatus.LeaseObtainedStatus) {
+          this.dagProcEngineMetrics.markDagActionsLeasedObtained(leaseParams);
+          if (leaseParams.isReminder()) {
+            this.dagProcEngineMetrics.markDagActionsRemindersProcessed(leaseParams);
           }
-        } catch (Exception e) {
-          //TODO: add metrics
-          log.error("Exception getting DagAction from the queue or creating DagTask. dagAction - {}", dagAction == null ? "<null>" : dagAction, e);
+          leasedDagTaskQueue.add(new Queued<>(
+              createDagTask(leaseParams.getDagAction(), (LeaseAttemptStatus.LeaseObtainedStatus) leaseAttemptStatus), System.nanoTime()));
         }
+      } catch (Exception e) {
+        //TODO: add metrics
+        log.error("Exception creating DagTask. dagAction - {}", leaseParams.getDagAction(), e);
       }
+    }
+    leasedDagTask = leasedDagTaskQueue.poll();
+    return leasedDagTask != null ? leasedDagTask.getItem() : null;
   }
 
   private void createJobStartDeadlineTrigger(DagActionStore.LeaseParams leaseParams)
@@ -185,6 +312,47 @@ public class DagManagementTaskStreamImpl implements DagManagement, DagTaskStream
     dagActionReminderScheduler.scheduleReminder(leaseParams, reminderDuration, true);
   }
 
+  /**
+   * Returns the {@link LeaseAttemptStatus} associated with each of the given lease params, in the same order, with a null
+   * entry for each one whose lease could not be attempted. A single lease is attempted by calling
+   * {@link MultiActiveLeaseArbiter#tryAcquireLease(DagActionStore.LeaseParams, boolean)} and more than one by calling
+   * {@link MultiActiveLeaseArbiter#tryAcquireLeases(List, boolean)}, falling back to attempting them one by one if that
+   * fails.
+   */
+  private List<LeaseAttemptStatus> retrieveLeaseStatuses(List<DagActionStore.LeaseParams> leaseParamsList) {
+    List<LeaseAttemptStatus> leaseAttemptStatuses = new ArrayList<>(leaseParamsList.size());
+    if (leaseParamsList.size() > 1) {
+      try {
+        // Uses reminder flag to determine whether to use current time as event time or previously saved event time
+        leaseAttemptStatuses.addAll(this.dagActionProcessingLeaseArbiter.tryAcquireLeases(leaseParamsList, false));
+      } catch (Exception e) {
+        log.warn("Exception acquiring leases for a batch of {} DagActions, acquiring them one by one", leaseParamsList.size(), e);
+        leaseAttemptStatuses.clear();
+      }
+    }
+    boolean leasedInBatch = !leaseAttemptStatuses.isEmpty();
+    for (int i = 0; i < leaseParamsList.size(); i++) {
+      DagActionStore.LeaseParams leaseParams = leaseParamsList.get(i);
+      try {
+        if (leasedInBatch) {
+          onLeaseAttempt(leaseParams, leaseAttemptStatuses.get(i));
+        } else {
+          leaseAttemptStatuses.add(retrieveLeaseStatus(leaseParams));
+        }
+      } catch (Exception e) {
+        //TODO: add metrics
+        log.error("Exception acquiring lease for DagAction. dagAction - {}", leaseParams.getDagAction(), e);
+        if (leasedInBatch) {
+          // the dag action is not leased if a reminder could not be scheduled for it
+          leaseAttemptStatuses.set(i, null);
+        } else {
+          leaseAttemptStatuses.add(null);
+        }
+      }
+    }
+    return leaseAttemptStatuses;
+  }
+
   /**
    * Returns a {@link LeaseAttemptStatus} associated with the
    * `dagAction` by calling
@@ -199,6 +367,12 @@ public class DagManagementTaskStreamImpl implements DagManagement, DagTaskStream
     // Uses reminder flag to determine whether to use current time as event time or previously saved event time
     LeaseAttemptStatus leaseAttemptStatus = this.dagActionProcessingLeaseArbiter
         .tryAcquireLease(leaseParams, false);
+    onLeaseAttempt(leaseParams, leaseAttemptStatus);
+    return leaseAttemptStatus;
+  }
+
+  private void onLeaseAttempt(DagActionStore.LeaseParams leaseParams, LeaseAttemptStatus leaseAttemptStatus)
+      throws SchedulerException {
         /* Schedule a reminder for the event unless the lease has been completed to safeguard against the case where
         even we, when we might become the lease owner still fail to complete processing
         */
@@ -208,7 +382,6 @@ public class DagManagementTaskStreamImpl implements DagManagement, DagTaskStream
     } else {
       this.dagProcEngineMetrics.markDagActionsNoLongerLeasing(leaseParams);
     }
-    return leaseAttemptStatus;
   }
 
   private DagTask createDagTask(DagActionStore.DagAction dagAction, LeaseAttemptStatus.LeaseObtainedStatus leaseObtainedStatus) {
@@ -241,4 +414,10 @@ public class DagManagementTaskStreamImpl implements DagManagement, DagTaskStream
     dagActionReminderScheduler.scheduleReminder(leaseStatus.getConsensusLeaseParams(),
         leaseStatus.getMinimumLingerDurationMillis(), false);
   }
+
+  @Data
+  private static class Queued<T> {
+    private final T item;
+    private final long enqueueTimeNanos;
+  }
 }
@@ -17,6 +17,7 @@
 
 package org.apache.gobblin.service.modules.orchestration;
 
+import java.io.IOException;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.Executors;
@@ -65,6 +66,7 @@ public class DagProcessingEngine extends AbstractIdleService {
   private final Config config;
   private final DagProcFactory dagProcFactory;
   private ScheduledExecutorService scheduledExecutorPool;
+  private ScheduledExecutorService specExecutorLoadRefresher;
   private final DagProcessingEngineMetrics dagProcEngineMetrics;
   private static final Integer TERMINATION_TIMEOUT = 30;
   public static final String DEFAULT_JOB_START_DEADLINE_TIME_MS = "defaultJobStartDeadlineTimeMillis";
@@ -108,6 +110,27 @@ public class DagProcessingEngine extends AbstractIdleService {
           dagManagementStateStore, dagProcEngineMetrics, i);
       this.scheduledExecutorPool.submit(dagProcEngineThread);
     }
+    long runningJobsRefreshMillis = ConfigUtils.getLong(config,
+        ServiceConfigKeys.SPEC_EXECUTOR_SELECTOR_RUNNING_JOBS_REFRESH_MILLIS_KEY,
+        ServiceConfigKeys.DEFAULT_SPEC_EXECUTOR_SELECTOR_RUNNING_JOBS_REFRESH_MILLIS);
+    this.specExecutorLoadRefresher = Executors.newSingleThreadScheduledExecutor(
+        ExecutorsUtils.newThreadFactory(com.google.common.base.Optional.of(log),
+            com.google.common.base.Optional.of("SpecExecutorLoadRefresher")));
+    this.specExecutorLoadRefresher.scheduleAtFixedRate(this::refreshSpecExecutorLoad, 0, runningJobsRefreshMillis,
+        TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Update the {@link SpecExecutorLoadTracker} with the running jobs of each executor, as recorded in the
+   * {@link DagManagementStateStore} shared by all hosts
+   */
+  @VisibleForTesting
+  void refreshSpecExecutorLoad() {
+    try {
+      SpecExecutorLoadTracker.get().updateRunningJobs(this.dagManagementStateStore.getNumRunningJobsBySpecExecutor());
+    } catch (IOException | RuntimeException e) {
+      log.warn("Failed to refresh the running jobs of spec executors", e);
+    }
   }
 
   @Override
@@ -115,6 +138,7 @@ public class DagProcessingEngine extends AbstractIdleService {
       throws Exception {
     log.info("DagProcessingEngine shutting down.");
     this.scheduledExecutorPool.shutdown();
+    this.specExecutorLoadRefresher.shutdownNow();
     this.scheduledExecutorPool.awaitTermination(TERMINATION_TIMEOUT, TimeUnit.SECONDS);
   }
 
@@ -18,6 +18,7 @@
 package org.apache.gobblin.service.modules.orchestration;
 
 import java.io.IOException;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
@@ -46,6 +47,12 @@ public interface DagStateStoreWithDagNodes extends DagStateStore {
    */
   Set<Dag.DagNode<JobExecutionPlan>> getDagNodes(Dag.DagId dagId) throws IOException;
 
+  /**
+   * Returns the number of {@link Dag.DagNode}s sent to each {@link org.apache.gobblin.runtime.api.SpecExecutor} that have
+   * not finished yet, keyed by the URI of the executor
+   */
+  Map<String, Integer> getNumRunningDagNodesBySpecExecutor() throws IOException;
+
   /**
    * Return the {@link org.apache.gobblin.service.modules.flowgraph.Dag.DagNode} for the given {@link DagNodeId} or empty
    * optional if it is not present
@@ -238,6 +238,8 @@ public class FlowLaunchHandler {
       throws SchedulerException {
     // 1. shallow `.clone()` this top-level `JobDetailImpl`
     JobDetailImpl clonedJobDetail = (JobDetailImpl) this.schedulerService.getScheduler().getJobDetail(originalKey).clone();
+    // the original job is durable when its flow is scheduled on a timer wheel, but the reminder should go once fired
+    clonedJobDetail.setDurability(false);
     JobDataMap originalJobDataMap = clonedJobDetail.getJobDataMap();
     // 2. create a fresh `JobDataMap` specific to the reminder
     JobDataMap newJobDataMap = cloneAndUpdateJobProperties(originalJobDataMap, status, schedulerMaxBackoffMillis);
@@ -18,7 +18,9 @@
 package org.apache.gobblin.service.modules.orchestration;
 
 import java.io.IOException;
+import java.util.List;
 
+import com.codahale.metrics.Timer;
 import com.typesafe.config.Config;
 
 import lombok.Getter;
@@ -27,6 +29,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.gobblin.instrumented.Instrumented;
 import org.apache.gobblin.metrics.ContextAwareCounter;
 import org.apache.gobblin.metrics.ContextAwareMeter;
+import org.apache.gobblin.metrics.ContextAwareTimer;
 import org.apache.gobblin.metrics.MetricContext;
 import org.apache.gobblin.metrics.ServiceMetricNames;
 import org.apache.gobblin.util.ConfigUtils;
@@ -49,6 +52,9 @@ public class InstrumentedLeaseArbiter implements MultiActiveLeaseArbiter {
   private ContextAwareMeter leasesObtainedDueToReminderCount;
   private ContextAwareMeter recordedLeaseSuccessCount;
   private ContextAwareMeter failedToRecordLeaseSuccessCount;
+  private ContextAwareTimer leaseBatchAcquisitionTimer;
+  // lease attempts of a batch found leased to another participant, either already or concurrently with the batch
+  private ContextAwareCounter leaseBatchConflictCount;
 
   public InstrumentedLeaseArbiter(Config config, MultiActiveLeaseArbiter leaseDeterminationStore,
       String metricsPrefix) {
@@ -69,11 +75,33 @@ public class InstrumentedLeaseArbiter implements MultiActiveLeaseArbiter {
     this.leasesObtainedDueToReminderCount = this.metricContext.contextAwareMeter(metricsPrefix + ServiceMetricNames.FLOW_TRIGGER_HANDLER_LEASES_OBTAINED_DUE_TO_REMINDER_COUNT);
     this.recordedLeaseSuccessCount = metricContext.contextAwareMeter(ServiceMetricNames.FLOW_TRIGGER_HANDLER_RECORDED_LEASE_SUCCESS_COUNT);
     this.failedToRecordLeaseSuccessCount = metricContext.contextAwareMeter(ServiceMetricNames.FLOW_TRIGGER_HANDLER_FAILED_TO_RECORD_LEASE_SUCCESS_COUNT);
+    this.leaseBatchAcquisitionTimer = this.metricContext.contextAwareTimer(metricsPrefix + ServiceMetricNames.FLOW_TRIGGER_HANDLER_LEASE_BATCH_ACQUISITION_TIMER);
+    this.leaseBatchConflictCount = this.metricContext.contextAwareCounter(metricsPrefix + ServiceMetricNames.FLOW_TRIGGER_HANDLER_LEASE_BATCH_CONFLICT_COUNT);
   }
 
   @Override
   public LeaseAttemptStatus tryAcquireLease(DagActionStore.LeaseParams leaseParams, boolean skipFlowExecutionIdReplacement) throws IOException {
     LeaseAttemptStatus leaseAttemptStatus = decoratedMultiActiveLeaseArbiter.tryAcquireLease(leaseParams, skipFlowExecutionIdReplacement);
+    return updateLeaseAttemptMetrics(leaseParams, leaseAttemptStatus);
+  }
+
+  @Override
+  public List<LeaseAttemptStatus> tryAcquireLeases(List<DagActionStore.LeaseParams> leaseParamsList,
+      boolean skipFlowExecutionIdReplacement) throws IOException {
+    List<LeaseAttemptStatus> leaseAttemptStatuses;
+    try (Timer.Context context = this.leaseBatchAcquisitionTimer.time()) {
+      leaseAttemptStatuses = decoratedMultiActiveLeaseArbiter.tryAcquireLeases(leaseParamsList, skipFlowExecutionIdReplacement);
+    }
+    for (int i = 0; i < leaseParamsList.size(); i++) {
+      if (updateLeaseAttemptMetrics(leaseParamsList.get(i), leaseAttemptStatuses.get(i)) instanceof LeaseAttemptStatus.LeasedToAnotherStatus) {
+        this.leaseBatchConflictCount.inc();
+      }
+    }
+    return leaseAttemptStatuses;
+  }
+
+  private LeaseAttemptStatus updateLeaseAttemptMetrics(DagActionStore.LeaseParams leaseParams,
+      LeaseAttemptStatus leaseAttemptStatus) {
     if (leaseAttemptStatus instanceof LeaseAttemptStatus.LeaseObtainedStatus) {
       if (leaseParams.isReminder()) {
         this.leasesObtainedDueToReminderCount.mark();
@@ -199,6 +199,11 @@ public class MySqlDagManagementStateStore implements DagManagementStateStore {
   public Set<Dag.DagNode<JobExecutionPlan>> getDagNodes(Dag.DagId dagId) throws IOException {
     return this.dagStateStore.getDagNodes(dagId);}
 
+  @Override
+  public Map<String, Integer> getNumRunningJobsBySpecExecutor() throws IOException {
+    return this.dagStateStore.getNumRunningDagNodesBySpecExecutor();
+  }
+
   @Override
   public void tryAcquireQuota(Collection<Dag.DagNode<JobExecutionPlan>> dagNodes) throws IOException {
     this.quotaManager.checkQuota(dagNodes);
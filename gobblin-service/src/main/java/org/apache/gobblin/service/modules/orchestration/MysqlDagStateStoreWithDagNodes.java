@@ -25,6 +25,7 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -50,6 +51,7 @@ import org.apache.gobblin.metastore.MysqlDataSourceFactory;
 import org.apache.gobblin.metrics.MetricContext;
 import org.apache.gobblin.runtime.api.TopologySpec;
 import org.apache.gobblin.runtime.spec_serde.GsonSerDe;
+import org.apache.gobblin.service.ExecutionStatus;
 import org.apache.gobblin.service.ServiceConfigKeys;
 import org.apache.gobblin.service.modules.flowgraph.Dag;
 import org.apache.gobblin.service.modules.flowgraph.DagNodeId;
@@ -57,6 +59,7 @@ import org.apache.gobblin.service.modules.spec.JobExecutionPlan;
 import org.apache.gobblin.service.modules.spec.JobExecutionPlanDagFactory;
 import org.apache.gobblin.service.modules.spec.JobExecutionPlanListDeserializer;
 import org.apache.gobblin.service.modules.spec.JobExecutionPlanListSerializer;
+import org.apache.gobblin.service.modules.spec.SerializationConstants;
 import org.apache.gobblin.util.ConfigUtils;
 import org.apache.gobblin.util.DBStatementExecutor;
 
@@ -90,6 +93,11 @@ public class MysqlDagStateStoreWithDagNodes implements DagStateStoreWithDagNodes
   protected static final String GET_DAG_NODES_STATEMENT = "SELECT dag_node FROM %s WHERE parent_dag_id = ?";
   protected static final String GET_DAG_NODE_STATEMENT = "SELECT dag_node FROM %s WHERE dag_node_id = ?";
   protected static final String DELETE_DAG_STATEMENT = "DELETE FROM %s WHERE parent_dag_id = ?";
+  // dag nodes sent to their executor and not finished yet
+  protected static final String GET_RUNNING_DAG_NODES_STATEMENT = "SELECT dag_node FROM %s WHERE "
+      + "JSON_UNQUOTE(JSON_EXTRACT(dag_node, '$[0]." + SerializationConstants.EXECUTION_STATUS_KEY + "')) IN ('"
+      + ExecutionStatus.ORCHESTRATED.name() + "', '" + ExecutionStatus.RUNNING.name() + "', '"
+      + ExecutionStatus.PENDING_RETRY.name() + "')";
 
   public MysqlDagStateStoreWithDagNodes(Config config, Map<URI, TopologySpec> topologySpecMap) throws IOException {
     if (config.hasPath(CONFIG_PREFIX)) {
@@ -223,6 +231,22 @@ public class MysqlDagStateStoreWithDagNodes implements DagStateStoreWithDagNodes
     }, true);
   }
 
+  @Override
+  public Map<String, Integer> getNumRunningDagNodesBySpecExecutor() throws IOException {
+    return dbStatementExecutor.withPreparedStatement(String.format(GET_RUNNING_DAG_NODES_STATEMENT, tableName), getStatement -> {
+      Map<String, Integer> numRunningDagNodes = new HashMap<>();
+      try (ResultSet rs = getStatement.executeQuery()) {
+        while (rs.next()) {
+          JobExecutionPlan jobExecutionPlan = this.serDe.deserialize(rs.getString(1)).get(0);
+          numRunningDagNodes.merge(jobExecutionPlan.getSpecExecutor().getUri().toString(), 1, Integer::sum);
+        }
+        return numRunningDagNodes;
+      } catch (SQLException e) {
+        throw new IOException("Failure getting running dag nodes", e);
+      }
+    }, true);
+  }
+
   @Override
   public Optional<Dag.DagNode<JobExecutionPlan>> getDagNode(DagNodeId dagNodeId) throws IOException {
     return dbStatementExecutor.withPreparedStatement(String.format(GET_DAG_NODE_STATEMENT, tableName), getStatement -> {
@@ -25,15 +25,25 @@ import java.sql.SQLException;
 import java.sql.SQLIntegrityConstraintViolationException;
 import java.sql.SQLTransientException;
 import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Calendar;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.TimeZone;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
+import com.google.common.collect.Lists;
 import com.typesafe.config.Config;
 
 import javax.sql.DataSource;
 import lombok.Data;
+import lombok.With;
 import lombok.extern.slf4j.Slf4j;
 
 import org.apache.gobblin.broker.SharedResourcesBrokerFactory;
@@ -79,6 +89,12 @@ import org.apache.gobblin.util.ExponentialBackoff;
  * `linger` period of time after which it expires and any host can re-attempt ownership. In most cases, the original
  * host should actually complete its work while having the lease and then mark the dag action as NULL to indicate no
  * further leasing should be done for the event.
+ *
+ * --- Batched lease attempts ---
+ * {@link #tryAcquireLeases(List, boolean)} follows the same protocol for many dag action events in one transaction:
+ * the rows of all the events are read with one multi-row SELECT, the conditional UPDATEs are sent as one JDBC batch,
+ * and the rows are read again with one multi-row locking SELECT to evaluate the attempts. Rows are written in primary key order, so that concurrent batches of different participants do not
+ * deadlock on each other.
  */
 @Slf4j
 public class MysqlMultiActiveLeaseArbiter implements MultiActiveLeaseArbiter {
@@ -173,6 +189,27 @@ public class MysqlMultiActiveLeaseArbiter implements MultiActiveLeaseArbiter {
   // Complete lease acquisition if values have not changed since lease was acquired
   protected static final String CONDITIONALLY_COMPLETE_LEASE_STATEMENT = "UPDATE %s SET "
       + "event_timestamp=event_timestamp, lease_acquisition_timestamp = NULL " + WHERE_CLAUSE_TO_MATCH_ROW;
+  // Matches the keys of many dag actions in the statements below, with one "(?, ?, ?, ?)" per dag action
+  protected static final String WHERE_CLAUSE_TO_MATCH_KEYS = "WHERE (flow_group, flow_name, job_name, dag_action) IN (%s)";
+  protected static final String KEY_PLACEHOLDERS = "(?, ?, ?, ?)";
+  // Same as GET_EVENT_INFO_STATEMENT for many dag actions, also returning the key columns and epsilon to evaluate
+  // is_within_epsilon of reminder events
+  protected static final String GET_EVENTS_INFO_STATEMENT = "SELECT flow_group, flow_name, job_name, dag_action, "
+      + "CONVERT_TZ(`event_timestamp`, @@session.time_zone, '+00:00') as utc_event_timestamp, "
+      + "CONVERT_TZ(`lease_acquisition_timestamp`, @@session.time_zone, '+00:00') as utc_lease_acquisition_timestamp, "
+      + "ABS(TIMESTAMPDIFF(microsecond, event_timestamp, CURRENT_TIMESTAMP(3))) / 1000 <= epsilon as is_within_epsilon, CASE "
+      + "WHEN CURRENT_TIMESTAMP(3) < DATE_ADD(lease_acquisition_timestamp, INTERVAL linger*1000 MICROSECOND) then 1 "
+      + "WHEN CURRENT_TIMESTAMP(3) >= DATE_ADD(lease_acquisition_timestamp, INTERVAL linger*1000 MICROSECOND) then 2 "
+      + "ELSE 3 END as lease_validity_status, linger, epsilon, "
+      + "CONVERT_TZ(CURRENT_TIMESTAMP(3), @@session.time_zone, '+00:00') as utc_current_timestamp FROM %s, %s "
+      + WHERE_CLAUSE_TO_MATCH_KEYS;
+  // Same as SELECT_AFTER_INSERT_STATEMENT for many dag actions. It is a locking read, so that it returns the rows as
+  // last committed by any participant rather than as of the start of the transaction
+  protected static final String SELECT_AFTER_INSERTS_STATEMENT = "SELECT flow_group, flow_name, job_name, dag_action, "
+      + "CONVERT_TZ(`event_timestamp`, @@session.time_zone, '+00:00') as utc_event_timestamp, "
+      + "CONVERT_TZ(`lease_acquisition_timestamp`, @@session.time_zone, '+00:00') as utc_lease_acquisition_timestamp, "
+      + "linger FROM %s, %s " + WHERE_CLAUSE_TO_MATCH_KEYS + " LOCK IN SHARE MODE";
+  protected static final int MAX_KEYS_PER_STATEMENT = 500;
   protected static final int MAX_RETRIES = 3;
   protected static final long MIN_INITIAL_DELAY_MILLIS = 20L;
   protected static final long DELAY_FOR_RETRY_RANGE_MILLIS = 200L;
@@ -263,104 +300,249 @@ public class MysqlMultiActiveLeaseArbiter implements MultiActiveLeaseArbiter {
     Optional<GetEventInfoResult> getResult = getExistingEventInfo(leaseParams);
 
     try {
-      if (!getResult.isPresent()) {
-        log.debug("tryAcquireLease for {} - CASE 1: DagAction has no row yet - create now", contextualizeLeasing(leaseParams));
-        int numRowsUpdated = attemptLeaseIfNewRow(leaseParams.getDagAction(),
+      LeaseAttemptPlan leaseAttemptPlan = planLeaseAttempt(leaseParams, getResult, adoptConsensusFlowExecutionId);
+      if (leaseAttemptPlan.getDecidedStatus().isPresent()) {
+        return leaseAttemptPlan.getDecidedStatus().get();
+      }
+      int numRowsUpdated;
+      if (leaseAttemptPlan.isNewRow()) {
+        numRowsUpdated = attemptLeaseIfNewRow(leaseParams.getDagAction(),
             ExponentialBackoff.builder().maxRetries(MAX_RETRIES)
                 .initialDelay(MIN_INITIAL_DELAY_MILLIS + (long) (Math.random() * DELAY_FOR_RETRY_RANGE_MILLIS))
                 .build());
-       return evaluateStatusAfterLeaseAttempt(numRowsUpdated, leaseParams, Optional.empty(),
-           adoptConsensusFlowExecutionId);
+      } else {
+        numRowsUpdated = attemptLeaseIfExistingRow(leaseAttemptPlan.getAcquireLeaseStatement(),
+            leaseParams.getDagAction(), true, leaseAttemptPlan.isNeedLeaseAcquisitionTimeCheck(),
+            leaseAttemptPlan.getDbEventTimestamp(), leaseAttemptPlan.getDbLeaseAcquisitionTimestamp());
       }
+      return evaluateStatusAfterLeaseAttempt(numRowsUpdated, leaseParams, leaseAttemptPlan.getDbCurrentTimestamp(),
+          adoptConsensusFlowExecutionId);
+    } catch (SQLException e) {
+      throw new RuntimeException(e);
+    }
+  }
 
-      // Extract values from result set
-      Timestamp dbEventTimestamp = getResult.get().getDbEventTimestamp();
-      Timestamp dbLeaseAcquisitionTimestamp = getResult.get().getDbLeaseAcquisitionTimestamp();
-      boolean isWithinEpsilon = getResult.get().isWithinEpsilon();
-      int leaseValidityStatus = getResult.get().getLeaseValidityStatus();
-      // Used to calculate minimum amount of time until a participant should check whether a lease expired
-      int dbLinger = getResult.get().getDbLinger();
-      Timestamp dbCurrentTimestamp = getResult.get().getDbCurrentTimestamp();
-
-      // stop early with reminder events when the reminder's eventTimeMillis is older than that of the current DB event; DB laundering should
-      // guarantee that the current DB event is truly a distinct newer event (vs. clock drift) and thus should have separate reminders of its own
-      if (leaseParams.isReminder()) {
-        if (leaseParams.getEventTimeMillis() < dbEventTimestamp.getTime()) {
-          log.info("tryAcquireLease for {} (dbEventTimeMillis: {}) - Newer DB time, so discarding out-of-date reminder",
-              contextualizeLeasing(leaseParams), dbEventTimestamp);
-          return new LeaseAttemptStatus.NoLongerLeasingStatus();
-        }
-        if (leaseParams.getEventTimeMillis() > dbEventTimestamp.getTime()) {
-          // TODO: emit metric here to capture this unexpected behavior
-          log.warn("tryAcquireLease for {} (dbEventTimeMillis: {}) - Severe constraint violation: DB time OLDER than reminder event, when DB laundering "
-              + "ought to ensure monotonically increasing (laundered) event times.", contextualizeLeasing(leaseParams), dbEventTimestamp.getTime());
-        }
-        if (leaseParams.getEventTimeMillis() == dbEventTimestamp.getTime()) {
-          log.debug("tryAcquireLease for {} (dbEventTimeMillis: {}) - DB time matches reminder", contextualizeLeasing(leaseParams), dbEventTimestamp);
-        }
+  /**
+   * Decides, from the existing row of the dag action (if any), either the {@link LeaseAttemptStatus} of the lease
+   * attempt or the write needed to attempt acquiring the lease
+   */
+  private LeaseAttemptPlan planLeaseAttempt(DagActionStore.LeaseParams leaseParams,
+      Optional<GetEventInfoResult> getResult, boolean adoptConsensusFlowExecutionId) {
+    if (!getResult.isPresent()) {
+      log.debug("tryAcquireLease for {} - CASE 1: DagAction has no row yet - create now", contextualizeLeasing(leaseParams));
+      return LeaseAttemptPlan.newRow();
+    }
+
+    // Extract values from result set
+    Timestamp dbEventTimestamp = getResult.get().getDbEventTimestamp();
+    Timestamp dbLeaseAcquisitionTimestamp = getResult.get().getDbLeaseAcquisitionTimestamp();
+    boolean isWithinEpsilon = getResult.get().isWithinEpsilon();
+    int leaseValidityStatus = getResult.get().getLeaseValidityStatus();
+    // Used to calculate minimum amount of time until a participant should check whether a lease expired
+    int dbLinger = getResult.get().getDbLinger();
+    Timestamp dbCurrentTimestamp = getResult.get().getDbCurrentTimestamp();
+
+    // stop early with reminder events when the reminder's eventTimeMillis is older than that of the current DB event; DB laundering should
+    // guarantee that the current DB event is truly a distinct newer event (vs. clock drift) and thus should have separate reminders of its own
+    if (leaseParams.isReminder()) {
+      if (leaseParams.getEventTimeMillis() < dbEventTimestamp.getTime()) {
+        log.info("tryAcquireLease for {} (dbEventTimeMillis: {}) - Newer DB time, so discarding out-of-date reminder",
+            contextualizeLeasing(leaseParams), dbEventTimestamp);
+        return LeaseAttemptPlan.decided(new LeaseAttemptStatus.NoLongerLeasingStatus());
       }
+      if (leaseParams.getEventTimeMillis() > dbEventTimestamp.getTime()) {
+        // TODO: emit metric here to capture this unexpected behavior
+        log.warn("tryAcquireLease for {} (dbEventTimeMillis: {}) - Severe constraint violation: DB time OLDER than reminder event, when DB laundering "
+            + "ought to ensure monotonically increasing (laundered) event times.", contextualizeLeasing(leaseParams), dbEventTimestamp.getTime());
+      }
+      if (leaseParams.getEventTimeMillis() == dbEventTimestamp.getTime()) {
+        log.debug("tryAcquireLease for {} (dbEventTimeMillis: {}) - DB time matches reminder", contextualizeLeasing(leaseParams), dbEventTimestamp);
+      }
+    }
 
-      // TODO: check whether reminder event before replacing flowExecutionId
-      if (adoptConsensusFlowExecutionId) {
-        log.info("Multi-active will use DB time ({}) to launder {}", dbCurrentTimestamp.getTime(), contextualizeLeasing(leaseParams));
+    // TODO: check whether reminder event before replacing flowExecutionId
+    if (adoptConsensusFlowExecutionId) {
+      log.info("Multi-active will use DB time ({}) to launder {}", dbCurrentTimestamp.getTime(), contextualizeLeasing(leaseParams));
+    }
+    /* Note that we use `adoptConsensusFlowExecutionId` parameter's value to determine whether we should use the db
+    laundered event timestamp as the flowExecutionId or maintain the original one
+     */
+
+    // Lease is valid
+    if (leaseValidityStatus == 1) {
+      if (isWithinEpsilon) {
+       DagActionStore.DagAction updatedDagAction =
+            adoptConsensusFlowExecutionId ? leaseParams.updateDagActionFlowExecutionId(dbEventTimestamp.getTime()) : leaseParams.getDagAction();
+       // Preserve storeInsertTimeMillis through consensus so downstream consumers can measure end-to-end latency.
+       DagActionStore.LeaseParams updatedLeaseParams = new DagActionStore.LeaseParams(updatedDagAction,
+           false, dbEventTimestamp.getTime(), leaseParams.getStoreInsertTimeMillis());
+        log.debug("tryAcquireLease for {} - CASE 2: Same event, lease is valid", contextualizeLeasing(updatedLeaseParams));
+        // Utilize db timestamp for reminder
+        return LeaseAttemptPlan.decided(new LeaseAttemptStatus.LeasedToAnotherStatus(updatedLeaseParams,
+            dbLeaseAcquisitionTimestamp.getTime() + dbLinger - dbCurrentTimestamp.getTime()));
       }
-      /* Note that we use `adoptConsensusFlowExecutionId` parameter's value to determine whether we should use the db
-      laundered event timestamp as the flowExecutionId or maintain the original one
-       */
-
-      // Lease is valid
-      if (leaseValidityStatus == 1) {
-        if (isWithinEpsilon) {
-         DagActionStore.DagAction updatedDagAction =
-              adoptConsensusFlowExecutionId ? leaseParams.updateDagActionFlowExecutionId(dbEventTimestamp.getTime()) : leaseParams.getDagAction();
-         // Preserve storeInsertTimeMillis through consensus so downstream consumers can measure end-to-end latency.
-         DagActionStore.LeaseParams updatedLeaseParams = new DagActionStore.LeaseParams(updatedDagAction,
-             false, dbEventTimestamp.getTime(), leaseParams.getStoreInsertTimeMillis());
-          log.debug("tryAcquireLease for {} - CASE 2: Same event, lease is valid", contextualizeLeasing(updatedLeaseParams));
-          // Utilize db timestamp for reminder
-          return new LeaseAttemptStatus.LeasedToAnotherStatus(updatedLeaseParams,
-              dbLeaseAcquisitionTimestamp.getTime() + dbLinger - dbCurrentTimestamp.getTime());
-        }
-        DagActionStore.DagAction updatedDagAction =
-            adoptConsensusFlowExecutionId ? leaseParams.getDagAction().updateFlowExecutionId(dbCurrentTimestamp.getTime()) : leaseParams.getDagAction();
-        // Preserve storeInsertTimeMillis through consensus so downstream consumers can measure end-to-end latency.
-        DagActionStore.LeaseParams updatedLeaseParams = new DagActionStore.LeaseParams(updatedDagAction,
-            false, dbCurrentTimestamp.getTime(), leaseParams.getStoreInsertTimeMillis());
-        log.debug("tryAcquireLease for {} - CASE 3: Distinct event, lease is valid", contextualizeLeasing(updatedLeaseParams));
-        // Utilize db lease acquisition timestamp for wait time and currentTimestamp as the new eventTimestamp
-        return new LeaseAttemptStatus.LeasedToAnotherStatus(updatedLeaseParams,
-            dbLeaseAcquisitionTimestamp.getTime() + dbLinger  - dbCurrentTimestamp.getTime());
-      } // Lease is invalid
-      else if (leaseValidityStatus == 2) {
-        log.debug("tryAcquireLease for {} (DB current time: {}) - CASE 4: Lease out-of-date (regardless of "
-            + "whether same or distinct event)", contextualizeLeasing(leaseParams), dbCurrentTimestamp.getTime());
-        if (isWithinEpsilon && !leaseParams.isReminder) {
-          log.warn("Lease should not be out-of-date for the same trigger event, if epsilon << linger for {} "
-                  + "(DB eventTimestamp: {}; DB leaseAcquisitionTimestamp: {}; DB linger: {})",
-              contextualizeLeasing(leaseParams), dbEventTimestamp, dbLeaseAcquisitionTimestamp, dbLinger);
-        }
-        // Use our event to acquire lease, check for previous DB eventTimestamp and leaseAcquisitionTimestamp
-        int numRowsUpdated = attemptLeaseIfExistingRow(thisTableAcquireLeaseIfMatchingAllStatement,
-            leaseParams.getDagAction(), true,true, dbEventTimestamp,
-            dbLeaseAcquisitionTimestamp);
-        return evaluateStatusAfterLeaseAttempt(numRowsUpdated, leaseParams, Optional.of(dbCurrentTimestamp),
-            adoptConsensusFlowExecutionId);
-      } // No longer leasing this event
-        if (isWithinEpsilon) {
-          log.debug("tryAcquireLease for {} (DB current time: {}) - CASE 5: Same event, no longer leasing event in DB",
-              contextualizeLeasing(leaseParams), dbCurrentTimestamp.getTime());
-          return new LeaseAttemptStatus.NoLongerLeasingStatus();
-        }
-        log.debug("tryAcquireLease for {} (DB current time: {}) - CASE 6: Distinct event, no longer leasing event in DB",
+      DagActionStore.DagAction updatedDagAction =
+          adoptConsensusFlowExecutionId ? leaseParams.getDagAction().updateFlowExecutionId(dbCurrentTimestamp.getTime()) : leaseParams.getDagAction();
+      // Preserve storeInsertTimeMillis through consensus so downstream consumers can measure end-to-end latency.
+      DagActionStore.LeaseParams updatedLeaseParams = new DagActionStore.LeaseParams(updatedDagAction,
+          false, dbCurrentTimestamp.getTime(), leaseParams.getStoreInsertTimeMillis());
+      log.debug("tryAcquireLease for {} - CASE 3: Distinct event, lease is valid", contextualizeLeasing(updatedLeaseParams));
+      // Utilize db lease acquisition timestamp for wait time and currentTimestamp as the new eventTimestamp
+      return LeaseAttemptPlan.decided(new LeaseAttemptStatus.LeasedToAnotherStatus(updatedLeaseParams,
+          dbLeaseAcquisitionTimestamp.getTime() + dbLinger  - dbCurrentTimestamp.getTime()));
+    } // Lease is invalid
+    else if (leaseValidityStatus == 2) {
+      log.debug("tryAcquireLease for {} (DB current time: {}) - CASE 4: Lease out-of-date (regardless of "
+          + "whether same or distinct event)", contextualizeLeasing(leaseParams), dbCurrentTimestamp.getTime());
+      if (isWithinEpsilon && !leaseParams.isReminder) {
+        log.warn("Lease should not be out-of-date for the same trigger event, if epsilon << linger for {} "
+                + "(DB eventTimestamp: {}; DB leaseAcquisitionTimestamp: {}; DB linger: {})",
+            contextualizeLeasing(leaseParams), dbEventTimestamp, dbLeaseAcquisitionTimestamp, dbLinger);
+      }
+      // Use our event to acquire lease, check for previous DB eventTimestamp and leaseAcquisitionTimestamp
+      return LeaseAttemptPlan.existingRow(thisTableAcquireLeaseIfMatchingAllStatement, true, dbEventTimestamp,
+          dbLeaseAcquisitionTimestamp, dbCurrentTimestamp);
+    } // No longer leasing this event
+      if (isWithinEpsilon) {
+        log.debug("tryAcquireLease for {} (DB current time: {}) - CASE 5: Same event, no longer leasing event in DB",
             contextualizeLeasing(leaseParams), dbCurrentTimestamp.getTime());
-        // Use our event to acquire lease, check for previous DB eventTimestamp and NULL leaseAcquisitionTimestamp
-        int numRowsUpdated = attemptLeaseIfExistingRow(thisTableAcquireLeaseIfFinishedStatement,
-            leaseParams.getDagAction(), true, false, dbEventTimestamp,
-            null);
-        return evaluateStatusAfterLeaseAttempt(numRowsUpdated, leaseParams, Optional.of(dbCurrentTimestamp),
-            adoptConsensusFlowExecutionId);
+        return LeaseAttemptPlan.decided(new LeaseAttemptStatus.NoLongerLeasingStatus());
+      }
+      log.debug("tryAcquireLease for {} (DB current time: {}) - CASE 6: Distinct event, no longer leasing event in DB",
+          contextualizeLeasing(leaseParams), dbCurrentTimestamp.getTime());
+      // Use our event to acquire lease, check for previous DB eventTimestamp and NULL leaseAcquisitionTimestamp
+      return LeaseAttemptPlan.existingRow(thisTableAcquireLeaseIfFinishedStatement, false, dbEventTimestamp,
+          null, dbCurrentTimestamp);
+  }
+
+  /**
+   * Attempts the leases of all the given dag action events in one transaction, following the same protocol as
+   * {@link #tryAcquireLease(DagActionStore.LeaseParams, boolean)} for each. If the transaction fails, none of the leases
+   * are acquired and the caller may attempt them again.
+   */
+  @Override
+  public List<LeaseAttemptStatus> tryAcquireLeases(List<DagActionStore.LeaseParams> leaseParamsList,
+      boolean adoptConsensusFlowExecutionId) throws IOException {
+    if (leaseParamsList.isEmpty()) {
+      return Collections.emptyList();
+    }
+    log.info("Multi-active arbitration for a batch of {} dag actions in [{}]", leaseParamsList.size(), this.leaseArbiterTableName);
+    List<LeaseAttemptStatus> leaseAttemptStatuses;
+    try (Connection connection = this.dataSource.getConnection()) {
+      try {
+        leaseAttemptStatuses = doTryAcquireLeases(connection, leaseParamsList, adoptConsensusFlowExecutionId);
+        connection.commit();
+      } catch (SQLException | IOException e) {
+        connection.rollback();
+        throw e;
+      }
     } catch (SQLException e) {
-      throw new RuntimeException(e);
+      throw new IOException("Batched lease acquisition failure for " + this.leaseArbiterTableName, e);
+    }
+    for (int i = 0; i < leaseParamsList.size(); i++) {
+      LeaseAttemptStatus leaseAttemptStatus = leaseAttemptStatuses.get(i);
+      log.info("Multi-active lease status [{}] for {}", leaseAttemptStatus.getClass().getSimpleName(),
+          contextualizeLeasing(Optional.ofNullable(leaseAttemptStatus.getConsensusLeaseParams()).orElse(leaseParamsList.get(i))));
+    }
+    return leaseAttemptStatuses;
+  }
+
+  private List<LeaseAttemptStatus> doTryAcquireLeases(Connection connection, List<DagActionStore.LeaseParams> leaseParamsList,
+      boolean adoptConsensusFlowExecutionId) throws SQLException, IOException {
+    Map<List<String>, GetEventInfoResult> getResults = getExistingEventsInfo(connection, leaseParamsList.stream()
+        .map(DagActionStore.LeaseParams::getDagAction).collect(Collectors.toList()));
+
+    LeaseAttemptStatus[] leaseAttemptStatuses = new LeaseAttemptStatus[leaseParamsList.size()];
+    LeaseAttemptPlan[] leaseAttemptPlans = new LeaseAttemptPlan[leaseParamsList.size()];
+    List<Integer> attemptIndices = new ArrayList<>();
+    for (int i = 0; i < leaseParamsList.size(); i++) {
+      DagActionStore.LeaseParams leaseParams = leaseParamsList.get(i);
+      Optional<GetEventInfoResult> getResult = Optional.ofNullable(getResults.get(toKey(leaseParams.getDagAction())));
+      // is_within_epsilon of a reminder event compares the db event time to the reminder's event time (see
+      // GET_EVENT_INFO_STATEMENT_FOR_REMINDER) rather than to the db current time
+      if (leaseParams.isReminder() && getResult.isPresent()) {
+        getResult = Optional.of(getResult.get().withWithinEpsilon(
+            leaseParams.getEventTimeMillis() - getResult.get().getDbEventTimestamp().getTime() <= getResult.get().getDbEpsilon()));
+      }
+      leaseAttemptPlans[i] = planLeaseAttempt(leaseParams, getResult, adoptConsensusFlowExecutionId);
+      if (leaseAttemptPlans[i].getDecidedStatus().isPresent()) {
+        leaseAttemptStatuses[i] = leaseAttemptPlans[i].getDecidedStatus().get();
+      } else {
+        attemptIndices.add(i);
+      }
+    }
+    if (attemptIndices.isEmpty()) {
+      return Arrays.asList(leaseAttemptStatuses);
+    }
+
+    // Write rows in primary key order to avoid deadlocks among concurrent batches
+    attemptIndices.sort(Comparator.comparing(i -> String.join("\u0000", toKey(leaseParamsList.get(i).getDagAction()))));
+    int[] numRowsUpdated = new int[leaseParamsList.size()];
+    String acquireLeaseNewRowStatement = String.format(ACQUIRE_LEASE_IF_NEW_ROW_STATEMENT, this.leaseArbiterTableName);
+    try (PreparedStatement insertStatement = connection.prepareStatement(acquireLeaseNewRowStatement);
+        PreparedStatement acquireIfMatchingAllStatement = connection.prepareStatement(thisTableAcquireLeaseIfMatchingAllStatement);
+        PreparedStatement acquireIfFinishedStatement = connection.prepareStatement(thisTableAcquireLeaseIfFinishedStatement)) {
+      List<Integer> matchingAllIndices = new ArrayList<>();
+      List<Integer> finishedIndices = new ArrayList<>();
+      for (int i : attemptIndices) {
+        DagActionStore.DagAction dagAction = leaseParamsList.get(i).getDagAction();
+        LeaseAttemptPlan leaseAttemptPlan = leaseAttemptPlans[i];
+        if (leaseAttemptPlan.isNewRow()) {
+          // Inserts are not batched, as a batched insert may not report which of its rows were duplicates
+          completeInsertPreparedStatement(insertStatement, dagAction);
+          try {
+            numRowsUpdated[i] = insertStatement.executeUpdate();
+          } catch (SQLIntegrityConstraintViolationException e) {
+            if (!e.getMessage().contains("Duplicate entry")) {
+              throw e;
+            }
+            numRowsUpdated[i] = 0;
+          }
+        } else {
+          boolean matchingAll = leaseAttemptPlan.getAcquireLeaseStatement().equals(thisTableAcquireLeaseIfMatchingAllStatement);
+          PreparedStatement updateStatement = matchingAll ? acquireIfMatchingAllStatement : acquireIfFinishedStatement;
+          completeUpdatePreparedStatement(updateStatement, dagAction, true, leaseAttemptPlan.isNeedLeaseAcquisitionTimeCheck(),
+              leaseAttemptPlan.getDbEventTimestamp(), leaseAttemptPlan.getDbLeaseAcquisitionTimestamp());
+          updateStatement.addBatch();
+          (matchingAll ? matchingAllIndices : finishedIndices).add(i);
+        }
+      }
+      executeUpdateBatch(acquireIfMatchingAllStatement, matchingAllIndices, numRowsUpdated);
+      executeUpdateBatch(acquireIfFinishedStatement, finishedIndices, numRowsUpdated);
+    }
+
+    List<DagActionStore.DagAction> attemptedDagActions = attemptIndices.stream()
+        .map(i -> leaseParamsList.get(i).getDagAction()).collect(Collectors.toList());
+    Map<List<String>, SelectInfoResult> selectInfoResults = getRowsInfo(connection, attemptedDagActions);
+    for (int i : attemptIndices) {
+      DagActionStore.LeaseParams leaseParams = leaseParamsList.get(i);
+      SelectInfoResult selectInfoResult = selectInfoResults.get(toKey(leaseParams.getDagAction()));
+      if (selectInfoResult == null) {
+        throw new IOException("Expected row information for the lease that was attempted but received nothing for "
+            + contextualizeLeasing(leaseParams));
+      }
+      leaseAttemptStatuses[i] = evaluateStatusAfterLeaseAttempt(numRowsUpdated[i], leaseParams, selectInfoResult,
+          leaseAttemptPlans[i].getDbCurrentTimestamp(), adoptConsensusFlowExecutionId);
+    }
+    return Arrays.asList(leaseAttemptStatuses);
+  }
+
+  /** Executes the batch of `statement`, whose i-th row is for the `indices.get(i)`-th dag action, into `numRowsUpdated` */
+  private static void executeUpdateBatch(PreparedStatement statement, List<Integer> indices, int[] numRowsUpdated)
+      throws SQLException, IOException {
+    if (indices.isEmpty()) {
+      return;
+    }
+    int[] updateCounts = statement.executeBatch();
+    if (updateCounts.length != indices.size()) {
+      throw new IOException(String.format("Expected %d update counts from batch but received %d", indices.size(),
+          updateCounts.length));
+    }
+    for (int j = 0; j < updateCounts.length; j++) {
+      if (updateCounts[j] < 0) {
+        throw new IOException("Batch did not report the number of rows updated by each statement: " + updateCounts[j]);
+      }
+      numRowsUpdated[indices.get(j)] = updateCounts[j];
     }
   }
 
@@ -401,7 +583,33 @@ public class MysqlMultiActiveLeaseArbiter implements MultiActiveLeaseArbiter {
         }, true);
   }
 
+  /**
+   * Reads the existing entries of the given dag actions from leaseArbiterTable, keyed by {@link #toKey}
+   */
+  protected Map<List<String>, GetEventInfoResult> getExistingEventsInfo(Connection connection,
+      List<DagActionStore.DagAction> dagActions) throws SQLException, IOException {
+    Map<List<String>, GetEventInfoResult> getResults = new HashMap<>();
+    for (List<DagActionStore.DagAction> dagActionsPartition : Lists.partition(dagActions, MAX_KEYS_PER_STATEMENT)) {
+      String getInfoStatement = String.format(GET_EVENTS_INFO_STATEMENT, this.leaseArbiterTableName,
+          this.constantsTableName, String.join(", ", Collections.nCopies(dagActionsPartition.size(), KEY_PLACEHOLDERS)));
+      try (PreparedStatement statement = connection.prepareStatement(getInfoStatement)) {
+        completeWhereClauseMatchingKeysPreparedStatement(statement, dagActionsPartition);
+        try (ResultSet resultSet = statement.executeQuery()) {
+          while (resultSet.next()) {
+            List<String> key = toKey(resultSet);
+            getResults.put(key, createGetInfoResult(resultSet, false).withDbEpsilon(resultSet.getInt("epsilon")));
+          }
+        }
+      }
+    }
+    return getResults;
+  }
+
   protected GetEventInfoResult createGetInfoResult(ResultSet resultSet) throws IOException {
+    return createGetInfoResult(resultSet, true);
+  }
+
+  private GetEventInfoResult createGetInfoResult(ResultSet resultSet, boolean closeResultSet) throws IOException {
     try {
       // Extract values from result set
       Timestamp dbEventTimestamp = resultSet.getTimestamp("utc_event_timestamp", UTC_CAL.get());
@@ -412,11 +620,11 @@ public class MysqlMultiActiveLeaseArbiter implements MultiActiveLeaseArbiter {
       int dbLinger = resultSet.getInt("linger");
       Timestamp dbCurrentTimestamp = resultSet.getTimestamp("utc_current_timestamp", UTC_CAL.get());
       return new GetEventInfoResult(dbEventTimestamp, dbLeaseAcquisitionTimestamp, withinEpsilon, leaseValidityStatus,
-          dbLinger, dbCurrentTimestamp);
+          dbLinger, dbCurrentTimestamp, 0);
     } catch (SQLException e) {
       throw new IOException(e);
     } finally {
-      if (resultSet != null) {
+      if (closeResultSet && resultSet != null) {
         try {
           resultSet.close();
         } catch (SQLException e) {
@@ -492,6 +700,35 @@ public class MysqlMultiActiveLeaseArbiter implements MultiActiveLeaseArbiter {
           }
         }, true);
   }
+
+  /**
+   * Same as {@link #getRowInfo(DagActionStore.DagAction)} for many dag actions, keyed by {@link #toKey}
+   */
+  protected Map<List<String>, SelectInfoResult> getRowsInfo(Connection connection, List<DagActionStore.DagAction> dagActions)
+      throws SQLException, IOException {
+    Map<List<String>, SelectInfoResult> selectInfoResults = new HashMap<>();
+    for (List<DagActionStore.DagAction> dagActionsPartition : Lists.partition(dagActions, MAX_KEYS_PER_STATEMENT)) {
+      String selectStatement = String.format(SELECT_AFTER_INSERTS_STATEMENT, this.leaseArbiterTableName,
+          this.constantsTableName, String.join(", ", Collections.nCopies(dagActionsPartition.size(), KEY_PLACEHOLDERS)));
+      try (PreparedStatement statement = connection.prepareStatement(selectStatement)) {
+        completeWhereClauseMatchingKeysPreparedStatement(statement, dagActionsPartition);
+        try (ResultSet resultSet = statement.executeQuery()) {
+          while (resultSet.next()) {
+            Timestamp eventTimestamp = resultSet.getTimestamp("utc_event_timestamp", UTC_CAL.get());
+            if (eventTimestamp == null) {
+              throw new IOException("event_timestamp should never be null (it is always set to current timestamp)");
+            }
+            Timestamp leaseAcquisitionTimestamp = resultSet.getTimestamp("utc_lease_acquisition_timestamp", UTC_CAL.get());
+            selectInfoResults.put(toKey(resultSet), new SelectInfoResult(eventTimestamp.getTime(),
+                leaseAcquisitionTimestamp == null ? Optional.empty() : Optional.of(leaseAcquisitionTimestamp.getTime()),
+                resultSet.getInt("linger")));
+          }
+        }
+      }
+    }
+    return selectInfoResults;
+  }
+
   protected static SelectInfoResult createSelectInfoResult(ResultSet resultSet) throws IOException {
       try {
         if (!resultSet.next()) {
@@ -533,6 +770,12 @@ public class MysqlMultiActiveLeaseArbiter implements MultiActiveLeaseArbiter {
       throws SQLException, IOException {
     // Fetch values in row after attempted insert
     SelectInfoResult selectInfoResult = getRowInfo(leaseParams.dagAction);
+    return evaluateStatusAfterLeaseAttempt(numRowsUpdated, leaseParams, selectInfoResult, dbCurrentTimestamp,
+        adoptConsensusFlowExecutionId);
+  }
+
+  private LeaseAttemptStatus evaluateStatusAfterLeaseAttempt(int numRowsUpdated, DagActionStore.LeaseParams leaseParams,
+      SelectInfoResult selectInfoResult, Optional<Timestamp> dbCurrentTimestamp, boolean adoptConsensusFlowExecutionId) {
     // Another participant won the lease in between
     if (!selectInfoResult.getLeaseAcquisitionTimeMillis().isPresent()) {
       return new LeaseAttemptStatus.NoLongerLeasingStatus();
@@ -590,6 +833,32 @@ public class MysqlMultiActiveLeaseArbiter implements MultiActiveLeaseArbiter {
     statement.setString(++i, dagAction.getDagActionType().toString());
   }
 
+  /**
+   * Complete the WHERE clause to match many dag actions, one {@link #KEY_PLACEHOLDERS} each, in a select statement
+   */
+  protected static void completeWhereClauseMatchingKeysPreparedStatement(PreparedStatement statement,
+      List<DagActionStore.DagAction> dagActions) throws SQLException {
+    int i = 0;
+    for (DagActionStore.DagAction dagAction : dagActions) {
+      statement.setString(++i, dagAction.getFlowGroup());
+      statement.setString(++i, dagAction.getFlowName());
+      statement.setString(++i, dagAction.getJobName());
+      statement.setString(++i, dagAction.getDagActionType().toString());
+    }
+  }
+
+  /** @return the primary key of the row of the dag action */
+  protected static List<String> toKey(DagActionStore.DagAction dagAction) {
+    return Arrays.asList(dagAction.getFlowGroup(), dagAction.getFlowName(), dagAction.getJobName(),
+        dagAction.getDagActionType().toString());
+  }
+
+  /** @return the primary key of the current row of the result set */
+  protected static List<String> toKey(ResultSet resultSet) throws SQLException {
+    return Arrays.asList(resultSet.getString("flow_group"), resultSet.getString("flow_name"),
+        resultSet.getString("job_name"), resultSet.getString("dag_action"));
+  }
+
   /**
    * Complete the UPDATE prepared statements for a dag action that already exists in the table that needs to be
    * updated.
@@ -654,6 +923,7 @@ public class MysqlMultiActiveLeaseArbiter implements MultiActiveLeaseArbiter {
    * DTO for arbiter's current lease state for a leaseObject.getDagAction()Event
   */
   @Data
+  @With
   static class GetEventInfoResult {
     private final Timestamp dbEventTimestamp;
     private final Timestamp dbLeaseAcquisitionTimestamp;
@@ -661,6 +931,37 @@ public class MysqlMultiActiveLeaseArbiter implements MultiActiveLeaseArbiter {
     private final int leaseValidityStatus;
     private final int dbLinger;
     private final Timestamp dbCurrentTimestamp;
+    // only read by batched lease attempts
+    private final int dbEpsilon;
+  }
+
+  /**
+   * Either the decided {@link LeaseAttemptStatus} of a lease attempt, or the write needed to attempt acquiring the lease
+   * along with the values read to make it conditional
+   */
+  @Data
+  private static class LeaseAttemptPlan {
+    private final Optional<LeaseAttemptStatus> decidedStatus;
+    private final boolean newRow;
+    private final String acquireLeaseStatement;
+    private final boolean needLeaseAcquisitionTimeCheck;
+    private final Timestamp dbEventTimestamp;
+    private final Timestamp dbLeaseAcquisitionTimestamp;
+    private final Optional<Timestamp> dbCurrentTimestamp;
+
+    static LeaseAttemptPlan decided(LeaseAttemptStatus status) {
+      return new LeaseAttemptPlan(Optional.of(status), false, null, false, null, null, Optional.empty());
+    }
+
+    static LeaseAttemptPlan newRow() {
+      return new LeaseAttemptPlan(Optional.empty(), true, null, false, null, null, Optional.empty());
+    }
+
+    static LeaseAttemptPlan existingRow(String acquireLeaseStatement, boolean needLeaseAcquisitionTimeCheck,
+        Timestamp dbEventTimestamp, Timestamp dbLeaseAcquisitionTimestamp, Timestamp dbCurrentTimestamp) {
+      return new LeaseAttemptPlan(Optional.empty(), false, acquireLeaseStatement, needLeaseAcquisitionTimeCheck,
+          dbEventTimestamp, dbLeaseAcquisitionTimestamp, Optional.of(dbCurrentTimestamp));
+    }
   }
 
   /**
@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.gobblin.service.modules.orchestration;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.MetricRegistry;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.Maps;
+
+import org.apache.gobblin.metrics.ContextAwareGauge;
+import org.apache.gobblin.metrics.RootMetricContext;
+import org.apache.gobblin.metrics.ServiceMetricNames;
+
+
+/**
+ * Tracks how loaded each {@link org.apache.gobblin.runtime.api.SpecExecutor} is: the number of jobs running on it, and a
+ * moving average of how long its jobs waited to start after being orchestrated. Both are exposed as gauges per executor,
+ * and consulted by {@link org.apache.gobblin.service.modules.flow.LeastLoadedSpecExecutorSelector} to route flows away
+ * from busy executors.
+ *
+ * <p>
+ *   The running jobs are read periodically from the {@link DagManagementStateStore} by {@link DagProcessingEngine}
+ *   through {@link #updateRunningJobs(Map)}, rather than counted on this host, since in multi-active mode a job is
+ *   launched and finished by whichever hosts win the leases of those dag actions.
+ * </p>
+ */
+public class SpecExecutorLoadTracker {
+  // weight of the latest job start latency in its moving average
+  private static final double START_LATENCY_SMOOTHING_FACTOR = 0.2;
+  private static final SpecExecutorLoadTracker INSTANCE = new SpecExecutorLoadTracker(true);
+
+  private final Map<String, ExecutorLoad> executorLoads = Maps.newConcurrentMap();
+  private final boolean registerGauges;
+
+  @VisibleForTesting
+  SpecExecutorLoadTracker(boolean registerGauges) {
+    this.registerGauges = registerGauges;
+  }
+
+  public static SpecExecutorLoadTracker get() {
+    return INSTANCE;
+  }
+
+  /**
+   * Set the number of running jobs of each executor, executors missing from `numRunningJobsBySpecExecutor` having none
+   */
+  public void updateRunningJobs(Map<String, Integer> numRunningJobsBySpecExecutor) {
+    for (Map.Entry<String, ExecutorLoad> executorLoad : this.executorLoads.entrySet()) {
+      if (!numRunningJobsBySpecExecutor.containsKey(executorLoad.getKey())) {
+        executorLoad.getValue().numRunningJobs.set(0);
+      }
+    }
+    numRunningJobsBySpecExecutor.forEach((specExecutorUri, numRunningJobs) ->
+        getExecutorLoad(specExecutorUri).numRunningJobs.set(numRunningJobs));
+  }
+
+  /**
+   * Record that a job sent to `specExecutorUri` started running `startLatencyMillis` after it was orchestrated
+   */
+  public void recordJobStartLatency(String specExecutorUri, long startLatencyMillis) {
+    getExecutorLoad(specExecutorUri).recordStartLatency(Math.max(startLatencyMillis, 0), System.currentTimeMillis());
+  }
+
+  public int getNumRunningJobs(String specExecutorUri) {
+    ExecutorLoad executorLoad = this.executorLoads.get(specExecutorUri);
+    return executorLoad == null ? 0 : executorLoad.numRunningJobs.get();
+  }
+
+  /**
+   * @return the moving average of the start latency of jobs on `specExecutorUri`, or 0 when no job started there
+   * within the last `maxAgeMillis`
+   */
+  public long getStartLatencyMillis(String specExecutorUri, long maxAgeMillis) {
+    ExecutorLoad executorLoad = this.executorLoads.get(specExecutorUri);
+    return executorLoad == null ? 0 : executorLoad.getStartLatencyMillis(System.currentTimeMillis() - maxAgeMillis);
+  }
+
+  private ExecutorLoad getExecutorLoad(String specExecutorUri) {
+    return this.executorLoads.computeIfAbsent(specExecutorUri, uri -> {
+      ExecutorLoad executorLoad = new ExecutorLoad();
+      if (this.registerGauges) {
+        registerGauge(MetricRegistry.name(ServiceMetricNames.GOBBLIN_SERVICE_PREFIX, uri,
+            ServiceMetricNames.SPEC_EXECUTOR_RUNNING_JOBS), executorLoad.numRunningJobs::get);
+        registerGauge(MetricRegistry.name(ServiceMetricNames.GOBBLIN_SERVICE_PREFIX, uri,
+            ServiceMetricNames.SPEC_EXECUTOR_JOB_START_LATENCY), () -> executorLoad.getStartLatencyMillis(0));
+      }
+      return executorLoad;
+    });
+  }
+
+  private static <T> void registerGauge(String name, Gauge<T> metric) {
+    ContextAwareGauge<T> gauge = RootMetricContext.get().newContextAwareGauge(name, metric);
+    RootMetricContext.get().register(name, gauge);
+  }
+
+  private static class ExecutorLoad {
+    private final AtomicInteger numRunningJobs = new AtomicInteger();
+    private double startLatencyMillis;
+    private long lastStartTimeMillis = -1;
+
+    synchronized void recordStartLatency(long startLatencyMillis, long nowMillis) {
+      this.startLatencyMillis = this.lastStartTimeMillis < 0 ? startLatencyMillis
+          : START_LATENCY_SMOOTHING_FACTOR * startLatencyMillis + (1 - START_LATENCY_SMOOTHING_FACTOR) * this.startLatencyMillis;
+      this.lastStartTimeMillis = nowMillis;
+    }
+
+    synchronized long getStartLatencyMillis(long minStartTimeMillis) {
+      return this.lastStartTimeMillis < minStartTimeMillis ? 0 : (long) this.startLatencyMillis;
+    }
+  }
+}
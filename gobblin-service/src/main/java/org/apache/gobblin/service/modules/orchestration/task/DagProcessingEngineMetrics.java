@@ -19,6 +19,9 @@ package org.apache.gobblin.service.modules.orchestration.task;
 
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
+
+import com.codahale.metrics.Gauge;
 
 import javax.inject.Inject;
 import lombok.extern.slf4j.Slf4j;
@@ -176,6 +179,22 @@ public class DagProcessingEngineMetrics {
     updateMetricForDagActionType(this.dagActionsAverageProcessingDelayMillisMeterByDagActionType, dagActionType);
   }
 
+  /**
+   * Registers a gauge of the number of dag actions queued in a shard of the dag task stream
+   */
+  public void registerDagTaskStreamShardQueueSize(int shard, Gauge<Integer> queueSize) {
+    this.metricContext.register(this.metricContext.newContextAwareGauge(
+        ServiceMetricNames.DAG_TASK_STREAM_SHARD_QUEUE_SIZE + shard, queueSize));
+  }
+
+  /**
+   * Records the time a dag action spent queued in a shard of the dag task stream, before its dispatch
+   */
+  public void updateDagTaskStreamShardDispatchLatency(int shard, long latencyNanos) {
+    this.metricContext.contextAwareTimer(ServiceMetricNames.DAG_TASK_STREAM_SHARD_DISPATCH_LATENCY + shard)
+        .update(latencyNanos, TimeUnit.NANOSECONDS);
+  }
+
   /**
    * Generic helper used to increment a metric corresponding to the dagActionType in the provided map. It assumes the
    * meter for each dagActionType can be identified by its name.
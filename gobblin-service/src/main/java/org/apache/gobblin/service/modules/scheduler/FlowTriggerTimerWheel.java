@@ -0,0 +1,222 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.gobblin.service.modules.scheduler;
+
+import java.io.Closeable;
+import java.util.Date;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongConsumer;
+
+import org.jboss.netty.util.HashedWheelTimer;
+import org.jboss.netty.util.Timeout;
+import org.jboss.netty.util.TimerTask;
+import org.quartz.CronExpression;
+
+import com.codahale.metrics.MetricFilter;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Optional;
+import com.typesafe.config.Config;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.apache.gobblin.metrics.ContextAwareTimer;
+import org.apache.gobblin.metrics.MetricContext;
+import org.apache.gobblin.metrics.ServiceMetricNames;
+import org.apache.gobblin.service.ServiceConfigKeys;
+import org.apache.gobblin.util.ConfigUtils;
+import org.apache.gobblin.util.ExecutorsUtils;
+
+
+/**
+ * Fires cron scheduled flow triggers off a {@link HashedWheelTimer}, as a lighter alternative to a Quartz trigger per
+ * flow for {@link GobblinServiceJobScheduler}. Only the next fire time of each trigger is on the wheel, computed from its
+ * {@link CronExpression} when the trigger is scheduled and again after each firing.
+ *
+ * <p>A trigger fires up to {@link ServiceConfigKeys#FLOW_TRIGGER_TIMER_WHEEL_MAX_JITTER_MILLIS_KEY} after its intended
+ * time, to spread out the firings of flows sharing a schedule, e.g. at the top of the hour. The jitter of a trigger is
+ * derived from its key, so is the same on every host, and the fire action is always given the intended fire time.
+ *
+ * <p>Fire actions run on a dedicated thread pool and the next firing of a trigger is only scheduled after its fire
+ * action completes, so a trigger never fires concurrently with itself. Firings missed meanwhile fire once right away,
+ * like the default misfire policy of Quartz cron triggers.
+ */
+@Slf4j
+public class FlowTriggerTimerWheel implements Closeable {
+  private final HashedWheelTimer timer;
+  private final ExecutorService fireExecutor;
+  private final long maxJitterMillis;
+  private final ConcurrentMap<String, FlowTrigger> triggers = new ConcurrentHashMap<>();
+  private final ContextAwareTimer fireDelayTimer;
+
+  public FlowTriggerTimerWheel(Config config, MetricContext metricContext) {
+    this.timer = new HashedWheelTimer(
+        ExecutorsUtils.newDaemonThreadFactory(Optional.of(log), Optional.of("FlowTriggerTimerWheel")),
+        ConfigUtils.getLong(config, ServiceConfigKeys.FLOW_TRIGGER_TIMER_WHEEL_TICK_DURATION_MILLIS_KEY,
+            ServiceConfigKeys.DEFAULT_FLOW_TRIGGER_TIMER_WHEEL_TICK_DURATION_MILLIS), TimeUnit.MILLISECONDS,
+        ConfigUtils.getInt(config, ServiceConfigKeys.FLOW_TRIGGER_TIMER_WHEEL_TICKS_PER_WHEEL_KEY,
+            ServiceConfigKeys.DEFAULT_FLOW_TRIGGER_TIMER_WHEEL_TICKS_PER_WHEEL));
+    this.fireExecutor = Executors.newFixedThreadPool(
+        ConfigUtils.getInt(config, ServiceConfigKeys.FLOW_TRIGGER_TIMER_WHEEL_NUM_FIRE_THREADS_KEY,
+            ServiceConfigKeys.DEFAULT_FLOW_TRIGGER_TIMER_WHEEL_NUM_FIRE_THREADS),
+        ExecutorsUtils.newDaemonThreadFactory(Optional.of(log), Optional.of("FlowTriggerTimerWheel-%d")));
+    this.maxJitterMillis = ConfigUtils.getLong(config, ServiceConfigKeys.FLOW_TRIGGER_TIMER_WHEEL_MAX_JITTER_MILLIS_KEY,
+        ServiceConfigKeys.DEFAULT_FLOW_TRIGGER_TIMER_WHEEL_MAX_JITTER_MILLIS);
+    this.fireDelayTimer = metricContext.contextAwareTimer(ServiceMetricNames.FLOW_TRIGGER_TIMER_WHEEL_FIRE_DELAY);
+    if (metricContext.getGauges(MetricFilter.contains(ServiceMetricNames.FLOW_TRIGGER_TIMER_WHEEL_NUM_TRIGGERS)).isEmpty()) {
+      metricContext.register(metricContext.newContextAwareGauge(ServiceMetricNames.FLOW_TRIGGER_TIMER_WHEEL_NUM_TRIGGERS,
+          this::getNumTriggers));
+    }
+  }
+
+  /**
+   * Schedules `fireAction` to be called with the intended fire time of each firing of `cronExpression`, replacing any
+   * trigger already scheduled with the same key
+   * @return the intended time of the first firing, or absent if `cronExpression` never fires again
+   */
+  public Optional<Long> schedule(String key, CronExpression cronExpression, LongConsumer fireAction) {
+    FlowTrigger trigger = new FlowTrigger(key, cronExpression, fireAction, getJitterMillis(key, this.maxJitterMillis));
+    FlowTrigger previousTrigger = this.triggers.put(key, trigger);
+    if (previousTrigger != null) {
+      previousTrigger.cancel();
+    }
+    return trigger.scheduleAfter(System.currentTimeMillis()) ? Optional.of(trigger.intendedFireTimeMillis)
+        : Optional.absent();
+  }
+
+  /**
+   * @return true if a trigger was scheduled with `key`
+   */
+  public boolean unschedule(String key) {
+    FlowTrigger trigger = this.triggers.remove(key);
+    if (trigger == null) {
+      return false;
+    }
+    trigger.cancel();
+    return true;
+  }
+
+  public void unscheduleAll() {
+    for (String key : this.triggers.keySet()) {
+      unschedule(key);
+    }
+  }
+
+  public int getNumTriggers() {
+    return this.triggers.size();
+  }
+
+  /**
+   * @return the intended time of the next firing of the trigger scheduled with `key`, if any
+   */
+  public Optional<Long> getNextFireTimeMillis(String key) {
+    FlowTrigger trigger = this.triggers.get(key);
+    return trigger == null ? Optional.absent() : Optional.of(trigger.intendedFireTimeMillis);
+  }
+
+  @Override
+  public void close() {
+    unscheduleAll();
+    this.timer.stop();
+    ExecutorsUtils.shutdownExecutorService(this.fireExecutor, Optional.of(log));
+  }
+
+  /**
+   * Derives the jitter of a trigger from its key, so that it is spread over [0, maxJitterMillis] and stable across hosts
+   */
+  @VisibleForTesting
+  static long getJitterMillis(String key, long maxJitterMillis) {
+    return maxJitterMillis <= 0 ? 0 : Math.floorMod((long) key.hashCode(), maxJitterMillis + 1);
+  }
+
+  private class FlowTrigger implements TimerTask {
+    private final String key;
+    private final CronExpression cronExpression;
+    private final LongConsumer fireAction;
+    private final long jitterMillis;
+    private volatile long intendedFireTimeMillis;
+    private Timeout timeout;
+    private boolean isCancelled = false;
+
+    FlowTrigger(String key, CronExpression cronExpression, LongConsumer fireAction, long jitterMillis) {
+      this.key = key;
+      this.cronExpression = cronExpression;
+      this.fireAction = fireAction;
+      this.jitterMillis = jitterMillis;
+    }
+
+    /**
+     * Puts the first firing of {@link #cronExpression} after `afterMillis` on the wheel
+     * @return false if there is no such firing
+     */
+    boolean scheduleAfter(long afterMillis) {
+      Date nextFireTime = this.cronExpression.getNextValidTimeAfter(new Date(afterMillis));
+      long nowMillis = System.currentTimeMillis();
+      // Only the latest of any firings already missed fires
+      Date followingFireTime;
+      while (nextFireTime != null && nextFireTime.getTime() < nowMillis
+          && (followingFireTime = this.cronExpression.getNextValidTimeAfter(nextFireTime)) != null
+          && followingFireTime.getTime() <= nowMillis) {
+        nextFireTime = followingFireTime;
+      }
+      if (nextFireTime == null) {
+        log.info("Flow trigger {} has no more fire times", this.key);
+        FlowTriggerTimerWheel.this.triggers.remove(this.key, this);
+        return false;
+      }
+      this.intendedFireTimeMillis = nextFireTime.getTime();
+      long delayMillis = Math.max(0, this.intendedFireTimeMillis + this.jitterMillis - nowMillis);
+      synchronized (this) {
+        if (!this.isCancelled) {
+          this.timeout = FlowTriggerTimerWheel.this.timer.newTimeout(this, delayMillis, TimeUnit.MILLISECONDS);
+        }
+      }
+      return true;
+    }
+
+    synchronized void cancel() {
+      this.isCancelled = true;
+      if (this.timeout != null) {
+        this.timeout.cancel();
+      }
+    }
+
+    @Override
+    public void run(Timeout timeout) {
+      long fireTimeMillis = this.intendedFireTimeMillis;
+      FlowTriggerTimerWheel.this.fireDelayTimer.update(System.currentTimeMillis() - fireTimeMillis, TimeUnit.MILLISECONDS);
+      try {
+        FlowTriggerTimerWheel.this.fireExecutor.execute(() -> {
+          try {
+            this.fireAction.accept(fireTimeMillis);
+          } catch (RuntimeException e) {
+            log.error("Failed to fire flow trigger {} for {}", this.key, fireTimeMillis, e);
+          } finally {
+            scheduleAfter(fireTimeMillis);
+          }
+        });
+      } catch (RejectedExecutionException e) {
+        log.warn("Dropped firing of flow trigger {} for {} as the timer wheel is closed", this.key, fireTimeMillis);
+      }
+    }
+  }
+}
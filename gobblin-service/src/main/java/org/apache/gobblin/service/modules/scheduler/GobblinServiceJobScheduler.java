@@ -21,22 +21,29 @@ import java.io.IOException;
 import java.net.URI;
 import java.text.ParseException;
 import java.util.Calendar;
-import java.util.Collection;
 import java.util.Date;
-import java.util.HashSet;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.Properties;
+import java.util.Set;
 import java.util.TimeZone;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.apache.commons.lang.StringUtils;
 import org.quartz.CronExpression;
 import org.quartz.DisallowConcurrentExecution;
 import org.quartz.InterruptableJob;
+import org.quartz.JobBuilder;
 import org.quartz.JobDataMap;
 import org.quartz.JobDetail;
 import org.quartz.JobExecutionContext;
 import org.quartz.JobExecutionException;
+import org.quartz.JobKey;
 import org.quartz.SchedulerException;
 import org.quartz.Trigger;
 import org.slf4j.Logger;
@@ -45,6 +52,7 @@ import org.slf4j.LoggerFactory;
 import com.codahale.metrics.MetricFilter;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Optional;
+import com.google.common.base.Strings;
 import com.google.common.collect.Maps;
 import com.typesafe.config.Config;
 import com.typesafe.config.ConfigFactory;
@@ -66,6 +74,7 @@ import org.apache.gobblin.runtime.api.FlowSpec;
 import org.apache.gobblin.runtime.api.Spec;
 import org.apache.gobblin.runtime.api.SpecCatalogListener;
 import org.apache.gobblin.runtime.api.SpecNotFoundException;
+import org.apache.gobblin.runtime.api.SpecStore;
 import org.apache.gobblin.runtime.listeners.JobListener;
 import org.apache.gobblin.runtime.metrics.RuntimeMetrics;
 import org.apache.gobblin.runtime.spec_catalog.AddSpecResponse;
@@ -106,6 +115,10 @@ public class GobblinServiceJobScheduler extends JobScheduler implements SpecCata
   protected final Orchestrator orchestrator;
   protected final UserQuotaManager quotaManager;
   protected final FlowLaunchHandler flowTriggerHandler;
+  private final SchedulerService schedulerService;
+  private final Optional<FlowTriggerTimerWheel> flowTriggerTimerWheel;
+  // Keys of the Quartz jobs kept for flows scheduled on the timer wheel, so reminders can be created for them
+  private final Map<String, JobKey> timerWheelJobKeys = new ConcurrentHashMap<>();
   // todo - consider using JobScheduler::scheduledJobs in place of scheduledFlowSpecs
   @Getter
   protected final Map<String, FlowSpec> scheduledFlowSpecs;
@@ -164,6 +177,10 @@ public class GobblinServiceJobScheduler extends JobScheduler implements SpecCata
         && config.hasPath(GOBBLIN_SERVICE_SCHEDULER_DR_NOMINATED);
     this.quotaManager = quotaManager;
     this.flowTriggerHandler = flowTriggerHandler;
+    this.schedulerService = schedulerService;
+    this.flowTriggerTimerWheel = ConfigUtils.getBoolean(config, ServiceConfigKeys.FLOW_TRIGGER_TIMER_WHEEL_ENABLED_KEY,
+        ServiceConfigKeys.DEFAULT_FLOW_TRIGGER_TIMER_WHEEL_ENABLED)
+        ? Optional.of(new FlowTriggerTimerWheel(config, metricContext)) : Optional.absent();
     // Check that these metrics do not exist before adding, mainly for testing purpose which creates multiple instances
     // of the scheduler. If one metric exists, then the others should as well.
     MetricFilter filter = MetricFilter.contains(RuntimeMetrics.GOBBLIN_JOB_SCHEDULER_GET_SPECS_DURING_STARTUP_PER_SPEC_RATE_NANOS);
@@ -296,27 +313,23 @@ public class GobblinServiceJobScheduler extends JobScheduler implements SpecCata
    * Load all {@link FlowSpec}s from {@link FlowCatalog} as one of the initialization step,
    * and make schedulers be aware of that.
    * <p>
+   * The {@link FlowSpec}s are loaded in batches by another thread and scheduled as soon as they are loaded, while the
+   * rest are still loading. Those whose schedule is too far ahead to be scheduled are skipped by their metadata, hence
+   * are not deserialized when the {@link org.apache.gobblin.runtime.api.SpecStore} keeps metadata apart. The spec URIs
+   * listed beforehand that were neither loaded nor skipped are then scheduled one by one, while those added meanwhile
+   * are scheduled through {@link #onAddSpec} anyway. If loading fails, its failure is thrown once the specs already
+   * loaded are scheduled.
+   * <p>
    * If it is newly brought up as the DR handler, will load additional FlowSpecs and handle transition properly.
    */
-  private void scheduleSpecsFromCatalog() {
+  @VisibleForTesting
+  void scheduleSpecsFromCatalog() {
     int numSpecs = this.flowCatalog.getSize();
     int actualNumFlowsScheduled = 0;
     _log.info("Scheduling specs from catalog: {} flows in the catalog, will skip scheduling flows with next run after "
         + "{} days", numSpecs, this.skipSchedulingFlowsAfterNumDays);
     long startTime = System.nanoTime();
-    long totalGetTime = 0;
     long totalAddSpecTime = 0;
-    Iterator<URI> uriIterator;
-    HashSet<URI> urisLeftToSchedule = new HashSet<>();
-    try {
-      uriIterator = this.flowCatalog.getSpecURIs();
-      while (uriIterator.hasNext()) {
-        urisLeftToSchedule.add(uriIterator.next());
-      }
-    } catch (IOException e) {
-      throw new RuntimeException(e);
-    }
-    this.timeToObtainSpecUrisValue = System.nanoTime() - startTime;
 
     try {
       // If current instances nominated as DR handler, will take additional URIS from FlowCatalog.
@@ -330,18 +343,37 @@ public class GobblinServiceJobScheduler extends JobScheduler implements SpecCata
       throw new RuntimeException("Failed to get Spec URIs with tag to clear running flow state", e);
     }
 
-    int startOffset = 0;
-    long batchGetStartTime;
-    long batchGetEndTime;
+    Set<URI> urisLeftToSchedule = ConcurrentHashMap.newKeySet();
+    try {
+      Iterator<URI> uriIterator = this.flowCatalog.getSpecURIs();
+      while (uriIterator.hasNext()) {
+        urisLeftToSchedule.add(uriIterator.next());
+      }
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+    this.timeToObtainSpecUrisValue = System.nanoTime() - startTime;
 
-    while (startOffset < numSpecs) {
-      batchGetStartTime  = System.nanoTime();
-      Collection<Spec> batchOfSpecs = this.flowCatalog.getSpecsPaginated(startOffset, this.loadSpecsBatchSize);
-      Iterator<Spec> batchOfSpecsIterator = batchOfSpecs.iterator();
-      batchGetEndTime = System.nanoTime();
+    BlockingQueue<Spec> loadedSpecs = new ArrayBlockingQueue<>(2 * this.loadSpecsBatchSize);
+    AtomicLong totalGetTime = new AtomicLong();
+    AtomicReference<RuntimeException> loadFailure = new AtomicReference<>();
+    Thread specLoader = new Thread(() -> loadSpecsFromCatalog(loadedSpecs, urisLeftToSchedule, totalGetTime, loadFailure),
+        "FlowSpecLoader");
+    specLoader.start();
 
-      while (batchOfSpecsIterator.hasNext()) {
-        Spec spec = batchOfSpecsIterator.next();
+    try {
+      while (true) {
+        Spec spec = loadedSpecs.poll(100, TimeUnit.MILLISECONDS);
+        if (spec == null) {
+          if (specLoader.isAlive()) {
+            continue;
+          }
+          // all specs loaded, so only those left in the queue remain to schedule
+          spec = loadedSpecs.poll();
+          if (spec == null) {
+            break;
+          }
+        }
         try {
           if (addSpecHelperMethod(spec)) {
             totalAddSpecTime += this.eachCompleteAddSpecValue; // this is updated by each call to onAddSpec
@@ -353,44 +385,78 @@ public class GobblinServiceJobScheduler extends JobScheduler implements SpecCata
         }
         urisLeftToSchedule.remove(spec.getUri());
       }
-      startOffset += this.loadSpecsBatchSize;
-      totalGetTime += batchGetEndTime - batchGetStartTime;
-      // Don't skew the average get spec time value with the last batch that may be very small
-      if (startOffset == 0 || batchOfSpecs.size() >=  Math.round(0.75 * this.loadSpecsBatchSize)) {
-        perSpecGetRateValue = (batchGetEndTime - batchGetStartTime) / batchOfSpecs.size();
-      }
+    } catch (InterruptedException e) {
+      specLoader.interrupt();
+      Thread.currentThread().interrupt();
+      throw new RuntimeException("Interrupted while scheduling specs from catalog", e);
+    }
+    if (loadFailure.get() != null) {
+      throw new RuntimeException("Failed to load specs from flowCatalog after scheduling " + actualNumFlowsScheduled
+          + " of them", loadFailure.get());
     }
 
     // Ensure we did not miss any specs due to ordering changing (deletions/insertions) while loading
-    Iterator<URI> urisLeft = urisLeftToSchedule.iterator();
     long individualGetSpecStartTime;
-    while (urisLeft.hasNext()) {
-        URI uri = urisLeft.next();
-        try {
-          individualGetSpecStartTime = System.nanoTime();
-          Spec spec = this.flowCatalog.getSpecWrapper(uri);
-          this.individualGetSpecSpeedValue = System.nanoTime() - individualGetSpecStartTime;
-          totalGetTime += this.individualGetSpecSpeedValue;
-          if (addSpecHelperMethod(spec)) {
-            totalAddSpecTime += this.eachCompleteAddSpecValue; // this is updated by each call to onAddSpec
-            actualNumFlowsScheduled += 1;
-          }
-        } catch (Exception e) {
-          // If there is an uncaught error thrown during compilation, log it and continue adding flows
-          _log.error("Could not schedule spec uri {} from flowCatalog due to {}", uri, e);
+    for (URI uri : urisLeftToSchedule) {
+      try {
+        individualGetSpecStartTime = System.nanoTime();
+        Spec spec = this.flowCatalog.getSpecWrapper(uri);
+        this.individualGetSpecSpeedValue = System.nanoTime() - individualGetSpecStartTime;
+        totalGetTime.addAndGet(this.individualGetSpecSpeedValue);
+        if (spec != null && addSpecHelperMethod(spec)) {
+          totalAddSpecTime += this.eachCompleteAddSpecValue; // this is updated by each call to onAddSpec
+          actualNumFlowsScheduled += 1;
         }
+      } catch (Exception e) {
+        _log.error("Could not schedule spec uri {} from flowCatalog due to {}", uri, e);
+      }
     }
     // Reset value after its last value to get an accurate reading
     this.perSpecGetRateValue = -1L;
     this.individualGetSpecSpeedValue = -1L;
 
-    this.totalGetSpecTimeValue = totalGetTime;
+    this.totalGetSpecTimeValue = totalGetTime.get();
     this.totalAddSpecTimeValue = totalAddSpecTime;
     this.numJobsScheduledDuringStartupValue = actualNumFlowsScheduled;
     this.flowCatalog.getMetrics().updateGetSpecTime(startTime);
     this.timeToInitializeSchedulerValue = System.nanoTime() - startTime;
   }
 
+  /**
+   * Loads the {@link FlowSpec}s to schedule from {@link FlowCatalog} into `loadedSpecs`, blocking while it is full.
+   * The URIs of those skipped are removed from `urisLeftToSchedule`, and any failure to load is kept in `loadFailure`.
+   */
+  private void loadSpecsFromCatalog(BlockingQueue<Spec> loadedSpecs, Set<URI> urisLeftToSchedule,
+      AtomicLong totalGetTime, AtomicReference<RuntimeException> loadFailure) {
+    long numSpecsLoaded = 0;
+    try {
+      long getStartTime = System.nanoTime();
+      Iterator<Spec> specs = this.flowCatalog.getSpecsIterator(this.loadSpecsBatchSize, metadata -> {
+        boolean isToSchedule = !metadata.hasPath(ConfigurationKeys.JOB_SCHEDULE_KEY)
+            || isWithinRange(metadata.getString(ConfigurationKeys.JOB_SCHEDULE_KEY), this.skipSchedulingFlowsAfterNumDays);
+        if (!isToSchedule) {
+          urisLeftToSchedule.remove(URI.create(metadata.getString(SpecStore.SPEC_URI_METADATA_KEY)));
+        }
+        return isToSchedule;
+      });
+      while (specs.hasNext()) {
+        Spec spec = specs.next();
+        totalGetTime.addAndGet(System.nanoTime() - getStartTime);
+        numSpecsLoaded += 1;
+        this.perSpecGetRateValue = totalGetTime.get() / numSpecsLoaded;
+        loadedSpecs.put(spec);
+        getStartTime = System.nanoTime();
+      }
+      _log.info("Loaded {} specs to schedule from catalog", numSpecsLoaded);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      _log.warn("Interrupted while loading specs from catalog after {} specs", numSpecsLoaded);
+    } catch (RuntimeException e) {
+      _log.error("Could not load specs from flowCatalog after {} specs due to ", numSpecsLoaded, e);
+      loadFailure.set(e);
+    }
+  }
+
   /**
    * In DR-mode, the running {@link FlowSpec} will all be cancelled and rescheduled.
    * We will need to make sure that running {@link FlowSpec}s' state are cleared, and corresponding running jobs are
@@ -418,6 +484,14 @@ public class GobblinServiceJobScheduler extends JobScheduler implements SpecCata
     super.startUp();
   }
 
+  @Override
+  protected void shutDown() throws Exception {
+    if (this.flowTriggerTimerWheel.isPresent()) {
+      this.flowTriggerTimerWheel.get().close();
+    }
+    super.shutDown();
+  }
+
   /**
    * Synchronize the job scheduling because the same flowSpec can be scheduled by different threads.
    */
@@ -428,12 +502,87 @@ public class GobblinServiceJobScheduler extends JobScheduler implements SpecCata
         this.scheduledFlowSpecs.get(jobProps.getProperty(ConfigurationKeys.JOB_NAME_KEY)));
 
     try {
-      scheduleJob(jobProps, jobListener, additionalJobDataMap, GobblinServiceJob.class);
+      if (this.flowTriggerTimerWheel.isPresent() && jobProps.containsKey(ConfigurationKeys.JOB_SCHEDULE_KEY)
+          && !Boolean.parseBoolean(jobProps.getProperty(ConfigurationKeys.JOB_DISABLED_KEY, "false"))) {
+        scheduleJobOnTimerWheel(jobProps, jobListener, additionalJobDataMap);
+      } else {
+        scheduleJob(jobProps, jobListener, additionalJobDataMap, GobblinServiceJob.class);
+      }
     } catch (Exception e) {
       throw new JobException("Failed to schedule job " + jobProps.getProperty(ConfigurationKeys.JOB_NAME_KEY), e);
     }
   }
 
+  /**
+   * Schedules the flow on {@link #flowTriggerTimerWheel} instead of with a Quartz trigger. Its Quartz job is still stored,
+   * without any trigger, as {@link FlowLaunchHandler} creates reminders for the flow out of it.
+   */
+  private void scheduleJobOnTimerWheel(Properties jobProps, JobListener jobListener,
+      Map<String, Object> additionalJobDataMap) throws JobException, ParseException, SchedulerException {
+    String jobName = jobProps.getProperty(ConfigurationKeys.JOB_NAME_KEY);
+    unscheduleJob(jobName);
+
+    JobDataMap jobDataMap = new JobDataMap();
+    jobDataMap.put(JOB_SCHEDULER_KEY, this);
+    jobDataMap.put(PROPERTIES_KEY, jobProps);
+    jobDataMap.put(JOB_LISTENER_KEY, jobListener);
+    jobDataMap.putAll(additionalJobDataMap);
+    JobDetail job = JobBuilder.newJob(GobblinServiceJob.class)
+        .withIdentity(jobName, Strings.nullToEmpty(jobProps.getProperty(ConfigurationKeys.JOB_GROUP_KEY)))
+        .withDescription(Strings.nullToEmpty(jobProps.getProperty(ConfigurationKeys.JOB_DESCRIPTION_KEY)))
+        .usingJobData(jobDataMap)
+        .storeDurably()
+        .build();
+    this.schedulerService.getScheduler().addJob(job, true);
+    this.timerWheelJobKeys.put(jobName, job.getKey());
+
+    Optional<Long> nextFireTimeMillis = this.flowTriggerTimerWheel.get().schedule(jobName,
+        new CronExpression(jobProps.getProperty(ConfigurationKeys.JOB_SCHEDULE_KEY)),
+        triggerTimeMillis -> runScheduledJob(jobProps, jobListener, triggerTimeMillis));
+    log.info(jobSchedulerTracePrefixBuilder(jobProps) + "nextTriggerTime: {} - Job newly scheduled on timer wheel",
+        nextFireTimeMillis.orNull());
+  }
+
+  /**
+   * Runs a flow fired by {@link #flowTriggerTimerWheel}, like {@link GobblinServiceJob} does for Quartz triggers
+   */
+  private void runScheduledJob(Properties jobProps, JobListener jobListener, long triggerTimeMillis) {
+    jobProps.setProperty(ConfigurationKeys.ORCHESTRATOR_TRIGGER_EVENT_TIME_MILLIS_KEY, String.valueOf(triggerTimeMillis));
+    log.info(jobSchedulerTracePrefixBuilder(jobProps) + "triggerTime: {} nextTriggerTime: {} - Job triggered by timer "
+        + "wheel", triggerTimeMillis, this.flowTriggerTimerWheel.get()
+        .getNextFireTimeMillis(jobProps.getProperty(ConfigurationKeys.JOB_NAME_KEY)).or(-1L));
+    try {
+      runJob(jobProps, jobListener);
+    } catch (JobException e) {
+      log.error(jobSchedulerTracePrefixBuilder(jobProps) + "triggerTime: {} - Failed to run job", triggerTimeMillis, e);
+    } finally {
+      scheduledFlows.mark();
+    }
+  }
+
+  @Override
+  public void unscheduleJob(String jobName) throws JobException {
+    JobKey timerWheelJobKey = this.timerWheelJobKeys.remove(jobName);
+    if (timerWheelJobKey != null) {
+      this.flowTriggerTimerWheel.get().unschedule(jobName);
+      try {
+        this.schedulerService.getScheduler().deleteJob(timerWheelJobKey);
+      } catch (SchedulerException se) {
+        throw new JobException("Failed to delete job " + jobName, se);
+      }
+    }
+    super.unscheduleJob(jobName);
+  }
+
+  @Override
+  public void unscheduleAllJobs() throws SchedulerException {
+    if (this.flowTriggerTimerWheel.isPresent()) {
+      this.flowTriggerTimerWheel.get().unscheduleAll();
+      this.timerWheelJobKeys.clear();
+    }
+    super.unscheduleAllJobs();
+  }
+
   @Override
   protected void logNewlyScheduledJob(JobDetail job, Trigger trigger) {
     Properties jobProps = (Properties) job.getJobDataMap().get(PROPERTIES_KEY);
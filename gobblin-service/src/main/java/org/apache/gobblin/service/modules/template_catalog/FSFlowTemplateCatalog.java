@@ -24,7 +24,10 @@ import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.zip.CRC32;
 
 import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.fs.FileStatus;
@@ -33,6 +36,7 @@ import org.apache.hadoop.fs.Path;
 import org.apache.hadoop.fs.PathFilter;
 
 import com.google.common.base.Charsets;
+import com.google.common.io.ByteStreams;
 import com.typesafe.config.Config;
 import com.typesafe.config.ConfigFactory;
 
@@ -72,6 +76,15 @@ public class FSFlowTemplateCatalog extends FSJobCatalog implements FlowCatalogWi
 
   protected static final String FS_SCHEME = "FS";
 
+  private static final PathFilter JOB_FILE_FILTER = file -> {
+    for (String extension : JOB_FILE_EXTENSIONS) {
+      if (file.getName().endsWith(extension)) {
+        return true;
+      }
+    }
+    return false;
+  };
+
   /**
    * Initialize the FlowCatalog
    * @param sysConfig that must contain the fully qualified path of the flow template catalog
@@ -118,16 +131,15 @@ public class FSFlowTemplateCatalog extends FSJobCatalog implements FlowCatalogWi
    */
   public List<JobTemplate> getJobTemplatesForFlow(URI flowTemplateDirURI)
       throws IOException, SpecNotFoundException, JobTemplate.TemplateException, URISyntaxException {
+    return getJobTemplatesForFlow(flowTemplateDirURI, new ArrayList<>());
+  }
 
-    PathFilter extensionFilter = file -> {
-      for (String extension : JOB_FILE_EXTENSIONS) {
-        if (file.getName().endsWith(extension)) {
-          return true;
-        }
-      }
-      return false;
-    };
-
+  /**
+   * Same as {@link #getJobTemplatesForFlow(URI)}, also collecting the paths of the job templates the job files fall back to
+   * @param jobTemplatePaths to which the paths of the job templates are added
+   */
+  protected List<JobTemplate> getJobTemplatesForFlow(URI flowTemplateDirURI, Collection<Path> jobTemplatePaths)
+      throws IOException, SpecNotFoundException, JobTemplate.TemplateException, URISyntaxException {
     if (!validateTemplateURI(flowTemplateDirURI)) {
       throw new JobTemplate.TemplateException(String.format("The FlowTemplate %s is not valid", flowTemplateDirURI));
     }
@@ -136,14 +148,11 @@ public class FSFlowTemplateCatalog extends FSJobCatalog implements FlowCatalogWi
 
     String templateCatalogDir = this.sysConfig.getString(ServiceConfigKeys.TEMPLATE_CATALOGS_FULLY_QUALIFIED_PATH_KEY);
 
-    //Flow templates are located under templateCatalogDir/flowEdgeTemplates
-    Path flowTemplateDirPath = PathUtils.mergePaths(new Path(templateCatalogDir), new Path(flowTemplateDirURI));
-    //Job files (with extension .job) are located under templateCatalogDir/flowEdgeTemplates/jobs directory.
-    Path jobFilePath = new Path(flowTemplateDirPath, JOBS_DIR_NAME);
+    Path jobFilePath = getJobFilesDirPath(flowTemplateDirURI);
 
     FileSystem fs = FileSystem.get(jobFilePath.toUri(), new Configuration());
 
-    for (FileStatus fileStatus : fs.listStatus(jobFilePath, extensionFilter)) {
+    for (FileStatus fileStatus : fs.listStatus(jobFilePath, JOB_FILE_FILTER)) {
       Config jobConfig = loadHoconFileAtPath(fileStatus.getPath());
       //Check if the .job file has an underlying job template
       if (jobConfig.hasPath(GOBBLIN_JOB_TEMPLATE_KEY)) {
@@ -154,12 +163,53 @@ public class FSFlowTemplateCatalog extends FSJobCatalog implements FlowCatalogWi
         }
         Path fullJobTemplatePath = PathUtils.mergePaths(new Path(templateCatalogDir), new Path(jobTemplateRelativeUri));
         jobConfig = jobConfig.withFallback(loadHoconFileAtPath(fullJobTemplatePath));
+        jobTemplatePaths.add(fullJobTemplatePath);
       }
       jobTemplates.add(new HOCONInputStreamJobTemplate(jobConfig, fileStatus.getPath().toUri(), this));
     }
     return jobTemplates;
   }
 
+  /**
+   * Computes a checksum over the flow.conf and the job files of a flow template, along with `otherPaths`, so a change to
+   * any of them, including the addition or removal of a job file, changes the checksum.
+   * @param flowTemplateDirURI URI of the flow template directory
+   * @param otherPaths other files the flow template depends on, e.g. the job templates its job files fall back to
+   */
+  public long getTemplateChecksum(URI flowTemplateDirURI, Collection<Path> otherPaths) throws IOException {
+    String templateCatalogDir = this.sysConfig.getString(ServiceConfigKeys.TEMPLATE_CATALOGS_FULLY_QUALIFIED_PATH_KEY);
+    List<Path> paths = new ArrayList<>(otherPaths);
+    paths.add(PathUtils.mergePaths(PathUtils.mergePaths(new Path(templateCatalogDir), new Path(flowTemplateDirURI.getPath())),
+        new Path(FLOW_CONF_FILE_NAME)));
+    Path jobFilesDirPath = getJobFilesDirPath(flowTemplateDirURI);
+    FileSystem fs = FileSystem.get(jobFilesDirPath.toUri(), new Configuration());
+    if (fs.exists(jobFilesDirPath)) {
+      for (FileStatus fileStatus : fs.listStatus(jobFilesDirPath, JOB_FILE_FILTER)) {
+        paths.add(fileStatus.getPath());
+      }
+    }
+    Collections.sort(paths);
+
+    CRC32 checksum = new CRC32();
+    for (Path path : paths) {
+      checksum.update(path.toString().getBytes(Charsets.UTF_8));
+      if (fs.exists(path)) {
+        try (InputStream is = fs.open(path)) {
+          checksum.update(ByteStreams.toByteArray(is));
+        }
+      }
+    }
+    return checksum.getValue();
+  }
+
+  private Path getJobFilesDirPath(URI flowTemplateDirURI) {
+    String templateCatalogDir = this.sysConfig.getString(ServiceConfigKeys.TEMPLATE_CATALOGS_FULLY_QUALIFIED_PATH_KEY);
+    //Flow templates are located under templateCatalogDir/flowEdgeTemplates
+    Path flowTemplateDirPath = PathUtils.mergePaths(new Path(templateCatalogDir), new Path(flowTemplateDirURI));
+    //Job files (with extension .job) are located under templateCatalogDir/flowEdgeTemplates/jobs directory.
+    return new Path(flowTemplateDirPath, JOBS_DIR_NAME);
+  }
+
   private Config loadHoconFileAtPath(Path filePath)
       throws IOException {
     try (InputStream is = fs.open(filePath)) {
@@ -20,14 +20,19 @@ package org.apache.gobblin.service.modules.template_catalog;
 import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.locks.ReadWriteLock;
 
+import org.apache.hadoop.fs.Path;
 
 import com.typesafe.config.Config;
 
+import lombok.AllArgsConstructor;
+
 import org.apache.gobblin.runtime.api.JobTemplate;
 import org.apache.gobblin.runtime.api.SpecNotFoundException;
 import org.apache.gobblin.service.modules.template.FlowTemplate;
@@ -36,11 +41,25 @@ import org.apache.gobblin.service.modules.template.FlowTemplate;
  * {@link FSFlowTemplateCatalog} that keeps a cache of flow and job templates. It provides a public method clearTemplates()
  * for other classes to invoke, so that other classes can reload the job templates before they make a change. E.g. The
  * {@link org.apache.gobblin.service.monitoring.FsFlowGraphMonitor} has a configuration to clear the template cache before updating the flowgraph.
+ *
+ * The templates are cached by their URI along with the checksum of their files, as of when they were loaded. Once cleared,
+ * a template is only reloaded if its checksum changed, so a change to a single template does not reload all the others.
  */
 public class UpdatableFSFlowTemplateCatalog extends FSFlowTemplateCatalog {
-  private final Map<URI, FlowTemplate> flowTemplateMap = new ConcurrentHashMap<>();
-  private final Map<URI, List<JobTemplate>> jobTemplateMap = new ConcurrentHashMap<>();
+  private final Map<URI, CachedTemplate<FlowTemplate>> flowTemplateMap = new ConcurrentHashMap<>();
+  private final Map<URI, CachedTemplate<List<JobTemplate>>> jobTemplateMap = new ConcurrentHashMap<>();
   private final ReadWriteLock rwLock;
+  // incremented on every clearTemplates(), after which the cached templates are verified against their checksum
+  private volatile long generation = 0;
+
+  @AllArgsConstructor
+  private static class CachedTemplate<T> {
+    private final T template;
+    // job templates outside the flow template directory that the template depends on
+    private final List<Path> jobTemplatePaths;
+    private final long checksum;
+    private volatile long generation;
+  }
 
   public UpdatableFSFlowTemplateCatalog(Config sysConfig, ReadWriteLock rwLock) throws IOException {
     super(sysConfig);
@@ -50,38 +69,63 @@ public class UpdatableFSFlowTemplateCatalog extends FSFlowTemplateCatalog {
   @Override
   public FlowTemplate getFlowTemplate(URI flowTemplateDirURI)
       throws SpecNotFoundException, JobTemplate.TemplateException, IOException, URISyntaxException {
-    FlowTemplate flowTemplate = flowTemplateMap.getOrDefault(flowTemplateDirURI, null);
-
-    if (flowTemplate == null) {
-      flowTemplate = super.getFlowTemplate(flowTemplateDirURI);
-      flowTemplateMap.put(flowTemplateDirURI, flowTemplate);
+    CachedTemplate<FlowTemplate> cachedFlowTemplate = flowTemplateMap.getOrDefault(flowTemplateDirURI, null);
+    if (cachedFlowTemplate != null && isUnchanged(flowTemplateDirURI, cachedFlowTemplate)) {
+      return cachedFlowTemplate.template;
     }
 
+    // a flow template is made out of its job templates, so reuse theirs
+    getJobTemplatesForFlow(flowTemplateDirURI);
+    CachedTemplate<List<JobTemplate>> cachedJobTemplates = jobTemplateMap.get(flowTemplateDirURI);
+    long currentGeneration = this.generation;
+    long checksum = getTemplateChecksum(flowTemplateDirURI, cachedJobTemplates.jobTemplatePaths);
+    FlowTemplate flowTemplate = super.getFlowTemplate(flowTemplateDirURI);
+    flowTemplateMap.put(flowTemplateDirURI,
+        new CachedTemplate<>(flowTemplate, cachedJobTemplates.jobTemplatePaths, checksum, currentGeneration));
     return flowTemplate;
   }
 
   @Override
   public List<JobTemplate> getJobTemplatesForFlow(URI flowTemplateDirURI)
       throws IOException, SpecNotFoundException, JobTemplate.TemplateException, URISyntaxException {
-    List<JobTemplate> jobTemplates = jobTemplateMap.getOrDefault(flowTemplateDirURI, null);
-
-    if (jobTemplates == null) {
-      jobTemplates = super.getJobTemplatesForFlow(flowTemplateDirURI);
-      log.info("Loading flow template directly from {} and caching it.", flowTemplateDirURI);
-      jobTemplateMap.put(flowTemplateDirURI, jobTemplates);
+    CachedTemplate<List<JobTemplate>> cachedJobTemplates = jobTemplateMap.getOrDefault(flowTemplateDirURI, null);
+    if (cachedJobTemplates != null && isUnchanged(flowTemplateDirURI, cachedJobTemplates)) {
+      return cachedJobTemplates.template;
     }
 
+    long currentGeneration = this.generation;
+    List<Path> jobTemplatePaths = new ArrayList<>();
+    List<JobTemplate> jobTemplates = super.getJobTemplatesForFlow(flowTemplateDirURI, jobTemplatePaths);
+    log.info("Loading flow template directly from {} and caching it.", flowTemplateDirURI);
+    jobTemplateMap.put(flowTemplateDirURI, new CachedTemplate<>(jobTemplates, Collections.unmodifiableList(jobTemplatePaths),
+        getTemplateChecksum(flowTemplateDirURI, jobTemplatePaths), currentGeneration));
     return jobTemplates;
   }
 
   /**
-   * Clear cached templates so they will be reloaded next time {@link #getFlowTemplate(URI)} is called.
+   * @return true if the cached template was verified since the last {@link #clearTemplates()}, or if its checksum has not
+   * changed since it was loaded
+   */
+  private boolean isUnchanged(URI flowTemplateDirURI, CachedTemplate<?> cachedTemplate) throws IOException {
+    long currentGeneration = this.generation;
+    if (cachedTemplate.generation == currentGeneration) {
+      return true;
+    }
+    if (getTemplateChecksum(flowTemplateDirURI, cachedTemplate.jobTemplatePaths) != cachedTemplate.checksum) {
+      return false;
+    }
+    cachedTemplate.generation = currentGeneration;
+    return true;
+  }
+
+  /**
+   * Clear cached templates so they will be reloaded next time {@link #getFlowTemplate(URI)} is called, if their files
+   * changed since they were loaded.
    */
   public void clearTemplates() {
     this.rwLock.writeLock().lock();
     log.info("Change detected, clearing flow template cache.");
-    flowTemplateMap.clear();
-    jobTemplateMap.clear();
+    this.generation++;
     this.rwLock.writeLock().unlock();
   }
-}
\ No newline at end of file
+}
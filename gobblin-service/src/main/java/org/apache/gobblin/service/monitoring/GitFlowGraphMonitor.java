@@ -19,10 +19,13 @@ package org.apache.gobblin.service.monitoring;
 
 import java.io.IOException;
 import java.net.URI;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CountDownLatch;
 
+import org.apache.hadoop.fs.Path;
 import org.eclipse.jgit.api.errors.GitAPIException;
 import org.eclipse.jgit.diff.DiffEntry;
 
@@ -98,22 +101,36 @@ public class GitFlowGraphMonitor extends GitMonitoringService implements FlowGra
   }
 
   /**
-   * Reprocesses the entire flowgraph from the root folder every time a change in git is detected
+   * Applies the files changed in git to the flowgraph, or reprocesses the entire flowgraph from the root folder if
+   * templates changed
    */
   @Override
   void processGitConfigChanges()
       throws GitAPIException, IOException {
     // Pulls repository to latest and grabs changes
     List<DiffEntry> changes = this.gitRepo.getChanges();
+    FlowGraph newGraph;
     if (flowTemplateCatalog.isPresent() && flowTemplateCatalog.get().getAndSetShouldRefreshFlowGraph(false)) {
       log.info("Change to template catalog detected, refreshing FlowGraph");
       this.gitRepo.initRepository();
+      newGraph = this.flowGraphHelper.generateFlowGraph();
     } else if (changes.isEmpty()) {
       return;
+    } else {
+      log.info("Detected changes in flowGraph, updating Flowgraph");
+      Set<Path> changedFilePaths = new LinkedHashSet<>();
+      for (DiffEntry change : changes) {
+        // a renamed file is both deleted from its old path and added to its new one
+        if (!change.getOldPath().equals(DiffEntry.DEV_NULL)) {
+          changedFilePaths.add(new Path(change.getOldPath()));
+        }
+        if (!change.getNewPath().equals(DiffEntry.DEV_NULL)) {
+          changedFilePaths.add(new Path(change.getNewPath()));
+        }
+      }
+      newGraph = this.flowGraphHelper.updateFlowGraph(this.multihopFlowCompiler.getFlowGraph(), changedFilePaths);
     }
-    log.info("Detected changes in flowGraph, refreshing Flowgraph");
 
-    FlowGraph newGraph = this.flowGraphHelper.generateFlowGraph();
     if (newGraph != null) {
       this.multihopFlowCompiler.setFlowGraph(newGraph);
     }
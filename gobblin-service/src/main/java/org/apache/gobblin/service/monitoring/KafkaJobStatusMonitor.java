@@ -20,14 +20,23 @@ package org.apache.gobblin.service.monitoring;
 import java.io.IOException;
 import java.sql.SQLIntegrityConstraintViolationException;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Properties;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
 
 import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.apache.commons.lang3.tuple.Pair;
@@ -41,6 +50,8 @@ import com.github.rholder.retry.Retryer;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Joiner;
 import com.google.common.base.Splitter;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.typesafe.config.Config;
@@ -67,10 +78,12 @@ import org.apache.gobblin.runtime.troubleshooter.Issue;
 import org.apache.gobblin.runtime.troubleshooter.IssueEventBuilder;
 import org.apache.gobblin.runtime.troubleshooter.JobIssueEventHandler;
 import org.apache.gobblin.runtime.troubleshooter.TroubleshooterUtils;
+import org.apache.gobblin.source.extractor.extract.kafka.KafkaPartition;
 import org.apache.gobblin.service.ExecutionStatus;
 import org.apache.gobblin.service.ServiceConfigKeys;
 import org.apache.gobblin.service.modules.orchestration.DagActionStore;
 import org.apache.gobblin.service.modules.orchestration.DagManagementStateStore;
+import org.apache.gobblin.service.modules.orchestration.SpecExecutorLoadTracker;
 import org.apache.gobblin.service.modules.orchestration.proc.DagProcUtils;
 import org.apache.gobblin.source.workunit.WorkUnit;
 import org.apache.gobblin.util.ConfigUtils;
@@ -104,6 +117,12 @@ public abstract class KafkaJobStatusMonitor extends HighLevelConsumer<byte[], by
   static final String JOB_STATUS_MONITOR_CLASS_KEY = "class";
   static final String DEFAULT_JOB_STATUS_MONITOR_CLASS = KafkaAvroJobStatusMonitor.class.getName();
 
+  // Size and expiry of the cache of latest job statuses, used when the records are processed in batches
+  static final String JOB_STATUS_CACHE_MAX_SIZE_KEY = "jobStatusCache.maxSize";
+  static final long DEFAULT_JOB_STATUS_CACHE_MAX_SIZE = 10000L;
+  static final String JOB_STATUS_CACHE_TTL_SECS_KEY = "jobStatusCache.ttlSecs";
+  static final long DEFAULT_JOB_STATUS_CACHE_TTL_SECS = 600L;
+
   private static final String KAFKA_AUTO_OFFSET_RESET_KEY = "auto.offset.reset";
   private static final String KAFKA_AUTO_OFFSET_RESET_SMALLEST = "smallest";
 
@@ -130,6 +149,14 @@ public abstract class KafkaJobStatusMonitor extends HighLevelConsumer<byte[], by
   private final List<Class<? extends Exception>> nonRetryableExceptions = Collections.singletonList(SQLIntegrityConstraintViolationException.class);
   private final boolean isErrorClassificationEnabled;
   private final ErrorClassifier errorClassifier;
+  /**
+   * Latest job status by state store name and table name, written through when the records are processed in batches.
+   * As the job status events of a flow execution share a kafka partition, it stays up to date as long as no other
+   * consumer gets its partition, i.e. until {@link #onPartitionsRevoked(Collection)}.
+   */
+  private final Optional<Cache<Pair<String, String>, org.apache.gobblin.configuration.State>> latestJobStatusCache;
+  // notified with the state store name and table name of each job status written
+  private final List<BiConsumer<String, String>> jobStatusUpdateListeners = new CopyOnWriteArrayList<>();
 
   @Inject
   public KafkaJobStatusMonitor(String topic, Config config, int numThreads, JobIssueEventHandler jobIssueEventHandler,
@@ -165,6 +192,12 @@ public abstract class KafkaJobStatusMonitor extends HighLevelConsumer<byte[], by
     this.eventProducer = observabilityEventProducer;
     this.isErrorClassificationEnabled =
         ConfigUtils.getBoolean(this.config, ServiceConfigKeys.ERROR_CLASSIFICATION_ENABLED_KEY, false);
+    this.latestJobStatusCache = ConfigUtils.getInt(this.config, MESSAGE_BATCH_MAX_RECORDS_KEY, DEFAULT_MESSAGE_BATCH_MAX_RECORDS) > 1
+        ? Optional.of(CacheBuilder.newBuilder()
+            .maximumSize(ConfigUtils.getLong(this.config, JOB_STATUS_CACHE_MAX_SIZE_KEY, DEFAULT_JOB_STATUS_CACHE_MAX_SIZE))
+            .expireAfterWrite(ConfigUtils.getLong(this.config, JOB_STATUS_CACHE_TTL_SECS_KEY, DEFAULT_JOB_STATUS_CACHE_TTL_SECS), TimeUnit.SECONDS)
+            .build())
+        : Optional.empty();
   }
 
   public enum NewState {
@@ -204,6 +237,12 @@ public abstract class KafkaJobStatusMonitor extends HighLevelConsumer<byte[], by
 
   @Override
   protected void processMessage(DecodeableKafkaRecord<byte[],byte[]> message) {
+    if (this.latestJobStatusCache.isPresent()) {
+      // go through the batch path even for a single record, to keep the latest job status cache write-through
+      processMessages(Collections.singletonList(message));
+      return;
+    }
+
     GobblinTrackingEvent gobblinTrackingEvent = deserializeEvent(message);
 
     if (gobblinTrackingEvent == null) {
@@ -211,104 +250,266 @@ public abstract class KafkaJobStatusMonitor extends HighLevelConsumer<byte[], by
     }
 
     if (IssueEventBuilder.isIssueEvent(gobblinTrackingEvent)) {
-      try (Timer.Context context = getMetricContext().timer(PROCESS_JOB_ISSUE).time()) {
-        jobIssueEventHandler.processEvent(gobblinTrackingEvent);
+      processIssueEvent(gobblinTrackingEvent);
+    }
+
+    persistJobStatusWithRetries(() -> {
+      // re-create `jobStatus` on each attempt, since mutated within `addJobStatusToStateStore`
+      org.apache.gobblin.configuration.State jobStatus = parseJobStatus(gobblinTrackingEvent);
+      if (jobStatus == null) {
+        return null;
+      }
+
+      try (Timer.Context context = getMetricContext().timer(GET_AND_SET_JOB_STATUS).time()) {
+        Pair<org.apache.gobblin.configuration.State, NewState> updatedJobStatus = recalcJobStatus(jobStatus, this.stateStore);
+        jobStatus = updatedJobStatus.getLeft();
+        String status = updateJobStatusForRetryAndEmitEvents(jobStatus, updatedJobStatus.getRight());
+
+        // Update the state store before adding a dag action.
+        // Even if service dies before adding the dag action & after updating the job status, kafka offset will not be advanced
+        // hence, the event will be reprocessed and re-attempt the addition of dag action
+        putJobStatus(jobStatusStoreName(jobStatus), jobStatusTableName(jobStatus), jobStatus);
+
+        addDagActions(jobStatus, updatedJobStatus.getRight(), status);
+      }
+      return null;
+    }, "offset " + message.getOffset());
+  }
+
+  /**
+   * Processes the records of a batch together, when {@link HighLevelConsumer#MESSAGE_BATCH_MAX_RECORDS_KEY} is more than 1.
+   * The job status events of the batch are grouped by the job they report on and, for each job, merged in order into its
+   * latest job status, as {@link #processMessage(DecodeableKafkaRecord)} would, but reading the job status once (from the
+   * {@link #latestJobStatusCache} when present) and writing it once. Dag actions are added, in order of the events, only
+   * after the job status is written.
+   */
+  @Override
+  protected void processMessages(List<DecodeableKafkaRecord<byte[],byte[]>> messages) {
+    if (!this.latestJobStatusCache.isPresent()) {
+      super.processMessages(messages);
+      return;
+    }
+
+    Map<List<String>, List<GobblinTrackingEvent>> eventsByJob = new LinkedHashMap<>();
+    Map<List<String>, List<Long>> offsetsByJob = new HashMap<>();
+    for (DecodeableKafkaRecord<byte[],byte[]> message : messages) {
+      GobblinTrackingEvent gobblinTrackingEvent = deserializeEvent(message);
+      if (gobblinTrackingEvent == null) {
+        continue;
+      }
+      if (IssueEventBuilder.isIssueEvent(gobblinTrackingEvent)) {
+        processIssueEvent(gobblinTrackingEvent);
       }
+      Map<String, String> metadata = gobblinTrackingEvent.getMetadata();
+      List<String> jobKey = Arrays.asList(metadata.get(TimingEvent.FlowEventConstants.FLOW_GROUP_FIELD),
+          metadata.get(TimingEvent.FlowEventConstants.FLOW_NAME_FIELD),
+          metadata.get(TimingEvent.FlowEventConstants.FLOW_EXECUTION_ID_FIELD),
+          metadata.get(TimingEvent.FlowEventConstants.JOB_GROUP_FIELD),
+          metadata.get(TimingEvent.FlowEventConstants.JOB_NAME_FIELD));
+      eventsByJob.computeIfAbsent(jobKey, k -> new ArrayList<>()).add(gobblinTrackingEvent);
+      offsetsByJob.computeIfAbsent(jobKey, k -> new ArrayList<>()).add(message.getOffset());
     }
 
-    try {
-      persistJobStatusRetryer.call(() -> {
-        // re-create `jobStatus` on each attempt, since mutated within `addJobStatusToStateStore`
+    for (Map.Entry<List<String>, List<GobblinTrackingEvent>> jobEvents : eventsByJob.entrySet()) {
+      persistJobStatusWithRetries(() -> {
+        persistJobStatuses(jobEvents.getValue());
+        return null;
+      }, "offsets " + offsetsByJob.get(jobEvents.getKey()));
+    }
+  }
+
+  @Override
+  protected void onPartitionsRevoked(Collection<KafkaPartition> partitions) {
+    // job statuses of the revoked partitions may be updated by other consumers from now on
+    if (this.latestJobStatusCache.isPresent()) {
+      this.latestJobStatusCache.get().invalidateAll();
+    }
+  }
+
+  private void persistJobStatuses(List<GobblinTrackingEvent> gobblinTrackingEvents) throws IOException {
+    Map<Pair<String, String>, org.apache.gobblin.configuration.State> latestJobStatuses = new LinkedHashMap<>();
+    List<Pair<org.apache.gobblin.configuration.State, Pair<NewState, String>>> jobStatusUpdates = new ArrayList<>();
+
+    try (Timer.Context context = getMetricContext().timer(GET_AND_SET_JOB_STATUS).time()) {
+      for (GobblinTrackingEvent gobblinTrackingEvent : gobblinTrackingEvents) {
+        // re-create `jobStatus` on each attempt, since mutated while merged
         org.apache.gobblin.configuration.State jobStatus = parseJobStatus(gobblinTrackingEvent);
         if (jobStatus == null) {
-          return null;
+          continue;
         }
+        addMissingJobFields(jobStatus);
+        Pair<String, String> storeAndTableName = ImmutablePair.of(jobStatusStoreName(jobStatus), jobStatusTableName(jobStatus));
+        org.apache.gobblin.configuration.State previousJobStatus = latestJobStatuses.containsKey(storeAndTableName)
+            ? latestJobStatuses.get(storeAndTableName) : getLatestJobStatus(storeAndTableName);
+
+        Pair<org.apache.gobblin.configuration.State, NewState> updatedJobStatus = recalcJobStatus(jobStatus,
+            previousJobStatus == null ? Collections.emptyList() : Collections.singletonList(previousJobStatus));
+        jobStatus = updatedJobStatus.getLeft();
+        String status = updateJobStatusForRetryAndEmitEvents(jobStatus, updatedJobStatus.getRight());
+        latestJobStatuses.put(storeAndTableName, jobStatus);
+        jobStatusUpdates.add(ImmutablePair.of(jobStatus, ImmutablePair.of(updatedJobStatus.getRight(), status)));
+      }
 
-        try (Timer.Context context = getMetricContext().timer(GET_AND_SET_JOB_STATUS).time()) {
-          Pair<org.apache.gobblin.configuration.State, NewState> updatedJobStatus = recalcJobStatus(jobStatus, this.stateStore);
-          jobStatus = updatedJobStatus.getLeft();
-
-          String flowName = jobStatus.getProp(TimingEvent.FlowEventConstants.FLOW_NAME_FIELD);
-          String flowGroup = jobStatus.getProp(TimingEvent.FlowEventConstants.FLOW_GROUP_FIELD);
-          long flowExecutionId = jobStatus.getPropAsLong(TimingEvent.FlowEventConstants.FLOW_EXECUTION_ID_FIELD);
-          String jobName = jobStatus.getProp(TimingEvent.FlowEventConstants.JOB_NAME_FIELD);
-          String jobGroup = jobStatus.getProp(TimingEvent.FlowEventConstants.JOB_GROUP_FIELD);
-          String storeName = jobStatusStoreName(flowGroup, flowName);
-          String tableName = jobStatusTableName(flowExecutionId, jobGroup, jobName);
-          String status = jobStatus.getProp(JobStatusRetriever.EVENT_NAME_FIELD);
-
-          // modify the status to be PENDING_RETRY only after calculating `updatedJobStatus via recalcJobStatus()`
-          // because ObservabilityEventProducer does not and should not understand `PENDING_RETRY` status in convertExecutionStatusTojobState()
-          // which is called inside emitObservabilityEvent()
-          // this can also be addressed by some other new job status like FAILED_PENDING_RETRY which does not alert the user
-          // as much as FAILED does if we chose to emit ObservabilityEvent for FAILED_PENDING_RETRY
-          boolean retryRequired = modifyStateIfRetryRequired(jobStatus);
-
-          if (updatedJobStatus.getRight() == NewState.FINISHED && !retryRequired) {
-            if (isErrorClassificationEnabled) {
-              if (jobStatus.getProp(JobStatusRetriever.EVENT_NAME_FIELD).equals(ExecutionStatus.FAILED.name())) {
-                long startTime = System.currentTimeMillis();
-                try {
-                    List<Issue> issues = jobIssueEventHandler.getErrorListForClassification(
-                        TroubleshooterUtils.getContextIdForJob(jobStatus.getProperties()));
-                    Issue finalIssue = errorClassifier.classifyEarlyStopWithDefault(issues);
-                    if (finalIssue != null) {
-                      jobIssueEventHandler.logFinalError(finalIssue, flowName, flowGroup, String.valueOf(flowExecutionId),
-                          jobName);
-                    }
-                  }
-                  catch (Exception e) {
-                    log.error("Failed to emit issue event for  flowGroup: {}, flowName: {}, flowExecutionId: {}, jobName: {}", flowGroup, flowName, flowExecutionId, jobName, e);
-                  }
-                long processDuration = System.currentTimeMillis() - startTime;
-                log.info(
-                    "Processing issues for flowGroup: {}, flowName: {}, flowExecutionId: {}, jobName: {}, duration: {} ms",
-                    flowGroup, flowName, flowExecutionId, jobName, processDuration);
-                }
-              }
+      // as for a single event, update the state store before adding any dag action
+      for (Map.Entry<Pair<String, String>, org.apache.gobblin.configuration.State> latestJobStatus : latestJobStatuses.entrySet()) {
+        Pair<String, String> storeAndTableName = latestJobStatus.getKey();
+        try {
+          putJobStatus(storeAndTableName.getLeft(), storeAndTableName.getRight(), latestJobStatus.getValue());
+        } catch (IOException e) {
+          // the write may still have happened
+          this.latestJobStatusCache.get().invalidate(storeAndTableName);
+          throw e;
+        }
+        this.latestJobStatusCache.get().put(storeAndTableName, latestJobStatus.getValue());
+      }
 
-            // do not send event if retry is required, because it can alert users to re-submit a job that is already set to be retried by GaaS
-            this.eventProducer.emitObservabilityEvent(jobStatus);
-          }
+      for (Pair<org.apache.gobblin.configuration.State, Pair<NewState, String>> jobStatusUpdate : jobStatusUpdates) {
+        addDagActions(jobStatusUpdate.getLeft(), jobStatusUpdate.getRight().getLeft(), jobStatusUpdate.getRight().getRight());
+      }
+    }
+  }
+
+  /**
+   * Registers a listener to notify with the state store name and table name of each job status, once written, e.g. to
+   * invalidate the job statuses cached by a {@link MysqlJobStatusRetriever}
+   */
+  public void addJobStatusUpdateListener(BiConsumer<String, String> jobStatusUpdateListener) {
+    this.jobStatusUpdateListeners.add(jobStatusUpdateListener);
+  }
+
+  private void putJobStatus(String storeName, String tableName, org.apache.gobblin.configuration.State jobStatus)
+      throws IOException {
+    try {
+      stateStore.put(storeName, tableName, jobStatus);
+    } finally {
+      // even on failure, as the write may still have happened
+      this.jobStatusUpdateListeners.forEach(listener -> listener.accept(storeName, tableName));
+    }
+  }
+
+  /**
+   * @return the latest job status stored in the given store and table, or null if there is none
+   */
+  private org.apache.gobblin.configuration.State getLatestJobStatus(Pair<String, String> storeAndTableName) throws IOException {
+    org.apache.gobblin.configuration.State latestJobStatus = this.latestJobStatusCache.get().getIfPresent(storeAndTableName);
+    if (latestJobStatus == null) {
+      List<org.apache.gobblin.configuration.State> states = stateStore.getAll(storeAndTableName.getLeft(), storeAndTableName.getRight());
+      latestJobStatus = states.isEmpty() ? null : states.get(states.size() - 1);
+    }
+    return latestJobStatus;
+  }
+
+  private void processIssueEvent(GobblinTrackingEvent gobblinTrackingEvent) {
+    try (Timer.Context context = getMetricContext().timer(PROCESS_JOB_ISSUE).time()) {
+      jobIssueEventHandler.processEvent(gobblinTrackingEvent);
+    }
+  }
 
-          // Update the state store before adding a dag action.
-          // Even if service dies before adding the dag action & after updating the job status, kafka offset will not be advanced
-          // hence, the event will be reprocessed and re-attempt the addition of dag action
-          stateStore.put(storeName, tableName, jobStatus);
-
-          if (DagProcUtils.isJobLevelStatus(jobName)) {
-            if (updatedJobStatus.getRight() == NewState.FINISHED) {
-              try {
-                this.dagManagementStateStore.addJobDagAction(flowGroup, flowName, flowExecutionId, jobName, DagActionStore.DagActionType.REEVALUATE);
-              } catch (IOException e) {
-                if (ExceptionUtils.isExceptionInstanceOf(e, nonRetryableExceptions)) {
-                  this.dagManagementStateStore.getDagManagerMetrics().dagActionCreationExceptionsInJobStatusMonitor.mark();
-                  log.error("Could not add REEVALUATE dag action for flow group - {}, flow name - {}, flowExecutionId - {}, "
-                      + "jobName = {} due to {}. Ignoring...", flowGroup, flowName, flowExecutionId, jobName, e.getMessage());
-                } else {
-                  throw e;
-                }
+  /**
+   * Marks the merged job status for retry when required, and classifies its errors and emits its observability event when
+   * it finished for good.
+   * @return the status of the job before any modification for retry
+   */
+  private String updateJobStatusForRetryAndEmitEvents(org.apache.gobblin.configuration.State jobStatus, NewState newState) {
+    String flowName = jobStatus.getProp(TimingEvent.FlowEventConstants.FLOW_NAME_FIELD);
+    String flowGroup = jobStatus.getProp(TimingEvent.FlowEventConstants.FLOW_GROUP_FIELD);
+    long flowExecutionId = jobStatus.getPropAsLong(TimingEvent.FlowEventConstants.FLOW_EXECUTION_ID_FIELD);
+    String jobName = jobStatus.getProp(TimingEvent.FlowEventConstants.JOB_NAME_FIELD);
+    String status = jobStatus.getProp(JobStatusRetriever.EVENT_NAME_FIELD);
+
+    // modify the status to be PENDING_RETRY only after calculating `updatedJobStatus via recalcJobStatus()`
+    // because ObservabilityEventProducer does not and should not understand `PENDING_RETRY` status in convertExecutionStatusTojobState()
+    // which is called inside emitObservabilityEvent()
+    // this can also be addressed by some other new job status like FAILED_PENDING_RETRY which does not alert the user
+    // as much as FAILED does if we chose to emit ObservabilityEvent for FAILED_PENDING_RETRY
+    boolean retryRequired = modifyStateIfRetryRequired(jobStatus);
+
+    if (newState == NewState.FINISHED && !retryRequired) {
+      if (isErrorClassificationEnabled) {
+        if (jobStatus.getProp(JobStatusRetriever.EVENT_NAME_FIELD).equals(ExecutionStatus.FAILED.name())) {
+          long startTime = System.currentTimeMillis();
+          try {
+              List<Issue> issues = jobIssueEventHandler.getErrorListForClassification(
+                  TroubleshooterUtils.getContextIdForJob(jobStatus.getProperties()));
+              Issue finalIssue = errorClassifier.classifyEarlyStopWithDefault(issues);
+              if (finalIssue != null) {
+                jobIssueEventHandler.logFinalError(finalIssue, flowName, flowGroup, String.valueOf(flowExecutionId),
+                    jobName);
               }
-            } else if (updatedJobStatus.getRight() == NewState.RUNNING) {
-              DagProcUtils.removeEnforceJobStartDeadlineDagAction(dagManagementStateStore, flowGroup, flowName, flowExecutionId, jobName);
             }
-            // in case, the job is cancelled before it started, we need to clean it's enforceJobStartDeadlineDagAction
-            if (status != null && ExecutionStatus.valueOf(status).equals(ExecutionStatus.CANCELLED)) {
-              DagProcUtils.removeEnforceJobStartDeadlineDagAction(dagManagementStateStore, flowGroup, flowName, flowExecutionId, jobName);
+            catch (Exception e) {
+              log.error("Failed to emit issue event for  flowGroup: {}, flowName: {}, flowExecutionId: {}, jobName: {}", flowGroup, flowName, flowExecutionId, jobName, e);
             }
+          long processDuration = System.currentTimeMillis() - startTime;
+          log.info(
+              "Processing issues for flowGroup: {}, flowName: {}, flowExecutionId: {}, jobName: {}, duration: {} ms",
+              flowGroup, flowName, flowExecutionId, jobName, processDuration);
           }
         }
-        return null;
-      });
+
+      // do not send event if retry is required, because it can alert users to re-submit a job that is already set to be retried by GaaS
+      this.eventProducer.emitObservabilityEvent(jobStatus);
+    }
+    return status;
+  }
+
+  private void addDagActions(org.apache.gobblin.configuration.State jobStatus, NewState newState, String status)
+      throws IOException {
+    String flowName = jobStatus.getProp(TimingEvent.FlowEventConstants.FLOW_NAME_FIELD);
+    String flowGroup = jobStatus.getProp(TimingEvent.FlowEventConstants.FLOW_GROUP_FIELD);
+    long flowExecutionId = jobStatus.getPropAsLong(TimingEvent.FlowEventConstants.FLOW_EXECUTION_ID_FIELD);
+    String jobName = jobStatus.getProp(TimingEvent.FlowEventConstants.JOB_NAME_FIELD);
+
+    if (DagProcUtils.isJobLevelStatus(jobName)) {
+      if (newState == NewState.FINISHED) {
+        try {
+          this.dagManagementStateStore.addJobDagAction(flowGroup, flowName, flowExecutionId, jobName, DagActionStore.DagActionType.REEVALUATE);
+        } catch (IOException e) {
+          if (ExceptionUtils.isExceptionInstanceOf(e, nonRetryableExceptions)) {
+            this.dagManagementStateStore.getDagManagerMetrics().dagActionCreationExceptionsInJobStatusMonitor.mark();
+            log.error("Could not add REEVALUATE dag action for flow group - {}, flow name - {}, flowExecutionId - {}, "
+                + "jobName = {} due to {}. Ignoring...", flowGroup, flowName, flowExecutionId, jobName, e.getMessage());
+          } else {
+            throw e;
+          }
+        }
+      } else if (newState == NewState.RUNNING) {
+        DagProcUtils.removeEnforceJobStartDeadlineDagAction(dagManagementStateStore, flowGroup, flowName, flowExecutionId, jobName);
+        recordJobStartLatency(jobStatus);
+      }
+      // in case, the job is cancelled before it started, we need to clean it's enforceJobStartDeadlineDagAction
+      if (status != null && ExecutionStatus.valueOf(status).equals(ExecutionStatus.CANCELLED)) {
+        DagProcUtils.removeEnforceJobStartDeadlineDagAction(dagManagementStateStore, flowGroup, flowName, flowExecutionId, jobName);
+      }
+    }
+  }
+
+  /**
+   * Record how long the job waited on its executor between being orchestrated and starting, which is how the
+   * {@link SpecExecutorLoadTracker} sees executors that queue jobs
+   */
+  private static void recordJobStartLatency(org.apache.gobblin.configuration.State jobStatus) {
+    String specExecutorUri = jobStatus.getProp(TimingEvent.FlowEventConstants.SPEC_EXECUTOR_FIELD);
+    long orchestratedTime = jobStatus.getPropAsLong(TimingEvent.JOB_ORCHESTRATED_TIME, 0L);
+    if (specExecutorUri != null && orchestratedTime > 0) {
+      long startTime = jobStatus.getPropAsLong(TimingEvent.JOB_START_TIME, 0L);
+      SpecExecutorLoadTracker.get().recordJobStartLatency(specExecutorUri,
+          (startTime > 0 ? startTime : System.currentTimeMillis()) - orchestratedTime);
+    }
+  }
+
+  private void persistJobStatusWithRetries(Callable<Void> persistJobStatus, String kafkaOffsets) {
+    try {
+      persistJobStatusRetryer.call(persistJobStatus);
     } catch (ExecutionException ee) {
-      String msg = String.format("Failed to add job status to state store for kafka offset %d", message.getOffset());
+      String msg = String.format("Failed to add job status to state store for kafka %s", kafkaOffsets);
       log.warn(msg, ee);
       // Throw RuntimeException to avoid advancing kafka offsets without updating state store
       throw new RuntimeException(msg, ee.getCause());
     } catch (RetryException re) {
       String interruptedNote = Thread.currentThread().isInterrupted() ? "... then interrupted" : "";
-      String msg = String.format("Failed to add job status to state store for kafka offset %d (retried %d times%s)",
-          message.getOffset(), re.getNumberOfFailedAttempts(), interruptedNote);
+      String msg = String.format("Failed to add job status to state store for kafka %s (retried %d times%s)",
+          kafkaOffsets, re.getNumberOfFailedAttempts(), interruptedNote);
       Throwable informativeException = re.getLastFailedAttempt().hasException()
           ? re.getLastFailedAttempt().getExceptionCause()
           : re;
@@ -329,65 +530,91 @@ public abstract class KafkaJobStatusMonitor extends HighLevelConsumer<byte[], by
   static Pair<org.apache.gobblin.configuration.State, NewState> recalcJobStatus(org.apache.gobblin.configuration.State jobStatus,
       StateStore<org.apache.gobblin.configuration.State> stateStore) throws IOException {
     try {
-      if (!jobStatus.contains(TimingEvent.FlowEventConstants.JOB_NAME_FIELD)) {
-        jobStatus.setProp(TimingEvent.FlowEventConstants.JOB_NAME_FIELD, JobStatusRetriever.NA_KEY);
-      }
-      if (!jobStatus.contains(TimingEvent.FlowEventConstants.JOB_GROUP_FIELD)) {
-        jobStatus.setProp(TimingEvent.FlowEventConstants.JOB_GROUP_FIELD, JobStatusRetriever.NA_KEY);
-      }
-      String flowName = jobStatus.getProp(TimingEvent.FlowEventConstants.FLOW_NAME_FIELD);
-      String flowGroup = jobStatus.getProp(TimingEvent.FlowEventConstants.FLOW_GROUP_FIELD);
-      long flowExecutionId = jobStatus.getPropAsLong(TimingEvent.FlowEventConstants.FLOW_EXECUTION_ID_FIELD);
-      String jobName = jobStatus.getProp(TimingEvent.FlowEventConstants.JOB_NAME_FIELD);
-      String jobGroup = jobStatus.getProp(TimingEvent.FlowEventConstants.JOB_GROUP_FIELD);
-      String storeName = jobStatusStoreName(flowGroup, flowName);
-      String tableName = jobStatusTableName(flowExecutionId, jobGroup, jobName);
-
-      List<org.apache.gobblin.configuration.State> states = stateStore.getAll(storeName, tableName);
-      if (!states.isEmpty()) {
-        org.apache.gobblin.configuration.State previousJobStatus = states.get(states.size() - 1);
-        String previousStatus = previousJobStatus.getProp(JobStatusRetriever.EVENT_NAME_FIELD);
-        String currentStatus = jobStatus.getProp(JobStatusRetriever.EVENT_NAME_FIELD);
-        int previousGeneration = previousJobStatus.getPropAsInt(TimingEvent.FlowEventConstants.CURRENT_GENERATION_FIELD, 1);
-        // This is to make the change backward compatible as we may not have this info in cluster events
-        // If we does not have those info, we treat the event as coming from the same attempts as previous one
-        int currentGeneration = jobStatus.getPropAsInt(TimingEvent.FlowEventConstants.CURRENT_GENERATION_FIELD, previousGeneration);
-        int previousAttempts = previousJobStatus.getPropAsInt(TimingEvent.FlowEventConstants.CURRENT_ATTEMPTS_FIELD, 1);
-        int currentAttempts = jobStatus.getPropAsInt(TimingEvent.FlowEventConstants.CURRENT_ATTEMPTS_FIELD, previousAttempts);
-        // Verify if the current job status is flow status. If yes, we check for its current execution status to be PENDING_RESUME (limiting to just resume flow statuses)
-        // When the above two conditions satisfy, we NEED NOT check for the out-of-order events since GaaS would manage the lifecycle of these events
-        // Hence, we update the merge state accordingly so that the flow can proceed with its execution to the next state in the DAG
-        boolean isFlowStatusAndPendingResume = isFlowStatusAndPendingResume(jobName, jobGroup, currentStatus);
-        // We use three things to accurately count and thereby bound retries, even amidst out-of-order events (by skipping late arrivals).
-        // The generation is monotonically increasing, while the attempts may re-initialize back to 0. this two-part form prevents the composite value from ever repeating.
-        // And job status reflect the execution status in one attempt
-        if (!isFlowStatusAndPendingResume && (previousStatus != null && currentStatus != null && (previousGeneration > currentGeneration || (
-            previousGeneration == currentGeneration && previousAttempts > currentAttempts) || (previousGeneration == currentGeneration && previousAttempts == currentAttempts
-            && ORDERED_EXECUTION_STATUSES.indexOf(ExecutionStatus.valueOf(currentStatus))
-            < ORDERED_EXECUTION_STATUSES.indexOf(ExecutionStatus.valueOf(previousStatus)))))) {
-          log.warn(String.format(
-              "Received status [generation.attempts] = %s [%s.%s] when already %s [%s.%s] for flow (%s, %s, %s), job (%s, %s)",
-              currentStatus, currentGeneration, currentAttempts, previousStatus, previousGeneration, previousAttempts,
-              flowGroup, flowName, flowExecutionId, jobGroup, jobName));
-          jobStatus = mergeState(states.get(states.size() - 1), jobStatus);
-        } else {
-          jobStatus = mergeState(jobStatus, states.get(states.size() - 1));
-        }
-      }
+      addMissingJobFields(jobStatus);
+      return mergeJobStatus(jobStatus, stateStore.getAll(jobStatusStoreName(jobStatus), jobStatusTableName(jobStatus)));
+    } catch (Exception e) {
+      throw recalcJobStatusFailure(e);
+    }
+  }
 
-      NewState newState = newState(jobStatus, states);
-      String newStatus = jobStatus.getProp(JobStatusRetriever.EVENT_NAME_FIELD);
-      if (newState == NewState.FINISHED) {
-        log.info("Flow/Job {}:{}:{}:{} reached a terminal state {}", flowGroup, flowName, flowExecutionId, jobName, newStatus);
-      }
-      return ImmutablePair.of(jobStatus, newState);
+  /**
+   * Same as {@link #recalcJobStatus(org.apache.gobblin.configuration.State, StateStore)}, but merging with the given
+   * job statuses of the job, instead of those in the state store.
+   * @throws IOException
+   */
+  @VisibleForTesting
+  static Pair<org.apache.gobblin.configuration.State, NewState> recalcJobStatus(org.apache.gobblin.configuration.State jobStatus,
+      List<org.apache.gobblin.configuration.State> states) throws IOException {
+    try {
+      addMissingJobFields(jobStatus);
+      return mergeJobStatus(jobStatus, states);
     } catch (Exception e) {
-      log.warn("Meet exception when adding jobStatus to state store at "
-          + e.getStackTrace()[0].getClassName() + "line number: " + e.getStackTrace()[0].getLineNumber(), e);
-      throw new IOException(e);
+      throw recalcJobStatusFailure(e);
     }
   }
 
+  private static IOException recalcJobStatusFailure(Exception e) {
+    log.warn("Meet exception when adding jobStatus to state store at "
+        + e.getStackTrace()[0].getClassName() + "line number: " + e.getStackTrace()[0].getLineNumber(), e);
+    return new IOException(e);
+  }
+
+  private static void addMissingJobFields(org.apache.gobblin.configuration.State jobStatus) {
+    if (!jobStatus.contains(TimingEvent.FlowEventConstants.JOB_NAME_FIELD)) {
+      jobStatus.setProp(TimingEvent.FlowEventConstants.JOB_NAME_FIELD, JobStatusRetriever.NA_KEY);
+    }
+    if (!jobStatus.contains(TimingEvent.FlowEventConstants.JOB_GROUP_FIELD)) {
+      jobStatus.setProp(TimingEvent.FlowEventConstants.JOB_GROUP_FIELD, JobStatusRetriever.NA_KEY);
+    }
+  }
+
+  private static Pair<org.apache.gobblin.configuration.State, NewState> mergeJobStatus(org.apache.gobblin.configuration.State jobStatus,
+      List<org.apache.gobblin.configuration.State> states) {
+    String flowName = jobStatus.getProp(TimingEvent.FlowEventConstants.FLOW_NAME_FIELD);
+    String flowGroup = jobStatus.getProp(TimingEvent.FlowEventConstants.FLOW_GROUP_FIELD);
+    long flowExecutionId = jobStatus.getPropAsLong(TimingEvent.FlowEventConstants.FLOW_EXECUTION_ID_FIELD);
+    String jobName = jobStatus.getProp(TimingEvent.FlowEventConstants.JOB_NAME_FIELD);
+    String jobGroup = jobStatus.getProp(TimingEvent.FlowEventConstants.JOB_GROUP_FIELD);
+
+    if (!states.isEmpty()) {
+      org.apache.gobblin.configuration.State previousJobStatus = states.get(states.size() - 1);
+      String previousStatus = previousJobStatus.getProp(JobStatusRetriever.EVENT_NAME_FIELD);
+      String currentStatus = jobStatus.getProp(JobStatusRetriever.EVENT_NAME_FIELD);
+      int previousGeneration = previousJobStatus.getPropAsInt(TimingEvent.FlowEventConstants.CURRENT_GENERATION_FIELD, 1);
+      // This is to make the change backward compatible as we may not have this info in cluster events
+      // If we does not have those info, we treat the event as coming from the same attempts as previous one
+      int currentGeneration = jobStatus.getPropAsInt(TimingEvent.FlowEventConstants.CURRENT_GENERATION_FIELD, previousGeneration);
+      int previousAttempts = previousJobStatus.getPropAsInt(TimingEvent.FlowEventConstants.CURRENT_ATTEMPTS_FIELD, 1);
+      int currentAttempts = jobStatus.getPropAsInt(TimingEvent.FlowEventConstants.CURRENT_ATTEMPTS_FIELD, previousAttempts);
+      // Verify if the current job status is flow status. If yes, we check for its current execution status to be PENDING_RESUME (limiting to just resume flow statuses)
+      // When the above two conditions satisfy, we NEED NOT check for the out-of-order events since GaaS would manage the lifecycle of these events
+      // Hence, we update the merge state accordingly so that the flow can proceed with its execution to the next state in the DAG
+      boolean isFlowStatusAndPendingResume = isFlowStatusAndPendingResume(jobName, jobGroup, currentStatus);
+      // We use three things to accurately count and thereby bound retries, even amidst out-of-order events (by skipping late arrivals).
+      // The generation is monotonically increasing, while the attempts may re-initialize back to 0. this two-part form prevents the composite value from ever repeating.
+      // And job status reflect the execution status in one attempt
+      if (!isFlowStatusAndPendingResume && (previousStatus != null && currentStatus != null && (previousGeneration > currentGeneration || (
+          previousGeneration == currentGeneration && previousAttempts > currentAttempts) || (previousGeneration == currentGeneration && previousAttempts == currentAttempts
+          && ORDERED_EXECUTION_STATUSES.indexOf(ExecutionStatus.valueOf(currentStatus))
+          < ORDERED_EXECUTION_STATUSES.indexOf(ExecutionStatus.valueOf(previousStatus)))))) {
+        log.warn(String.format(
+            "Received status [generation.attempts] = %s [%s.%s] when already %s [%s.%s] for flow (%s, %s, %s), job (%s, %s)",
+            currentStatus, currentGeneration, currentAttempts, previousStatus, previousGeneration, previousAttempts,
+            flowGroup, flowName, flowExecutionId, jobGroup, jobName));
+        jobStatus = mergeState(states.get(states.size() - 1), jobStatus);
+      } else {
+        jobStatus = mergeState(jobStatus, states.get(states.size() - 1));
+      }
+    }
+
+    NewState newState = newState(jobStatus, states);
+    String newStatus = jobStatus.getProp(JobStatusRetriever.EVENT_NAME_FIELD);
+    if (newState == NewState.FINISHED) {
+      log.info("Flow/Job {}:{}:{}:{} reached a terminal state {}", flowGroup, flowName, flowExecutionId, jobName, newStatus);
+    }
+    return ImmutablePair.of(jobStatus, newState);
+  }
+
   private static NewState newState(org.apache.gobblin.configuration.State jobStatus, List<org.apache.gobblin.configuration.State> states) {
     if (isNewStateTransitionToFinal(jobStatus, states)) {
       return NewState.FINISHED;
@@ -465,6 +692,16 @@ public abstract class KafkaJobStatusMonitor extends HighLevelConsumer<byte[], by
     return Joiner.on(ServiceConfigKeys.STATE_STORE_KEY_SEPARATION_CHARACTER).join(flowGroup, flowName);
   }
 
+  private static String jobStatusTableName(org.apache.gobblin.configuration.State jobStatus) {
+    return jobStatusTableName(jobStatus.getPropAsLong(TimingEvent.FlowEventConstants.FLOW_EXECUTION_ID_FIELD),
+        jobStatus.getProp(TimingEvent.FlowEventConstants.JOB_GROUP_FIELD), jobStatus.getProp(TimingEvent.FlowEventConstants.JOB_NAME_FIELD));
+  }
+
+  private static String jobStatusStoreName(org.apache.gobblin.configuration.State jobStatus) {
+    return jobStatusStoreName(jobStatus.getProp(TimingEvent.FlowEventConstants.FLOW_GROUP_FIELD),
+        jobStatus.getProp(TimingEvent.FlowEventConstants.FLOW_NAME_FIELD));
+  }
+
   public static long getExecutionIdFromTableName(String tableName) {
     return Long.parseLong(Splitter.on(ServiceConfigKeys.STATE_STORE_KEY_SEPARATION_CHARACTER).splitToList(tableName).get(0));
   }
@@ -53,16 +53,19 @@ public class KafkaJobStatusMonitorFactory implements Provider<JobStatusMonitor>
   private final boolean instrumentationEnabled;
   private final DagManagementStateStore dagManagementStateStore;
   private final ErrorClassifier errorClassifier;
+  private final JobStatusRetriever jobStatusRetriever;
 
   @Inject
   public KafkaJobStatusMonitorFactory(Config config, JobIssueEventHandler jobIssueEventHandler, MultiContextIssueRepository issueRepository,
-      GobblinInstanceEnvironment env, DagManagementStateStore dagManagementStateStore, ErrorClassifier errorClassifier) {
+      GobblinInstanceEnvironment env, DagManagementStateStore dagManagementStateStore, ErrorClassifier errorClassifier,
+      JobStatusRetriever jobStatusRetriever) {
     this.config = Objects.requireNonNull(config);
     this.jobIssueEventHandler = Objects.requireNonNull(jobIssueEventHandler);
     this.issueRepository = issueRepository;
     this.instrumentationEnabled = env.isInstrumentationEnabled();
     this.dagManagementStateStore = dagManagementStateStore;
     this.errorClassifier = errorClassifier;
+    this.jobStatusRetriever = jobStatusRetriever;
   }
 
   private JobStatusMonitor createJobStatusMonitor()
@@ -96,9 +99,15 @@ public class KafkaJobStatusMonitorFactory implements Provider<JobStatusMonitor>
         observabilityEventProducerClassName, ConfigUtils.configToState(config), this.issueRepository, this.instrumentationEnabled);
     log.info("JobStatusMonitor class `{}` will be initialized with config {}", jobStatusMonitorClass, jobStatusConfig);
 
-    return (JobStatusMonitor) GobblinConstructorUtils
+    JobStatusMonitor jobStatusMonitor = (JobStatusMonitor) GobblinConstructorUtils
         .invokeLongestConstructor(jobStatusMonitorClass, topic, jobStatusConfig, numThreads, jobIssueEventHandler, observabilityEventProducer,
             dagManagementStateStore, errorClassifier);
+    if (jobStatusMonitor instanceof KafkaJobStatusMonitor && this.jobStatusRetriever instanceof MysqlJobStatusRetriever
+        && ((MysqlJobStatusRetriever) this.jobStatusRetriever).isFlowExecutionCacheEnabled()) {
+      ((KafkaJobStatusMonitor) jobStatusMonitor).addJobStatusUpdateListener(
+          ((MysqlJobStatusRetriever) this.jobStatusRetriever)::invalidateFlowExecution);
+    }
+    return jobStatusMonitor;
   }
 
   @Override
@@ -18,11 +18,23 @@
 package org.apache.gobblin.service.monitoring;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.apache.commons.lang3.tuple.Pair;
 
 import com.codahale.metrics.MetricRegistry;
 import com.codahale.metrics.Timer;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.Ordering;
 import com.typesafe.config.Config;
 
@@ -35,10 +47,15 @@ import org.apache.gobblin.metastore.MysqlJobStatusStateStore;
 import org.apache.gobblin.metastore.MysqlJobStatusStateStoreFactory;
 import org.apache.gobblin.metrics.ServiceMetricNames;
 import org.apache.gobblin.runtime.troubleshooter.MultiContextIssueRepository;
+import org.apache.gobblin.util.ConfigUtils;
 
 
 /**
  * Mysql based Retriever for {@link JobStatus}.
+ *
+ * When {@link #FLOW_EXECUTION_CACHE_ENABLED_KEY} is set, the job statuses of recently retrieved flow executions are
+ * cached, until {@link #invalidateFlowExecution(String, String)} on their update or for at most
+ * {@link #FLOW_EXECUTION_CACHE_TTL_SECS_KEY}, which bounds their staleness when updated by another host.
  */
 @Singleton
 public class MysqlJobStatusRetriever extends JobStatusRetriever {
@@ -57,25 +74,71 @@ public class MysqlJobStatusRetriever extends JobStatusRetriever {
       MYSQL_JOB_STATUS_RETRIEVER_PREFIX, "getLatestFlowGroupStatus");
   public static final String GET_ALL_FLOW_STATUSES_METRIC = MetricRegistry.name(ServiceMetricNames.GOBBLIN_SERVICE_PREFIX,
       MYSQL_JOB_STATUS_RETRIEVER_PREFIX, "getAllFlowStatuses");
+  public static final String FLOW_EXECUTION_CACHE_HIT_METRIC = MetricRegistry.name(ServiceMetricNames.GOBBLIN_SERVICE_PREFIX,
+      MYSQL_JOB_STATUS_RETRIEVER_PREFIX, "flowExecutionCache", "hit");
+  public static final String FLOW_EXECUTION_CACHE_MISS_METRIC = MetricRegistry.name(ServiceMetricNames.GOBBLIN_SERVICE_PREFIX,
+      MYSQL_JOB_STATUS_RETRIEVER_PREFIX, "flowExecutionCache", "miss");
+
+  public static final String FLOW_EXECUTION_CACHE_ENABLED_KEY = "flowExecutionCache.enabled";
+  public static final String FLOW_EXECUTION_CACHE_MAX_SIZE_KEY = "flowExecutionCache.maxSize";
+  public static final long DEFAULT_FLOW_EXECUTION_CACHE_MAX_SIZE = 10000L;
+  public static final String FLOW_EXECUTION_CACHE_TTL_SECS_KEY = "flowExecutionCache.ttlSecs";
+  public static final long DEFAULT_FLOW_EXECUTION_CACHE_TTL_SECS = 30L;
 
   @Getter
   private final MysqlJobStatusStateStore<State> stateStore;
+  // job statuses by store name and flow execution id
+  private final Optional<Cache<Pair<String, Long>, List<State>>> flowExecutionCache;
+  // time (from `System.nanoTime()`) of the latest invalidation of each flow execution, to not cache what was read before
+  private final Optional<Cache<Pair<String, Long>, Long>> flowExecutionInvalidations;
 
   @Inject
   public MysqlJobStatusRetriever(Config config, MultiContextIssueRepository issueRepository) throws ReflectiveOperationException {
     super(issueRepository);
     config = config.getConfig(MYSQL_JOB_STATUS_RETRIEVER_PREFIX).withFallback(config);
     this.stateStore = (MysqlJobStatusStateStoreFactory.class.newInstance()).createStateStore(config, State.class);
+
+    if (ConfigUtils.getBoolean(config, FLOW_EXECUTION_CACHE_ENABLED_KEY, false)) {
+      long ttlSecs = ConfigUtils.getLong(config, FLOW_EXECUTION_CACHE_TTL_SECS_KEY, DEFAULT_FLOW_EXECUTION_CACHE_TTL_SECS);
+      this.flowExecutionCache = Optional.of(CacheBuilder.newBuilder()
+          .maximumSize(ConfigUtils.getLong(config, FLOW_EXECUTION_CACHE_MAX_SIZE_KEY, DEFAULT_FLOW_EXECUTION_CACHE_MAX_SIZE))
+          .expireAfterWrite(ttlSecs, TimeUnit.SECONDS)
+          .build());
+      // a read started more than `ttlSecs` ago would have expired anyway
+      this.flowExecutionInvalidations = Optional.of(CacheBuilder.newBuilder()
+          .expireAfterWrite(ttlSecs, TimeUnit.SECONDS)
+          .build());
+    } else {
+      this.flowExecutionCache = Optional.empty();
+      this.flowExecutionInvalidations = Optional.empty();
+    }
   }
 
   @Override
   public Iterator<JobStatus> getJobStatusesForFlowExecution(String flowName, String flowGroup, long flowExecutionId) {
     String storeName = KafkaJobStatusMonitor.jobStatusStoreName(flowGroup, flowName);
-    List<State> jobStatusStates = timeOpAndWrapIOException(() -> this.stateStore.getAll(storeName, flowExecutionId),
+    List<State> jobStatusStates = timeOpAndWrapIOException(() -> getFlowExecutionJobStatuses(storeName, flowExecutionId),
         GET_LATEST_FLOW_STATUS_METRIC);
     return asJobStatuses(jobStatusStates);
   }
 
+  /**
+   * Invalidates the cached job statuses of the flow execution of a job status, to call on each update of the job status
+   * @param storeName store name of the job status in the state store
+   * @param tableName table name of the job status in the state store
+   */
+  public void invalidateFlowExecution(String storeName, String tableName) {
+    if (this.flowExecutionCache.isPresent()) {
+      Pair<String, Long> flowExecution = ImmutablePair.of(storeName, KafkaJobStatusMonitor.getExecutionIdFromTableName(tableName));
+      this.flowExecutionInvalidations.get().put(flowExecution, System.nanoTime());
+      this.flowExecutionCache.get().invalidate(flowExecution);
+    }
+  }
+
+  public boolean isFlowExecutionCacheEnabled() {
+    return this.flowExecutionCache.isPresent();
+  }
+
   @Override
   public Iterator<JobStatus> getJobStatusesForFlowExecution(String flowName, String flowGroup, long flowExecutionId,
       String jobName, String jobGroup) {
@@ -89,8 +152,8 @@ public class MysqlJobStatusRetriever extends JobStatusRetriever {
   @Override
   public List<FlowStatus> getFlowStatusesForFlowGroupExecutions(String flowGroup, int countJobStatusesPerFlowName) {
     String storeNamePrefix = KafkaJobStatusMonitor.jobStatusStoreName(flowGroup, "");
-    // TODO: optimize as needed: returned `List<State>` may be large, since encompassing every execution of every flow (in group)!
-    List<State> jobStatusStates = timeOpAndWrapIOException(() -> this.stateStore.getAllWithPrefix(storeNamePrefix),
+    List<State> jobStatusStates = timeOpAndWrapIOException(
+        () -> getLatestFlowExecutionsJobStatuses(storeNamePrefix, countJobStatusesPerFlowName),
         GET_LATEST_FLOW_GROUP_STATUS_METRIC);
     return asFlowStatuses(groupByFlowExecutionAndRetainLatest(flowGroup, jobStatusStates, countJobStatusesPerFlowName));
   }
@@ -106,12 +169,80 @@ public class MysqlJobStatusRetriever extends JobStatusRetriever {
   @Override
   public List<Long> getLatestExecutionIdsForFlow(String flowName, String flowGroup, int count) {
     String storeName = KafkaJobStatusMonitor.jobStatusStoreName(flowGroup, flowName);
-    List<State> jobStatusStates = timeOpAndWrapIOException(() -> this.stateStore.getAll(storeName),
+    // the table names encode the flow execution ids, so there is no need to read the job statuses
+    List<String> tableNames = timeOpAndWrapIOException(() -> this.stateStore.getTableNames(storeName, tableName -> true),
         GET_ALL_FLOW_STATUSES_METRIC);
-    return getLatestExecutionIds(jobStatusStates, count);
+    return getLatestExecutionIds(tableNames, count);
+  }
+
+  private List<State> getFlowExecutionJobStatuses(String storeName, long flowExecutionId) throws IOException {
+    if (!this.flowExecutionCache.isPresent()) {
+      return this.stateStore.getAll(storeName, flowExecutionId);
+    }
+    Pair<String, Long> flowExecution = ImmutablePair.of(storeName, flowExecutionId);
+    List<State> jobStatusStates = this.flowExecutionCache.get().getIfPresent(flowExecution);
+    if (jobStatusStates != null) {
+      this.metricContext.contextAwareMeter(FLOW_EXECUTION_CACHE_HIT_METRIC).mark();
+      return jobStatusStates;
+    }
+    this.metricContext.contextAwareMeter(FLOW_EXECUTION_CACHE_MISS_METRIC).mark();
+    long readStartNanos = System.nanoTime();
+    jobStatusStates = this.stateStore.getAll(storeName, flowExecutionId);
+    cacheFlowExecution(flowExecution, jobStatusStates, readStartNanos);
+    return jobStatusStates;
+  }
+
+  /**
+   * Returns the job statuses of the latest `count` executions of each flow of a flow group. The flow executions are
+   * selected by their table names, so that only their job statuses are read, rather than those of every execution of
+   * every flow of the flow group.
+   */
+  private List<State> getLatestFlowExecutionsJobStatuses(String storeNamePrefix, int count) throws IOException {
+    List<State> jobStatusStates = new ArrayList<>();
+    Map<String, List<Long>> uncachedFlowExecutionIds = new HashMap<>();
+    int numCacheHits = 0;
+
+    for (Map.Entry<String, List<String>> tableNames : this.stateStore.getTableNamesWithPrefix(storeNamePrefix).entrySet()) {
+      String storeName = tableNames.getKey();
+      for (long flowExecutionId : getLatestExecutionIds(tableNames.getValue(), count)) {
+        List<State> cachedJobStatusStates = this.flowExecutionCache.isPresent()
+            ? this.flowExecutionCache.get().getIfPresent(ImmutablePair.of(storeName, flowExecutionId)) : null;
+        if (cachedJobStatusStates != null) {
+          jobStatusStates.addAll(cachedJobStatusStates);
+          numCacheHits++;
+        } else {
+          uncachedFlowExecutionIds.computeIfAbsent(storeName, k -> new ArrayList<>()).add(flowExecutionId);
+        }
+      }
+    }
+
+    long readStartNanos = System.nanoTime();
+    List<State> uncachedJobStatusStates = this.stateStore.getAll(uncachedFlowExecutionIds);
+    jobStatusStates.addAll(uncachedJobStatusStates);
+
+    if (this.flowExecutionCache.isPresent()) {
+      this.metricContext.contextAwareMeter(FLOW_EXECUTION_CACHE_HIT_METRIC).mark(numCacheHits);
+      this.metricContext.contextAwareMeter(FLOW_EXECUTION_CACHE_MISS_METRIC)
+          .mark(uncachedFlowExecutionIds.values().stream().mapToInt(List::size).sum());
+      uncachedJobStatusStates.stream()
+          .collect(Collectors.groupingBy(jobStatus -> ImmutablePair.of(
+              KafkaJobStatusMonitor.jobStatusStoreName(getFlowGroup(jobStatus), getFlowName(jobStatus)), getFlowExecutionId(jobStatus))))
+          .forEach((flowExecution, states) -> cacheFlowExecution(flowExecution, states, readStartNanos));
+    }
+    return jobStatusStates;
+  }
+
+  /**
+   * Caches the job statuses of a flow execution, unless invalidated since they started to be read
+   */
+  private void cacheFlowExecution(Pair<String, Long> flowExecution, List<State> jobStatusStates, long readStartNanos) {
+    Long invalidationNanos = this.flowExecutionInvalidations.get().getIfPresent(flowExecution);
+    if (invalidationNanos == null || invalidationNanos - readStartNanos < 0) {
+      this.flowExecutionCache.get().put(flowExecution, Collections.unmodifiableList(jobStatusStates));
+    }
   }
 
-  private List<State> timeOpAndWrapIOException(SupplierThrowingIO<List<State>> states, String timerMetricName) {
+  private <T> T timeOpAndWrapIOException(SupplierThrowingIO<T> states, String timerMetricName) {
     try (Timer.Context context = this.metricContext.contextAwareTimer(timerMetricName).time()) {
       return states.get();
     } catch (IOException e) {
@@ -119,10 +250,10 @@ public class MysqlJobStatusRetriever extends JobStatusRetriever {
     }
   }
 
-  private List<Long> getLatestExecutionIds(List<State> jobStatusStates, int count) {
+  private List<Long> getLatestExecutionIds(List<String> tableNames, int count) {
     // `distinct()`, to avoid each flow execution ID replicating as many times as it
     // has child jobs
-    Iterator<Long> flowExecutionIds = jobStatusStates.stream().map(JobStatusRetriever::getFlowExecutionId).distinct().iterator();
+    Iterator<Long> flowExecutionIds = tableNames.stream().map(KafkaJobStatusMonitor::getExecutionIdFromTableName).distinct().iterator();
     return Ordering.<Long>natural().greatestOf(flowExecutionIds, count);
   }
 }
@@ -0,0 +1,178 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.gobblin.service.modules.flow;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.Collections;
+
+import org.apache.hadoop.fs.Path;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import com.google.common.base.Optional;
+import com.google.common.collect.Lists;
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+import com.typesafe.config.ConfigValueFactory;
+
+import org.apache.gobblin.configuration.ConfigurationKeys;
+import org.apache.gobblin.runtime.api.FlowSpec;
+import org.apache.gobblin.service.modules.flowgraph.BaseDataNode;
+import org.apache.gobblin.service.modules.flowgraph.BaseFlowEdge;
+import org.apache.gobblin.service.modules.flowgraph.BaseFlowGraph;
+import org.apache.gobblin.service.modules.flowgraph.DataNode;
+import org.apache.gobblin.service.modules.flowgraph.FlowEdge;
+import org.apache.gobblin.service.modules.flowgraph.FlowGraphConfigurationKeys;
+import org.apache.gobblin.service.modules.template.FlowTemplate;
+import org.apache.gobblin.service.modules.template.StaticFlowTemplate;
+
+
+public class FlowGraphPathCacheTest {
+  private FlowGraphPathCache cache;
+
+  @BeforeMethod
+  public void setUp() {
+    this.cache = new FlowGraphPathCache(100, 60);
+  }
+
+  @Test
+  public void testGetReturnsPathWithCurrentFlowExecutionId() throws Exception {
+    BaseFlowGraph graph = createGraph(ConfigFactory.empty());
+    FlowSpec flowSpec = createFlowSpec("flowName", 1L);
+    this.cache.put(flowSpec, graph, graph, createPath(flowSpec, 1L, graph));
+
+    Optional<FlowGraphPath> cached = this.cache.get(createFlowSpec("flowName", 2L), graph);
+    Assert.assertTrue(cached.isPresent());
+    Assert.assertEquals(cached.get().getPaths().size(), 1);
+    Assert.assertEquals(cached.get().getPaths().get(0).size(), 2);
+    for (FlowEdgeContext flowEdgeContext : cached.get().getPaths().get(0)) {
+      Assert.assertEquals(flowEdgeContext.getMergedConfig().getLong(ConfigurationKeys.FLOW_EXECUTION_ID_KEY), 2L);
+    }
+
+    Assert.assertFalse(this.cache.get(createFlowSpec("otherFlowName", 2L), graph).isPresent());
+    // paths found in another graph are not served
+    Assert.assertFalse(this.cache.get(flowSpec, createGraph(ConfigFactory.empty())).isPresent());
+  }
+
+  @Test
+  public void testPutIgnoresPathFoundInReplacedGraph() throws Exception {
+    BaseFlowGraph graph = createGraph(ConfigFactory.empty());
+    FlowSpec flowSpec = createFlowSpec("flowName", 1L);
+    this.cache.put(flowSpec, graph, createGraph(ConfigFactory.empty()), createPath(flowSpec, 1L, graph));
+    Assert.assertEquals(this.cache.size(), 0);
+  }
+
+  @Test
+  public void testGetAfterEdgeDeletedInPlace() throws Exception {
+    BaseFlowGraph graph = createGraph(ConfigFactory.empty());
+    FlowSpec flowSpec = createFlowSpec("flowName", 1L);
+    this.cache.put(flowSpec, graph, graph, createPath(flowSpec, 1L, graph));
+
+    graph.deleteFlowEdge("node2:node3:edge2");
+    Assert.assertFalse(this.cache.get(flowSpec, graph).isPresent());
+  }
+
+  @Test
+  public void testOnFlowGraphUpdate() throws Exception {
+    BaseFlowGraph graph = createGraph(ConfigFactory.empty());
+    FlowSpec flowSpec = createFlowSpec("flowName", 1L);
+    this.cache.put(flowSpec, graph, graph, createPath(flowSpec, 1L, graph));
+
+    // an identical graph keeps the entry, re-pointed at its own edges
+    BaseFlowGraph sameGraph = createGraph(ConfigFactory.empty());
+    this.cache.onFlowGraphUpdate(graph, sameGraph);
+    Optional<FlowGraphPath> cached = this.cache.get(flowSpec, sameGraph);
+    Assert.assertTrue(cached.isPresent());
+    Assert.assertTrue(cached.get().getPaths().get(0).get(0).getEdge() == sameGraph.getEdges("node1").iterator().next());
+
+    // an edge off the path does not affect it
+    BaseFlowGraph graphWithUnrelatedEdge = createGraph(ConfigFactory.empty());
+    graphWithUnrelatedEdge.addDataNode(createNode("node4"));
+    graphWithUnrelatedEdge.addFlowEdge(createEdge("node4", "node3", "node4:node3:edge4", ConfigFactory.empty()));
+    this.cache.onFlowGraphUpdate(sameGraph, graphWithUnrelatedEdge);
+    Assert.assertTrue(this.cache.get(flowSpec, graphWithUnrelatedEdge).isPresent());
+
+    // a changed edge on the path drops it
+    BaseFlowGraph graphWithChangedEdge = createGraph(ConfigFactory.parseMap(Collections.singletonMap("key", "value")));
+    this.cache.onFlowGraphUpdate(graphWithUnrelatedEdge, graphWithChangedEdge);
+    Assert.assertEquals(this.cache.size(), 0);
+    Assert.assertFalse(this.cache.get(flowSpec, graphWithChangedEdge).isPresent());
+
+    // so does a new edge from a node on the path
+    this.cache.put(flowSpec, graphWithChangedEdge, graphWithChangedEdge, createPath(flowSpec, 1L, graphWithChangedEdge));
+    BaseFlowGraph graphWithShortcut = createGraph(ConfigFactory.parseMap(Collections.singletonMap("key", "value")));
+    graphWithShortcut.addFlowEdge(createEdge("node1", "node3", "node1:node3:shortcut", ConfigFactory.empty()));
+    this.cache.onFlowGraphUpdate(graphWithChangedEdge, graphWithShortcut);
+    Assert.assertFalse(this.cache.get(flowSpec, graphWithShortcut).isPresent());
+  }
+
+  @Test
+  public void testFingerprintIgnoresFlowExecutionId() throws Exception {
+    Assert.assertEquals(FlowGraphPathCache.fingerprint(createFlowSpec("flowName", 1L)),
+        FlowGraphPathCache.fingerprint(createFlowSpec("flowName", 2L)));
+    Assert.assertNotEquals(FlowGraphPathCache.fingerprint(createFlowSpec("flowName", 1L)),
+        FlowGraphPathCache.fingerprint(createFlowSpec("otherFlowName", 1L)));
+  }
+
+  /** @return a graph node1 -> node2 -> node3, where `edgeConfig` is the config of the second edge */
+  private static BaseFlowGraph createGraph(Config edgeConfig) throws Exception {
+    BaseFlowGraph graph = new BaseFlowGraph();
+    for (String nodeId : Lists.newArrayList("node1", "node2", "node3")) {
+      graph.addDataNode(createNode(nodeId));
+    }
+    graph.addFlowEdge(createEdge("node1", "node2", "node1:node2:edge1", ConfigFactory.empty()));
+    graph.addFlowEdge(createEdge("node2", "node3", "node2:node3:edge2", edgeConfig));
+    return graph;
+  }
+
+  private static DataNode createNode(String nodeId) throws DataNode.DataNodeCreationException {
+    return new BaseDataNode(ConfigFactory.empty().withValue(FlowGraphConfigurationKeys.DATA_NODE_ID_KEY,
+        ConfigValueFactory.fromAnyRef(nodeId)));
+  }
+
+  private static FlowEdge createEdge(String src, String dest, String edgeId, Config edgeConfig) throws URISyntaxException {
+    FlowTemplate flowTemplate = new StaticFlowTemplate(new URI("FS:///" + edgeId.replace(":", "_")), "", "",
+        ConfigFactory.empty(), null, new ArrayList<>());
+    return new BaseFlowEdge(Lists.newArrayList(src, dest), edgeId, flowTemplate, new ArrayList<>(), edgeConfig, true);
+  }
+
+  private static FlowGraphPath createPath(FlowSpec flowSpec, long flowExecutionId, BaseFlowGraph graph) {
+    FlowGraphPath flowGraphPath = new FlowGraphPath(flowSpec, flowExecutionId);
+    Config mergedConfig = ConfigFactory.empty().withValue(ConfigurationKeys.FLOW_EXECUTION_ID_KEY,
+        ConfigValueFactory.fromAnyRef(flowExecutionId));
+    flowGraphPath.addPath(Lists.newArrayList(
+        new FlowEdgeContext(graph.getEdges("node1").iterator().next(), null, null, mergedConfig, null),
+        new FlowEdgeContext(graph.getEdges("node2").iterator().next(), null, null, mergedConfig, null)));
+    return flowGraphPath;
+  }
+
+  private static FlowSpec createFlowSpec(String flowName, long flowExecutionId) {
+    Config flowConfig = ConfigFactory.empty()
+        .withValue(ConfigurationKeys.FLOW_GROUP_KEY, ConfigValueFactory.fromAnyRef("flowGroup"))
+        .withValue(ConfigurationKeys.FLOW_NAME_KEY, ConfigValueFactory.fromAnyRef(flowName))
+        .withValue(ConfigurationKeys.FLOW_EXECUTION_ID_KEY, ConfigValueFactory.fromAnyRef(flowExecutionId));
+    return FlowSpec.builder(new Path("/tmp/flowSpecCatalog").toUri())
+        .withConfig(flowConfig)
+        .withDescription("dummy description")
+        .withVersion(FlowSpec.Builder.DEFAULT_VERSION)
+        .build();
+  }
+}
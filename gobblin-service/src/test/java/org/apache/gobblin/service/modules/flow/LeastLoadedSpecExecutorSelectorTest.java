@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.gobblin.service.modules.flow;
+
+import java.net.URI;
+import java.util.concurrent.TimeUnit;
+
+import org.mockito.Mockito;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import com.google.common.collect.Lists;
+import com.typesafe.config.ConfigFactory;
+
+import org.apache.gobblin.runtime.api.SpecExecutor;
+import org.apache.gobblin.service.modules.flowgraph.FlowEdge;
+import org.apache.gobblin.service.modules.orchestration.SpecExecutorLoadTracker;
+
+
+public class LeastLoadedSpecExecutorSelectorTest {
+  private SpecExecutorLoadTracker loadTracker;
+  private LeastLoadedSpecExecutorSelector selector;
+  private SpecExecutor executor1;
+  private SpecExecutor executor2;
+  private FlowEdgeContext flowEdgeContext;
+
+  @BeforeMethod
+  public void setUp() {
+    this.loadTracker = Mockito.mock(SpecExecutorLoadTracker.class);
+    this.selector = new LeastLoadedSpecExecutorSelector(ConfigFactory.empty(), this.loadTracker);
+    this.executor1 = createSpecExecutor("executor1");
+    this.executor2 = createSpecExecutor("executor2");
+    FlowEdge flowEdge = Mockito.mock(FlowEdge.class);
+    Mockito.when(flowEdge.getId()).thenReturn("edge");
+    Mockito.when(flowEdge.getExecutors()).thenReturn(Lists.newArrayList(this.executor1, this.executor2));
+    this.flowEdgeContext = new FlowEdgeContext(flowEdge, null, null, ConfigFactory.empty(), this.executor1);
+  }
+
+  @Test
+  public void testKeepsExecutorWhenEquallyLoaded() {
+    Assert.assertSame(this.selector.select(this.flowEdgeContext), this.executor1);
+
+    setLoad("executor1", 3, 0L);
+    setLoad("executor2", 3, 0L);
+    Assert.assertSame(this.selector.select(this.flowEdgeContext), this.executor1);
+  }
+
+  @Test
+  public void testSelectsExecutorWithFewerRunningJobs() {
+    setLoad("executor1", 5, 0L);
+    setLoad("executor2", 2, 0L);
+    Assert.assertSame(this.selector.select(this.flowEdgeContext), this.executor2);
+  }
+
+  @Test
+  public void testStartLatencyCountsAsLoad() {
+    // an hour long queue outweighs a few more running jobs on the other executor
+    setLoad("executor1", 1, TimeUnit.HOURS.toMillis(1));
+    setLoad("executor2", 5, 0L);
+    Assert.assertEquals(this.selector.getLoad(this.executor1), 61.0);
+    Assert.assertSame(this.selector.select(this.flowEdgeContext), this.executor2);
+  }
+
+  private void setLoad(String specExecutorUri, int numRunningJobs, long startLatencyMillis) {
+    Mockito.when(this.loadTracker.getNumRunningJobs(specExecutorUri)).thenReturn(numRunningJobs);
+    Mockito.when(this.loadTracker.getStartLatencyMillis(Mockito.eq(specExecutorUri), Mockito.anyLong())).thenReturn(startLatencyMillis);
+  }
+
+  private static SpecExecutor createSpecExecutor(String uri) {
+    SpecExecutor specExecutor = Mockito.mock(SpecExecutor.class);
+    Mockito.when(specExecutor.getUri()).thenReturn(URI.create(uri));
+    return specExecutor;
+  }
+}
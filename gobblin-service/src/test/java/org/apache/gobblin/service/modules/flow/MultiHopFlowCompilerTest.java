@@ -55,6 +55,7 @@ import com.typesafe.config.Config;
 import com.typesafe.config.ConfigFactory;
 import com.typesafe.config.ConfigParseOptions;
 import com.typesafe.config.ConfigSyntax;
+import com.typesafe.config.ConfigValueFactory;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -76,6 +77,8 @@ import org.apache.gobblin.service.modules.flowgraph.FlowEdge;
 import org.apache.gobblin.service.modules.flowgraph.FlowEdgeFactory;
 import org.apache.gobblin.service.modules.flowgraph.FlowGraph;
 import org.apache.gobblin.service.modules.flowgraph.FlowGraphConfigurationKeys;
+import org.apache.gobblin.service.modules.flowgraph.pathfinder.DijkstraPathFinder;
+import org.apache.gobblin.service.modules.flowgraph.pathfinder.FlowEdgeCostFunction;
 import org.apache.gobblin.service.modules.orchestration.AzkabanProjectConfig;
 import org.apache.gobblin.service.modules.spec.JobExecutionPlan;
 import org.apache.gobblin.service.modules.template_catalog.FSFlowTemplateCatalog;
@@ -344,6 +347,77 @@ public class MultiHopFlowCompilerTest {
   // jobDag.getNodes().get(4).getValue().getJobSpec().getUri()  are same
   // if the case is valid, then we need to create unique job names by adding a random id when job names are same
   // todo - fix the unit test which i am skipping in this PR because it is a big Dag and seems too complicated
+  @Test
+  public void testCompileFlowWithDijkstraPathFinder() throws URISyntaxException, IOException {
+    FlowSpec spec = createFlowSpec("flow/flow1.conf", "LocalFS-1", "ADLS-1", false, false);
+    List<String> bfsEdgeIds = getEdgeIds(this.specCompiler.compileFlow(spec));
+
+    //With the default, uniform edge costs, the cheapest path is the shortest one, as found by the BFSPathFinder.
+    Config dijkstraConfig = ConfigFactory.empty().withValue(FlowGraphConfigurationKeys.FLOW_GRAPH_PATH_FINDER_CLASS,
+        ConfigValueFactory.fromAnyRef(DijkstraPathFinder.class.getName()));
+    Assert.assertEquals(getEdgeIds(this.specCompiler.compileFlow(withConfig(spec, dijkstraConfig))), bfsEdgeIds);
+    Assert.assertEquals(getEdgeIds(this.specCompiler.compileFlow(withConfig(spec, dijkstraConfig.withValue(
+        FlowGraphConfigurationKeys.FLOW_GRAPH_PATH_FINDER_CONCURRENT_EDGE_EVALUATION_ENABLED,
+        ConfigValueFactory.fromAnyRef(false))))), bfsEdgeIds);
+
+    //Make the encryption on HDFS-1 expensive, for the path to go through HDFS-2 instead.
+    Config penalizingConfig = dijkstraConfig
+        .withValue(FlowGraphConfigurationKeys.FLOW_GRAPH_PATH_FINDER_EDGE_COST_FUNCTION_CLASS,
+            ConfigValueFactory.fromAnyRef(PenalizingFlowEdgeCostFunction.class.getName()))
+        .withValue(PenalizingFlowEdgeCostFunction.PENALIZED_EDGE_IDS_KEY,
+            ConfigValueFactory.fromAnyRef("HDFS-1_HDFS-1_hdfsConvertToJsonAndEncrypt"));
+    List<String> dijkstraEdgeIds = getEdgeIds(this.specCompiler.compileFlow(withConfig(spec, penalizingConfig)));
+    if (bfsEdgeIds == null) {
+      //Other tests may have removed the edges the flow needs
+      Assert.assertNull(dijkstraEdgeIds);
+    } else {
+      Assert.assertEquals(dijkstraEdgeIds.size(), 4);
+      Assert.assertEquals(dijkstraEdgeIds.get(0), "LocalFS-1_HDFS-2_localToHdfs");
+      Assert.assertFalse(dijkstraEdgeIds.contains("HDFS-1_HDFS-1_hdfsConvertToJsonAndEncrypt"));
+    }
+  }
+
+  /**
+   * @return the ids of the edges of the single path making up `jobDag`, in order
+   */
+  private static List<String> getEdgeIds(Dag<JobExecutionPlan> jobDag) {
+    if (jobDag == null) {
+      return null;
+    }
+    List<String> edgeIds = new ArrayList<>();
+    for (DagNode<JobExecutionPlan> node = jobDag.getStartNodes().get(0); node != null;
+        node = jobDag.getChildren(node).isEmpty() ? null : jobDag.getChildren(node).get(0)) {
+      edgeIds.add(node.getValue().getJobSpec().getConfig().getString(FlowGraphConfigurationKeys.FLOW_EDGE_ID_KEY));
+    }
+    return edgeIds;
+  }
+
+  private static FlowSpec withConfig(FlowSpec spec, Config config) {
+    return FlowSpec.builder(spec.getUri())
+        .withConfig(config.withFallback(spec.getConfig()))
+        .withDescription(spec.getDescription())
+        .withVersion(spec.getVersion())
+        .build();
+  }
+
+  /**
+   * A {@link FlowEdgeCostFunction} making the edges listed in the flow config prohibitively expensive.
+   */
+  public static class PenalizingFlowEdgeCostFunction implements FlowEdgeCostFunction {
+    static final String PENALIZED_EDGE_IDS_KEY = "test.penalizedEdgeIds";
+
+    private final List<String> penalizedEdgeIds;
+
+    public PenalizingFlowEdgeCostFunction(Config flowConfig) {
+      this.penalizedEdgeIds = ConfigUtils.getStringList(flowConfig, PENALIZED_EDGE_IDS_KEY);
+    }
+
+    @Override
+    public double getCost(FlowEdgeContext flowEdgeContext) {
+      return this.penalizedEdgeIds.contains(flowEdgeContext.getEdge().getId()) ? 100 : 1;
+    }
+  }
+
   @Test (dependsOnMethods = "testCompileFlow", enabled = false)
   public void testCompileFlowWithRetention() throws URISyntaxException, IOException {
     FlowSpec spec = createFlowSpec("flow/flow1.conf", "LocalFS-1", "ADLS-1", true,
@@ -0,0 +1,169 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.gobblin.service.modules.flowgraph;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.hadoop.fs.Path;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import com.google.common.base.Charsets;
+import com.google.common.base.Optional;
+import com.google.common.io.Files;
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+
+import org.apache.gobblin.configuration.ConfigurationKeys;
+import org.apache.gobblin.runtime.api.TopologySpec;
+import org.apache.gobblin.service.ServiceConfigKeys;
+import org.apache.gobblin.service.modules.flow.MultiHopFlowCompilerTest;
+import org.apache.gobblin.service.modules.flowgraph.datanodes.fs.FileSystemDataNode;
+import org.apache.gobblin.service.modules.flowgraph.datanodes.fs.LocalFSDataNode;
+import org.apache.gobblin.service.modules.template_catalog.FSFlowTemplateCatalog;
+
+
+public class BaseFlowGraphHelperTest {
+  private static final String FLOW_GRAPH_FOLDER_NAME = "gobblin-flowgraph";
+  private static final Path NODE_1_FILE = new Path(FLOW_GRAPH_FOLDER_NAME, "node1/node1.properties");
+  private static final Path NODE_2_FILE = new Path(FLOW_GRAPH_FOLDER_NAME, "node2/node2.properties");
+  private static final Path NODE_3_FILE = new Path(FLOW_GRAPH_FOLDER_NAME, "node3/node3.properties");
+  private static final Path EDGE_1_FILE = new Path(FLOW_GRAPH_FOLDER_NAME, "node1/node2/edge1.properties");
+
+  private Optional<FSFlowTemplateCatalog> flowTemplateCatalog;
+  private Map<URI, TopologySpec> topologySpecMap;
+  private File baseDir;
+  private BaseFlowGraphHelper flowGraphHelper;
+
+  @BeforeClass
+  public void setUp() throws Exception {
+    URI topologyCatalogUri = this.getClass().getClassLoader().getResource("topologyspec_catalog").toURI();
+    this.topologySpecMap = MultiHopFlowCompilerTest.buildTopologySpecMap(topologyCatalogUri);
+
+    Properties properties = new Properties();
+    properties.put(ServiceConfigKeys.TEMPLATE_CATALOGS_FULLY_QUALIFIED_PATH_KEY,
+        this.getClass().getClassLoader().getResource("template_catalog").toURI().toString());
+    Config config = ConfigFactory.parseProperties(properties);
+    Config templateCatalogCfg = config.withValue(ConfigurationKeys.JOB_CONFIG_FILE_GENERAL_PATH_KEY,
+        config.getValue(ServiceConfigKeys.TEMPLATE_CATALOGS_FULLY_QUALIFIED_PATH_KEY));
+    this.flowTemplateCatalog = Optional.of(new FSFlowTemplateCatalog(templateCatalogCfg));
+  }
+
+  @BeforeMethod
+  public void setUpFlowGraph() throws IOException {
+    this.baseDir = Files.createTempDir();
+    writeNodeFile(NODE_1_FILE, "file:///");
+    writeNodeFile(NODE_2_FILE, "file:///");
+    writeEdgeFile(EDGE_1_FILE, "value1");
+    this.flowGraphHelper = new BaseFlowGraphHelper(this.flowTemplateCatalog, this.topologySpecMap,
+        this.baseDir.getAbsolutePath(), FLOW_GRAPH_FOLDER_NAME, "properties", "conf", false, ConfigFactory.empty());
+  }
+
+  @AfterMethod(alwaysRun = true)
+  public void tearDown() throws IOException {
+    FileUtils.deleteDirectory(this.baseDir);
+  }
+
+  @Test
+  public void testUpdateNodeKeepsItsEdges() throws IOException {
+    FlowGraph flowGraph = this.flowGraphHelper.generateFlowGraph();
+    Assert.assertEquals(flowGraph.getEdges("node1").size(), 1);
+
+    // the node no longer equals the previous one, which its edges are keyed by
+    writeNodeFile(NODE_1_FILE, "file:///tmp");
+    FlowGraph newFlowGraph = this.flowGraphHelper.updateFlowGraph(flowGraph, Collections.singletonList(NODE_1_FILE));
+
+    Assert.assertEquals(((FileSystemDataNode) newFlowGraph.getNode("node1")).getFsUri(), "file:///tmp");
+    Set<FlowEdge> edges = newFlowGraph.getEdges("node1");
+    Assert.assertEquals(edges.size(), 1);
+    Assert.assertEquals(edges.iterator().next().getId(), "node1_node2_edge1");
+    Assert.assertEquals(newFlowGraph.getEdges(newFlowGraph.getNode("node1")), edges);
+    // the previous flowgraph is left as is
+    Assert.assertEquals(((FileSystemDataNode) flowGraph.getNode("node1")).getFsUri(), "file:///");
+    Assert.assertEquals(flowGraph.getEdges("node1").size(), 1);
+  }
+
+  @Test
+  public void testUpdateEdge() throws IOException {
+    FlowGraph flowGraph = this.flowGraphHelper.generateFlowGraph();
+
+    writeEdgeFile(EDGE_1_FILE, "value2");
+    FlowGraph newFlowGraph = this.flowGraphHelper.updateFlowGraph(flowGraph,
+        Collections.singletonList(new Path(this.baseDir.getAbsolutePath(), EDGE_1_FILE)));
+
+    Assert.assertEquals(newFlowGraph.getEdges("node1").iterator().next().getConfig().getString("key1"), "value2");
+    Assert.assertEquals(flowGraph.getEdges("node1").iterator().next().getConfig().getString("key1"), "value1");
+  }
+
+  @Test
+  public void testDeleteEdge() throws IOException {
+    FlowGraph flowGraph = this.flowGraphHelper.generateFlowGraph();
+
+    Assert.assertTrue(new File(this.baseDir, EDGE_1_FILE.toString()).delete());
+    FlowGraph newFlowGraph = this.flowGraphHelper.updateFlowGraph(flowGraph, Collections.singletonList(EDGE_1_FILE));
+
+    Assert.assertTrue(newFlowGraph.getEdges("node1").isEmpty());
+    Assert.assertEquals(flowGraph.getEdges("node1").size(), 1);
+  }
+
+  @Test
+  public void testAddNodeReloadsFlowGraph() throws IOException {
+    FlowGraph flowGraph = this.flowGraphHelper.generateFlowGraph();
+
+    writeNodeFile(NODE_3_FILE, "file:///");
+    FlowGraph newFlowGraph = this.flowGraphHelper.updateFlowGraph(flowGraph, Collections.singletonList(NODE_3_FILE));
+
+    Assert.assertNotNull(newFlowGraph.getNode("node3"));
+    Assert.assertEquals(newFlowGraph.getEdges("node1").size(), 1);
+    Assert.assertNull(flowGraph.getNode("node3"));
+  }
+
+  private void writeNodeFile(Path nodeFile, String fsUri) throws IOException {
+    String contents = FlowGraphConfigurationKeys.DATA_NODE_CLASS + "=" + LocalFSDataNode.class.getName() + "\n"
+        + FlowGraphConfigurationKeys.DATA_NODE_IS_ACTIVE_KEY + "=true\n"
+        + FileSystemDataNode.FS_URI_KEY + "=" + fsUri + "\n";
+    writeFile(nodeFile, contents);
+  }
+
+  private void writeEdgeFile(Path edgeFile, String value) throws IOException {
+    String contents = FlowGraphConfigurationKeys.FLOW_EDGE_SOURCE_KEY + "=node1\n"
+        + FlowGraphConfigurationKeys.FLOW_EDGE_DESTINATION_KEY + "=node2\n"
+        + FlowGraphConfigurationKeys.FLOW_EDGE_NAME_KEY + "=edge1\n"
+        + FlowGraphConfigurationKeys.FLOW_EDGE_IS_ACTIVE_KEY + "=true\n"
+        + FlowGraphConfigurationKeys.FLOW_EDGE_TEMPLATE_DIR_URI_KEY + "=FS:///flowEdgeTemplate\n"
+        + FlowGraphConfigurationKeys.FLOW_EDGE_SPEC_EXECUTORS_KEY + "=testExecutor1,testExecutor2\n"
+        + "key1=" + value + "\n";
+    writeFile(edgeFile, contents);
+  }
+
+  private void writeFile(Path file, String contents) throws IOException {
+    File localFile = new File(this.baseDir, file.toString());
+    localFile.getParentFile().mkdirs();
+    Files.write(contents, localFile, Charsets.UTF_8);
+  }
+}
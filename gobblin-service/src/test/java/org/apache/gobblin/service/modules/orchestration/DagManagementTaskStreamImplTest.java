@@ -18,6 +18,7 @@
 package org.apache.gobblin.service.modules.orchestration;
 
 import java.io.IOException;
+import java.util.Arrays;
 
 import org.junit.Assert;
 import org.testng.annotations.AfterClass;
@@ -26,11 +27,13 @@ import org.testng.annotations.Test;
 
 import com.typesafe.config.Config;
 import com.typesafe.config.ConfigFactory;
+import com.typesafe.config.ConfigValueFactory;
 
 import org.apache.gobblin.config.ConfigBuilder;
 import org.apache.gobblin.configuration.ConfigurationKeys;
 import org.apache.gobblin.metastore.testing.ITestMetastoreDatabase;
 import org.apache.gobblin.metastore.testing.TestMetastoreDatabaseFactory;
+import org.apache.gobblin.service.ServiceConfigKeys;
 import org.apache.gobblin.service.modules.orchestration.proc.DagProc;
 import org.apache.gobblin.service.modules.orchestration.task.DagProcessingEngineMetrics;
 import org.apache.gobblin.service.modules.orchestration.task.DagTask;
@@ -38,6 +41,7 @@ import org.apache.gobblin.service.modules.orchestration.task.LaunchDagTask;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.when;
@@ -108,4 +112,77 @@ public class DagManagementTaskStreamImplTest {
     DagProc<?> dagProc = dagTask.host(this.dagProcFactory);
     Assert.assertNotNull(dagProc);
   }
+
+  /* This tests that the dag actions of a flow are queued in the same shard and that leases of the queued dag actions of
+  a shard are acquired in a batch, with the dag tasks of the obtained leases returned in the order their dag actions
+  were added.
+  */
+  @Test
+  public void addShardedDagActionsInBatch()
+      throws IOException {
+    Config config = ConfigFactory.empty()
+        .withValue(ServiceConfigKeys.NUM_DAG_TASK_STREAM_SHARDS_KEY, ConfigValueFactory.fromAnyRef(2))
+        .withValue(ServiceConfigKeys.NUM_DAG_PROC_THREADS_KEY, ConfigValueFactory.fromAnyRef(2))
+        .withValue(ServiceConfigKeys.DAG_TASK_STREAM_LEASE_BATCH_SIZE_KEY, ConfigValueFactory.fromAnyRef(3));
+    DagManagementTaskStreamImpl shardedDagManagementTaskStream =
+        new DagManagementTaskStreamImpl(config, mock(MultiActiveLeaseArbiter.class), mock(DagActionReminderScheduler.class),
+            mock(DagManagementStateStore.class), mock(DagProcessingEngineMetrics.class));
+    Assert.assertEquals(2, shardedDagManagementTaskStream.getNumShards());
+
+    // the first thread calling next() serves the first shard
+    String flowName = "fn";
+    for (int i = 0; shardedDagManagementTaskStream.getShard(new DagActionStore.DagAction("fg", flowName, 1L, "jn",
+        DagActionStore.DagActionType.LAUNCH)) != 0; i++) {
+      flowName = "fn" + i;
+    }
+    DagActionStore.DagAction launchAction1 = new DagActionStore.DagAction("fg", flowName, 1L, "jn", DagActionStore.DagActionType.LAUNCH);
+    DagActionStore.DagAction launchAction2 = new DagActionStore.DagAction("fg", flowName, 2L, "jn", DagActionStore.DagActionType.LAUNCH);
+    DagActionStore.DagAction launchAction3 = new DagActionStore.DagAction("fg", flowName, 3L, "jn", DagActionStore.DagActionType.LAUNCH);
+    Assert.assertEquals(shardedDagManagementTaskStream.getShard(launchAction1), shardedDagManagementTaskStream.getShard(launchAction3));
+
+    shardedDagManagementTaskStream.addDagAction(new DagActionStore.LeaseParams(launchAction1, false, System.currentTimeMillis()));
+    shardedDagManagementTaskStream.addDagAction(new DagActionStore.LeaseParams(launchAction2, false, System.currentTimeMillis()));
+    shardedDagManagementTaskStream.addDagAction(new DagActionStore.LeaseParams(launchAction3, false, System.currentTimeMillis()));
+    Assert.assertEquals(3, shardedDagManagementTaskStream.getLeaseParamsQueues().get(0).size());
+    when(shardedDagManagementTaskStream.getDagActionProcessingLeaseArbiter().tryAcquireLeases(anyList(), anyBoolean()))
+        .thenReturn(Arrays.asList(
+            new LeaseAttemptStatus.LeaseObtainedStatus(new DagActionStore.LeaseParams(launchAction1, false, 1), 0, 5, null),
+            new LeaseAttemptStatus.NoLongerLeasingStatus(),
+            new LeaseAttemptStatus.LeaseObtainedStatus(new DagActionStore.LeaseParams(launchAction3, false, 1), 0, 5, null)));
+
+    Assert.assertEquals(launchAction1, shardedDagManagementTaskStream.next().getDagAction());
+    Assert.assertEquals(launchAction3, shardedDagManagementTaskStream.next().getDagAction());
+    Assert.assertTrue(shardedDagManagementTaskStream.getLeaseParamsQueues().get(0).isEmpty());
+  }
+
+  /* This tests that a thread, once idle, serves another shard whose dag actions have waited too long, as they would if the
+  thread serving that shard had died.
+  */
+  @Test
+  public void serveStarvedShard()
+      throws IOException {
+    Config config = ConfigFactory.empty()
+        .withValue(ServiceConfigKeys.NUM_DAG_TASK_STREAM_SHARDS_KEY, ConfigValueFactory.fromAnyRef(2))
+        .withValue(ServiceConfigKeys.NUM_DAG_PROC_THREADS_KEY, ConfigValueFactory.fromAnyRef(2))
+        .withValue(ServiceConfigKeys.DAG_TASK_STREAM_SHARD_STARVATION_MILLIS_KEY, ConfigValueFactory.fromAnyRef(0));
+    DagManagementTaskStreamImpl shardedDagManagementTaskStream =
+        new DagManagementTaskStreamImpl(config, mock(MultiActiveLeaseArbiter.class), mock(DagActionReminderScheduler.class),
+            mock(DagManagementStateStore.class), mock(DagProcessingEngineMetrics.class));
+
+    // the first thread calling next() serves the first shard, so none serves the second
+    String flowName = "fn";
+    for (int i = 0; shardedDagManagementTaskStream.getShard(new DagActionStore.DagAction("fg", flowName, 1L, "jn",
+        DagActionStore.DagActionType.LAUNCH)) != 1; i++) {
+      flowName = "fn" + i;
+    }
+    DagActionStore.DagAction launchAction = new DagActionStore.DagAction("fg", flowName, 1L, "jn", DagActionStore.DagActionType.LAUNCH);
+    shardedDagManagementTaskStream.addDagAction(new DagActionStore.LeaseParams(launchAction, false, System.currentTimeMillis()));
+    when(shardedDagManagementTaskStream.getDagActionProcessingLeaseArbiter()
+        .tryAcquireLease(any(DagActionStore.LeaseParams.class), anyBoolean()))
+        .thenReturn(new LeaseAttemptStatus.LeaseObtainedStatus(new DagActionStore.LeaseParams(launchAction, false, 1), 0, 5, null));
+
+    Assert.assertEquals(launchAction, shardedDagManagementTaskStream.next().getDagAction());
+    Assert.assertTrue(shardedDagManagementTaskStream.getLeaseParamsQueues().get(1).isEmpty());
+    Assert.assertFalse(shardedDagManagementTaskStream.isStarved(1));
+  }
 }
@@ -18,6 +18,7 @@
 package org.apache.gobblin.service.modules.orchestration;
 
 import java.net.URI;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -137,4 +138,22 @@ public class MysqlDagStateStoreWithDagNodesTest {
     Assert.assertNull(this.dagStateStore.getDag(dagId1));
     Assert.assertNull(this.dagStateStore.getDag(dagId2));
   }
+
+  @Test
+  public void testGetNumRunningDagNodesBySpecExecutor() throws Exception {
+    DagStateStoreWithDagNodes dagStateStoreWithDagNodes = (DagStateStoreWithDagNodes) this.dagStateStore;
+    Dag<JobExecutionPlan> dag = DagTestUtils.buildDag("running", 789L);
+    this.dagStateStore.writeCheckpoint(dag);
+    Assert.assertEquals(dagStateStoreWithDagNodes.getNumRunningDagNodesBySpecExecutor(),
+        Collections.singletonMap("mySpecExecutor", 2));
+
+    Dag.DagNode<JobExecutionPlan> finishedDagNode = dag.getStartNodes().get(0);
+    finishedDagNode.getValue().setExecutionStatus(ExecutionStatus.COMPLETE);
+    dagStateStoreWithDagNodes.updateDagNode(finishedDagNode);
+    Assert.assertEquals(dagStateStoreWithDagNodes.getNumRunningDagNodesBySpecExecutor(),
+        Collections.singletonMap("mySpecExecutor", 1));
+
+    this.dagStateStore.cleanUp(DagUtils.generateDagId(dag));
+    Assert.assertTrue(dagStateStoreWithDagNodes.getNumRunningDagNodesBySpecExecutor().isEmpty());
+  }
 }
\ No newline at end of file
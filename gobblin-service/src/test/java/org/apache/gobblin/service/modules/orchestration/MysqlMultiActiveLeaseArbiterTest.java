@@ -21,6 +21,8 @@ import java.io.IOException;
 import java.net.URISyntaxException;
 import java.sql.SQLException;
 import java.sql.Timestamp;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -509,6 +511,45 @@ public class MysqlMultiActiveLeaseArbiterTest {
         "CASE 3 (distinct event, lease valid) dropped storeInsertTimeMillis");
   }
 
+  /*
+    Tests acquiring the leases of many dag actions in a batch, including the same dag action twice, which follows the
+    same cases as acquiring them one by one.
+  */
+  @Test
+  public void testAcquireLeasesInBatch() throws Exception {
+    DagActionStore.LeaseParams leaseParams1 = getUniqueLaunchLeaseParams();
+    DagActionStore.LeaseParams leaseParams2 = getUniqueLaunchLeaseParams();
+
+    // CASE 1 for both dag actions, after which the repeated dag action was leased within the batch
+    List<LeaseAttemptStatus> statuses =
+        mysqlMultiActiveLeaseArbiter.tryAcquireLeases(Arrays.asList(leaseParams1, leaseParams2, leaseParams1), true);
+    Assert.assertEquals(statuses.size(), 3);
+    Assert.assertTrue(statuses.get(0) instanceof LeaseAttemptStatus.LeaseObtainedStatus);
+    Assert.assertTrue(statuses.get(1) instanceof LeaseAttemptStatus.LeaseObtainedStatus);
+    Assert.assertTrue(statuses.get(2) instanceof LeaseAttemptStatus.LeasedToAnotherStatus);
+    LeaseAttemptStatus.LeaseObtainedStatus obtainedStatus1 = (LeaseAttemptStatus.LeaseObtainedStatus) statuses.get(0);
+    LeaseAttemptStatus.LeaseObtainedStatus obtainedStatus2 = (LeaseAttemptStatus.LeaseObtainedStatus) statuses.get(1);
+    Assert.assertEquals(obtainedStatus1.getConsensusLeaseParams().getDagAction().getFlowExecutionId(),
+        obtainedStatus1.getEventTimeMillis());
+    Assert.assertEquals(obtainedStatus1.getEventTimeMillis(),
+        mysqlMultiActiveLeaseArbiter.getRowInfo(leaseParams1.getDagAction()).getEventTimeMillis());
+
+    // CASE 2: same events, leases are valid
+    statuses = mysqlMultiActiveLeaseArbiter.tryAcquireLeases(Arrays.asList(leaseParams1, leaseParams2), true);
+    Assert.assertTrue(statuses.get(0) instanceof LeaseAttemptStatus.LeasedToAnotherStatus);
+    Assert.assertTrue(statuses.get(1) instanceof LeaseAttemptStatus.LeasedToAnotherStatus);
+    Assert.assertEquals(statuses.get(0).getConsensusLeaseParams().getEventTimeMillis(), obtainedStatus1.getEventTimeMillis());
+
+    // Complete both leases
+    Assert.assertTrue(mysqlMultiActiveLeaseArbiter.recordLeaseSuccess(obtainedStatus1));
+    Assert.assertTrue(mysqlMultiActiveLeaseArbiter.recordLeaseSuccess(obtainedStatus2));
+
+    // CASE 5: same events, no longer leasing
+    statuses = mysqlMultiActiveLeaseArbiter.tryAcquireLeases(Arrays.asList(leaseParams1, leaseParams2), true);
+    Assert.assertTrue(statuses.get(0) instanceof LeaseAttemptStatus.NoLongerLeasingStatus);
+    Assert.assertTrue(statuses.get(1) instanceof LeaseAttemptStatus.NoLongerLeasingStatus);
+  }
+
   /**
    * Marks the lease associated with the dagAction as completed by fabricating a LeaseObtainedStatus
    * @return SelectInfoResult object containing the event information used to complete the lease
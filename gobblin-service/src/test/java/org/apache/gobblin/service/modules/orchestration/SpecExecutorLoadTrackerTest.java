@@ -0,0 +1,41 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.gobblin.service.modules.orchestration;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import com.google.common.collect.ImmutableMap;
+
+
+public class SpecExecutorLoadTrackerTest {
+
+  @Test
+  public void testUpdateRunningJobs() {
+    SpecExecutorLoadTracker loadTracker = new SpecExecutorLoadTracker(false);
+    loadTracker.updateRunningJobs(ImmutableMap.of("executor1", 3, "executor2", 1));
+    Assert.assertEquals(loadTracker.getNumRunningJobs("executor1"), 3);
+    Assert.assertEquals(loadTracker.getNumRunningJobs("executor2"), 1);
+
+    // executors without running jobs are left out of the counts read from the store
+    loadTracker.updateRunningJobs(ImmutableMap.of("executor2", 2));
+    Assert.assertEquals(loadTracker.getNumRunningJobs("executor1"), 0);
+    Assert.assertEquals(loadTracker.getNumRunningJobs("executor2"), 2);
+    Assert.assertEquals(loadTracker.getNumRunningJobs("executor3"), 0);
+  }
+}
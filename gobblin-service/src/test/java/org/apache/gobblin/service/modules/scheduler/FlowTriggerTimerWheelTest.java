@@ -0,0 +1,113 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.gobblin.service.modules.scheduler;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.quartz.CronExpression;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import com.google.common.base.Optional;
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+import com.typesafe.config.ConfigValueFactory;
+
+import org.apache.gobblin.instrumented.Instrumented;
+import org.apache.gobblin.service.ServiceConfigKeys;
+import org.apache.gobblin.util.ConfigUtils;
+
+
+public class FlowTriggerTimerWheelTest {
+  private static final String EVERY_SECOND = "* * * * * ?";
+  private FlowTriggerTimerWheel timerWheel;
+
+  @BeforeMethod
+  public void setUp() {
+    Config config = ConfigFactory.empty()
+        .withValue(ServiceConfigKeys.FLOW_TRIGGER_TIMER_WHEEL_TICK_DURATION_MILLIS_KEY, ConfigValueFactory.fromAnyRef(10))
+        .withValue(ServiceConfigKeys.FLOW_TRIGGER_TIMER_WHEEL_TICKS_PER_WHEEL_KEY, ConfigValueFactory.fromAnyRef(64));
+    this.timerWheel = new FlowTriggerTimerWheel(config,
+        Instrumented.getMetricContext(ConfigUtils.configToState(config), getClass()));
+  }
+
+  @AfterMethod
+  public void tearDown() {
+    this.timerWheel.close();
+  }
+
+  @Test
+  public void testFiresWithIntendedFireTime() throws Exception {
+    CountDownLatch fired = new CountDownLatch(2);
+    List<Long> fireTimesMillis = new CopyOnWriteArrayList<>();
+    Optional<Long> firstFireTimeMillis = this.timerWheel.schedule("flowGroup/flowName", new CronExpression(EVERY_SECOND),
+        fireTimeMillis -> {
+          Assert.assertTrue(System.currentTimeMillis() >= fireTimeMillis);
+          fireTimesMillis.add(fireTimeMillis);
+          fired.countDown();
+        });
+
+    Assert.assertTrue(firstFireTimeMillis.isPresent());
+    Assert.assertTrue(fired.await(5, TimeUnit.SECONDS));
+    Assert.assertEquals(fireTimesMillis.get(0), firstFireTimeMillis.get());
+    Assert.assertEquals(fireTimesMillis.get(0) % 1000, 0);
+    Assert.assertTrue(fireTimesMillis.get(1) > fireTimesMillis.get(0));
+    Assert.assertEquals(this.timerWheel.getNumTriggers(), 1);
+  }
+
+  @Test
+  public void testUnscheduleAndReschedule() throws Exception {
+    CountDownLatch firedForFirstAction = new CountDownLatch(1);
+    CountDownLatch firedForSecondAction = new CountDownLatch(1);
+    this.timerWheel.schedule("flowGroup/flowName", new CronExpression(EVERY_SECOND), fireTimeMillis -> firedForFirstAction.countDown());
+    // rescheduling with the same key replaces the trigger
+    this.timerWheel.schedule("flowGroup/flowName", new CronExpression(EVERY_SECOND), fireTimeMillis -> firedForSecondAction.countDown());
+    Assert.assertEquals(this.timerWheel.getNumTriggers(), 1);
+    Assert.assertTrue(firedForSecondAction.await(5, TimeUnit.SECONDS));
+    Assert.assertEquals(firedForFirstAction.getCount(), 1);
+
+    Assert.assertTrue(this.timerWheel.unschedule("flowGroup/flowName"));
+    Assert.assertFalse(this.timerWheel.unschedule("flowGroup/flowName"));
+    Assert.assertFalse(this.timerWheel.getNextFireTimeMillis("flowGroup/flowName").isPresent());
+    Assert.assertEquals(this.timerWheel.getNumTriggers(), 0);
+  }
+
+  @Test
+  public void testScheduleWithoutFutureFireTime() throws Exception {
+    Optional<Long> fireTimeMillis = this.timerWheel.schedule("flowGroup/flowName",
+        new CronExpression("0 0 0 1 1 ? 2000"), ignored -> Assert.fail("Should not fire"));
+
+    Assert.assertFalse(fireTimeMillis.isPresent());
+    Assert.assertEquals(this.timerWheel.getNumTriggers(), 0);
+  }
+
+  @Test
+  public void testJitterIsStableAndBounded() {
+    Assert.assertEquals(FlowTriggerTimerWheel.getJitterMillis("flowGroup/flowName", 0), 0);
+    for (int i = 0; i < 100; i++) {
+      long jitterMillis = FlowTriggerTimerWheel.getJitterMillis("flowGroup/flowName" + i, 5000);
+      Assert.assertTrue(jitterMillis >= 0 && jitterMillis <= 5000);
+      Assert.assertEquals(FlowTriggerTimerWheel.getJitterMillis("flowGroup/flowName" + i, 5000), jitterMillis);
+    }
+  }
+}
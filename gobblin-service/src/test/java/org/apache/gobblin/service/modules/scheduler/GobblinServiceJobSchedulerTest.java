@@ -22,6 +22,7 @@ import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -43,6 +44,8 @@ import org.testng.annotations.Test;
 
 import com.google.common.base.Optional;
 import com.google.common.base.Predicate;
+import com.google.common.collect.AbstractIterator;
+import com.google.common.collect.ImmutableSet;
 import com.google.common.io.Closer;
 import com.google.common.io.Files;
 import com.typesafe.config.Config;
@@ -321,6 +324,84 @@ public class GobblinServiceJobSchedulerTest {
         }, "Waiting all flowSpecs to be scheduled");
   }
 
+  /**
+   * Test that a failure to load specs halfway is thrown after scheduling the specs loaded before it
+   */
+  @Test
+  public void testJobSchedulerInitWithLoaderFailure() throws Throwable {
+    File specDir = Files.createTempDir();
+
+    Properties properties = new Properties();
+    properties.setProperty(FLOWSPEC_STORE_DIR_KEY, specDir.getAbsolutePath());
+    FlowCatalog flowCatalog = spy(new FlowCatalog(ConfigUtils.propertiesToConfig(properties)));
+    flowCatalog.addListener(mockListener);
+    ServiceBasedAppLauncher serviceLauncher = closer.register(new ServiceBasedAppLauncher(properties, "GaaSJobSchedulerTest"));
+
+    serviceLauncher.addService(flowCatalog);
+    serviceLauncher.start();
+
+    FlowSpec flowSpec0 = FlowCatalogTest.initFlowSpec(specDir.getAbsolutePath(), URI.create("spec0"));
+    FlowSpec flowSpec1 = FlowCatalogTest.initFlowSpec(specDir.getAbsolutePath(), URI.create("spec1"));
+    flowCatalog.put(flowSpec0, true);
+    flowCatalog.put(flowSpec1, true);
+
+    // the loader fails after the first spec
+    doReturn(new AbstractIterator<Spec>() {
+      private boolean isFirst = true;
+
+      @Override
+      protected Spec computeNext() {
+        if (this.isFirst) {
+          this.isFirst = false;
+          return flowSpec0;
+        }
+        throw new RuntimeException("Cannot retrieve specs after spec0");
+      }
+    }).when(flowCatalog).getSpecsIterator(anyInt(), any());
+
+    TestGobblinServiceJobScheduler scheduler =
+        new TestGobblinServiceJobScheduler("testscheduler", ConfigFactory.empty(), flowCatalog,
+            mock(Orchestrator.class), new InMemoryUserQuotaManager(quotaConfig), null);
+    scheduler.isCompilerHealthy = true;
+
+    RuntimeException e = Assert.expectThrows(RuntimeException.class, scheduler::scheduleSpecsFromCatalog);
+    Assert.assertEquals(e.getCause().getMessage(), "Cannot retrieve specs after spec0");
+    Assert.assertEquals(scheduler.scheduledFlowSpecs.keySet(), Collections.singleton("spec0"));
+  }
+
+  /**
+   * Test that the specs neither loaded nor skipped by their schedule are scheduled individually
+   */
+  @Test
+  public void testJobSchedulerInitWithSpecsMissedByLoader() throws Throwable {
+    File specDir = Files.createTempDir();
+
+    Properties properties = new Properties();
+    properties.setProperty(FLOWSPEC_STORE_DIR_KEY, specDir.getAbsolutePath());
+    FlowCatalog flowCatalog = spy(new FlowCatalog(ConfigUtils.propertiesToConfig(properties)));
+    flowCatalog.addListener(mockListener);
+    ServiceBasedAppLauncher serviceLauncher = closer.register(new ServiceBasedAppLauncher(properties, "GaaSJobSchedulerTest"));
+
+    serviceLauncher.addService(flowCatalog);
+    serviceLauncher.start();
+
+    FlowSpec flowSpec0 = FlowCatalogTest.initFlowSpec(specDir.getAbsolutePath(), URI.create("spec0"));
+    FlowSpec flowSpec1 = FlowCatalogTest.initFlowSpec(specDir.getAbsolutePath(), URI.create("spec1"));
+    flowCatalog.put(flowSpec0, true);
+    flowCatalog.put(flowSpec1, true);
+
+    // as if spec1 moved behind the loader while loading
+    doReturn(Collections.<Spec>singletonList(flowSpec0).iterator()).when(flowCatalog).getSpecsIterator(anyInt(), any());
+
+    TestGobblinServiceJobScheduler scheduler =
+        new TestGobblinServiceJobScheduler("testscheduler", ConfigFactory.empty(), flowCatalog,
+            mock(Orchestrator.class), new InMemoryUserQuotaManager(quotaConfig), null);
+    scheduler.isCompilerHealthy = true;
+
+    scheduler.scheduleSpecsFromCatalog();
+    Assert.assertEquals(scheduler.scheduledFlowSpecs.keySet(), ImmutableSet.of("spec0", "spec1"));
+  }
+
   /**
    * Test that flowSpecs that throw compilation errors do not block the scheduling of other flowSpecs
    */
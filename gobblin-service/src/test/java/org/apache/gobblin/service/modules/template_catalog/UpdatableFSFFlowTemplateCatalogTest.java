@@ -20,6 +20,7 @@ package org.apache.gobblin.service.modules.template_catalog;
 import java.io.File;
 import java.net.URI;
 import java.nio.file.Path;
+import java.util.Collections;
 import java.util.List;
 import java.util.Properties;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
@@ -82,4 +83,35 @@ public class UpdatableFSFFlowTemplateCatalogTest {
     Assert.assertEquals(catalog.getFlowTemplate(new URI(FSFlowTemplateCatalogTest.TEST_TEMPLATE_DIR_URI)).
             getRawTemplateConfig().getString("gobblin.flow.edge.input.dataset.descriptor.0.format"), "any");
   }
-}
\ No newline at end of file
+
+  @Test
+  public void testReuseUnchangedFlowTemplate() throws Exception {
+    UpdatableFSFlowTemplateCatalog catalog = new UpdatableFSFlowTemplateCatalog(this.templateCatalogCfg, new ReentrantReadWriteLock());
+    URI templateUri = new URI(FSFlowTemplateCatalogTest.TEST_TEMPLATE_DIR_URI);
+    FlowTemplate flowTemplate = catalog.getFlowTemplate(templateUri);
+    long checksum = catalog.getTemplateChecksum(templateUri, Collections.emptyList());
+
+    // Templates whose files did not change are not loaded again once cleared
+    catalog.clearTemplates();
+    Assert.assertSame(catalog.getFlowTemplate(templateUri), flowTemplate);
+
+    // Adding a job file changes the checksum
+    File jobsDir = new File(new File(this.templateDir, FSFlowTemplateCatalogTest.TEST_TEMPLATE_NAME), FSFlowTemplateCatalog.JOBS_DIR_NAME);
+    File jobFile = new File(jobsDir, "job1.job");
+    File newJobFile = new File(jobsDir, "job5.job");
+    FileUtils.copyFile(jobFile, newJobFile);
+    Assert.assertNotEquals(catalog.getTemplateChecksum(templateUri, Collections.emptyList()), checksum);
+    newJobFile.delete();
+    Assert.assertEquals(catalog.getTemplateChecksum(templateUri, Collections.emptyList()), checksum);
+
+    // Changing a job file loads the template again
+    String jobFileContents = FileUtils.readFileToString(jobFile);
+    FileUtils.writeStringToFile(jobFile, jobFileContents + "\n# changed\n");
+    try {
+      catalog.clearTemplates();
+      Assert.assertNotSame(catalog.getFlowTemplate(templateUri), flowTemplate);
+    } finally {
+      FileUtils.writeStringToFile(jobFile, jobFileContents);
+    }
+  }
+}
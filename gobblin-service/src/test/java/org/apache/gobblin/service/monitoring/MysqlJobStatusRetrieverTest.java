@@ -28,6 +28,9 @@ import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
 
 import com.google.common.base.Strings;
+import com.google.common.collect.Iterators;
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigValueFactory;
 
 import org.apache.gobblin.config.ConfigBuilder;
 import org.apache.gobblin.configuration.ConfigurationKeys;
@@ -48,6 +51,7 @@ public class MysqlJobStatusRetrieverTest extends JobStatusRetrieverTest {
   private static final String TEST_USER = "testUser";
   private static final String TEST_PASSWORD = "testPassword";
   private ITestMetastoreDatabase testMetastoreDatabase;
+  private Config config;
 
   @BeforeClass
   @Override
@@ -60,8 +64,9 @@ public class MysqlJobStatusRetrieverTest extends JobStatusRetrieverTest {
     configBuilder.addPrimitive(MysqlJobStatusRetriever.MYSQL_JOB_STATUS_RETRIEVER_PREFIX + "." + ConfigurationKeys.STATE_STORE_DB_USER_KEY, TEST_USER);
     configBuilder.addPrimitive(MysqlJobStatusRetriever.MYSQL_JOB_STATUS_RETRIEVER_PREFIX + "." + ConfigurationKeys.STATE_STORE_DB_PASSWORD_KEY, TEST_PASSWORD);
 
+    this.config = configBuilder.build();
     this.jobStatusRetriever =
-        new MysqlJobStatusRetriever(configBuilder.build(), mock(MultiContextIssueRepository.class));
+        new MysqlJobStatusRetriever(this.config, mock(MultiContextIssueRepository.class));
     this.dbJobStateStore = ((MysqlJobStatusRetriever) this.jobStatusRetriever).getStateStore();
     cleanUpDir();
   }
@@ -124,6 +129,34 @@ public class MysqlJobStatusRetrieverTest extends JobStatusRetrieverTest {
         jobStatusRetriever.getFlowStatusFromJobStatuses(jobStatusRetriever.getJobStatusesForFlowExecution(FLOW_NAME, FLOW_GROUP, flowExecutionId)));
   }
 
+  @Test (dependsOnMethods = "testGetFlowStatusFromJobStatuses")
+  public void testFlowExecutionCache() throws Exception {
+    MysqlJobStatusRetriever cachingJobStatusRetriever = new MysqlJobStatusRetriever(this.config.withValue(
+        MysqlJobStatusRetriever.MYSQL_JOB_STATUS_RETRIEVER_PREFIX + "." + MysqlJobStatusRetriever.FLOW_EXECUTION_CACHE_ENABLED_KEY,
+        ConfigValueFactory.fromAnyRef(true)), mock(MultiContextIssueRepository.class));
+    // later than the other executions of the flow, to be its latest
+    long flowExecutionId = 2000L;
+
+    addJobStatusToStateStore(flowExecutionId, JobStatusRetriever.NA_KEY, ExecutionStatus.COMPILED.name());
+    Assert.assertEquals(Iterators.size(cachingJobStatusRetriever.getJobStatusesForFlowExecution(FLOW_NAME, FLOW_GROUP, flowExecutionId)), 1);
+    Assert.assertEquals(getLatestFlowStatus(cachingJobStatusRetriever).getFlowExecutionId(), flowExecutionId);
+
+    // the job statuses of the flow execution stay cached until invalidated
+    addJobStatusToStateStore(flowExecutionId, MY_JOB_NAME_1, ExecutionStatus.ORCHESTRATED.name(), JOB_ORCHESTRATED_TIME, JOB_ORCHESTRATED_TIME);
+    Assert.assertEquals(Iterators.size(cachingJobStatusRetriever.getJobStatusesForFlowExecution(FLOW_NAME, FLOW_GROUP, flowExecutionId)), 1);
+    Assert.assertEquals(Iterators.size(this.jobStatusRetriever.getJobStatusesForFlowExecution(FLOW_NAME, FLOW_GROUP, flowExecutionId)), 2);
+
+    cachingJobStatusRetriever.invalidateFlowExecution(KafkaJobStatusMonitor.jobStatusStoreName(FLOW_GROUP, FLOW_NAME),
+        KafkaJobStatusMonitor.jobStatusTableName(flowExecutionId, JobStatusRetriever.NA_KEY, JobStatusRetriever.NA_KEY));
+    Assert.assertEquals(Iterators.size(cachingJobStatusRetriever.getJobStatusesForFlowExecution(FLOW_NAME, FLOW_GROUP, flowExecutionId)), 2);
+    Assert.assertEquals(Iterators.size(getLatestFlowStatus(cachingJobStatusRetriever).getJobStatusIterator()), 2);
+  }
+
+  private FlowStatus getLatestFlowStatus(JobStatusRetriever jobStatusRetriever) {
+    return jobStatusRetriever.getFlowStatusesForFlowGroupExecutions(FLOW_GROUP, 1).stream()
+        .filter(flowStatus -> flowStatus.getFlowName().equals(FLOW_NAME)).findFirst().get();
+  }
+
   @Test
   public void testMaxColumnName() throws Exception {
     Properties properties = new Properties();
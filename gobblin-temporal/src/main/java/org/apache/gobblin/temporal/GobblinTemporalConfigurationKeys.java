@@ -113,6 +113,23 @@ public interface GobblinTemporalConfigurationKeys {
   String TEMPORAL_WORKUNITS_PER_CONTAINER = PREFIX + "workunits.per.container";
   int DEFAULT_MAX_WORKUNITS_PER_CONTAINER = 2000;
 
+  // Bounds on the `JobState`s cached by each worker, which are weighed by their serialized size
+  String JOB_STATE_CACHE_PREFIX = PREFIX + "jobState.cache.";
+  String JOB_STATE_CACHE_MAX_WEIGHT_BYTES = JOB_STATE_CACHE_PREFIX + "max.weight.bytes";
+  long DEFAULT_JOB_STATE_CACHE_MAX_WEIGHT_BYTES = 256 * 1024 * 1024L; // 256MB
+  String JOB_STATE_CACHE_EXPIRE_AFTER_ACCESS_MINUTES = JOB_STATE_CACHE_PREFIX + "expire.after.access.minutes";
+  int DEFAULT_JOB_STATE_CACHE_EXPIRE_AFTER_ACCESS_MINUTES = 60;
+
+  // Batching of (small) work units, so each `ProcessWorkUnit` activity processes several, per their size
+  String WORK_UNIT_BATCHING_PREFIX = PREFIX + "workunit.batching.";
+  String WORK_UNIT_BATCHING_ENABLED = WORK_UNIT_BATCHING_PREFIX + "enabled";
+  boolean DEFAULT_WORK_UNIT_BATCHING_ENABLED = false;
+  String WORK_UNIT_BATCHING_MAX_BATCH_SIZE = WORK_UNIT_BATCHING_PREFIX + "max.batch.size";
+  int DEFAULT_WORK_UNIT_BATCHING_MAX_BATCH_SIZE = 100;
+  // minutes of processing (per `TEMPORAL_WORKER_THREAD_AMORTIZED_THROUGHPUT_PER_MINUTE`) each batch should amount to
+  String WORK_UNIT_BATCHING_TARGET_ACTIVITY_MINUTES = WORK_UNIT_BATCHING_PREFIX + "target.activity.minutes";
+  int DEFAULT_WORK_UNIT_BATCHING_TARGET_ACTIVITY_MINUTES = 5;
+
   String TEMPORAL_CONNECTION_STRING = PREFIX + "connection.string";
 
   /**
@@ -126,6 +143,18 @@ public interface GobblinTemporalConfigurationKeys {
   String DYNAMIC_SCALING_POLLING_INTERVAL_SECS = DYNAMIC_SCALING_PREFIX + "polling.interval.seconds";
   int DEFAULT_DYNAMIC_SCALING_POLLING_INTERVAL_SECS = 60;
 
+  // Recommend scaling per the throughput observed processing the work units of prior executions from the same source
+  String DYNAMIC_SCALING_THROUGHPUT_MODEL_PREFIX = DYNAMIC_SCALING_PREFIX + "throughputModel.";
+  String DYNAMIC_SCALING_THROUGHPUT_MODEL_ENABLED = DYNAMIC_SCALING_THROUGHPUT_MODEL_PREFIX + "enabled";
+  boolean DEFAULT_DYNAMIC_SCALING_THROUGHPUT_MODEL_ENABLED = false;
+  // dir (on the job's `FileSystem`) for the observations of each source
+  String DYNAMIC_SCALING_THROUGHPUT_MODEL_STORE_DIR = DYNAMIC_SCALING_THROUGHPUT_MODEL_PREFIX + "store.dir";
+  String DYNAMIC_SCALING_THROUGHPUT_MODEL_MAX_OBSERVATIONS = DYNAMIC_SCALING_THROUGHPUT_MODEL_PREFIX + "max.observations";
+  int DEFAULT_DYNAMIC_SCALING_THROUGHPUT_MODEL_MAX_OBSERVATIONS = 20;
+  // number of observations at which the model would weigh equally with the linear heuristic, were its fit perfect
+  String DYNAMIC_SCALING_THROUGHPUT_MODEL_PRIOR_WEIGHT = DYNAMIC_SCALING_THROUGHPUT_MODEL_PREFIX + "prior.weight";
+  int DEFAULT_DYNAMIC_SCALING_THROUGHPUT_MODEL_PRIOR_WEIGHT = 3;
+
   /**
    * Temporal metrics config properties
    */
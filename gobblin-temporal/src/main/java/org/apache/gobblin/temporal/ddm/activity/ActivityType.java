@@ -82,7 +82,7 @@ public enum ActivityType {
         .build();
   }
 
-  private Duration getStartToCloseTimeout(Properties props) {
+  public Duration getStartToCloseTimeout(Properties props) {
     return Duration.ofMinutes(PropertiesUtils.getPropAsInt(props, this.startToCloseTimeoutConfigKey,
         GobblinTemporalConfigurationKeys.DEFAULT_TEMPORAL_ACTIVITY_STARTTOCLOSE_TIMEOUT_MINUTES));
   }
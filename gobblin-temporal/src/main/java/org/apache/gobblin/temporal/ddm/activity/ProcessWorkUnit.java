@@ -17,6 +17,8 @@
 
 package org.apache.gobblin.temporal.ddm.activity;
 
+import java.util.List;
+
 import io.temporal.activity.ActivityInterface;
 import io.temporal.activity.ActivityMethod;
 import org.apache.gobblin.temporal.ddm.work.WorkUnitClaimCheck;
@@ -28,4 +30,8 @@ public interface ProcessWorkUnit {
   @ActivityMethod
   // CAUTION: void return type won't work, as apparently it mayn't be the return type for `io.temporal.workflow.Functions.Func1`!
   int processWorkUnit(WorkUnitClaimCheck wu);
+
+  /** process a batch of (presumably small) `wus` in sequence, within a single activity, to amortize per-activity overhead */
+  @ActivityMethod
+  int processWorkUnits(List<WorkUnitClaimCheck> wus);
 }
@@ -24,6 +24,7 @@ import io.temporal.activity.ActivityInterface;
 import io.temporal.activity.ActivityMethod;
 
 import org.apache.gobblin.source.workunit.WorkUnit;
+import org.apache.gobblin.temporal.ddm.work.CommitStats;
 import org.apache.gobblin.temporal.ddm.work.TimeBudget;
 import org.apache.gobblin.temporal.ddm.work.WorkUnitsSizeSummary;
 import org.apache.gobblin.temporal.dynamic.ScalingDirective;
@@ -53,4 +54,19 @@ public interface RecommendScalingForWorkUnits {
    */
   @ActivityMethod
   List<ScalingDirective> recommendScaling(WorkUnitsSizeSummary remainingWork, String sourceClass, TimeBudget timeBudget, Properties jobProps);
+
+  /**
+   * Record the outcome of processing the {@link WorkUnit}s of {@link WorkUnitsSizeSummary}, for impls that learn from prior executions
+   * to inform later recommendations.
+   *
+   * @param processedWork the `WorkUnit`s processed, as previously given to {@link #recommendScaling}
+   * @param sourceClass contextualizes the `WorkUnitsSizeSummary` and should name a {@link org.apache.gobblin.source.Source}
+   * @param numContainers the number of containers actually requested for processing
+   * @param processingDurationMillis how long processing took, excluding commit
+   * @param commitStats the stats of the commit following processing
+   * @param jobProps all job props
+   */
+  @ActivityMethod
+  void recordProcessing(WorkUnitsSizeSummary processedWork, String sourceClass, int numContainers, long processingDurationMillis,
+      CommitStats commitStats, Properties jobProps);
 }
@@ -28,6 +28,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.gobblin.runtime.JobState;
 import org.apache.gobblin.temporal.GobblinTemporalConfigurationKeys;
 import org.apache.gobblin.temporal.ddm.activity.RecommendScalingForWorkUnits;
+import org.apache.gobblin.temporal.ddm.work.CommitStats;
 import org.apache.gobblin.temporal.ddm.work.TimeBudget;
 import org.apache.gobblin.temporal.ddm.work.WorkUnitsSizeSummary;
 import org.apache.gobblin.temporal.dynamic.ProfileDerivation;
@@ -62,6 +63,13 @@ public abstract class AbstractRecommendScalingForWorkUnitsImpl implements Recomm
     return Arrays.asList(procWUsWorkerScaling);
   }
 
+  /** No-op, since recommending per {@link #calcDerivationSetPoint} draws on no prior executions: override when learning from them */
+  @Override
+  public void recordProcessing(WorkUnitsSizeSummary processedWork, String sourceClass, int numContainers, long processingDurationMillis,
+      CommitStats commitStats, Properties jobProps) {
+    log.debug("Not recording processing of {} WUs from '{}'", processedWork.getConstituentWorkUnitsCount(), sourceClass);
+  }
+
   protected abstract int calcDerivationSetPoint(WorkUnitsSizeSummary remainingWork, String sourceClass, TimeBudget timeBudget, JobState jobState);
 
   protected ProfileDerivation calcProfileDerivation(String basisProfileName, WorkUnitsSizeSummary remainingWork, String sourceClass, JobState jobState) {
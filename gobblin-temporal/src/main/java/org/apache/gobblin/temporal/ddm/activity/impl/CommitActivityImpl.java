@@ -23,13 +23,13 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 import javax.annotation.Nullable;
 
@@ -39,9 +39,9 @@ import org.apache.hadoop.fs.Path;
 import lombok.extern.slf4j.Slf4j;
 
 import com.google.api.client.util.Lists;
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Function;
 import com.google.common.base.Strings;
-import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Iterables;
 import com.google.common.io.Closer;
 
@@ -102,6 +102,7 @@ public class CommitActivityImpl implements CommitActivity {
     int numDeserializationThreads = DEFAULT_NUM_DESERIALIZATION_THREADS;
     Optional<String> optJobName = Optional.empty();
     AutomaticTroubleshooter troubleshooter = null;
+    long commitStartTime = System.currentTimeMillis();
     try (FileSystem fs = Help.loadFileSystem(workSpec)) {
       JobState jobState = Help.loadJobState(workSpec, fs);
 
@@ -113,15 +114,12 @@ public class CommitActivityImpl implements CommitActivity {
       SharedResourcesBroker<GobblinScopeTypes> instanceBroker = JobStateUtils.getSharedResourcesBroker(jobState);
       troubleshooter = AutomaticTroubleshooterFactory.createForJob(jobState.getProperties());
       troubleshooter.start();
-      List<TaskState> taskStates = loadTaskStates(workSpec, fs, jobState, numDeserializationThreads);
-      if (taskStates.isEmpty()) {
+      Map<String, JobState.DatasetState> datasetStatesByUrns = loadDatasetStatesByUrns(workSpec, fs, jobState, numDeserializationThreads);
+      if (datasetStatesByUrns.isEmpty()) {
         return CommitStats.createEmpty();
       }
 
       JobContext jobContext = new JobContext(jobState.getProperties(), log, instanceBroker, troubleshooter.getIssueRepository());
-      Map<String, JobState.DatasetState> datasetStatesByUrns = jobState.calculateDatasetStatesByUrns(ImmutableList.copyOf(taskStates), Lists.newArrayList());
-      TaskState firstTaskState = taskStates.get(0);
-      log.info("TaskState (commit) [{}] (**first of {}**): {}", firstTaskState.getTaskId(), taskStates.size(), firstTaskState.toJsonString(true));
       Optional<FailedDatasetUrnsException> optFailure = Optional.empty();
       try {
         commitTaskStates(jobState, datasetStatesByUrns, jobContext);
@@ -162,6 +160,8 @@ public class CommitActivityImpl implements CommitActivity {
           datasetTaskSummaries.values().stream().mapToInt(DatasetStats::getNumCommittedWorkunits).sum(),
           datasetTaskSummaries.values().stream().mapToLong(DatasetStats::getRecordsWritten).sum(),
           datasetTaskSummaries.values().stream().mapToLong(DatasetStats::getBytesWritten).sum(),
+          sumTaskDurationMillis(datasetStatesByUrns),
+          System.currentTimeMillis() - commitStartTime,
           optFailure
       );
     } catch (Exception e) {
@@ -239,27 +239,39 @@ public class CommitActivityImpl implements CommitActivity {
     }
   }
 
-  /** @return {@link TaskState}s loaded from the {@link StateStore<TaskState>} indicated by the {@link WUProcessingSpec} and {@link FileSystem} */
-  private List<TaskState> loadTaskStates(WUProcessingSpec workSpec, FileSystem fs, JobState jobState, int numThreads) throws IOException {
-    // TODO - decide whether to replace this method by adapting TaskStateCollectorService::collectOutputTaskStates (whence much of this code was drawn)
+  /**
+   * @return {@link JobState.DatasetState}s by dataset urn, of the {@link TaskState}s loaded from the {@link StateStore<TaskState>}
+   * indicated by the {@link WUProcessingSpec} and {@link FileSystem}, each folded into its {@link JobState.DatasetState}
+   * as soon as it is deserialized, rather than first collecting all of them
+   */
+  private Map<String, JobState.DatasetState> loadDatasetStatesByUrns(WUProcessingSpec workSpec, FileSystem fs, JobState jobState,
+      int numThreads) throws IOException {
     StateStore<TaskState> taskStateStore = Help.openTaskStateStore(workSpec, fs);
     // NOTE: TaskState dir is assumed to be a sibling to the workunits dir (following conventions of `MRJobLauncher`)
     String jobIdPathName = new Path(workSpec.getWorkUnitsDir()).getParent().getName();
     log.info("TaskStateStore path (name component): '{}' (fs: '{}')", jobIdPathName, fs.getUri());
-    Optional<Queue<TaskState>> taskStateQueueOpt = TaskStateCollectorService.deserializeTaskStatesFromFolder(taskStateStore, jobIdPathName, numThreads);
-    return taskStateQueueOpt.map(taskStateQueue ->
-        taskStateQueue.stream().peek(taskState ->
-                // CRITICAL: although some `WorkUnit`s, like those created by `CopySource::FileSetWorkUnitGenerator` for each `CopyEntity`
-                // already themselves contain every prop of their `JobState`, not all do.
-                // `TaskState extends WorkUnit` serialization will include its constituent `WorkUnit`, but not the constituent `JobState`.
-                // given some `JobState` props may be essential for commit/publish, deserialization must re-associate each `TaskState` w/ `JobState`
-                taskState.setJobState(jobState)
-            // TODO - decide whether something akin necessary to streamline cumulative in-memory size of all issues: consumeTaskIssues(taskState);
-        ).collect(Collectors.toList())
-    ).orElseGet(() -> {
-      log.error("TaskStateStore successfully opened, but no task states found under (name) '{}'", jobIdPathName);
-      return Lists.newArrayList();
+    Map<String, JobState.DatasetState> datasetStatesByUrns = new HashMap<>();
+    AtomicBoolean isFirstTaskState = new AtomicBoolean(true);
+    Optional<Long> numTaskStatesOpt = TaskStateCollectorService.collectTaskStatesFromFolder(taskStateStore, jobIdPathName, numThreads, taskState -> {
+      // CRITICAL: although some `WorkUnit`s, like those created by `CopySource::FileSetWorkUnitGenerator` for each `CopyEntity`
+      // already themselves contain every prop of their `JobState`, not all do.
+      // `TaskState extends WorkUnit` serialization will include its constituent `WorkUnit`, but not the constituent `JobState`.
+      // given some `JobState` props may be essential for commit/publish, deserialization must re-associate each `TaskState` w/ `JobState`
+      taskState.setJobState(jobState);
+      // TODO - decide whether something akin necessary to streamline cumulative in-memory size of all issues: consumeTaskIssues(taskState);
+      if (isFirstTaskState.compareAndSet(true, false)) {
+        log.info("TaskState (commit) [{}] (**first**): {}", taskState.getTaskId(), taskState.toJsonString(true));
+      }
+      synchronized (datasetStatesByUrns) {
+        jobState.addTaskStateToDatasetStates(datasetStatesByUrns, taskState);
+      }
     });
+    if (!numTaskStatesOpt.isPresent()) {
+      log.error("TaskStateStore successfully opened, but no task states found under (name) '{}'", jobIdPathName);
+    } else {
+      log.info("Loaded {} task states of {} datasets for commit", numTaskStatesOpt.get(), datasetStatesByUrns.size());
+    }
+    return datasetStatesByUrns;
   }
 
   private Map<String, DatasetStats> summarizeDatasetOutcomes(Map<String, JobState.DatasetState> datasetStatesByUrns, JobContext jobContext, boolean shouldIncludeFailedTasks) {
@@ -295,6 +307,15 @@ public class CommitActivityImpl implements CommitActivity {
     return datasetTaskStats;
   }
 
+  /** @return the summed durations of every task, whether or not committed, since each occupied a worker thread while it ran */
+  @VisibleForTesting
+  static long sumTaskDurationMillis(Map<String, JobState.DatasetState> datasetStatesByUrns) {
+    return datasetStatesByUrns.values().stream()
+        .flatMap(datasetState -> datasetState.getTaskStates().stream())
+        .mapToLong(TaskState::getTaskDuration)
+        .sum();
+  }
+
   /** @return id/correlator for this particular commit activity */
   private static String calcCommitId(WUProcessingSpec workSpec) {
     return new Path(workSpec.getWorkUnitsDir()).getParent().getName();
@@ -111,6 +111,17 @@ public class ProcessWorkUnitImpl implements ProcessWorkUnit {
     }
   }
 
+  @Override
+  public int processWorkUnits(List<WorkUnitClaimCheck> wus) {
+    log.info("processing batch of {} (M)WUs: {}", wus.size(),
+        wus.stream().map(WorkUnitClaimCheck::getCorrelator).collect(Collectors.toList()));
+    int numTasks = 0;
+    for (WorkUnitClaimCheck wu : wus) {
+      numTasks += processWorkUnit(wu);
+    }
+    return numTasks;
+  }
+
   protected List<WorkUnit> loadFlattenedWorkUnits(WorkUnitClaimCheck wu, FileSystem fs) throws IOException {
     Path wuPath = new Path(wu.getWorkUnitPath());
     WorkUnit workUnit = JobLauncherUtils.createEmptyWorkUnitPerExtension(wuPath);
@@ -0,0 +1,214 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.gobblin.temporal.ddm.activity.impl;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Properties;
+
+import com.google.common.annotations.VisibleForTesting;
+
+import lombok.Data;
+import lombok.extern.slf4j.Slf4j;
+
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+
+import org.apache.gobblin.runtime.JobState;
+import org.apache.gobblin.temporal.GobblinTemporalConfigurationKeys;
+import org.apache.gobblin.temporal.ddm.util.JobStateUtils;
+import org.apache.gobblin.temporal.ddm.util.ThroughputObservationStore;
+import org.apache.gobblin.temporal.ddm.work.CommitStats;
+import org.apache.gobblin.temporal.ddm.work.TimeBudget;
+import org.apache.gobblin.temporal.ddm.work.WorkUnitsSizeSummary;
+import org.apache.gobblin.temporal.ddm.work.WorkUnitsThroughputObservation;
+
+
+/**
+ * Recommendation learned from the throughput observed processing the work units of prior executions from the same source, per:
+ *
+ *   a. fit the busy thread-seconds of each prior execution as `secsPerByte * totalSize + secsPerWorkUnit * constituentWorkUnitsCount`,
+ *      to learn the source's throughput and its per-work-unit overhead
+ * 1. estimate the thread-seconds to process the remaining work with that {@link ThroughputModel}
+ * 2. as no container count finishes sooner than the largest top-level work unit, stretch the {@link TimeBudget} to at least that
+ * 3. estimate container count to process within that budget, no more than there are top-level work units to occupy
+ * 4. blend with the {@link RecommendScalingForWorkUnitsLinearHeuristicImpl} recommendation, per the model's confidence, which grows
+ *    with the number of observations and shrinks with the error of the fit
+ *
+ * Observations are persisted per GobblinTemporalConfigurationKeys.DYNAMIC_SCALING_THROUGHPUT_MODEL_STORE_DIR, upon each
+ * {@link #recordProcessing}.  Absent any, the linear heuristic recommendation is used as-is.
+ */
+@Slf4j
+public class RecommendScalingForWorkUnitsThroughputModelImpl extends RecommendScalingForWorkUnitsLinearHeuristicImpl {
+
+  /** Learned throughput of a source, with the confidence, in [0, 1), to place in it */
+  @Data
+  public static class ThroughputModel {
+    private final double secsPerByte;
+    private final double secsPerWorkUnit;
+    private final double confidence;
+
+    public double estimateThreadSeconds(double totalSize, double numWorkUnits) {
+      return this.secsPerByte * totalSize + this.secsPerWorkUnit * numWorkUnits;
+    }
+  }
+
+  @Override
+  protected int calcDerivationSetPoint(WorkUnitsSizeSummary remainingWork, String sourceClass, TimeBudget jobTimeBudget, JobState jobState) {
+    int heuristicSetPoint = super.calcDerivationSetPoint(remainingWork, sourceClass, jobTimeBudget, jobState);
+    if (!jobState.getPropAsBoolean(GobblinTemporalConfigurationKeys.DYNAMIC_SCALING_ENABLED, false)
+        || remainingWork.getTopLevelWorkUnitsCount() == 0) {
+      return heuristicSetPoint;
+    }
+
+    Optional<ThroughputModel> optModel = fitModel(loadObservations(sourceClass, jobState),
+        jobState.getPropAsInt(GobblinTemporalConfigurationKeys.DYNAMIC_SCALING_THROUGHPUT_MODEL_PRIOR_WEIGHT,
+            GobblinTemporalConfigurationKeys.DEFAULT_DYNAMIC_SCALING_THROUGHPUT_MODEL_PRIOR_WEIGHT));
+    if (!optModel.isPresent()) {
+      log.info("No throughput observations for '{}', so recommending per linear heuristic: {} containers", sourceClass, heuristicSetPoint);
+      return heuristicSetPoint;
+    }
+    ThroughputModel model = optModel.get();
+    int modelSetPoint = calcModelSetPoint(model, remainingWork, jobTimeBudget, calcPerContainerWUCapacity(jobState));
+    int recommendedNumContainers = Math.max(
+        (int) Math.round(model.getConfidence() * modelSetPoint + (1 - model.getConfidence()) * heuristicSetPoint),
+        (int) Math.ceil(remainingWork.getConstituentWorkUnitsCount() * 1.0 / calcMaxWUPerContainer(jobState)));
+    log.info("Recommended auto-scaling: {} containers, blending throughput model ({}): {} containers with linear heuristic: {} containers",
+        recommendedNumContainers, model, modelSetPoint, heuristicSetPoint);
+    return recommendedNumContainers;
+  }
+
+  @Override
+  public void recordProcessing(WorkUnitsSizeSummary processedWork, String sourceClass, int numContainers, long processingDurationMillis,
+      CommitStats commitStats, Properties jobProps) {
+    JobState jobState = new JobState(jobProps);
+    WorkUnitsThroughputObservation observation = new WorkUnitsThroughputObservation(System.currentTimeMillis(),
+        processedWork.getTotalSize(), processedWork.getTopLevelWorkUnitsCount(), processedWork.getConstituentWorkUnitsCount(),
+        numContainers * calcPerContainerWUCapacity(jobState), processingDurationMillis, commitStats.getBytesWritten(),
+        commitStats.getTaskDurationMillis());
+    if (commitStats.getOptFailure().isPresent() || observation.calcBusyThreadSeconds() <= 0) {
+      log.info("Not recording throughput of '{}' from failed or empty processing: {}", sourceClass, observation);
+      return;
+    }
+    Optional<Path> optStoreDir = getStoreDir(jobState);
+    if (!optStoreDir.isPresent()) {
+      return;
+    }
+    try (FileSystem fs = JobStateUtils.openFileSystem(jobState)) {
+      createStore(fs, optStoreDir.get(), jobState).record(sourceClass, observation);
+    } catch (IOException ioe) {
+      // only a lost opportunity to improve later recommendations
+      log.warn("Failed to record throughput observation for '" + sourceClass + "'", ioe);
+    }
+  }
+
+  /** @return the model fit to `observations`, if any, with `priorWeight` observations needed to put as much confidence in it as not */
+  @VisibleForTesting
+  static Optional<ThroughputModel> fitModel(List<WorkUnitsThroughputObservation> observations, int priorWeight) {
+    if (observations.isEmpty()) {
+      return Optional.empty();
+    }
+    // least-squares fit, without intercept, of: busyThreadSecs = secsPerByte * totalSize + secsPerWorkUnit * numWorkUnits
+    double sumSizeSq = 0, sumSizeWUs = 0, sumWUsSq = 0, sumSizeSecs = 0, sumWUsSecs = 0, sumSize = 0, sumSecs = 0;
+    for (WorkUnitsThroughputObservation o : observations) {
+      double size = o.getTotalSize();
+      double numWUs = o.getConstituentWorkUnitsCount();
+      double secs = o.calcBusyThreadSeconds();
+      sumSizeSq += size * size;
+      sumSizeWUs += size * numWUs;
+      sumWUsSq += numWUs * numWUs;
+      sumSizeSecs += size * secs;
+      sumWUsSecs += numWUs * secs;
+      sumSize += size;
+      sumSecs += secs;
+    }
+    if (sumSize <= 0 || sumSecs <= 0) {
+      return Optional.empty();
+    }
+    double secsPerByte = sumSecs / sumSize;
+    double secsPerWorkUnit = 0.0;
+    double determinant = sumSizeSq * sumWUsSq - sumSizeWUs * sumSizeWUs;
+    if (determinant > 1e-9 * sumSizeSq * sumWUsSq) {
+      double fitSecsPerByte = (sumSizeSecs * sumWUsSq - sumWUsSecs * sumSizeWUs) / determinant;
+      double fitSecsPerWorkUnit = (sumWUsSecs * sumSizeSq - sumSizeSecs * sumSizeWUs) / determinant;
+      // only when both are plausible; otherwise, too few or too similar observations to tell apart throughput and overhead
+      if (fitSecsPerByte > 0 && fitSecsPerWorkUnit >= 0) {
+        secsPerByte = fitSecsPerByte;
+        secsPerWorkUnit = fitSecsPerWorkUnit;
+      }
+    }
+
+    double sumSqErr = 0;
+    for (WorkUnitsThroughputObservation o : observations) {
+      double err = o.calcBusyThreadSeconds() - (secsPerByte * o.getTotalSize() + secsPerWorkUnit * o.getConstituentWorkUnitsCount());
+      sumSqErr += err * err;
+    }
+    int n = observations.size();
+    double relativeErr = Math.sqrt(sumSqErr / n) / (sumSecs / n);
+    double confidence = (n * 1.0 / (n + priorWeight)) / (1 + relativeErr);
+    return Optional.of(new ThroughputModel(secsPerByte, secsPerWorkUnit, confidence));
+  }
+
+  @VisibleForTesting
+  static int calcModelSetPoint(ThroughputModel model, WorkUnitsSizeSummary remainingWork, TimeBudget timeBudget, int threadsPerContainer) {
+    long numMWUs = remainingWork.getTopLevelWorkUnitsCount();
+    double estThreadSecs = model.estimateThreadSeconds(remainingWork.getTotalSize(), remainingWork.getConstituentWorkUnitsCount());
+    // the top quantile's min size bounds from below the size of the largest top-level WU
+    List<Double> topLevelQuantilesMinSizes = remainingWork.getTopLevelQuantilesMinSizes();
+    double largestMWUSize = Math.max(remainingWork.getTopLevelWorkUnitsMeanSize(),
+        topLevelQuantilesMinSizes.isEmpty() ? 0.0 : Collections.max(topLevelQuantilesMinSizes));
+    double largestMWUSecs = model.estimateThreadSeconds(largestMWUSize, remainingWork.getConstituentWorkUnitsCount() * 1.0 / numMWUs);
+    double budgetSecs = Math.max(timeBudget.getMaxTargetDurationMinutes() * 60.0, largestMWUSecs);
+    int numContainersForThroughput = (int) Math.ceil(estThreadSecs / (budgetSecs * threadsPerContainer));
+    int numContainersForParallelism = (int) Math.ceil(numMWUs * 1.0 / threadsPerContainer);
+    log.info("Throughput model est. {} thread-secs for all MWUs, at least {} secs for the largest, so {} containers within {} secs"
+        + " (and {} containers to occupy every thread)", estThreadSecs, largestMWUSecs, numContainersForThroughput, budgetSecs,
+        numContainersForParallelism);
+    return Math.max(1, Math.min(numContainersForThroughput, numContainersForParallelism));
+  }
+
+  protected List<WorkUnitsThroughputObservation> loadObservations(String sourceClass, JobState jobState) {
+    Optional<Path> optStoreDir = getStoreDir(jobState);
+    if (!optStoreDir.isPresent()) {
+      return Collections.emptyList();
+    }
+    try (FileSystem fs = JobStateUtils.openFileSystem(jobState)) {
+      return createStore(fs, optStoreDir.get(), jobState).load(sourceClass);
+    } catch (IOException ioe) {
+      log.warn("Failed to load throughput observations for '" + sourceClass + "'", ioe);
+      return Collections.emptyList();
+    }
+  }
+
+  private static Optional<Path> getStoreDir(JobState jobState) {
+    Optional<Path> optStoreDir = Optional.ofNullable(jobState.getProp(GobblinTemporalConfigurationKeys.DYNAMIC_SCALING_THROUGHPUT_MODEL_STORE_DIR))
+        .map(Path::new);
+    if (!optStoreDir.isPresent()) {
+      log.warn("No {} configured, so no throughput observations", GobblinTemporalConfigurationKeys.DYNAMIC_SCALING_THROUGHPUT_MODEL_STORE_DIR);
+    }
+    return optStoreDir;
+  }
+
+  private static ThroughputObservationStore createStore(FileSystem fs, Path storeDir, JobState jobState) {
+    return new ThroughputObservationStore(fs, storeDir,
+        jobState.getPropAsInt(GobblinTemporalConfigurationKeys.DYNAMIC_SCALING_THROUGHPUT_MODEL_MAX_OBSERVATIONS,
+            GobblinTemporalConfigurationKeys.DEFAULT_DYNAMIC_SCALING_THROUGHPUT_MODEL_MAX_OBSERVATIONS));
+  }
+}
@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.gobblin.temporal.ddm.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import lombok.extern.slf4j.Slf4j;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+
+import org.apache.gobblin.temporal.ddm.work.WorkUnitsThroughputObservation;
+import org.apache.gobblin.util.HadoopUtils;
+
+
+/**
+ * Persists the most recent {@link WorkUnitsThroughputObservation}s of each source, as one JSON file per source class within `storeDir`.
+ *
+ * NOTE: concurrent {@link #record}s for the same source are last-writer-wins, so occasionally one observation may be lost, which the
+ * model tolerates.
+ */
+@Slf4j
+public class ThroughputObservationStore {
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
+      .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+  private static final TypeReference<List<WorkUnitsThroughputObservation>> OBSERVATIONS_TYPE =
+      new TypeReference<List<WorkUnitsThroughputObservation>>() {};
+
+  private final FileSystem fs;
+  private final Path storeDir;
+  private final int maxObservationsPerSource;
+
+  public ThroughputObservationStore(FileSystem fs, Path storeDir, int maxObservationsPerSource) {
+    this.fs = fs;
+    this.storeDir = storeDir;
+    this.maxObservationsPerSource = maxObservationsPerSource;
+  }
+
+  /** @return the observations of `sourceClass`, oldest first; empty when none */
+  public List<WorkUnitsThroughputObservation> load(String sourceClass) throws IOException {
+    Path path = getPath(sourceClass);
+    if (!this.fs.exists(path)) {
+      return Collections.emptyList();
+    }
+    try (InputStream in = this.fs.open(path)) {
+      return OBJECT_MAPPER.readValue(in, OBSERVATIONS_TYPE);
+    }
+  }
+
+  /** Add `observation` to those of `sourceClass`, dropping the oldest beyond the max retained */
+  public void record(String sourceClass, WorkUnitsThroughputObservation observation) throws IOException {
+    List<WorkUnitsThroughputObservation> observations = new ArrayList<>(load(sourceClass));
+    observations.add(observation);
+    if (observations.size() > this.maxObservationsPerSource) {
+      observations = observations.subList(observations.size() - this.maxObservationsPerSource, observations.size());
+    }
+    Path path = getPath(sourceClass);
+    Path tmpPath = new Path(this.storeDir, "_tmp_" + path.getName() + "_" + System.nanoTime());
+    try (OutputStream out = this.fs.create(tmpPath, true)) {
+      OBJECT_MAPPER.writeValue(out, observations);
+    }
+    HadoopUtils.renamePath(this.fs, tmpPath, path, true);
+    log.info("recorded throughput observation for '{}' (now {} observations): {}", sourceClass, observations.size(), observation);
+  }
+
+  private Path getPath(String sourceClass) {
+    return new Path(this.storeDir, sourceClass + ".json");
+  }
+}
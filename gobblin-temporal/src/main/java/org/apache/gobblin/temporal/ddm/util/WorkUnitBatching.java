@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.gobblin.temporal.ddm.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.function.ToLongFunction;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.primitives.Ints;
+
+import org.apache.gobblin.temporal.GobblinTemporalConfigurationKeys;
+import org.apache.gobblin.temporal.ddm.activity.ActivityType;
+import org.apache.gobblin.temporal.ddm.work.WUProcessingSpec;
+import org.apache.gobblin.temporal.ddm.work.WorkUnitsSizeSummary;
+import org.apache.gobblin.util.PropertiesUtils;
+
+
+/**
+ * Sizes batches of work units, each processed by a single {@link org.apache.gobblin.temporal.ddm.activity.ProcessWorkUnit}
+ * activity, and the {@link org.apache.gobblin.temporal.util.nesting.workflow.NestingExecWorkflow} trees launching them.  For jobs of
+ * very many tiny work units, this amortizes per-activity overhead and keeps workflow history from growing in proportion to the
+ * work unit count.
+ *
+ * Batches target {@link GobblinTemporalConfigurationKeys#WORK_UNIT_BATCHING_TARGET_ACTIVITY_MINUTES} of processing, per the
+ * worker thread's amortized throughput, yet never more than half the activity's start-to-close timeout.
+ */
+public class WorkUnitBatching {
+  // fewer activities per tree than this (were all work units to run concurrently) would spawn needlessly many child workflows
+  @VisibleForTesting
+  static final int MIN_ACTIVITIES_PER_TREE = 100;
+  // beyond this many work items per tree, even a single tree level would be too large for workflow history
+  @VisibleForTesting
+  static final int MAX_SUB_TREES_PER_TREE = 1000;
+
+  private WorkUnitBatching() {}
+
+  public static boolean isEnabled(Properties props) {
+    return PropertiesUtils.getPropAsBoolean(props, GobblinTemporalConfigurationKeys.WORK_UNIT_BATCHING_ENABLED,
+        String.valueOf(GobblinTemporalConfigurationKeys.DEFAULT_WORK_UNIT_BATCHING_ENABLED));
+  }
+
+  public static int getMaxBatchSize(Properties props) {
+    return Math.max(1, PropertiesUtils.getPropAsInt(props, GobblinTemporalConfigurationKeys.WORK_UNIT_BATCHING_MAX_BATCH_SIZE,
+        GobblinTemporalConfigurationKeys.DEFAULT_WORK_UNIT_BATCHING_MAX_BATCH_SIZE));
+  }
+
+  /** @return total bytes of work units each batch should amount to */
+  public static long calcTargetBatchBytes(Properties props) {
+    long bytesPerMinute = PropertiesUtils.getPropAsLong(props,
+        GobblinTemporalConfigurationKeys.TEMPORAL_WORKER_THREAD_AMORTIZED_THROUGHPUT_PER_MINUTE,
+        GobblinTemporalConfigurationKeys.DEFAULT_TEMPORAL_WORKER_THREAD_AMORTIZED_THROUGHPUT_PER_MINUTE);
+    long targetMins = PropertiesUtils.getPropAsInt(props, GobblinTemporalConfigurationKeys.WORK_UNIT_BATCHING_TARGET_ACTIVITY_MINUTES,
+        GobblinTemporalConfigurationKeys.DEFAULT_WORK_UNIT_BATCHING_TARGET_ACTIVITY_MINUTES);
+    long maxMins = ActivityType.PROCESS_WORKUNIT.getStartToCloseTimeout(props).toMinutes() / 2;
+    return bytesPerMinute * Math.max(1, Math.min(targetMins, maxMins));
+  }
+
+  /**
+   * Group consecutive `items` into batches of at most `maxBatchSize`, whose sizes total no more than `targetBatchBytes`, except
+   * that an item itself at least that large forms a batch of its own.  Order is preserved, both within and across batches.
+   */
+  public static <T> List<List<T>> batch(List<T> items, ToLongFunction<T> sizeFn, long targetBatchBytes, int maxBatchSize) {
+    List<List<T>> batches = new ArrayList<>();
+    List<T> currBatch = new ArrayList<>();
+    long currBatchBytes = 0;
+    for (T item : items) {
+      long size = sizeFn.applyAsLong(item);
+      if (!currBatch.isEmpty() && (currBatch.size() >= maxBatchSize || currBatchBytes + size > targetBatchBytes)) {
+        batches.add(currBatch);
+        currBatch = new ArrayList<>();
+        currBatchBytes = 0;
+      }
+      currBatch.add(item);
+      currBatchBytes += size;
+    }
+    if (!currBatch.isEmpty()) {
+      batches.add(currBatch);
+    }
+    return batches;
+  }
+
+  /**
+   * @return tree shape, so each tree (with default "square root" shape) launches about as many (batched) activities as there are
+   * `numWorkerThreads` to execute them; trees never shrink beneath {@link WUProcessingSpec.Tuning#DEFAULT}, since small (or
+   * absent) batches do not warrant additional child workflows.  Without any known work unit size, batch sizes cannot be estimated,
+   * so the trees keep {@link WUProcessingSpec.Tuning#DEFAULT} shape
+   */
+  public static WUProcessingSpec.Tuning calcTuning(WorkUnitsSizeSummary wuSizeSummary, int numWorkerThreads, Properties props) {
+    if (wuSizeSummary.getTotalSize() <= 0) {
+      // otherwise every batch would be estimated at the max batch size, for trees far larger than the actual batches warrant
+      return WUProcessingSpec.Tuning.DEFAULT;
+    }
+    double meanWorkUnitSize = Math.max(1.0, wuSizeSummary.getTopLevelWorkUnitsMeanSize());
+    long estItemsPerBatch = Math.max(1, Math.min(getMaxBatchSize(props), (long) (calcTargetBatchBytes(props) / meanWorkUnitSize)));
+    int maxActivitiesPerTree = WUProcessingSpec.Tuning.DEFAULT_MAX_BRANCHES_PER_TREE - WUProcessingSpec.Tuning.DEFAULT_SUB_TREES_PER_TREE;
+    long activitiesPerTree = Math.max(MIN_ACTIVITIES_PER_TREE, Math.min(maxActivitiesPerTree, numWorkerThreads));
+    int subTreesPerTree = Ints.saturatedCast(Math.max(WUProcessingSpec.Tuning.DEFAULT_SUB_TREES_PER_TREE,
+        Math.min(MAX_SUB_TREES_PER_TREE, (long) Math.ceil(Math.sqrt(activitiesPerTree * estItemsPerBatch)))));
+    return new WUProcessingSpec.Tuning(subTreesPerTree * subTreesPerTree, subTreesPerTree);
+  }
+}
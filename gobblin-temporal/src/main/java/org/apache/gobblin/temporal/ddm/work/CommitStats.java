@@ -42,8 +42,15 @@ public class CommitStats {
   @NonNull private int numCommittedWorkUnits;
   @NonNull private long recordsWritten;
   @NonNull private long bytesWritten;
+  /** summed durations of the tasks committed (or not), so excluding both waiting to run and commit itself */
+  @NonNull private long taskDurationMillis;
+  @NonNull private long commitDurationMillis;
   @NonNull private Optional<FailedDatasetUrnsException> optFailure;
 
+  public CommitStats(int numCommittedWorkUnits, long recordsWritten, long bytesWritten, Optional<FailedDatasetUrnsException> optFailure) {
+    this(numCommittedWorkUnits, recordsWritten, bytesWritten, 0, 0, optFailure);
+  }
+
   public static CommitStats createEmpty() {
     return new CommitStats(0, 0, 0, Optional.empty());
   }
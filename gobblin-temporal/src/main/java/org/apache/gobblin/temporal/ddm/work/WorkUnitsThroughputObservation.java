@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.gobblin.temporal.ddm.work;
+
+import lombok.AccessLevel;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+
+
+/**
+ * How long processing some {@link org.apache.gobblin.source.workunit.WorkUnit}s took, with how many worker threads, to learn the throughput
+ * of their source from (see {@link org.apache.gobblin.temporal.ddm.activity.impl.RecommendScalingForWorkUnitsThroughputModelImpl})
+ */
+@Data
+@Setter(AccessLevel.NONE) // NOTE: non-`final` members solely to enable deserialization
+@RequiredArgsConstructor
+@NoArgsConstructor // IMPORTANT: for jackson (de)serialization
+public class WorkUnitsThroughputObservation {
+  @NonNull private long timestampEpochMillis;
+  @NonNull private long totalSize;
+  @NonNull private long topLevelWorkUnitsCount;
+  @NonNull private long constituentWorkUnitsCount;
+  @NonNull private int numThreads;
+  @NonNull private long processingDurationMillis;
+  @NonNull private long bytesWritten;
+  /** summed durations of the tasks run, when measured; zero for observations recorded before measuring them */
+  @NonNull private long taskDurationMillis;
+
+  /**
+   * @return the thread-seconds spent processing: the measured task durations, when known, else estimated from the wall-clock duration of
+   * processing, counting only the threads that had a top-level work unit to process
+   */
+  public double calcBusyThreadSeconds() {
+    if (this.taskDurationMillis > 0) {
+      return this.taskDurationMillis / 1000.0;
+    }
+    return Math.min(this.numThreads, this.topLevelWorkUnitsCount) * this.processingDurationMillis / 1000.0;
+  }
+}
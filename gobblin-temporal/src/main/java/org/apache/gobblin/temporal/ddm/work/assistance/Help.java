@@ -17,12 +17,15 @@
 
 package org.apache.gobblin.temporal.ddm.work.assistance;
 
+import java.io.DataOutputStream;
 import java.io.IOException;
 import java.net.URI;
 import java.util.Optional;
 import java.util.Properties;
 import java.util.UUID;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.hadoop.conf.Configuration;
@@ -31,20 +34,28 @@ import org.apache.hadoop.fs.Path;
 import org.slf4j.Logger;
 import org.slf4j.MDC;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
+import com.google.common.io.ByteStreams;
+import com.google.common.io.CountingOutputStream;
 import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+
+import io.opentelemetry.api.metrics.Meter;
 
 import lombok.extern.slf4j.Slf4j;
 
 import org.apache.gobblin.configuration.ConfigurationKeys;
 import org.apache.gobblin.configuration.State;
 import org.apache.gobblin.metastore.StateStore;
+import org.apache.gobblin.metrics.OpenTelemetryMetrics;
 import org.apache.gobblin.metrics.event.EventSubmitter;
 import org.apache.gobblin.runtime.JobState;
 import org.apache.gobblin.runtime.TaskState;
 import org.apache.gobblin.runtime.troubleshooter.AutomaticTroubleshooter;
 import org.apache.gobblin.runtime.troubleshooter.TroubleshooterException;
+import org.apache.gobblin.temporal.GobblinTemporalConfigurationKeys;
 import org.apache.gobblin.temporal.ddm.util.JobStateUtils;
 import org.apache.gobblin.temporal.ddm.work.styles.FileSystemApt;
 import org.apache.gobblin.temporal.ddm.work.styles.FileSystemJobStateful;
@@ -64,9 +75,16 @@ public class Help {
   public static final String GAAS_FLOW_ID_SEARCH_KEY = "gaasFlowIdSearchKey";
   public static final String DEFAULT_GAAS_ATTEMPT_ID = "1";
 
-  // treat `JobState` as immutable and cache, for reuse among activities executed by the same worker
-  private static final transient Cache<Path, JobState> jobStateByPath = CacheBuilder.newBuilder().recordStats().build();
+  public static final String JOB_STATE_CACHE_METRICS_GROUPNAME = "org.apache.gobblin.temporal.jobStateCache";
+  public static final String JOB_STATE_CACHE_HIT_COUNT = "jobStateCacheHitCount";
+  public static final String JOB_STATE_CACHE_MISS_COUNT = "jobStateCacheMissCount";
+  public static final String JOB_STATE_CACHE_EVICTION_COUNT = "jobStateCacheEvictionCount";
+
+  // treat `JobState` as immutable and cache, for reuse among activities executed by the same worker; bounded by serialized
+  // size and time since last access, since a long-lived worker otherwise retains the (possibly MBs of) state of every job it ever saw
+  private static transient volatile Cache<Path, JobState> jobStateByPath = buildJobStateCache(ConfigFactory.empty());
   private static final transient AtomicInteger jobStateAccessCount = new AtomicInteger(0);
+  private static final transient AtomicBoolean jobStateCacheMetricsRegistered = new AtomicBoolean(false);
 
   private Help() {}
 
@@ -137,6 +155,50 @@ public class Help {
     return FileSystem.get(fsUri, conf);
   }
 
+  /**
+   * (Re-)create the worker's {@link JobState} cache per `workerConfig` (dropping any already cached), and report its hit,
+   * miss and eviction counts as OpenTelemetry metrics, when enabled.  To call upon creating the worker.
+   */
+  public static synchronized void configureJobStateCache(Config workerConfig) {
+    jobStateByPath = buildJobStateCache(workerConfig);
+    OpenTelemetryMetrics otelMetrics = OpenTelemetryMetrics.getInstance(ConfigUtils.configToState(workerConfig));
+    if (otelMetrics != null && jobStateCacheMetricsRegistered.compareAndSet(false, true)) {
+      Meter meter = otelMetrics.getMeter(JOB_STATE_CACHE_METRICS_GROUPNAME);
+      meter.counterBuilder(JOB_STATE_CACHE_HIT_COUNT).setDescription("JobState cache hits")
+          .buildWithCallback(measurement -> measurement.record(jobStateByPath.stats().hitCount()));
+      meter.counterBuilder(JOB_STATE_CACHE_MISS_COUNT).setDescription("JobState cache misses")
+          .buildWithCallback(measurement -> measurement.record(jobStateByPath.stats().missCount()));
+      meter.counterBuilder(JOB_STATE_CACHE_EVICTION_COUNT).setDescription("JobState cache evictions")
+          .buildWithCallback(measurement -> measurement.record(jobStateByPath.stats().evictionCount()));
+    }
+  }
+
+  @VisibleForTesting
+  static Cache<Path, JobState> buildJobStateCache(Config config) {
+    long maxWeightBytes = ConfigUtils.getLong(config, GobblinTemporalConfigurationKeys.JOB_STATE_CACHE_MAX_WEIGHT_BYTES,
+        GobblinTemporalConfigurationKeys.DEFAULT_JOB_STATE_CACHE_MAX_WEIGHT_BYTES);
+    int expireAfterAccessMins = ConfigUtils.getInt(config, GobblinTemporalConfigurationKeys.JOB_STATE_CACHE_EXPIRE_AFTER_ACCESS_MINUTES,
+        GobblinTemporalConfigurationKeys.DEFAULT_JOB_STATE_CACHE_EXPIRE_AFTER_ACCESS_MINUTES);
+    log.info("JobState cache to hold up to {} bytes, expiring {} mins after last access", maxWeightBytes, expireAfterAccessMins);
+    return CacheBuilder.newBuilder()
+        .maximumWeight(maxWeightBytes)
+        .weigher((Path path, JobState jobState) -> calcSerializedSize(jobState))
+        .expireAfterAccess(expireAfterAccessMins, TimeUnit.MINUTES)
+        .recordStats()
+        .build();
+  }
+
+  /** @return the serialized size of `jobState`, capped at {@link Integer#MAX_VALUE} */
+  private static int calcSerializedSize(JobState jobState) {
+    CountingOutputStream counter = new CountingOutputStream(ByteStreams.nullOutputStream());
+    try (DataOutputStream out = new DataOutputStream(counter)) {
+      jobState.write(out);
+    } catch (IOException ioe) {
+      log.warn("unable to determine serialized size of jobState '{}'", jobState.getJobId(), ioe);
+    }
+    return (int) Math.min(counter.getCount(), Integer.MAX_VALUE);
+  }
+
   public static JobState loadJobState(FileSystemJobStateful f) throws IOException {
     try (FileSystem fs = loadFileSystemForce(f)) {
       return loadJobState(f, fs);
@@ -219,7 +281,8 @@ public class Help {
   }
 
   public static StateStore<TaskState> openTaskStateStore(FileSystemJobStateful js, FileSystem fs) throws IOException {
-    return JobStateUtils.openTaskStateStoreUncached(loadJobState(js), fs);
+    // load any uncached `JobState` with `fs`, rather than opening (and closing) another `FileSystem` only for that
+    return JobStateUtils.openTaskStateStoreUncached(loadJobState(js, fs), fs);
     // public static StateStore<TaskState> openTaskStateStore(JobStateful js, FileSystem fs) throws IOException {
     //   return JobStateUtils.openTaskStateStore(loadJobState(js, fs), fs);
   }
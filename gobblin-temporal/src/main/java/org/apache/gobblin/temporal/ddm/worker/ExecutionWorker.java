@@ -29,6 +29,7 @@ import lombok.Getter;
 import org.apache.gobblin.temporal.GobblinTemporalConfigurationKeys;
 import org.apache.gobblin.temporal.cluster.AbstractTemporalWorker;
 import org.apache.gobblin.temporal.ddm.activity.impl.ProcessWorkUnitImpl;
+import org.apache.gobblin.temporal.ddm.work.assistance.Help;
 import org.apache.gobblin.temporal.ddm.workflow.impl.NestingExecOfProcessWorkUnitWorkflowImpl;
 import org.apache.gobblin.temporal.ddm.workflow.impl.ProcessWorkUnitsWorkflowImpl;
 import org.apache.gobblin.util.ConfigUtils;
@@ -69,6 +70,8 @@ public class ExecutionWorker extends AbstractTemporalWorker {
         this.maxConcurrentWorkflowTaskExecutionSize = ConfigUtils.getInt(config,
             GobblinTemporalConfigurationKeys.TEMPORAL_EXECUTION_MAX_CONCURRENT_WORKFLOW_TASK_SIZE,
             executionWorkerThreads);
+
+        Help.configureJobStateCache(config);
     }
 
     @Override
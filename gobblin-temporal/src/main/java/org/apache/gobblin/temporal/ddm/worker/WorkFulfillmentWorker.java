@@ -26,12 +26,14 @@ import io.temporal.worker.WorkerOptions;
 
 import org.apache.gobblin.temporal.GobblinTemporalConfigurationKeys;
 import org.apache.gobblin.temporal.cluster.AbstractTemporalWorker;
+import org.apache.gobblin.temporal.ddm.activity.RecommendScalingForWorkUnits;
 import org.apache.gobblin.temporal.ddm.activity.impl.CommitActivityImpl;
 import org.apache.gobblin.temporal.ddm.activity.impl.DeleteWorkDirsActivityImpl;
 import org.apache.gobblin.temporal.ddm.activity.impl.EmitOTelMetricsImpl;
 import org.apache.gobblin.temporal.ddm.activity.impl.GenerateWorkUnitsImpl;
 import org.apache.gobblin.temporal.ddm.activity.impl.ProcessWorkUnitImpl;
 import org.apache.gobblin.temporal.ddm.activity.impl.RecommendScalingForWorkUnitsLinearHeuristicImpl;
+import org.apache.gobblin.temporal.ddm.activity.impl.RecommendScalingForWorkUnitsThroughputModelImpl;
 import org.apache.gobblin.temporal.ddm.workflow.impl.CommitStepWorkflowImpl;
 import org.apache.gobblin.temporal.ddm.workflow.impl.ExecuteGobblinWorkflowImpl;
 import org.apache.gobblin.temporal.ddm.workflow.impl.GenerateWorkUnitsWorkflowImpl;
@@ -76,10 +78,19 @@ public class WorkFulfillmentWorker extends AbstractTemporalWorker {
 
     @Override
     protected Object[] getActivityImplInstances() {
-        return new Object[] { new SubmitGTEActivityImpl(), new GenerateWorkUnitsImpl(), new RecommendScalingForWorkUnitsLinearHeuristicImpl(), new ProcessWorkUnitImpl(),
+        return new Object[] { new SubmitGTEActivityImpl(), new GenerateWorkUnitsImpl(), createRecommendScalingImpl(), new ProcessWorkUnitImpl(),
             new CommitActivityImpl(), new DeleteWorkDirsActivityImpl(), new EmitOTelMetricsImpl()};
     }
 
+    private RecommendScalingForWorkUnits createRecommendScalingImpl() {
+        boolean isThroughputModelEnabled = ConfigUtils.getBoolean(config,
+            GobblinTemporalConfigurationKeys.DYNAMIC_SCALING_THROUGHPUT_MODEL_ENABLED,
+            GobblinTemporalConfigurationKeys.DEFAULT_DYNAMIC_SCALING_THROUGHPUT_MODEL_ENABLED);
+        return isThroughputModelEnabled
+            ? new RecommendScalingForWorkUnitsThroughputModelImpl()
+            : new RecommendScalingForWorkUnitsLinearHeuristicImpl();
+    }
+
     @Override
     protected WorkerOptions createWorkerOptions() {
         return WorkerOptions.newBuilder()
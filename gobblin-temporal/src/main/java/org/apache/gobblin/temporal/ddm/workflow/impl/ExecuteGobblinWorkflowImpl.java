@@ -21,6 +21,7 @@ import java.io.IOException;
 import java.net.URI;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -41,6 +42,7 @@ import com.typesafe.config.Config;
 import com.typesafe.config.ConfigFactory;
 
 import io.temporal.api.enums.v1.ParentClosePolicy;
+import io.temporal.failure.ActivityFailure;
 import io.temporal.failure.ApplicationFailure;
 import io.temporal.workflow.ChildWorkflowOptions;
 import io.temporal.workflow.Workflow;
@@ -58,6 +60,7 @@ import org.apache.gobblin.temporal.ddm.activity.RecommendScalingForWorkUnits;
 import org.apache.gobblin.temporal.ddm.launcher.ProcessWorkUnitsJobLauncher;
 import org.apache.gobblin.temporal.ddm.util.JobStateUtils;
 import org.apache.gobblin.temporal.ddm.util.TemporalWorkFlowUtils;
+import org.apache.gobblin.temporal.ddm.util.WorkUnitBatching;
 import org.apache.gobblin.temporal.ddm.work.CommitStats;
 import org.apache.gobblin.temporal.ddm.work.DirDeletionResult;
 import org.apache.gobblin.temporal.ddm.work.ExecGobblinStats;
@@ -133,19 +136,41 @@ public class ExecuteGobblinWorkflowImpl implements ExecuteGobblinWorkflow {
         List<ScalingDirective> scalingDirectives =
             recommendScalingStub.recommendScaling(wuSizeSummary, generateWorkUnitResult.getSourceClass(), timeBudget, jobProps);
         log.info("Recommended scaling to process WUs within {}: {}", timeBudget, scalingDirectives);
+        List<ScalingDirective> submittedScalingDirectives = Collections.emptyList();
         try {
           ScalingDirectivesRecipient recipient = createScalingDirectivesRecipient(jobProps, closer);
           List<ScalingDirective> adjustedScalingDirectives = adjustRecommendedScaling(jobProps, scalingDirectives);
           log.info("Submitting (adjusted) scaling directives: {}", adjustedScalingDirectives);
           recipient.receive(adjustedScalingDirectives);
+          submittedScalingDirectives = adjustedScalingDirectives;
           // TODO: when eliminating the "GenWUs Worker", pause/block until scaling is complete
         } catch (IOException e) {
           // TODO: decide whether this should be a hard failure; for now, "gracefully degrade" by continuing processing
           log.error("Failed to send re-scaling directive", e);
         }
+        int numContainers = calcNumContainers(jobProps, submittedScalingDirectives);
+
+        if (WorkUnitBatching.isEnabled(jobProps) && !isTuningExplicitlyConfigured(jobProps)) {
+          int numWorkerThreads = numContainers * calcNumThreadsPerContainer(jobProps);
+          wuSpec.setTuning(WorkUnitBatching.calcTuning(wuSizeSummary, numWorkerThreads, jobProps));
+          log.info("Tuned processing of WUs in batches for {} worker threads: {}", numWorkerThreads, wuSpec.getTuning());
+        }
 
         ProcessWorkUnitsWorkflow processWUsWorkflow = createProcessWorkUnitsWorkflow(jobProps);
+        long processWUsStartTime = Workflow.currentTimeMillis();
         commitStats = processWUsWorkflow.process(wuSpec, temporalJobProps);
+        if (isThroughputModelEnabled(jobProps)) {
+          // exclude commit, which no more containers would speed up (NOTE: measured on another host, so guard against clock skew)
+          long processingDurationMillis = Math.max(0,
+              Workflow.currentTimeMillis() - processWUsStartTime - commitStats.getCommitDurationMillis());
+          try {
+            recommendScalingStub.recordProcessing(wuSizeSummary, generateWorkUnitResult.getSourceClass(), numContainers,
+                processingDurationMillis, commitStats, jobProps);
+          } catch (ActivityFailure e) {
+            // the job already committed, so "gracefully degrade" by only losing this throughput observation
+            log.warn("Failed to record processing throughput", e);
+          }
+        }
         numWUsCommitted = commitStats.getNumCommittedWorkUnits();
         recordsWritten = commitStats.getRecordsWritten();
         bytesWritten = commitStats.getBytesWritten();
@@ -200,6 +225,37 @@ public class ExecuteGobblinWorkflowImpl implements ExecuteGobblinWorkflow {
         String.valueOf(GobblinTemporalConfigurationKeys.DEFAULT_GOBBLIN_TEMPORAL_JOB_COMPLETION_GTE_EMISSION_ENABLED));
   }
 
+  private static boolean isThroughputModelEnabled(Properties jobProps) {
+    return PropertiesUtils.getPropAsBoolean(jobProps, GobblinTemporalConfigurationKeys.DYNAMIC_SCALING_THROUGHPUT_MODEL_ENABLED,
+        String.valueOf(GobblinTemporalConfigurationKeys.DEFAULT_DYNAMIC_SCALING_THROUGHPUT_MODEL_ENABLED));
+  }
+
+  /**
+   * @return the containers to process WUs: the initial containers, plus the set point of the scaling directives actually submitted, when any
+   * (which {@link #adjustRecommendedScaling} reduced by the initial containers)
+   */
+  private static int calcNumContainers(Properties jobProps, List<ScalingDirective> submittedScalingDirectives) {
+    int initialContainerCount = Integer.parseInt(jobProps.getProperty(GobblinYarnConfigurationKeys.INITIAL_CONTAINERS_KEY, "1"));
+    return submittedScalingDirectives.isEmpty()
+        ? initialContainerCount
+        : initialContainerCount + submittedScalingDirectives.get(0).getSetPoint();
+  }
+
+  /** NOTE: follows the same fallback chain as {@link org.apache.gobblin.temporal.ddm.worker.ExecutionWorker} */
+  private static int calcNumThreadsPerContainer(Properties jobProps) {
+    int numWorkers = PropertiesUtils.getPropAsInt(jobProps, GobblinTemporalConfigurationKeys.TEMPORAL_NUM_WORKERS_PER_CONTAINER,
+        GobblinTemporalConfigurationKeys.DEFAULT_TEMPORAL_NUM_WORKERS_PER_CONTAINERS);
+    int numThreadsPerWorker = PropertiesUtils.getPropAsInt(jobProps, GobblinTemporalConfigurationKeys.TEMPORAL_NUM_THREADS_PER_EXECUTION_WORKER,
+        PropertiesUtils.getPropAsInt(jobProps, GobblinTemporalConfigurationKeys.TEMPORAL_NUM_THREADS_PER_WORKER,
+            GobblinTemporalConfigurationKeys.DEFAULT_TEMPORAL_NUM_THREADS_PER_WORKER));
+    return numWorkers * numThreadsPerWorker;
+  }
+
+  private static boolean isTuningExplicitlyConfigured(Properties jobProps) {
+    return jobProps.containsKey(ProcessWorkUnitsJobLauncher.GOBBLIN_TEMPORAL_JOB_LAUNCHER_ARG_WORK_MAX_BRANCHES_PER_TREE)
+        && jobProps.containsKey(ProcessWorkUnitsJobLauncher.GOBBLIN_TEMPORAL_JOB_LAUNCHER_ARG_WORK_MAX_SUB_TREES_PER_TREE);
+  }
+
   protected ProcessWorkUnitsWorkflow createProcessWorkUnitsWorkflow(Properties jobProps) {
     ChildWorkflowOptions childOpts = ChildWorkflowOptions.newBuilder()
         .setParentClosePolicy(ParentClosePolicy.PARENT_CLOSE_POLICY_TERMINATE)
@@ -248,8 +304,7 @@ public class ExecuteGobblinWorkflowImpl implements ExecuteGobblinWorkflow {
         com.google.common.base.Optional.of(ConfigurationKeys.DEFAULT_STATE_STORE_TYPE));
     WUProcessingSpec wuSpec = new WUProcessingSpec(fileSystemUri, workUnitsDirPath.toString(), eventSubmitterContext, fsProps);
     // TODO: use our own prop names; don't "borrow" from `ProcessWorkUnitsJobLauncher`
-    if (jobProps.containsKey(ProcessWorkUnitsJobLauncher.GOBBLIN_TEMPORAL_JOB_LAUNCHER_ARG_WORK_MAX_BRANCHES_PER_TREE)
-        && jobProps.containsKey(ProcessWorkUnitsJobLauncher.GOBBLIN_TEMPORAL_JOB_LAUNCHER_ARG_WORK_MAX_SUB_TREES_PER_TREE)) {
+    if (isTuningExplicitlyConfigured(jobProps)) {
       int maxBranchesPerTree = PropertiesUtils.getRequiredPropAsInt(jobProps, ProcessWorkUnitsJobLauncher.GOBBLIN_TEMPORAL_JOB_LAUNCHER_ARG_WORK_MAX_BRANCHES_PER_TREE);
       int maxSubTreesPerTree = PropertiesUtils.getRequiredPropAsInt(jobProps, ProcessWorkUnitsJobLauncher.GOBBLIN_TEMPORAL_JOB_LAUNCHER_ARG_WORK_MAX_SUB_TREES_PER_TREE);
       wuSpec.setTuning(new WUProcessingSpec.Tuning(maxBranchesPerTree, maxSubTreesPerTree));
@@ -17,7 +17,9 @@
 
 package org.apache.gobblin.temporal.ddm.workflow.impl;
 
+import java.util.List;
 import java.util.Properties;
+import java.util.stream.Collectors;
 
 import io.temporal.workflow.Async;
 import io.temporal.workflow.Promise;
@@ -25,6 +27,7 @@ import io.temporal.workflow.Workflow;
 
 import org.apache.gobblin.temporal.ddm.activity.ActivityType;
 import org.apache.gobblin.temporal.ddm.activity.ProcessWorkUnit;
+import org.apache.gobblin.temporal.ddm.util.WorkUnitBatching;
 import org.apache.gobblin.temporal.ddm.work.WorkUnitClaimCheck;
 import org.apache.gobblin.temporal.util.nesting.workflow.AbstractNestingExecWorkflowImpl;
 
@@ -38,4 +41,31 @@ public class NestingExecOfProcessWorkUnitWorkflowImpl extends AbstractNestingExe
         ActivityType.PROCESS_WORKUNIT.buildActivityOptions(props, true));
     return Async.function(processWorkUnitStub::processWorkUnit, wu);
   }
+
+  /**
+   * When {@link WorkUnitBatching#isEnabled}, group consecutive small WUs, so each activity processes several.  A WU of unknown
+   * size (zero) is never batched.  A batch of one still uses {@link ProcessWorkUnit#processWorkUnit}.
+   *
+   * NOTE: a batch is retried as a whole, so a failure in any one of its WUs entails re-processing all of them
+   */
+  @Override
+  protected List<Promise<Integer>> launchAsyncActivities(final List<WorkUnitClaimCheck> wus, final Properties props) {
+    if (!WorkUnitBatching.isEnabled(props)) {
+      return super.launchAsyncActivities(wus, props);
+    }
+    final long targetBatchBytes = WorkUnitBatching.calcTargetBatchBytes(props);
+    final List<List<WorkUnitClaimCheck>> batches = WorkUnitBatching.batch(wus, wu -> {
+      long size = wu.getWorkUnitSizeInfo().getTotalSize();
+      return size > 0 ? size : targetBatchBytes;
+    }, targetBatchBytes, WorkUnitBatching.getMaxBatchSize(props));
+    return batches.stream()
+        .map(batch -> batch.size() == 1 ? launchAsyncActivity(batch.get(0), props) : launchAsyncBatchActivity(batch, props))
+        .collect(Collectors.toList());
+  }
+
+  protected Promise<Integer> launchAsyncBatchActivity(final List<WorkUnitClaimCheck> wus, final Properties props) {
+    final ProcessWorkUnit processWorkUnitStub = Workflow.newActivityStub(ProcessWorkUnit.class,
+        ActivityType.PROCESS_WORKUNIT.buildActivityOptions(props, true));
+    return Async.function(processWorkUnitStub::processWorkUnits, wus);
+  }
 }
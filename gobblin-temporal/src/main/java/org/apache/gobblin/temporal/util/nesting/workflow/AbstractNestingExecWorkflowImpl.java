@@ -41,7 +41,7 @@ import org.apache.gobblin.temporal.util.nesting.work.WorkflowAddr;
 import org.apache.gobblin.temporal.util.nesting.work.Workload;
 
 
-/** Core skeleton of {@link NestingExecWorkflow}: realizing classes need only define {@link #launchAsyncActivity} */
+/** Core skeleton of {@link NestingExecWorkflow}: realizing classes need only define {@link #launchAsyncActivity} (and optionally {@link #launchAsyncActivities}) */
 @Slf4j
 public abstract class AbstractNestingExecWorkflowImpl<WORK_ITEM, ACTIVITY_RESULT> implements NestingExecWorkflow<WORK_ITEM> {
   public static final int NUM_SECONDS_TO_PAUSE_BEFORE_CREATING_SUB_TREE_DEFAULT = 10;
@@ -70,9 +70,8 @@ public abstract class AbstractNestingExecWorkflowImpl<WORK_ITEM, ACTIVITY_RESULT
     } else {
       final Workload.WorkSpan<WORK_ITEM> workSpan = optSpan.get();
       final Iterable<WORK_ITEM> iterable = () -> workSpan;
-      final List<Promise<ACTIVITY_RESULT>> childActivities = StreamSupport.stream(iterable.spliterator(), false)
-          .map(t -> launchAsyncActivity(t, props))
-          .collect(Collectors.toList());
+      final List<Promise<ACTIVITY_RESULT>> childActivities = launchAsyncActivities(
+          StreamSupport.stream(iterable.spliterator(), false).collect(Collectors.toList()), props);
       final List<Promise<Integer>> childSubTrees = new ArrayList<>();
       if (workSpan.getNumElems() == maxLeaves) { // received as many as requested (did not stop short)
         int subTreeId = 0;
@@ -113,6 +112,14 @@ public abstract class AbstractNestingExecWorkflowImpl<WORK_ITEM, ACTIVITY_RESULT
   /** Factory for invoking the specific activity by providing it args via {@link Async::function} */
   protected abstract Promise<ACTIVITY_RESULT> launchAsyncActivity(WORK_ITEM task, Properties props);
 
+  /**
+   * Launch activities for every one of a span's `workItems`; by default, one per item, but realizing classes may override to
+   * combine several items into a single activity (each item nonetheless counts toward the activities rollup count)
+   */
+  protected List<Promise<ACTIVITY_RESULT>> launchAsyncActivities(List<WORK_ITEM> workItems, Properties props) {
+    return workItems.stream().map(t -> launchAsyncActivity(t, props)).collect(Collectors.toList());
+  }
+
   protected NestingExecWorkflow<WORK_ITEM> createChildWorkflow(final WorkflowAddr childAddr) {
     // preserve the current workflow ID of this parent, but add the (hierarchical) address extension specific to each child
     String thisWorkflowId = Workflow.getInfo().getWorkflowId();
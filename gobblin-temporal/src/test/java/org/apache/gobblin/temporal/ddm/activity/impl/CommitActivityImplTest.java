@@ -25,6 +25,8 @@ import org.testng.Assert;
 import org.testng.annotations.Test;
 
 import org.apache.gobblin.runtime.DatasetTaskSummary;
+import org.apache.gobblin.runtime.JobState;
+import org.apache.gobblin.runtime.TaskState;
 import org.apache.gobblin.temporal.ddm.work.DatasetStats;
 
 
@@ -155,4 +157,25 @@ public class CommitActivityImplTest {
     Assert.assertEquals(9000L, totalRecordsWritten);
     Assert.assertEquals(12000L, totalBytesWritten);
   }
+
+  @Test
+  public void testSumTaskDurationMillis() {
+    Map<String, JobState.DatasetState> datasetStatesByUrns = new HashMap<>();
+    datasetStatesByUrns.put("dataset1", createDatasetState("task-0", 1000L, "task-1", 2000L));
+    datasetStatesByUrns.put("dataset2", createDatasetState("task-2", 4000L));
+
+    Assert.assertEquals(CommitActivityImpl.sumTaskDurationMillis(datasetStatesByUrns), 7000L);
+    Assert.assertEquals(CommitActivityImpl.sumTaskDurationMillis(new HashMap<>()), 0L);
+  }
+
+  private static JobState.DatasetState createDatasetState(Object... taskIdsAndDurations) {
+    JobState.DatasetState datasetState = new JobState.DatasetState("job", "job_123");
+    for (int i = 0; i < taskIdsAndDurations.length; i += 2) {
+      TaskState taskState = new TaskState();
+      taskState.setTaskId((String) taskIdsAndDurations[i]);
+      taskState.setTaskDuration((Long) taskIdsAndDurations[i + 1]);
+      datasetState.addTaskState(taskState);
+    }
+    return datasetState;
+  }
 }
@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.gobblin.temporal.ddm.activity.impl;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import org.mockito.Mockito;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import org.apache.gobblin.temporal.ddm.work.TimeBudget;
+import org.apache.gobblin.temporal.ddm.work.WorkUnitsSizeSummary;
+import org.apache.gobblin.temporal.ddm.work.WorkUnitsThroughputObservation;
+
+
+/** Test for {@link RecommendScalingForWorkUnitsThroughputModelImpl} */
+public class RecommendScalingForWorkUnitsThroughputModelImplTest {
+  private static final double SECS_PER_BYTE = 1e-7; // 10MB/sec per thread
+  private static final double SECS_PER_WORK_UNIT = 5.0;
+
+  @Test
+  public void testFitModelLearnsThroughputAndOverhead() {
+    List<WorkUnitsThroughputObservation> observations = Arrays.asList(
+        createObservation(100_000_000_000L, 1000, 20),
+        createObservation(200_000_000_000L, 500, 20),
+        createObservation(50_000_000_000L, 4000, 20));
+
+    RecommendScalingForWorkUnitsThroughputModelImpl.ThroughputModel model =
+        RecommendScalingForWorkUnitsThroughputModelImpl.fitModel(observations, 3).get();
+    Assert.assertEquals(model.getSecsPerByte(), SECS_PER_BYTE, 1e-12);
+    Assert.assertEquals(model.getSecsPerWorkUnit(), SECS_PER_WORK_UNIT, 1e-6);
+    // perfect fit, so confidence only per number of observations: 3 / (3 + 3)
+    Assert.assertEquals(model.getConfidence(), 0.5, 1e-6);
+  }
+
+  @Test
+  public void testFitModelWithoutObservations() {
+    Assert.assertEquals(RecommendScalingForWorkUnitsThroughputModelImpl.fitModel(Collections.emptyList(), 3), Optional.empty());
+  }
+
+  @Test
+  public void testCalcModelSetPoint() {
+    RecommendScalingForWorkUnitsThroughputModelImpl.ThroughputModel model =
+        new RecommendScalingForWorkUnitsThroughputModelImpl.ThroughputModel(SECS_PER_BYTE, SECS_PER_WORK_UNIT, 0.5);
+    TimeBudget timeBudget = Mockito.mock(TimeBudget.class);
+    Mockito.when(timeBudget.getMaxTargetDurationMinutes()).thenReturn(60L);
+
+    // est. thread-secs = 1e12 * 1e-7 + 2000 * 5 = 110000; within 3600 secs at 20 threads per container = ceil(1.53) = 2 containers
+    WorkUnitsSizeSummary remainingWork = createSizeSummary(1_000_000_000_000L, 2000, 1e8, 2e8, 4e8, 1e9);
+    Assert.assertEquals(RecommendScalingForWorkUnitsThroughputModelImpl.calcModelSetPoint(model, remainingWork, timeBudget, 20), 2);
+  }
+
+  @Test
+  public void testCalcModelSetPointBoundByLargestWorkUnit() {
+    RecommendScalingForWorkUnitsThroughputModelImpl.ThroughputModel model =
+        new RecommendScalingForWorkUnitsThroughputModelImpl.ThroughputModel(SECS_PER_BYTE, SECS_PER_WORK_UNIT, 0.5);
+    TimeBudget timeBudget = Mockito.mock(TimeBudget.class);
+    Mockito.when(timeBudget.getMaxTargetDurationMinutes()).thenReturn(60L);
+
+    // the largest WU alone takes ~50000 secs, so more containers than ceil(100050 / (50005 * 4)) = 1 would finish no sooner
+    // (whereas ignoring it would recommend ceil(100050 / (3600 * 4)) = 7)
+    WorkUnitsSizeSummary remainingWork = createSizeSummary(1_000_000_000_000L, 10, 1e10, 5e10, 1e11, 5e11);
+    Assert.assertEquals(RecommendScalingForWorkUnitsThroughputModelImpl.calcModelSetPoint(model, remainingWork, timeBudget, 4), 1);
+  }
+
+  @Test
+  public void testFitModelLearnsFromMeasuredTaskDurations() {
+    // wall-clock durations (here, as if taking twice as long, waiting on containers) only matter absent measured task durations
+    List<WorkUnitsThroughputObservation> observations = Arrays.asList(
+        createMeasuredObservation(100_000_000_000L, 1000, 20),
+        createMeasuredObservation(200_000_000_000L, 500, 20),
+        createMeasuredObservation(50_000_000_000L, 4000, 20));
+
+    RecommendScalingForWorkUnitsThroughputModelImpl.ThroughputModel model =
+        RecommendScalingForWorkUnitsThroughputModelImpl.fitModel(observations, 3).get();
+    Assert.assertEquals(model.getSecsPerByte(), SECS_PER_BYTE, 1e-12);
+    Assert.assertEquals(model.getSecsPerWorkUnit(), SECS_PER_WORK_UNIT, 1e-6);
+  }
+
+  private static WorkUnitsThroughputObservation createObservation(long totalSize, long numWorkUnits, int numThreads) {
+    long durationMillis = Math.round(calcBusyThreadSecs(totalSize, numWorkUnits) / numThreads * 1000);
+    return new WorkUnitsThroughputObservation(0L, totalSize, numWorkUnits, numWorkUnits, numThreads, durationMillis, totalSize, 0L);
+  }
+
+  private static WorkUnitsThroughputObservation createMeasuredObservation(long totalSize, long numWorkUnits, int numThreads) {
+    long taskDurationMillis = Math.round(calcBusyThreadSecs(totalSize, numWorkUnits) * 1000);
+    long durationMillis = 2 * taskDurationMillis / numThreads;
+    return new WorkUnitsThroughputObservation(0L, totalSize, numWorkUnits, numWorkUnits, numThreads, durationMillis, totalSize,
+        taskDurationMillis);
+  }
+
+  private static double calcBusyThreadSecs(long totalSize, long numWorkUnits) {
+    return SECS_PER_BYTE * totalSize + SECS_PER_WORK_UNIT * numWorkUnits;
+  }
+
+  private static WorkUnitsSizeSummary createSizeSummary(long totalSize, long numWorkUnits, Double... topLevelQuantilesMinSizes) {
+    List<Double> quantiles = Arrays.asList(topLevelQuantilesMinSizes);
+    return new WorkUnitsSizeSummary(totalSize, numWorkUnits, numWorkUnits, quantiles.size(), 1.0 / quantiles.size(), quantiles, quantiles);
+  }
+}
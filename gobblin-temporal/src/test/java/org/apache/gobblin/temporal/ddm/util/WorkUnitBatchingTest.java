@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.gobblin.temporal.ddm.util;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import org.apache.gobblin.temporal.GobblinTemporalConfigurationKeys;
+import org.apache.gobblin.temporal.ddm.work.WUProcessingSpec;
+import org.apache.gobblin.temporal.ddm.work.WorkUnitsSizeSummary;
+
+
+/** Tests for {@link WorkUnitBatching} */
+public class WorkUnitBatchingTest {
+
+  @Test
+  public void testCalcTargetBatchBytes() {
+    Properties props = createProps(1000, 60);
+    Assert.assertEquals(WorkUnitBatching.calcTargetBatchBytes(props), 5000L);
+
+    // never more than half the start-to-close timeout
+    props = createProps(1000, 4);
+    Assert.assertEquals(WorkUnitBatching.calcTargetBatchBytes(props), 2000L);
+  }
+
+  @Test
+  public void testBatchBySize() {
+    List<Long> sizes = Arrays.asList(1000L, 1000L, 1000L, 4000L, 6000L, 10L, 10L);
+    List<List<Long>> batches = WorkUnitBatching.batch(sizes, Long::longValue, 3000, 100);
+    Assert.assertEquals(batches, Arrays.asList(
+        Arrays.asList(1000L, 1000L, 1000L),
+        Collections.singletonList(4000L),
+        Collections.singletonList(6000L),
+        Arrays.asList(10L, 10L)));
+  }
+
+  @Test
+  public void testBatchByCount() {
+    List<Long> sizes = Collections.nCopies(5, 1L);
+    List<List<Long>> batches = WorkUnitBatching.batch(sizes, Long::longValue, 3000, 2);
+    Assert.assertEquals(batches, Arrays.asList(Arrays.asList(1L, 1L), Arrays.asList(1L, 1L), Collections.singletonList(1L)));
+    Assert.assertEquals(WorkUnitBatching.batch(Collections.<Long>emptyList(), Long::longValue, 3000, 2), Collections.emptyList());
+  }
+
+  @Test
+  public void testCalcTuningForTinyWorkUnits() {
+    Properties props = createProps(1000, 60); // 5000 bytes per batch, so (with mean size of 10) 100 per batch, given max batch size
+    WorkUnitsSizeSummary summary = createSizeSummary(1000 * 1000L, 100 * 1000L);
+    Assert.assertEquals(WorkUnitBatching.calcTuning(summary, 200, props), new WUProcessingSpec.Tuning(142 * 142, 142));
+    // fewer threads than `MIN_ACTIVITIES_PER_TREE`
+    Assert.assertEquals(WorkUnitBatching.calcTuning(summary, 10, props), new WUProcessingSpec.Tuning(100 * 100, 100));
+  }
+
+  @Test
+  public void testCalcTuningNeverSmallerThanDefault() {
+    Properties props = createProps(1000, 60);
+    WorkUnitsSizeSummary summary = createSizeSummary(1000 * 1000 * 1000L, 100L);
+    Assert.assertEquals(WorkUnitBatching.calcTuning(summary, 200, props), WUProcessingSpec.Tuning.DEFAULT);
+  }
+
+  @Test
+  public void testCalcTuningWithoutKnownSizes() {
+    Properties props = createProps(1000, 60);
+    WorkUnitsSizeSummary summary = createSizeSummary(0L, 100 * 1000L);
+    Assert.assertEquals(WorkUnitBatching.calcTuning(summary, 200, props), WUProcessingSpec.Tuning.DEFAULT);
+    Assert.assertEquals(WorkUnitBatching.calcTuning(createSizeSummary(0L, 0L), 200, props), WUProcessingSpec.Tuning.DEFAULT);
+  }
+
+  private static Properties createProps(long bytesPerMinute, int startToCloseMinutes) {
+    Properties props = new Properties();
+    props.setProperty(GobblinTemporalConfigurationKeys.WORK_UNIT_BATCHING_ENABLED, "true");
+    props.setProperty(GobblinTemporalConfigurationKeys.TEMPORAL_WORKER_THREAD_AMORTIZED_THROUGHPUT_PER_MINUTE, String.valueOf(bytesPerMinute));
+    props.setProperty(GobblinTemporalConfigurationKeys.TEMPORAL_PROCESS_WORKUNIT_ACTIVITY_STARTTOCLOSE_TIMEOUT_MINUTES,
+        String.valueOf(startToCloseMinutes));
+    return props;
+  }
+
+  private static WorkUnitsSizeSummary createSizeSummary(long totalSize, long numWorkUnits) {
+    return new WorkUnitsSizeSummary(totalSize, numWorkUnits, numWorkUnits, 0, 0.0,
+        Collections.emptyList(), Collections.emptyList());
+  }
+}
@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.gobblin.temporal.ddm.work.assistance;
+
+import org.apache.hadoop.fs.Path;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import com.google.common.cache.Cache;
+import com.typesafe.config.ConfigFactory;
+import com.typesafe.config.ConfigValueFactory;
+
+import org.apache.gobblin.runtime.JobState;
+import org.apache.gobblin.temporal.GobblinTemporalConfigurationKeys;
+
+
+public class HelpTest {
+
+  @Test
+  public void testJobStateCacheRetainsWithinWeight() {
+    Cache<Path, JobState> cache = Help.buildJobStateCache(ConfigFactory.empty());
+    cache.put(new Path("/jobs/job_1/job.state"), new JobState("job", "job_1"));
+    Assert.assertEquals(cache.size(), 1);
+    Assert.assertEquals(cache.stats().evictionCount(), 0);
+  }
+
+  @Test
+  public void testJobStateCacheEvictsBeyondWeight() {
+    Cache<Path, JobState> cache = Help.buildJobStateCache(ConfigFactory.empty()
+        .withValue(GobblinTemporalConfigurationKeys.JOB_STATE_CACHE_MAX_WEIGHT_BYTES, ConfigValueFactory.fromAnyRef(1L)));
+    JobState jobState = new JobState("job", "job_1");
+    jobState.setProp("some.key", "some value, to exceed the one byte weight bound");
+    cache.put(new Path("/jobs/job_1/job.state"), jobState);
+    Assert.assertEquals(cache.size(), 0);
+    Assert.assertEquals(cache.stats().evictionCount(), 1);
+  }
+}
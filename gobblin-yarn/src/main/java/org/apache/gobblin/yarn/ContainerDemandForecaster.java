@@ -0,0 +1,192 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.gobblin.yarn;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import com.google.common.base.Preconditions;
+
+import lombok.Data;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+
+/**
+ * Forecasts the containers each Helix tag will need by the time containers requested now would be running, so that
+ * {@link YarnAutoScalingManager} may request them ahead of demand, rather than only after a backlog already exists.
+ *
+ * Per tag, the forecast extrapolates the (smoothed) rate of change of the backlog of not yet completed Helix partitions
+ * across the container startup latency.  It is additionally bounded below by the containers needed to keep pace with the
+ * (smoothed) arrival rate of partitions, given the observed completion throughput per container.  Hysteresis keeps the
+ * forecast unchanged unless it would move by more than a fraction of its current value, to avoid thrash.
+ *
+ * Every forecast is later compared with the demand actually found once its lead time elapses; see {@link #drainOutcomes()}.
+ *
+ * NOTE: not thread-safe; intended for use solely by the single auto-scaling thread.
+ */
+@Slf4j
+public class ContainerDemandForecaster {
+
+  /** A forecast, once its lead time elapsed, alongside the demand then actually found */
+  @Data
+  public static class Outcome {
+    private final String helixTag;
+    private final long forecastTimeMillis;
+    private final int predictedContainers;
+    private final int actualContainers;
+  }
+
+  /** Smoothed trends of a single Helix tag */
+  private static class TagTrend {
+    private long lastObservationMillis = -1;
+    private int lastBacklog;
+    private int lastNumPartitions;
+    private int lastNumCompleted;
+    private int lastNumRunning;
+    private double backlogRatePerMin = 0.0;
+    private double arrivalRatePerMin = 0.0;
+    private double completionsPerContainerPerMin = 0.0;
+    private int forecast = 0;
+    private final ArrayDeque<Outcome> pendingForecasts = new ArrayDeque<>();
+  }
+
+  private final int partitionsPerContainer;
+  private final double overProvisionFactor;
+  private final long containerStartupLatencyMillis;
+  private final double smoothingFactor;
+  private final double hysteresisFraction;
+  private final Map<String, TagTrend> trendsByTag = new HashMap<>();
+  private final List<Outcome> resolvedOutcomes = new ArrayList<>();
+  @Getter private long numResolvedForecasts = 0;
+  private long sumAbsoluteForecastError = 0;
+
+  public ContainerDemandForecaster(int partitionsPerContainer, double overProvisionFactor, long containerStartupLatencyMillis,
+      double smoothingFactor, double hysteresisFraction) {
+    Preconditions.checkArgument(partitionsPerContainer > 0, "partitionsPerContainer must be positive");
+    Preconditions.checkArgument(smoothingFactor > 0 && smoothingFactor <= 1, "smoothingFactor must be in (0, 1]");
+    Preconditions.checkArgument(hysteresisFraction >= 0, "hysteresisFraction must not be negative");
+    this.partitionsPerContainer = partitionsPerContainer;
+    this.overProvisionFactor = overProvisionFactor;
+    this.containerStartupLatencyMillis = containerStartupLatencyMillis;
+    this.smoothingFactor = smoothingFactor;
+    this.hysteresisFraction = hysteresisFraction;
+  }
+
+  /**
+   * Observe the current partitions of `helixTag` and forecast its container demand one container startup latency hence.
+   * @param numPartitions all partitions of the tag's active jobs
+   * @param numCompletedPartitions those among `numPartitions` already completed
+   * @param numRunningPartitions those among `numPartitions` presently running
+   * @param reactiveContainers the containers presently needed, per the current partitions alone
+   * @return forecast containers for `helixTag`, never fewer than `reactiveContainers`
+   */
+  public int forecast(String helixTag, int numPartitions, int numCompletedPartitions, int numRunningPartitions,
+      int reactiveContainers, long nowMillis) {
+    TagTrend trend = this.trendsByTag.computeIfAbsent(helixTag, k -> new TagTrend());
+    resolvePendingForecasts(trend, reactiveContainers, nowMillis);
+
+    int backlog = Math.max(0, numPartitions - numCompletedPartitions);
+    if (trend.lastObservationMillis >= 0 && nowMillis > trend.lastObservationMillis) {
+      double elapsedMins = (nowMillis - trend.lastObservationMillis) / (double) TimeUnit.MINUTES.toMillis(1);
+      // partitions are never removed from an active job, but a job finishing may drop them all at once
+      int arrivals = Math.max(0, numPartitions - trend.lastNumPartitions);
+      int completions = Math.max(0, numCompletedPartitions - trend.lastNumCompleted);
+      trend.backlogRatePerMin = smooth(trend.backlogRatePerMin, (backlog - trend.lastBacklog) / elapsedMins);
+      trend.arrivalRatePerMin = smooth(trend.arrivalRatePerMin, arrivals / elapsedMins);
+      if (trend.lastNumRunning > 0) {
+        double busyContainers = Math.ceil((double) trend.lastNumRunning / this.partitionsPerContainer);
+        trend.completionsPerContainerPerMin = smooth(trend.completionsPerContainerPerMin, completions / elapsedMins / busyContainers);
+      }
+    }
+    trend.lastObservationMillis = nowMillis;
+    trend.lastBacklog = backlog;
+    trend.lastNumPartitions = numPartitions;
+    trend.lastNumCompleted = numCompletedPartitions;
+    trend.lastNumRunning = numRunningPartitions;
+
+    int predicted = calcPredictedContainers(trend, backlog);
+    trend.pendingForecasts.add(new Outcome(helixTag, nowMillis, predicted, -1));
+    trend.forecast = applyHysteresis(trend.forecast, predicted);
+    log.info("helixTag={}, backlog={}, backlogRatePerMin={}, arrivalRatePerMin={}, completionsPerContainerPerMin={}, "
+            + "predictedContainers={}, forecastContainers={}, reactiveContainers={}", helixTag, backlog, trend.backlogRatePerMin,
+        trend.arrivalRatePerMin, trend.completionsPerContainerPerMin, predicted, trend.forecast, reactiveContainers);
+    return Math.max(reactiveContainers, trend.forecast);
+  }
+
+  /** Forget the trends of every tag other than `activeHelixTags`, such as those whose jobs all finished */
+  public void retainTags(Set<String> activeHelixTags) {
+    this.trendsByTag.keySet().retainAll(activeHelixTags);
+  }
+
+  /** @return every {@link Outcome} resolved since the prior call */
+  public List<Outcome> drainOutcomes() {
+    List<Outcome> outcomes = new ArrayList<>(this.resolvedOutcomes);
+    this.resolvedOutcomes.clear();
+    return outcomes;
+  }
+
+  /** @return mean absolute difference, in containers, between forecast and actual demand, over all resolved forecasts */
+  public double getMeanAbsoluteForecastError() {
+    return this.numResolvedForecasts == 0 ? 0.0 : (double) this.sumAbsoluteForecastError / this.numResolvedForecasts;
+  }
+
+  private int calcPredictedContainers(TagTrend trend, int backlog) {
+    double leadMins = this.containerStartupLatencyMillis / (double) TimeUnit.MINUTES.toMillis(1);
+    double predictedBacklog = Math.max(0.0, backlog + trend.backlogRatePerMin * leadMins);
+    int forBacklog = toContainers(predictedBacklog / this.partitionsPerContainer);
+    int forArrivals = trend.completionsPerContainerPerMin > 0
+        ? toContainers(trend.arrivalRatePerMin / trend.completionsPerContainerPerMin)
+        : 0;
+    return Math.max(forBacklog, forArrivals);
+  }
+
+  private int applyHysteresis(int currentForecast, int predicted) {
+    int band = Math.max(1, (int) Math.ceil(currentForecast * this.hysteresisFraction));
+    return Math.abs(predicted - currentForecast) >= band ? predicted : currentForecast;
+  }
+
+  private void resolvePendingForecasts(TagTrend trend, int actualContainers, long nowMillis) {
+    Iterator<Outcome> iter = trend.pendingForecasts.iterator();
+    while (iter.hasNext()) {
+      Outcome pending = iter.next();
+      if (pending.getForecastTimeMillis() + this.containerStartupLatencyMillis > nowMillis) {
+        break; // (since chronological, all the rest are yet to come due)
+      }
+      iter.remove();
+      this.resolvedOutcomes.add(new Outcome(pending.getHelixTag(), pending.getForecastTimeMillis(),
+          pending.getPredictedContainers(), actualContainers));
+      this.sumAbsoluteForecastError += Math.abs(pending.getPredictedContainers() - actualContainers);
+      this.numResolvedForecasts++;
+    }
+  }
+
+  private double smooth(double prior, double observed) {
+    return this.smoothingFactor * observed + (1 - this.smoothingFactor) * prior;
+  }
+
+  private int toContainers(double numContainers) {
+    return (int) Math.ceil(numContainers * this.overProvisionFactor);
+  }
+}
@@ -41,6 +41,9 @@ public class GobblinYarnConfigurationKeys {
       GOBBLIN_YARN_PREFIX + "email.notification.on.shutdown";
   public static final String RELEASED_CONTAINERS_CACHE_EXPIRY_SECS = GOBBLIN_YARN_PREFIX + "releasedContainersCacheExpirySecs";
   public static final int DEFAULT_RELEASED_CONTAINERS_CACHE_EXPIRY_SECS = 300;
+  // Idle (started, Helix-connected) containers to keep for each helix tag beyond present demand, so work need not await allocation
+  public static final String WARM_POOL_CONTAINERS_PER_HELIX_TAG = GOBBLIN_YARN_PREFIX + "warmPool.containersPerHelixTag";
+  public static final int DEFAULT_WARM_POOL_CONTAINERS_PER_HELIX_TAG = 0;
   public static final String APP_VIEW_ACL = GOBBLIN_YARN_PREFIX + "appViewAcl";
   public static final String DEFAULT_APP_VIEW_ACL = "*";
 
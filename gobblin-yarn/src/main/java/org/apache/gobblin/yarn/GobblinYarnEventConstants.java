@@ -32,6 +32,10 @@ public class GobblinYarnEventConstants {
     public static final String CONTAINER_STATUS_CONTAINER_STATE = "containerStatus.state";
     public static final String ERROR_EXCEPTION = "errorException";
     public static final String HELIX_INSTANCE_ID = "helixInstanceId";
+    public static final String HELIX_TAG = "helixTag";
+    public static final String FORECAST_TIME = "forecast.time";
+    public static final String PREDICTED_CONTAINERS = "forecast.predictedContainers";
+    public static final String ACTUAL_CONTAINERS = "forecast.actualContainers";
   }
 
   public static class EventNames {
@@ -46,5 +50,6 @@ public class GobblinYarnEventConstants {
     public static final String HELIX_INSTANCE_COMPLETION = "HelixInstanceCompletion";
     public static final String SHUTDOWN_REQUEST = "ShutdownRequest";
     public static final String HELIX_PARTITION_STUCK = "HelixPartitionStuck";
+    public static final String CONTAINER_DEMAND_FORECAST = "ContainerDemandForecast";
   }
 }
@@ -0,0 +1,177 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.gobblin.yarn;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.hadoop.yarn.api.records.Resource;
+
+import com.google.common.base.Optional;
+import com.google.common.base.Preconditions;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import org.apache.gobblin.metrics.ContextAwareCounter;
+import org.apache.gobblin.metrics.ContextAwareTimer;
+import org.apache.gobblin.metrics.MetricContext;
+
+
+/**
+ * Keeps up to `containersPerHelixTag` started, Helix-connected containers idle for every Helix tag (and so, resource type), beyond
+ * those needed for present demand.  Since Helix assigns partitions to any live participant of the matching tag, when demand rises
+ * those idle containers take on work right away, sparing the wait for container allocation, jar localization, JVM start and
+ * Helix connect.  Replacement containers are then requested to refill the pool.
+ *
+ * Tracks the pool hit rate: how much of every demand increase idle containers were already available to meet.  Also tracks
+ * time-to-first-task: from every demand increase until a container (warm or not) picks up work toward it.
+ *
+ * NOTE: not thread-safe; {@link YarnService} calls solely while synchronized.
+ */
+@Slf4j
+public class WarmContainerPool {
+  public static final String HITS_METRIC_NAME = "yarn.warmPool.hits";
+  public static final String MISSES_METRIC_NAME = "yarn.warmPool.misses";
+  public static final String TIME_TO_FIRST_TASK_METRIC_NAME = "yarn.warmPool.timeToFirstTask";
+
+  private final int containersPerHelixTag;
+  private final String defaultHelixTag;
+  private final Resource defaultResource;
+  private final Optional<ContextAwareCounter> hitsCounter;
+  private final Optional<ContextAwareCounter> missesCounter;
+  private final Optional<ContextAwareTimer> timeToFirstTaskTimer;
+
+  private final Map<String, Integer> priorDesiredByTag = new HashMap<>();
+  private final Map<String, Integer> priorIdleByTag = new HashMap<>();
+  private final Set<String> priorBusyParticipants = new HashSet<>();
+  // per tag, when each yet-unmet increment of demand arose
+  private final Map<String, ArrayDeque<Long>> unmetDemandSinceByTag = new HashMap<>();
+  @Getter private long numHits = 0;
+  @Getter private long numMisses = 0;
+
+  public WarmContainerPool(int containersPerHelixTag, String defaultHelixTag, Resource defaultResource,
+      Optional<MetricContext> metricContext) {
+    Preconditions.checkArgument(containersPerHelixTag > 0, "containersPerHelixTag must be positive");
+    this.containersPerHelixTag = containersPerHelixTag;
+    this.defaultHelixTag = defaultHelixTag;
+    this.defaultResource = defaultResource;
+    this.hitsCounter = metricContext.isPresent()
+        ? Optional.of(metricContext.get().contextAwareCounter(HITS_METRIC_NAME)) : Optional.absent();
+    this.missesCounter = metricContext.isPresent()
+        ? Optional.of(metricContext.get().contextAwareCounter(MISSES_METRIC_NAME)) : Optional.absent();
+    this.timeToFirstTaskTimer = metricContext.isPresent()
+        ? Optional.of(metricContext.get().contextAwareTimer(TIME_TO_FIRST_TASK_METRIC_NAME)) : Optional.absent();
+  }
+
+  /** @return `demand`, plus the pool's containers for each of its tags, and for the default tag, even when without demand */
+  public YarnContainerRequestBundle withWarmContainers(YarnContainerRequestBundle demand) {
+    YarnContainerRequestBundle withPool = new YarnContainerRequestBundle();
+    for (Map.Entry<String, Integer> tagCount : demand.getHelixTagContainerCountMap().entrySet()) {
+      withPool.add(tagCount.getKey(), tagCount.getValue() + this.containersPerHelixTag,
+          demand.getHelixTagResourceMap().get(tagCount.getKey()));
+    }
+    if (!demand.getHelixTagContainerCountMap().containsKey(this.defaultHelixTag)) {
+      withPool.add(this.defaultHelixTag, this.containersPerHelixTag, this.defaultResource);
+    }
+    return withPool;
+  }
+
+  /**
+   * Observe demand and which containers are busy, to update hit rate and time-to-first-task
+   * @param demand containers needed for present demand (excluding the pool)
+   * @param helixTagByParticipant the helix tag of every allocated container's participant
+   * @param busyParticipants the participants presently running tasks
+   */
+  public void observe(YarnContainerRequestBundle demand, Map<String, String> helixTagByParticipant,
+      Set<String> busyParticipants, long nowMillis) {
+    Map<String, Integer> busyByTag = new HashMap<>();
+    Map<String, Integer> allocatedByTag = new HashMap<>();
+    Map<String, Integer> newlyBusyByTag = new HashMap<>();
+    for (Map.Entry<String, String> participantTag : helixTagByParticipant.entrySet()) {
+      String helixTag = participantTag.getValue();
+      allocatedByTag.merge(helixTag, 1, Integer::sum);
+      if (busyParticipants.contains(participantTag.getKey())) {
+        busyByTag.merge(helixTag, 1, Integer::sum);
+        if (!this.priorBusyParticipants.contains(participantTag.getKey())) {
+          newlyBusyByTag.merge(helixTag, 1, Integer::sum);
+        }
+      }
+    }
+
+    Set<String> helixTags = new HashSet<>(demand.getHelixTagContainerCountMap().keySet());
+    helixTags.addAll(this.unmetDemandSinceByTag.keySet());
+    for (String helixTag : helixTags) {
+      int desired = demand.getHelixTagContainerCountMap().getOrDefault(helixTag, 0);
+      int busy = busyByTag.getOrDefault(helixTag, 0);
+      int increase = desired - this.priorDesiredByTag.getOrDefault(helixTag, 0);
+      ArrayDeque<Long> unmetDemandSince = this.unmetDemandSinceByTag.computeIfAbsent(helixTag, k -> new ArrayDeque<>());
+      if (increase > 0) {
+        int hits = Math.min(increase, this.priorIdleByTag.getOrDefault(helixTag, 0));
+        recordHitsAndMisses(hits, increase - hits);
+        for (int i = 0; i < increase; ++i) {
+          unmetDemandSince.add(nowMillis);
+        }
+      }
+      for (int i = newlyBusyByTag.getOrDefault(helixTag, 0); i > 0 && !unmetDemandSince.isEmpty(); --i) {
+        long timeToFirstTaskMillis = nowMillis - unmetDemandSince.remove();
+        if (this.timeToFirstTaskTimer.isPresent()) {
+          this.timeToFirstTaskTimer.get().update(timeToFirstTaskMillis, TimeUnit.MILLISECONDS);
+        }
+      }
+      // forget demand since withdrawn, oldest first
+      while (unmetDemandSince.size() > Math.max(0, desired - busy)) {
+        unmetDemandSince.remove();
+      }
+      if (unmetDemandSince.isEmpty() && desired == 0) {
+        this.unmetDemandSinceByTag.remove(helixTag);
+      }
+    }
+
+    this.priorDesiredByTag.clear();
+    this.priorDesiredByTag.putAll(demand.getHelixTagContainerCountMap());
+    this.priorIdleByTag.clear();
+    allocatedByTag.forEach((helixTag, allocated) ->
+        this.priorIdleByTag.put(helixTag, allocated - busyByTag.getOrDefault(helixTag, 0)));
+    this.priorBusyParticipants.clear();
+    this.priorBusyParticipants.addAll(busyParticipants);
+    log.info("Warm container pool hit rate: {} ({} hits, {} misses); idle containers per helix tag: {}",
+        getHitRate(), this.numHits, this.numMisses, this.priorIdleByTag);
+  }
+
+  /** @return fraction of demand increases met by already idle containers */
+  public double getHitRate() {
+    long total = this.numHits + this.numMisses;
+    return total == 0 ? 0.0 : (double) this.numHits / total;
+  }
+
+  private void recordHitsAndMisses(int hits, int misses) {
+    this.numHits += hits;
+    this.numMisses += misses;
+    if (this.hitsCounter.isPresent()) {
+      this.hitsCounter.get().inc(hits);
+    }
+    if (this.missesCounter.isPresent()) {
+      this.missesCounter.get().inc(misses);
+    }
+  }
+}
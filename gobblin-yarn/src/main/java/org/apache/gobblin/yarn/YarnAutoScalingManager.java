@@ -96,6 +96,18 @@ public class YarnAutoScalingManager extends AbstractIdleService {
   private final String AUTO_SCALING_INITIAL_DELAY = AUTO_SCALING_PREFIX + "initialDelay";
   private final int DEFAULT_AUTO_SCALING_INITIAL_DELAY_SECS = 60;
   private final String AUTO_SCALING_WINDOW_SIZE = AUTO_SCALING_PREFIX + "windowSize";
+  // Forecast container demand from Helix partition backlog trends, to request containers ahead of it
+  private final String AUTO_SCALING_FORECAST_PREFIX = AUTO_SCALING_PREFIX + "forecast.";
+  private final String AUTO_SCALING_FORECAST_ENABLED = AUTO_SCALING_FORECAST_PREFIX + "enabled";
+  private final String AUTO_SCALING_FORECAST_CONTAINER_STARTUP_LATENCY_SECS =
+      AUTO_SCALING_FORECAST_PREFIX + "containerStartupLatencySeconds";
+  private final int DEFAULT_AUTO_SCALING_FORECAST_CONTAINER_STARTUP_LATENCY_SECS = 180;
+  // weight of each newest observation in the exponentially smoothed trends
+  private final String AUTO_SCALING_FORECAST_SMOOTHING_FACTOR = AUTO_SCALING_FORECAST_PREFIX + "smoothingFactor";
+  private final double DEFAULT_AUTO_SCALING_FORECAST_SMOOTHING_FACTOR = 0.3;
+  // fraction of the current forecast by which a new one must differ to replace it
+  private final String AUTO_SCALING_FORECAST_HYSTERESIS_FRACTION = AUTO_SCALING_FORECAST_PREFIX + "hysteresisFraction";
+  private final double DEFAULT_AUTO_SCALING_FORECAST_HYSTERESIS_FRACTION = 0.1;
   public final static int DEFAULT_MAX_CONTAINER_IDLE_TIME_BEFORE_SCALING_DOWN_MINUTES = 10;
   private final static int DEFAULT_MAX_TIME_MINUTES_TO_RELEASE_CONTAINER_HAVING_HELIX_TASK_THAT_IS_STUCK = 20;
 
@@ -112,6 +124,7 @@ public class YarnAutoScalingManager extends AbstractIdleService {
   private final int partitionsPerContainer;
   private final double overProvisionFactor;
   private final SlidingWindowReservoir slidingFixedSizeWindow;
+  private final Optional<ContainerDemandForecaster> demandForecaster;
   private static int maxIdleTimeInMinutesBeforeScalingDown = DEFAULT_MAX_CONTAINER_IDLE_TIME_BEFORE_SCALING_DOWN_MINUTES;
   private final int maxTimeInMinutesBeforeReleasingContainerHavingStuckTask;
   private final boolean enableReleasingContainerHavingStuckTask;
@@ -137,6 +150,14 @@ public class YarnAutoScalingManager extends AbstractIdleService {
         ? new SlidingWindowReservoir(config.getInt(AUTO_SCALING_WINDOW_SIZE), Integer.MAX_VALUE)
         : new SlidingWindowReservoir(Integer.MAX_VALUE);
 
+    this.demandForecaster = ConfigUtils.getBoolean(this.config, AUTO_SCALING_FORECAST_ENABLED, false)
+        ? Optional.of(new ContainerDemandForecaster(this.partitionsPerContainer, this.overProvisionFactor,
+            TimeUnit.SECONDS.toMillis(ConfigUtils.getInt(this.config, AUTO_SCALING_FORECAST_CONTAINER_STARTUP_LATENCY_SECS,
+                DEFAULT_AUTO_SCALING_FORECAST_CONTAINER_STARTUP_LATENCY_SECS)),
+            ConfigUtils.getDouble(this.config, AUTO_SCALING_FORECAST_SMOOTHING_FACTOR, DEFAULT_AUTO_SCALING_FORECAST_SMOOTHING_FACTOR),
+            ConfigUtils.getDouble(this.config, AUTO_SCALING_FORECAST_HYSTERESIS_FRACTION, DEFAULT_AUTO_SCALING_FORECAST_HYSTERESIS_FRACTION)))
+        : Optional.absent();
+
     this.autoScalingExecutor = Executors.newSingleThreadScheduledExecutor(
         ExecutorsUtils.newThreadFactory(Optional.of(log), Optional.of("AutoScalingExecutor")));
 
@@ -192,7 +213,8 @@ public class YarnAutoScalingManager extends AbstractIdleService {
             this.slidingFixedSizeWindow, this.helixManager.getHelixDataAccessor(), this.defaultHelixInstanceTags,
             this.defaultContainerMemoryMbs, this.defaultContainerCores, this.taskAttemptsThreshold,
             this.splitWorkUnitReachThreshold, this.maxTimeInMinutesBeforeReleasingContainerHavingStuckTask,
-            this.enableReleasingContainerHavingStuckTask, this.enableDetectionStuckTask, this.detectionForStuckTaskStates),
+            this.enableReleasingContainerHavingStuckTask, this.enableDetectionStuckTask, this.detectionForStuckTaskStates,
+            this.demandForecaster),
         initialDelay, scheduleInterval, TimeUnit.SECONDS);
   }
 
@@ -225,6 +247,18 @@ public class YarnAutoScalingManager extends AbstractIdleService {
     private final boolean enableReleasingContainerHavingStuckTask;
     private final boolean enableDetectionStuckTask;
     private final HashSet<TaskPartitionState> taskStates;
+    private final Optional<ContainerDemandForecaster> demandForecaster;
+
+    YarnAutoScalingRunnable(TaskDriver taskDriver, YarnService yarnService, int partitionsPerContainer,
+        double overProvisionFactor, SlidingWindowReservoir slidingWindowReservoir, HelixDataAccessor helixDataAccessor,
+        String defaultHelixInstanceTags, int defaultContainerMemoryMbs, int defaultContainerCores, int taskAttemptsThreshold,
+        boolean splitWorkUnitReachThreshold, int maxTimeInMinutesBeforeReleasingContainerHavingStuckTask,
+        boolean enableReleasingContainerHavingStuckTask, boolean enableDetectionStuckTask, HashSet<TaskPartitionState> taskStates) {
+      this(taskDriver, yarnService, partitionsPerContainer, overProvisionFactor, slidingWindowReservoir, helixDataAccessor,
+          defaultHelixInstanceTags, defaultContainerMemoryMbs, defaultContainerCores, taskAttemptsThreshold,
+          splitWorkUnitReachThreshold, maxTimeInMinutesBeforeReleasingContainerHavingStuckTask,
+          enableReleasingContainerHavingStuckTask, enableDetectionStuckTask, taskStates, Optional.absent());
+    }
 
     /**
      * A static map that keep track of an idle instance and its latest beginning idle time.
@@ -290,11 +324,15 @@ public class YarnAutoScalingManager extends AbstractIdleService {
     @VisibleForTesting
     void runInternal() {
       Set<String> inUseInstances = new HashSet<>();
+      // participants holding a RUNNING partition; `inUseInstances` also keeps idle ones still within their grace period
+      final Set<String> busyParticipants = new HashSet<>();
       // helixInstancesContainingStuckTasks maintains the set of helix instances/participants containing tasks that are
       // stuck in any of the configured states.
       final Set<String> helixInstancesContainingStuckTasks = new HashSet<>();
 
       YarnContainerRequestBundle yarnContainerRequestBundle = new YarnContainerRequestBundle();
+      // per helix tag: { all partitions, completed partitions, running partitions } - solely for `demandForecaster`
+      final Map<String, int[]> partitionCountsByTag = new HashMap<>();
       for (Map.Entry<String, WorkflowConfig> workFlowEntry : taskDriver.getWorkflows().entrySet()) {
         WorkflowContext workflowContext = taskDriver.getWorkflowContext(workFlowEntry.getKey());
         WorkflowConfig workflowConfig = workFlowEntry.getValue();
@@ -326,6 +364,10 @@ public class YarnAutoScalingManager extends AbstractIdleService {
             inUseInstances.addAll(jobContext.getPartitionSet().stream()
                 .map(i -> getInuseParticipantForHelixPartition(jobContext, i))
                 .filter(Objects::nonNull).collect(Collectors.toSet()));
+            busyParticipants.addAll(jobContext.getPartitionSet().stream()
+                .filter(i -> jobContext.getPartitionState(i) == TaskPartitionState.RUNNING)
+                .map(jobContext::getAssignedParticipant)
+                .filter(Objects::nonNull).collect(Collectors.toSet()));
 
             if (enableDetectionStuckTask) {
               // if feature is not enabled the set helixInstancesContainingStuckTasks will always be empty
@@ -349,6 +391,18 @@ public class YarnAutoScalingManager extends AbstractIdleService {
               }
             }
           }
+          if (demandForecaster.isPresent() && jobContext != null) {
+            int[] partitionCounts = partitionCountsByTag.computeIfAbsent(jobTag, k -> new int[3]);
+            partitionCounts[0] += numPartitions;
+            for (int partition : jobContext.getPartitionSet()) {
+              TaskPartitionState partitionState = jobContext.getPartitionState(partition);
+              if (partitionState == TaskPartitionState.COMPLETED) {
+                partitionCounts[1]++;
+              } else if (partitionState == TaskPartitionState.RUNNING) {
+                partitionCounts[2]++;
+              }
+            }
+          }
           // compute the container count as a ceiling of number of partitions divided by the number of containers
           // per partition. Scale the result by a constant overprovision factor.
           int containerCount = (int) Math.ceil(((double)numPartitions / this.partitionsPerContainer) * this.overProvisionFactor);
@@ -416,6 +470,9 @@ public class YarnAutoScalingManager extends AbstractIdleService {
         this.yarnService.getEventBus().post(new ContainerReleaseRequest(containersToRelease, true));
       }
 
+      if (demandForecaster.isPresent()) {
+        yarnContainerRequestBundle = applyDemandForecast(demandForecaster.get(), yarnContainerRequestBundle, partitionCountsByTag);
+      }
       slidingWindowReservoir.add(yarnContainerRequestBundle);
 
 
@@ -423,7 +480,39 @@ public class YarnAutoScalingManager extends AbstractIdleService {
           yarnContainerRequestBundle.getTotalContainers(), yarnContainerRequestBundle.getHelixTagContainerCountMap(),
           yarnContainerRequestBundle.getHelixTagResourceMap());
 
-      this.yarnService.requestTargetNumberOfContainers(slidingWindowReservoir.getMax(), inUseInstances);
+      this.yarnService.requestTargetNumberOfContainers(slidingWindowReservoir.getMax(), inUseInstances, busyParticipants);
+    }
+
+    /**
+     * @return a bundle requesting, per helix tag, the greater of the containers in `reactiveBundle` and those forecast by
+     * `forecaster`; also emit an event comparing every forecast that has come due with the demand then actually found
+     */
+    private YarnContainerRequestBundle applyDemandForecast(ContainerDemandForecaster forecaster,
+        YarnContainerRequestBundle reactiveBundle, Map<String, int[]> partitionCountsByTag) {
+      long now = System.currentTimeMillis();
+      YarnContainerRequestBundle forecastBundle = new YarnContainerRequestBundle();
+      for (Map.Entry<String, Integer> tagCount : reactiveBundle.getHelixTagContainerCountMap().entrySet()) {
+        String helixTag = tagCount.getKey();
+        int[] partitionCounts = partitionCountsByTag.getOrDefault(helixTag, new int[3]);
+        int numContainers = forecaster.forecast(helixTag, partitionCounts[0], partitionCounts[1], partitionCounts[2],
+            tagCount.getValue(), now);
+        forecastBundle.add(helixTag, numContainers, reactiveBundle.getHelixTagResourceMap().get(helixTag));
+      }
+      forecaster.retainTags(reactiveBundle.getHelixTagContainerCountMap().keySet());
+
+      for (ContainerDemandForecaster.Outcome outcome : forecaster.drainOutcomes()) {
+        if (this.yarnService.getEventSubmitter().isPresent()) {
+          this.yarnService.getEventSubmitter().get().submit(GobblinYarnEventConstants.EventNames.CONTAINER_DEMAND_FORECAST,
+              GobblinYarnEventConstants.EventMetadata.HELIX_TAG, outcome.getHelixTag(),
+              GobblinYarnEventConstants.EventMetadata.FORECAST_TIME, String.valueOf(outcome.getForecastTimeMillis()),
+              GobblinYarnEventConstants.EventMetadata.PREDICTED_CONTAINERS, String.valueOf(outcome.getPredictedContainers()),
+              GobblinYarnEventConstants.EventMetadata.ACTUAL_CONTAINERS, String.valueOf(outcome.getActualContainers()));
+        }
+      }
+      log.info("Forecast {} containers in total (vs. {} for present demand); mean absolute forecast error: {} over {} forecasts",
+          forecastBundle.getTotalContainers(), reactiveBundle.getTotalContainers(), forecaster.getMeanAbsoluteForecastError(),
+          forecaster.getNumResolvedForecasts());
+      return forecastBundle;
     }
 
     /**
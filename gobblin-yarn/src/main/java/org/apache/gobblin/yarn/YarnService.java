@@ -208,6 +208,7 @@ public class YarnService extends AbstractIdleService {
   private final ConcurrentMap<ContainerId, String> removedContainerID = Maps.newConcurrentMap();
 
   private volatile YarnContainerRequestBundle yarnContainerRequest;
+  private final Optional<WarmContainerPool> warmContainerPool;
   private final AtomicInteger priorityNumGenerator = new AtomicInteger(0);
   private final Map<String, Integer> resourcePriorityMap = new HashMap<>();
 
@@ -298,6 +299,15 @@ public class YarnService extends AbstractIdleService {
         GobblinYarnConfigurationKeys.DEFAULT_APP_VIEW_ACL);
     this.containerTimezone = ConfigUtils.getString(this.config, GobblinYarnConfigurationKeys.GOBBLIN_YARN_CONTAINER_TIMEZONE,
         GobblinYarnConfigurationKeys.DEFAULT_GOBBLIN_YARN_CONTAINER_TIMEZONE);
+
+    int warmPoolContainersPerHelixTag = ConfigUtils.getInt(this.config,
+        GobblinYarnConfigurationKeys.WARM_POOL_CONTAINERS_PER_HELIX_TAG,
+        GobblinYarnConfigurationKeys.DEFAULT_WARM_POOL_CONTAINERS_PER_HELIX_TAG);
+    this.warmContainerPool = warmPoolContainersPerHelixTag > 0
+        ? Optional.of(new WarmContainerPool(warmPoolContainersPerHelixTag, this.helixInstanceTags,
+            Resource.newInstance(this.requestedContainerMemoryMbs, this.requestedContainerCores),
+            this.gobblinMetrics.isPresent() ? Optional.of(this.gobblinMetrics.get().getMetricContext()) : Optional.absent()))
+        : Optional.absent();
   }
 
   @SuppressWarnings("unused")
@@ -489,6 +499,20 @@ public class YarnService extends AbstractIdleService {
    * @return whether successfully requested the target number of containers
    */
   public synchronized boolean requestTargetNumberOfContainers(YarnContainerRequestBundle yarnContainerRequestBundle, Set<String> inUseInstances) {
+    return requestTargetNumberOfContainers(yarnContainerRequestBundle, inUseInstances, Collections.emptySet());
+  }
+
+  /**
+   * As {@link #requestTargetNumberOfContainers(YarnContainerRequestBundle, Set)}, additionally reporting which
+   * participants are running tasks, so the warm container pool can measure its hits and time-to-first-task
+   *
+   * @param yarnContainerRequestBundle the desired containers information, including numbers, resource and helix tag
+   * @param inUseInstances  a set of in use instances, which are not released
+   * @param busyParticipants the participants presently holding a running partition, a subset of {@code inUseInstances}
+   * @return whether successfully requested the target number of containers
+   */
+  public synchronized boolean requestTargetNumberOfContainers(YarnContainerRequestBundle yarnContainerRequestBundle,
+      Set<String> inUseInstances, Set<String> busyParticipants) {
     LOGGER.info("Trying to set numTargetContainers={}, in-use helix instances count is {}, container map size is {}",
         yarnContainerRequestBundle.getTotalContainers(), inUseInstances.size(), this.containerMap.size());
     if (startupInProgress) {
@@ -507,6 +531,16 @@ public class YarnService extends AbstractIdleService {
       }
     }
 
+    if (this.warmContainerPool.isPresent()) {
+      Map<String, String> helixTagByParticipant = new HashMap<>();
+      for (ContainerInfo containerInfo : this.containerMap.values()) {
+        helixTagByParticipant.put(containerInfo.getHelixParticipantId(), containerInfo.getHelixTag());
+      }
+      this.warmContainerPool.get().observe(yarnContainerRequestBundle, helixTagByParticipant, busyParticipants,
+          System.currentTimeMillis());
+      yarnContainerRequestBundle = this.warmContainerPool.get().withWarmContainers(yarnContainerRequestBundle);
+    }
+
     int numTargetContainers = yarnContainerRequestBundle.getTotalContainers();
     // YARN can allocate more than the requested number of containers, compute additional allocations and deallocations
     // based on the max of the requested and actual allocated counts
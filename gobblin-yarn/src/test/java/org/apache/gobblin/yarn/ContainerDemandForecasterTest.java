@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.gobblin.yarn;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import com.google.common.collect.ImmutableSet;
+
+
+/**
+ * Unit tests for {@link ContainerDemandForecaster}
+ */
+@Test(groups = { "gobblin.yarn" })
+public class ContainerDemandForecasterTest {
+  private static final String TAG = "DefaultHelixTag";
+  private static final long MIN = TimeUnit.MINUTES.toMillis(1);
+
+  @Test
+  public void testForecastsAheadOfGrowingBacklog() {
+    ContainerDemandForecaster forecaster = new ContainerDemandForecaster(1, 1.0, 3 * MIN, 1.0, 0.0);
+    Assert.assertEquals(forecaster.forecast(TAG, 10, 0, 10, 10, 0), 10);
+    // backlog growing 10/min, so 20 + 3 min * 10/min
+    Assert.assertEquals(forecaster.forecast(TAG, 20, 0, 10, 20, MIN), 50);
+  }
+
+  @Test
+  public void testForecastsToKeepPaceWithArrivals() {
+    ContainerDemandForecaster forecaster = new ContainerDemandForecaster(1, 1.0, 0, 1.0, 0.0);
+    Assert.assertEquals(forecaster.forecast(TAG, 10, 0, 10, 10, 0), 10);
+    // 30 arrivals/min, while each of the 10 running completed 3.5/min
+    Assert.assertEquals(forecaster.forecast(TAG, 40, 35, 5, 5, MIN), 9);
+  }
+
+  @Test
+  public void testNeverLessThanReactive() {
+    ContainerDemandForecaster forecaster = new ContainerDemandForecaster(1, 1.0, 3 * MIN, 1.0, 0.0);
+    Assert.assertEquals(forecaster.forecast(TAG, 10, 0, 10, 10, 0), 10);
+    Assert.assertEquals(forecaster.forecast(TAG, 10, 8, 2, 10, MIN), 10);
+  }
+
+  @Test
+  public void testHysteresis() {
+    ContainerDemandForecaster forecaster = new ContainerDemandForecaster(1, 1.0, 3 * MIN, 1.0, 0.5);
+    Assert.assertEquals(forecaster.forecast(TAG, 10, 0, 10, 10, 0), 10);
+    // predicted 11 + 3 min * 1/min = 14, yet within hysteresis band of 5 around prior forecast of 10
+    Assert.assertEquals(forecaster.forecast(TAG, 11, 0, 10, 11, MIN), 11);
+    // predicted 20 + 3 min * 9/min = 47
+    Assert.assertEquals(forecaster.forecast(TAG, 20, 0, 10, 20, 2 * MIN), 47);
+  }
+
+  @Test
+  public void testOutcomesCompareForecastWithActual() {
+    ContainerDemandForecaster forecaster = new ContainerDemandForecaster(1, 1.0, 3 * MIN, 1.0, 0.0);
+    forecaster.forecast(TAG, 10, 0, 10, 10, 0);
+    Assert.assertTrue(forecaster.drainOutcomes().isEmpty());
+    forecaster.forecast(TAG, 12, 0, 10, 12, 3 * MIN);
+    List<ContainerDemandForecaster.Outcome> outcomes = forecaster.drainOutcomes();
+    Assert.assertEquals(outcomes.size(), 1);
+    Assert.assertEquals(outcomes.get(0), new ContainerDemandForecaster.Outcome(TAG, 0, 10, 12));
+    Assert.assertEquals(forecaster.getMeanAbsoluteForecastError(), 2.0);
+    Assert.assertTrue(forecaster.drainOutcomes().isEmpty());
+  }
+
+  @Test
+  public void testRetainTagsForgetsTrends() {
+    ContainerDemandForecaster forecaster = new ContainerDemandForecaster(1, 1.0, 3 * MIN, 1.0, 0.0);
+    forecaster.forecast(TAG, 10, 0, 10, 10, 0);
+    forecaster.retainTags(ImmutableSet.of("OtherTag"));
+    // no prior observation, so no trend
+    Assert.assertEquals(forecaster.forecast(TAG, 20, 0, 10, 20, MIN), 20);
+  }
+}
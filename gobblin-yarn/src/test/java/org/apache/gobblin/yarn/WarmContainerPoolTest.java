@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.gobblin.yarn;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.hadoop.yarn.api.records.Resource;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import com.google.common.base.Optional;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+
+import org.apache.gobblin.metrics.MetricContext;
+
+
+/**
+ * Unit tests for {@link WarmContainerPool}
+ */
+@Test(groups = { "gobblin.yarn" })
+public class WarmContainerPoolTest {
+  private static final String DEFAULT_TAG = "DefaultHelixTag";
+  private static final String OTHER_TAG = "OtherHelixTag";
+  private static final Resource DEFAULT_RESOURCE = Resource.newInstance(1024, 2);
+  private static final Resource OTHER_RESOURCE = Resource.newInstance(2048, 4);
+
+  @Test
+  public void testWithWarmContainers() {
+    WarmContainerPool pool = new WarmContainerPool(2, DEFAULT_TAG, DEFAULT_RESOURCE, Optional.absent());
+
+    YarnContainerRequestBundle withPool = pool.withWarmContainers(new YarnContainerRequestBundle());
+    Assert.assertEquals(withPool.getHelixTagContainerCountMap(), ImmutableMap.of(DEFAULT_TAG, 2));
+    Assert.assertEquals(withPool.getHelixTagResourceMap().get(DEFAULT_TAG), DEFAULT_RESOURCE);
+
+    YarnContainerRequestBundle demand = new YarnContainerRequestBundle();
+    demand.add(DEFAULT_TAG, 1, DEFAULT_RESOURCE);
+    demand.add(OTHER_TAG, 3, OTHER_RESOURCE);
+    withPool = pool.withWarmContainers(demand);
+    Assert.assertEquals(withPool.getHelixTagContainerCountMap(), ImmutableMap.of(DEFAULT_TAG, 3, OTHER_TAG, 5));
+    Assert.assertEquals(withPool.getHelixTagResourceMap().get(OTHER_TAG), OTHER_RESOURCE);
+    Assert.assertEquals(withPool.getTotalContainers(), 8);
+  }
+
+  @Test
+  public void testHitRateAndTimeToFirstTask() {
+    MetricContext metricContext = MetricContext.builder("WarmContainerPoolTest").build();
+    WarmContainerPool pool = new WarmContainerPool(2, DEFAULT_TAG, DEFAULT_RESOURCE, Optional.of(metricContext));
+    ImmutableMap<String, String> participants = ImmutableMap.of("p1", DEFAULT_TAG, "p2", DEFAULT_TAG);
+
+    // two warm containers, idle without demand
+    pool.observe(new YarnContainerRequestBundle(), participants, Collections.emptySet(), 0);
+    Assert.assertEquals(pool.getNumHits() + pool.getNumMisses(), 0);
+
+    // demand for three: both warm containers take on work at once, while a third must be allocated
+    YarnContainerRequestBundle demand = new YarnContainerRequestBundle();
+    demand.add(DEFAULT_TAG, 3, DEFAULT_RESOURCE);
+    pool.observe(demand, participants, ImmutableSet.of("p1", "p2"), TimeUnit.MINUTES.toMillis(1));
+    Assert.assertEquals(pool.getNumHits(), 2);
+    Assert.assertEquals(pool.getNumMisses(), 1);
+    Assert.assertEquals(pool.getHitRate(), 2.0 / 3, 0.0001);
+    Assert.assertEquals(metricContext.contextAwareTimer(WarmContainerPool.TIME_TO_FIRST_TASK_METRIC_NAME).getCount(), 2);
+
+    // the newly allocated container takes on work a few minutes later
+    pool.observe(demand, ImmutableMap.of("p1", DEFAULT_TAG, "p2", DEFAULT_TAG, "p3", DEFAULT_TAG),
+        ImmutableSet.of("p1", "p2", "p3"), TimeUnit.MINUTES.toMillis(4));
+    Assert.assertEquals(pool.getNumHits(), 2);
+    Assert.assertEquals(pool.getNumMisses(), 1);
+    Assert.assertEquals(metricContext.contextAwareTimer(WarmContainerPool.TIME_TO_FIRST_TASK_METRIC_NAME).getCount(), 3);
+    Assert.assertEquals(metricContext.contextAwareCounter(WarmContainerPool.HITS_METRIC_NAME).getCount(), 2);
+    Assert.assertEquals(metricContext.contextAwareCounter(WarmContainerPool.MISSES_METRIC_NAME).getCount(), 1);
+  }
+}
@@ -95,7 +95,7 @@ public class YarnAutoScalingManagerTest {
     // 2 containers requested and one worker in use
     Mockito.verify(mockYarnService, times(1)).
         requestTargetNumberOfContainers(argument.capture(),
-            eq(ImmutableSet.of("GobblinYarnTaskRunner-1")));
+            eq(ImmutableSet.of("GobblinYarnTaskRunner-1")), Mockito.anySet());
     Assert.assertEquals(argument.getValue().getTotalContainers(), 2);
   }
 
@@ -129,7 +129,7 @@ public class YarnAutoScalingManagerTest {
     ArgumentCaptor<YarnContainerRequestBundle> argument = ArgumentCaptor.forClass(YarnContainerRequestBundle.class);
     Mockito.verify(mockYarnService, times(1)).
         requestTargetNumberOfContainers(argument.capture(),
-            eq(ImmutableSet.of("GobblinYarnTaskRunner-1", "GobblinYarnTaskRunner-2")));
+            eq(ImmutableSet.of("GobblinYarnTaskRunner-1", "GobblinYarnTaskRunner-2")), Mockito.anySet());
     Assert.assertEquals(argument.getValue().getTotalContainers(), 3);
   }
 
@@ -322,7 +322,7 @@ public class YarnAutoScalingManagerTest {
     ArgumentCaptor<YarnContainerRequestBundle> argument = ArgumentCaptor.forClass(YarnContainerRequestBundle.class);
     Mockito.verify(mockYarnService, times(0)).
         requestTargetNumberOfContainers(argument.capture(),
-            eq(ImmutableSet.of("GobblinYarnTaskRunner-1")));
+            eq(ImmutableSet.of("GobblinYarnTaskRunner-1")), Mockito.anySet());
 
     Mockito.reset(mockYarnService);
     runnable.setRaiseException(false);
@@ -480,6 +480,39 @@ public class YarnAutoScalingManagerTest {
   }
 
 
+  /**
+   * Test that only the participants holding a RUNNING partition are reported busy, not those merely within their
+   * idle grace period
+   */
+  @Test
+  public void testBusyParticipantsExcludeIdleInstances() {
+    YarnService mockYarnService = mock(YarnService.class);
+    TaskDriver mockTaskDriver = mock(TaskDriver.class);
+    WorkflowConfig mockWorkflowConfig = getWorkflowConfig(mockTaskDriver, ImmutableSet.of("job1"), TaskState.IN_PROGRESS, TargetState.START, "workflow1");
+    Mockito.when(mockTaskDriver.getWorkflows()).thenReturn(ImmutableMap.of("workflow1", mockWorkflowConfig));
+
+    JobContext mockJobContext = getJobContext(mockTaskDriver, ImmutableMap.of(1, "GobblinYarnTaskRunner-1", 2, "GobblinYarnTaskRunner-2"), "job1");
+    Mockito.when(mockJobContext.getPartitionState(1)).thenReturn(TaskPartitionState.RUNNING);
+    Mockito.when(mockJobContext.getPartitionState(2)).thenReturn(TaskPartitionState.INIT);
+
+    HelixDataAccessor helixDataAccessor = getHelixDataAccessor(
+        Arrays.asList("GobblinYarnTaskRunner-1", "GobblinYarnTaskRunner-2", "GobblinYarnTaskRunner-3"));
+
+    YarnAutoScalingManager.YarnAutoScalingRunnable runnable =
+        new YarnAutoScalingManager.YarnAutoScalingRunnable(mockTaskDriver, mockYarnService, 1,
+            1.0, noopQueue, helixDataAccessor, defaultHelixTag, defaultContainerMemory,
+            defaultContainerCores, 20, false,
+            10,
+            false, false, new HashSet<>());
+
+    runnable.run();
+
+    // the idle runner 3 is kept in use during its grace period, but only runner 1 is running a task
+    Mockito.verify(mockYarnService, times(1)).requestTargetNumberOfContainers(Mockito.any(),
+        eq(ImmutableSet.of("GobblinYarnTaskRunner-1", "GobblinYarnTaskRunner-2", "GobblinYarnTaskRunner-3")),
+        eq(ImmutableSet.of("GobblinYarnTaskRunner-1")));
+  }
+
   private HelixDataAccessor getHelixDataAccessor(List<String> taskRunners) {
     HelixDataAccessor helixDataAccessor = mock(HelixDataAccessor.class);
     Mockito.when(helixDataAccessor.keyBuilder()).thenReturn(new PropertyKey.Builder("cluster"));
@@ -528,7 +561,7 @@ public class YarnAutoScalingManagerTest {
      ArgumentCaptor.forClass(YarnContainerRequestBundle.class);
     Mockito.verify(mockYarnService, times(1)).
         requestTargetNumberOfContainers(argument.capture(),
-            eq(expectedInUseInstances));
+            eq(expectedInUseInstances), Mockito.anySet());
     Assert.assertEquals(argument.getValue().getTotalContainers(), expectedNumberOfContainers);
   }
 